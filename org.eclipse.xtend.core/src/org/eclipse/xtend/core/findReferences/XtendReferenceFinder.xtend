@@ -63,6 +63,11 @@ class XtendReferenceFinder extends ReferenceFinder {
 		}
 	}
 	
+	override protected isIndexBased() {
+		// references are found by means of the imported names
+		return false
+	}
+	
 	override protected findLocalReferencesFromElement(Predicate<URI> targetURIs, EObject sourceCandidate, Resource localResource, Acceptor acceptor) {
 		switch sourceCandidate {
 			// ignore type references in package fragments
@@ -13,6 +13,7 @@ import java.io.StringReader;
 
 import org.antlr.runtime.Token;
 import org.eclipse.xtend.core.parser.antlr.internal.FlexerFactory;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
 import org.eclipse.xtext.parser.impl.TokenRegionProvider;
 import org.eclipse.xtext.util.ITextRegion;
 import org.eclipse.xtext.util.TextRegion;
@@ -52,4 +53,12 @@ public class FlexTokenRegionProvider extends TokenRegionProvider {
 		}
 	}
 
+	/**
+	 * The flexer carries state across tokens, e.g. in rich strings, so the complete prefix is lexed.
+	 */
+	@Override
+	protected int getRestartOffset(ICompositeNode previousRootNode, int offset) {
+		return 0;
+	}
+
 }
@@ -86,6 +86,11 @@ public class XtendReferenceFinder extends ReferenceFinder {
     }
   }
 
+  @Override
+  protected boolean isIndexBased() {
+    return false;
+  }
+
   @Override
   protected void findLocalReferencesFromElement(final Predicate<URI> targetURIs, final EObject sourceCandidate, final Resource localResource, final IReferenceFinder.Acceptor acceptor) {
     boolean _matched = false;
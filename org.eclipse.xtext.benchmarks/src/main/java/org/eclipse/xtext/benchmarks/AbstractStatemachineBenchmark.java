@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsProvider;
+import org.eclipse.xtext.testing.util.InMemoryURIHandler;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.web.example.statemachine.StatemachineStandaloneSetup;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.google.inject.Injector;
+
+/**
+ * Common setup of the benchmarks. A trial writes a {@link StatemachineCorpus synthetic corpus} into an in-memory file
+ * system and loads it into a resource set.
+ *
+ * Subclasses inject the services they measure in {@link #setUpServices(Injector)}.
+ */
+@State(Scope.Benchmark)
+public abstract class AbstractStatemachineBenchmark {
+
+	private static Injector injector;
+
+	/**
+	 * The number of files in the corpus.
+	 */
+	@Param("10")
+	public int files;
+
+	/**
+	 * The number of top level states per file.
+	 */
+	@Param("100")
+	public int states;
+
+	protected InMemoryURIHandler fileSystem;
+
+	protected List<URI> uris;
+
+	protected XtextResourceSet resourceSet;
+
+	/**
+	 * The resource that is measured by the micro benchmarks. It refers to the previous file of the corpus.
+	 */
+	protected XtextResource resource;
+
+	protected static synchronized Injector getInjector() {
+		if (injector == null) {
+			injector = new StatemachineStandaloneSetup().createInjectorAndDoEMFRegistration();
+		}
+		return injector;
+	}
+
+	@Setup
+	public void setUp() throws IOException {
+		fileSystem = new InMemoryURIHandler();
+		uris = new ArrayList<>();
+		for (Map.Entry<String, String> file : StatemachineCorpus.create(files, states).entrySet()) {
+			URI uri = uri(file.getKey());
+			try (OutputStream out = fileSystem.createOutputStream(uri, Collections.emptyMap())) {
+				out.write(file.getValue().getBytes(StandardCharsets.UTF_8));
+			}
+			uris.add(uri);
+		}
+		setUpServices(getInjector());
+		resourceSet = newResourceSet();
+		resourceSet.getLoadOptions().put(ResourceDescriptionsProvider.LIVE_SCOPE, Boolean.TRUE);
+		for (URI uri : uris) {
+			resourceSet.getResource(uri, true);
+		}
+		for (URI uri : uris) {
+			EcoreUtil2.resolveLazyCrossReferences(resourceSet.getResource(uri, false), CancelIndicator.NullImpl);
+		}
+		resource = (XtextResource) resourceSet.getResource(uris.get(Math.min(1, uris.size() - 1)), false);
+	}
+
+	protected abstract void setUpServices(Injector injector);
+
+	protected URI uri(String path) {
+		return URI.createURI(InMemoryURIHandler.SCHEME + ":/" + path);
+	}
+
+	/**
+	 * Creates a resource set that reads from the in-memory file system of this benchmark.
+	 */
+	protected XtextResourceSet newResourceSet() {
+		XtextResourceSet result = getInjector().getInstance(XtextResourceSet.class);
+		result.getURIConverter().getURIHandlers().clear();
+		result.getURIConverter().getURIHandlers().add(fileSystem);
+		result.setClasspathURIContext(getClass().getClassLoader());
+		return result;
+	}
+
+}
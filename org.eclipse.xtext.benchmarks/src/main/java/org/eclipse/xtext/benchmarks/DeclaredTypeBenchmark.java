@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.access.binary.BinaryClass;
+import org.eclipse.xtext.common.types.access.binary.asm.ClassFileBytesAccess;
+import org.eclipse.xtext.common.types.access.binary.asm.JvmDeclaredTypeBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares building a {@link JvmDeclaredType} from its class file with copying an already built instance, which is
+ * the least a cache of types that is shared between resource sets has to do, since every resource needs its own
+ * contents. The class file bytes are read once up front.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeclaredTypeBenchmark {
+
+	@Param({ "java.util.ArrayList", "java.util.HashMap", "java.lang.String" })
+	public String className;
+
+	private ClassLoader classLoader;
+
+	private ClassFileBytesAccess bytesAccess;
+
+	private JvmDeclaredType type;
+
+	@Setup
+	public void setUp() {
+		classLoader = getClass().getClassLoader();
+		bytesAccess = new ClassFileBytesAccess();
+		type = build();
+	}
+
+	@Benchmark
+	public JvmDeclaredType build() {
+		return new JvmDeclaredTypeBuilder(new BinaryClass(className, classLoader), bytesAccess, classLoader).buildType();
+	}
+
+	@Benchmark
+	public JvmDeclaredType copy() {
+		return EcoreUtil2.cloneWithProxies(type);
+	}
+
+}
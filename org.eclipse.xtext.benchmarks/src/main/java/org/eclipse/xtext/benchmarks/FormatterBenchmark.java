@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.xtext.formatting2.FormatterRequest;
+import org.eclipse.xtext.formatting2.IFormatter2;
+import org.eclipse.xtext.formatting2.regionaccess.ITextRegionAccess;
+import org.eclipse.xtext.formatting2.regionaccess.ITextReplacement;
+import org.eclipse.xtext.formatting2.regionaccess.TextRegionAccessBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.inject.Injector;
+import com.google.inject.Provider;
+
+/**
+ * Measures {@link IFormatter2#format(FormatterRequest)} of a complete resource including the construction of its
+ * {@link ITextRegionAccess}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormatterBenchmark extends AbstractStatemachineBenchmark {
+
+	private Provider<IFormatter2> formatterProvider;
+
+	private Provider<FormatterRequest> requestProvider;
+
+	private Provider<TextRegionAccessBuilder> regionAccessBuilderProvider;
+
+	@Override
+	protected void setUpServices(Injector injector) {
+		formatterProvider = injector.getProvider(IFormatter2.class);
+		requestProvider = injector.getProvider(FormatterRequest.class);
+		regionAccessBuilderProvider = injector.getProvider(TextRegionAccessBuilder.class);
+	}
+
+	@Benchmark
+	public List<ITextReplacement> format() {
+		ITextRegionAccess regionAccess = regionAccessBuilderProvider.get().forNodeModel(resource).create();
+		FormatterRequest request = requestProvider.get().setTextRegionAccess(regionAccess);
+		return formatterProvider.get().format(request);
+	}
+
+}
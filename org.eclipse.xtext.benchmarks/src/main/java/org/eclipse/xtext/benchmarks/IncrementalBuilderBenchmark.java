@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.build.BuildRequest;
+import org.eclipse.xtext.build.IncrementalBuilder;
+import org.eclipse.xtext.build.IndexState;
+import org.eclipse.xtext.resource.IResourceServiceProvider;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.resource.impl.ChunkedResourceDescriptions;
+import org.eclipse.xtext.resource.impl.ProjectDescription;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.inject.Injector;
+
+/**
+ * Macro benchmark of {@link IncrementalBuilder#build(BuildRequest, org.eclipse.xtext.xbase.lib.Functions.Function1)
+ * IncrementalBuilder.build}: a full build of the corpus and an incremental build after a change to the first file,
+ * which alters its exported names and thereby affects the second file. Each incremental build starts from the state of
+ * the previous one, so the first file always differs from the state that the build starts from.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class IncrementalBuilderBenchmark extends AbstractStatemachineBenchmark {
+
+	/**
+	 * The {@link BuildRequest#setParallelism(int) parallelism} of the builds.
+	 */
+	@Param("1")
+	public int parallelism;
+
+	private IncrementalBuilder builder;
+
+	private IndexState currentState;
+
+	private boolean changed;
+
+	@Override
+	protected void setUpServices(Injector injector) {
+		builder = injector.getInstance(IncrementalBuilder.class);
+	}
+
+	@Setup
+	public void setUpIndex() {
+		currentState = fullBuild();
+	}
+
+	@Benchmark
+	public IndexState fullBuild() {
+		BuildRequest request = newBuildRequest(new IndexState());
+		request.setDirtyFiles(new ArrayList<>(uris));
+		return build(request);
+	}
+
+	@Benchmark
+	public IndexState incrementalBuild() throws IOException {
+		changed = !changed;
+		URI changedFile = uris.get(0);
+		try (OutputStream out = fileSystem.createOutputStream(changedFile, Collections.emptyMap())) {
+			out.write(StatemachineCorpus.createFile(0, changed ? states + 1 : states).getBytes(StandardCharsets.UTF_8));
+		}
+		BuildRequest request = newBuildRequest(currentState);
+		request.setDirtyFiles(new ArrayList<>(List.of(changedFile)));
+		currentState = build(request);
+		return currentState;
+	}
+
+	private IndexState build(BuildRequest request) {
+		return builder.build(request, IResourceServiceProvider.Registry.INSTANCE::getResourceServiceProvider)
+				.getIndexState();
+	}
+
+	private BuildRequest newBuildRequest(IndexState previousState) {
+		BuildRequest result = new BuildRequest();
+		ResourceDescriptionsData index = previousState.getResourceDescriptions().copy();
+		result.setBaseDir(uri(""));
+		result.setResourceSet(newIndexedResourceSet(index));
+		result.setResourceSetFactory(this::newIndexedResourceSet);
+		result.setParallelism(parallelism);
+		result.setState(new IndexState(index, previousState.getFileMappings().copy()));
+		return result;
+	}
+
+	private XtextResourceSet newIndexedResourceSet(ResourceDescriptionsData index) {
+		XtextResourceSet result = newResourceSet();
+		ProjectDescription projectDescription = new ProjectDescription();
+		projectDescription.setName("benchmark");
+		projectDescription.attachToEmfObject(result);
+		ChunkedResourceDescriptions chunkedIndex = new ChunkedResourceDescriptions(Collections.emptyMap(), result);
+		chunkedIndex.setContainer(projectDescription.getName(), index);
+		return result;
+	}
+
+}
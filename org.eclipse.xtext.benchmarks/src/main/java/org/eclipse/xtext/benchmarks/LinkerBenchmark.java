@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.diagnostics.IDiagnosticConsumer;
+import org.eclipse.xtext.linking.ILinker;
+import org.eclipse.xtext.resource.impl.ListBasedDiagnosticConsumer;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.inject.Injector;
+
+/**
+ * Measures the {@link org.eclipse.xtext.linking.lazy.LazyLinker LazyLinker}. The linker only installs proxies, so the
+ * benchmark resolves them, too. Half of the cross references of the measured resource point into another file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LinkerBenchmark extends AbstractStatemachineBenchmark {
+
+	private ILinker linker;
+
+	@Override
+	protected void setUpServices(Injector injector) {
+		linker = injector.getInstance(ILinker.class);
+	}
+
+	@Benchmark
+	public EObject installProxies() {
+		EObject root = resource.getParseResult().getRootASTElement();
+		IDiagnosticConsumer consumer = new ListBasedDiagnosticConsumer();
+		linker.linkModel(root, consumer);
+		return root;
+	}
+
+	@Benchmark
+	public EObject linkAndResolve() {
+		EObject root = installProxies();
+		EcoreUtil2.resolveLazyCrossReferences(resource, CancelIndicator.NullImpl);
+		return root;
+	}
+
+}
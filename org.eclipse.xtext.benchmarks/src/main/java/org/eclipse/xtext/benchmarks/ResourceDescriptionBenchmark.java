@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IReferenceDescription;
+import org.eclipse.xtext.resource.impl.DefaultResourceDescriptionStrategy;
+import org.eclipse.xtext.util.IResourceScopeCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.inject.Injector;
+
+/**
+ * Measures the {@link DefaultResourceDescriptionStrategy} as it is used to index a resource. The resource scope cache
+ * is cleared before each invocation, so qualified names are computed again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResourceDescriptionBenchmark extends AbstractStatemachineBenchmark {
+
+	private DefaultResourceDescriptionStrategy strategy;
+
+	private IResourceScopeCache cache;
+
+	@Override
+	protected void setUpServices(Injector injector) {
+		strategy = injector.getInstance(DefaultResourceDescriptionStrategy.class);
+		cache = injector.getInstance(IResourceScopeCache.class);
+	}
+
+	@Benchmark
+	public List<IEObjectDescription> exportedObjects() {
+		cache.clear(resource);
+		List<IEObjectDescription> result = new ArrayList<>();
+		TreeIterator<EObject> iterator = resource.getAllContents();
+		while (iterator.hasNext()) {
+			if (!strategy.createEObjectDescriptions(iterator.next(), result::add)) {
+				iterator.prune();
+			}
+		}
+		return result;
+	}
+
+	@Benchmark
+	public List<IReferenceDescription> referenceDescriptions() {
+		List<IReferenceDescription> result = new ArrayList<>();
+		TreeIterator<EObject> iterator = resource.getAllContents();
+		while (iterator.hasNext()) {
+			EObject object = iterator.next();
+			if (!strategy.createReferenceDescriptions(object, resource.getURI(), result::add)) {
+				iterator.prune();
+			}
+		}
+		return result;
+	}
+
+}
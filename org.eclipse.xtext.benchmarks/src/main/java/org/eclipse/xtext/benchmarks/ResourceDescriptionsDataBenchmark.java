@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.impl.PersistentResourceDescriptionsData;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+import org.eclipse.xtext.resource.persistence.SerializableEObjectDescription;
+import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the copy and update cycle that is performed on the index for each incremental build: the index is copied
+ * and a single description is replaced. Each invocation continues with the result of the previous one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResourceDescriptionsDataBenchmark {
+
+	@Param({ "1000", "10000", "60000" })
+	public int resources;
+
+	@Param({ "true", "false" })
+	public boolean persistent;
+
+	private ResourceDescriptionsData current;
+
+	private int build;
+
+	@Setup
+	public void setUp() {
+		List<IResourceDescription> descriptions = new ArrayList<>(resources);
+		for (int i = 0; i < resources; i++) {
+			descriptions.add(createDescription(i, "member"));
+		}
+		current = persistent ? new PersistentResourceDescriptionsData(descriptions)
+				: new ResourceDescriptionsData(descriptions);
+	}
+
+	@Benchmark
+	public ResourceDescriptionsData copyAndUpdate() {
+		ResourceDescriptionsData copy = current.copy();
+		int changed = (build * 7919) % resources;
+		IResourceDescription description = createDescription(changed, "changed" + build);
+		copy.addDescription(description.getURI(), description);
+		build++;
+		current = copy;
+		return copy;
+	}
+
+	private IResourceDescription createDescription(int index, String member) {
+		SerializableResourceDescription result = new SerializableResourceDescription();
+		URI uri = URI.createURI("r" + index + ".test");
+		result.setURI(uri);
+		List<SerializableEObjectDescription> descriptions = new ArrayList<>();
+		String[][] names = { { "a", "b", "Type" + index }, { "a", "b", "Type" + index, member },
+				{ "a", "b", "Common" + (index % 100) } };
+		for (int i = 0; i < names.length; i++) {
+			SerializableEObjectDescription description = new SerializableEObjectDescription();
+			description.setEClass(EcorePackage.Literals.ECLASS);
+			description.setEObjectURI(uri.appendFragment("//" + i));
+			description.setQualifiedName(QualifiedName.create(names[i]));
+			description.setUserData(new HashMap<>());
+			descriptions.add(description);
+		}
+		result.setDescriptions(descriptions);
+		return result;
+	}
+
+}
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.xtext.resource.SaveOptions;
+import org.eclipse.xtext.serializer.ISerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.inject.Injector;
+
+/**
+ * Measures {@link ISerializer#serialize(org.eclipse.emf.ecore.EObject, SaveOptions)} of a parsed model, once
+ * preserving the existing whitespace and once formatting it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializerBenchmark extends AbstractStatemachineBenchmark {
+
+	private ISerializer serializer;
+
+	@Override
+	protected void setUpServices(Injector injector) {
+		serializer = injector.getInstance(ISerializer.class);
+	}
+
+	@Benchmark
+	public String serialize() {
+		return serializer.serialize(resource.getParseResult().getRootASTElement(), SaveOptions.defaultOptions());
+	}
+
+	@Benchmark
+	public String serializeFormatted() {
+		return serializer.serialize(resource.getParseResult().getRootASTElement(),
+				SaveOptions.newBuilder().format().getOptions());
+	}
+
+}
@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Creates synthetic state machine files of configurable size. Each file declares its own signals and states. Its
+ * transitions refer to local states, to nested states by qualified name and to the states and signals of the
+ * previous file, so linking crosses file boundaries.
+ *
+ * The layout is deliberately unformatted in places so the formatter has work to do.
+ */
+public class StatemachineCorpus {
+
+	public static final String FILE_EXTENSION = "statemachine";
+
+	/**
+	 * Creates the given number of files with the given number of states each, keyed by their relative path.
+	 */
+	public static Map<String, String> create(int files, int states) {
+		Map<String, String> result = new LinkedHashMap<>();
+		for (int file = 0; file < files; file++) {
+			result.put(fileName(file), createFile(file, states));
+		}
+		return result;
+	}
+
+	public static String fileName(int file) {
+		return "machine" + file + "." + FILE_EXTENSION;
+	}
+
+	public static String createFile(int file, int states) {
+		StringBuilder builder = new StringBuilder();
+		int signals = Math.max(1, states / 4);
+		for (int i = 0; i < signals; i++) {
+			builder.append("input signal ").append(inputSignal(file, i)).append('\n');
+			builder.append("output signal ").append(outputSignal(file, i)).append('\n');
+		}
+		builder.append('\n');
+		for (int i = 0; i < states; i++) {
+			String state = state(file, i);
+			builder.append("state ").append(state).append('\n');
+			builder.append("\tset ").append(outputSignal(file, i % signals)).append(" = ").append(i % 2 == 0)
+					.append('\n');
+			builder.append("\tif ").append(inputSignal(file, i % signals)).append(" == true and ")
+					.append(inputSignal(file, (i + 1) % signals)).append("==false goto ")
+					.append(state(file, (i + 1) % states)).append('\n');
+			builder.append("\tif ").append(inputSignal(file, (i + 2) % signals)).append(" == false goto ")
+					.append(state).append('.').append(nestedState(file, i)).append('\n');
+			if (file > 0) {
+				builder.append("\tif ").append(inputSignal(file - 1, i % signals)).append(" == true goto ")
+						.append(state(file - 1, i)).append('\n');
+			}
+			builder.append("\tstate ").append(nestedState(file, i)).append(" set ")
+					.append(outputSignal(file, (i + 1) % signals)).append("=true if ")
+					.append(inputSignal(file, i % signals)).append(" == true goto ").append(state)
+					.append(" end\n");
+			builder.append("end\n\n");
+		}
+		return builder.toString();
+	}
+
+	private static String inputSignal(int file, int index) {
+		return "in_" + file + "_" + index;
+	}
+
+	private static String outputSignal(int file, int index) {
+		return "out_" + file + "_" + index;
+	}
+
+	private static String state(int file, int index) {
+		return "s_" + file + "_" + index;
+	}
+
+	private static String nestedState(int file, int index) {
+		return "n_" + file + "_" + index;
+	}
+
+}
@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.validation.AbstractDeclarativeValidator;
+import org.eclipse.xtext.validation.CheckMode;
+import org.eclipse.xtext.web.example.statemachine.validation.StatemachineValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.inject.Injector;
+
+/**
+ * Measures the dispatch of an {@link AbstractDeclarativeValidator} to its check methods, per validated object. The
+ * <code>reflection</code> variant invokes the check methods through {@link Method#invoke(Object, Object...)}, the
+ * <code>methodHandle</code> variant through bound {@link MethodHandle method handles}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidatorDispatchBenchmark extends AbstractStatemachineBenchmark {
+
+	public static class ReflectiveStatemachineValidator extends StatemachineValidator {
+		@Override
+		protected MethodWrapper createMethodWrapper(AbstractDeclarativeValidator instanceToUse, Method method) {
+			return new MethodWrapper(instanceToUse, method) {
+				@Override
+				protected MethodHandle createMethodHandle() {
+					return null;
+				}
+			};
+		}
+	}
+
+	@Param({ "methodHandle", "reflection" })
+	public String dispatch;
+
+	private AbstractDeclarativeValidator validator;
+
+	private List<EObject> objects;
+
+	private int next;
+
+	private Map<Object, Object> context;
+
+	@Override
+	protected void setUpServices(Injector injector) {
+		if ("reflection".equals(dispatch)) {
+			validator = injector.getInstance(ReflectiveStatemachineValidator.class);
+		} else {
+			validator = injector.getInstance(StatemachineValidator.class);
+		}
+	}
+
+	@Setup
+	public void setUpObjects() {
+		objects = EcoreUtil2.eAllContentsAsList(resource);
+		context = new HashMap<>();
+		context.put(CheckMode.KEY, CheckMode.ALL);
+	}
+
+	@Benchmark
+	public boolean validateObject() {
+		EObject object = objects.get(next);
+		next = (next + 1) % objects.size();
+		return validator.validate(object, new BasicDiagnostic(), context);
+	}
+
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.xtext.ide.tests.editor.contentassist;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.xtext.ide.editor.contentassist.ContentAssistContext;
+import org.eclipse.xtext.ide.editor.contentassist.IPrefixMatcher;
+import org.eclipse.xtext.ide.editor.contentassist.IdeCrossrefProposalProvider;
+import org.eclipse.xtext.ide.tests.testlanguage.TestLanguageRuntimeModule;
+import org.eclipse.xtext.ide.tests.testlanguage.ide.TestLanguageIdeModule;
+import org.eclipse.xtext.naming.IQualifiedNameConverter;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.EObjectDescription;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.scoping.IScope;
+import org.eclipse.xtext.scoping.impl.SimpleScope;
+import org.eclipse.xtext.util.Modules2;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Module;
+
+public class IdeCrossrefProposalProviderTest {
+
+	public static class TestableCrossrefProposalProvider extends IdeCrossrefProposalProvider {
+		public Set<String> query(IScope scope, ContentAssistContext context) {
+			Set<String> result = new TreeSet<>();
+			for (IEObjectDescription description : queryScope(scope, null, context)) {
+				result.add(description.getName().toString());
+			}
+			return result;
+		}
+
+		public QualifiedName getQueryPrefix(ContentAssistContext context) {
+			return getQueryPrefix(null, context);
+		}
+	}
+
+	public static class CustomQualifiedNameConverter extends IQualifiedNameConverter.DefaultImpl {
+	}
+
+	private Injector createInjector(Module... modules) {
+		List<Module> all = new ArrayList<>();
+		all.add(new TestLanguageRuntimeModule());
+		all.add(new TestLanguageIdeModule());
+		all.add(binder -> binder.bind(IPrefixMatcher.class).to(IPrefixMatcher.IgnoreCase.class));
+		all.addAll(List.of(modules));
+		return Guice.createInjector(Modules2.mixin(all.toArray(new Module[0])));
+	}
+
+	private ContentAssistContext createContext(Injector injector, String prefix) {
+		return injector.getInstance(ContentAssistContext.Builder.class).setPrefix(prefix).toContext();
+	}
+
+	@Test
+	public void testSegmentsThatContainTheDelimiter() {
+		Injector injector = createInjector();
+		TestableCrossrefProposalProvider provider = injector.getInstance(TestableCrossrefProposalProvider.class);
+		List<IEObjectDescription> descriptions = new ArrayList<>();
+		for (QualifiedName name : List.of(QualifiedName.create("a.b"), QualifiedName.create("a", "bc"),
+				QualifiedName.create("a", "c"), QualifiedName.create("b"), QualifiedName.create("a.b", "d"))) {
+			descriptions.add(EObjectDescription.create(name, EcorePackage.Literals.ECLASS));
+		}
+		IScope scope = new SimpleScope(descriptions, true);
+		Assert.assertEquals(Set.of("a.b", "a.bc", "a.b.d"), provider.query(scope, createContext(injector, "A.b")));
+		Assert.assertEquals(Set.of("a.b.d"), provider.query(scope, createContext(injector, "a.b.D")));
+		Assert.assertEquals(Set.of("a.c"), provider.query(scope, createContext(injector, "a.c")));
+		Assert.assertEquals(Set.of("a.b", "a.bc", "a.c", "a.b.d"), provider.query(scope, createContext(injector, "a")));
+	}
+
+	@Test
+	public void testNoQueryPrefixForCustomConverter() {
+		Injector injector = createInjector();
+		Assert.assertEquals(QualifiedName.create("a", "b"), injector
+				.getInstance(TestableCrossrefProposalProvider.class).getQueryPrefix(createContext(injector, "a.b")));
+		Injector customInjector = createInjector(
+				binder -> binder.bind(IQualifiedNameConverter.class).to(CustomQualifiedNameConverter.class));
+		Assert.assertNull(customInjector.getInstance(TestableCrossrefProposalProvider.class)
+				.getQueryPrefix(createContext(customInjector, "a.b")));
+	}
+
+}
@@ -9,12 +9,17 @@
 package org.eclipse.xtext.ide.tests.editor.contentassist.antlr;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.antlr.runtime.RecognitionException;
+import org.eclipse.xtext.AbstractElement;
 import org.eclipse.xtext.ide.editor.contentassist.antlr.AbstractContentAssistParser;
 import org.eclipse.xtext.ide.editor.contentassist.antlr.FollowElement;
 import org.eclipse.xtext.testlanguages.xtextgrammar.ide.contentassist.antlr.XtextGrammarTestLanguageParser;
+import org.junit.Assert;
+import org.junit.Test;
 
+import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 
 /**
@@ -22,12 +27,43 @@ import com.google.inject.Inject;
  */
 public class ParserTest extends AbstractParserTest {
 
+	public static class UncachedParser extends XtextGrammarTestLanguageParser {
+		@Override
+		protected String[][] getRequiredRuleNames(String ruleName, List<Integer> paramStack,
+				AbstractElement elementToParse) {
+			return computeRequiredRuleNames(ruleName, paramStack, elementToParse);
+		}
+	}
+
 	@Inject
 	private XtextGrammarTestLanguageParser parser;
 
+	@Inject
+	private UncachedParser uncachedParser;
+
 	@Override
 	protected Collection<FollowElement> getFollowSet(String input) throws RecognitionException {
 		AbstractContentAssistParser parser = this.parser;
 		return parser.getFollowElements(input, false);
 	}
+
+	@Test public void testRepeatedLookAheadFollowElements() throws RecognitionException {
+		int replayed = 0;
+		for (FollowElement element : getFollowSet("grammar org.name ruleName: foo")) {
+			if (element.getLookAhead() > 1) {
+				List<AbstractElement> first = getGrammarElements(parser.getFollowElements(element));
+				List<AbstractElement> second = getGrammarElements(parser.getFollowElements(element));
+				List<AbstractElement> uncached = getGrammarElements(uncachedParser.getFollowElements(element));
+				Assert.assertFalse(first.isEmpty());
+				Assert.assertEquals(uncached, first);
+				Assert.assertEquals(uncached, second);
+				replayed++;
+			}
+		}
+		Assert.assertTrue(replayed > 0);
+	}
+
+	private List<AbstractElement> getGrammarElements(Collection<FollowElement> followElements) {
+		return Lists.newArrayList(Lists.transform(Lists.newArrayList(followElements), FollowElement::getGrammarElement));
+	}
 }
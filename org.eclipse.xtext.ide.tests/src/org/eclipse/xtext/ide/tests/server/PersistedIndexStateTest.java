@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.xtext.ide.tests.server;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.lsp4j.Diagnostic;
+import org.eclipse.xtext.build.IncrementalBuilder;
+import org.eclipse.xtext.ide.server.ProjectManager;
+import org.eclipse.xtext.ide.server.ServerModule;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.util.Modules2;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.inject.Module;
+
+/**
+ * Tests the restart of the language server from a persisted index state.
+ */
+public class PersistedIndexStateTest extends AbstractTestLangLanguageServerTest {
+
+	public static class PersistingProjectManager extends ProjectManager {
+		private static final AtomicInteger initialBuilds = new AtomicInteger();
+
+		@Override
+		public IncrementalBuilder.Result doInitialBuild(CancelIndicator cancelIndicator) {
+			initialBuilds.incrementAndGet();
+			return super.doInitialBuild(cancelIndicator);
+		}
+
+		@Override
+		protected Path getIndexStateFile() {
+			if (getBaseDir() == null) {
+				return null;
+			}
+			return Paths.get(java.net.URI.create(getBaseDir().toString())).resolve(".index-state");
+		}
+	}
+
+	@Override
+	public Module getServerModule() {
+		return Modules2.mixin(super.getServerModule(),
+				binder -> binder.bind(ProjectManager.class).to(PersistingProjectManager.class));
+	}
+
+	@Test
+	public void testOverriddenInitialBuildIsCalled() {
+		int before = PersistingProjectManager.initialBuilds.get();
+		writeFile("MyType1.testlang", "type Test {\n}\n");
+		initialize();
+		Assert.assertTrue(PersistingProjectManager.initialBuilds.get() > before);
+	}
+
+	@Test
+	public void testIssuesOfUnchangedResourcesAreReportedAfterRestart() throws Exception {
+		String unchanged = writeFile("MyType1.testlang", "type Test {\n    NonExisting foo\n}\n");
+		String changed = writeFile("MyType2.testlang", "type Foo {\n    Bar bar\n}\n");
+		long past = System.currentTimeMillis() - 10_000;
+		new File(root, "MyType1.testlang").setLastModified(past);
+		new File(root, "MyType2.testlang").setLastModified(past);
+		initialize();
+		Map<String, List<Diagnostic>> before = getDiagnostics();
+		Assert.assertEquals(1, before.get(unchanged).size());
+		Assert.assertEquals(1, before.get(changed).size());
+		Assert.assertTrue(Files.exists(root.toPath().resolve(".index-state")));
+
+		languageServer.shutdown().get();
+		setup();
+		notifications.clear();
+		writeFile("MyType2.testlang", "type Foo {\n}\n");
+		initialize();
+		Map<String, List<Diagnostic>> after = getDiagnostics();
+		Assert.assertEquals(before.get(unchanged).toString(), after.get(unchanged).toString());
+		Assert.assertEquals(0, after.get(changed).size());
+	}
+
+}
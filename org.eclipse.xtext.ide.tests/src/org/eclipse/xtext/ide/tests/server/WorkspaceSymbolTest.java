@@ -8,7 +8,19 @@
  */
 package org.eclipse.xtext.ide.tests.server;
 
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.xtext.ide.server.symbol.DocumentSymbolService;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.EObjectDescription;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IReferenceDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.impl.AbstractResourceDescription;
 import org.eclipse.xtext.testing.WorkspaceSymbolConfiguration;
+import org.junit.Assert;
 import org.junit.Test;
 
 /**
@@ -79,4 +91,81 @@ public class WorkspaceSymbolTest extends AbstractTestLangLanguageServerTest {
 			it.setExpectedSymbols(expectedSymbols);
 		});
 	}
+
+	@Test
+	public void testSymbol_03() {
+		testSymbol((WorkspaceSymbolConfiguration it) -> {
+			String model = "type Foo {\n" +
+					"	int bar\n" +
+					"}\n" +
+					"type Bar {\n" +
+					"	Foo foo\n" +
+					"}\n";
+			it.setModel(model);
+			it.setQuery("o.B");
+			String expectedSymbols = "symbol \"Foo.bar\" {\n" +
+					"	kind: 7\n" +
+					"	location: MyModel.testlang [[1, 5] .. [1, 8]]\n" +
+					"}\n" +
+					"symbol \"Foo.bar.int\" {\n" +
+					"	kind: 7\n" +
+					"	location: MyModel.testlang [[1, 1] .. [1, 4]]\n" +
+					"}\n";
+			it.setExpectedSymbols(expectedSymbols);
+		});
+	}
+
+	@Test
+	public void testSymbol_04() {
+		testSymbol((WorkspaceSymbolConfiguration it) -> {
+			String model = "type Foo {\n" +
+					"	int bar\n" +
+					"}\n";
+			it.setModel(model);
+			it.setQuery("Baz");
+			it.setExpectedSymbols("");
+		});
+	}
+
+	@Test
+	public void testOverriddenFilterVisitsAllDescriptions() {
+		IResourceDescription description = new AbstractResourceDescription() {
+			@Override
+			protected List<IEObjectDescription> computeExportedObjects() {
+				return List.of(EObjectDescription.create(QualifiedName.create("FooBar"), EcorePackage.Literals.ECLASS));
+			}
+
+			@Override
+			public Iterable<QualifiedName> getImportedNames() {
+				return List.of();
+			}
+
+			@Override
+			public Iterable<IReferenceDescription> getReferenceDescriptions() {
+				return List.of();
+			}
+
+			@Override
+			public URI getURI() {
+				return URI.createURI("FooBar.testlang");
+			}
+		};
+		Assert.assertFalse(new TestableDocumentSymbolService().mayContainMatches(description, "FBa"));
+		Assert.assertTrue(new TestableDocumentSymbolService().mayContainMatches(description, "oba"));
+		Assert.assertTrue(new CamelCaseDocumentSymbolService().mayContainMatches(description, "FBa"));
+	}
+
+	public static class TestableDocumentSymbolService extends DocumentSymbolService {
+		@Override
+		public boolean mayContainMatches(IResourceDescription resourceDescription, String query) {
+			return super.mayContainMatches(resourceDescription, query);
+		}
+	}
+
+	public static class CamelCaseDocumentSymbolService extends TestableDocumentSymbolService {
+		@Override
+		protected boolean filter(IEObjectDescription description, String query) {
+			return description.getName().getLastSegment().replaceAll("[a-z]", "").startsWith(query.replaceAll("[a-z]", ""));
+		}
+	}
 }
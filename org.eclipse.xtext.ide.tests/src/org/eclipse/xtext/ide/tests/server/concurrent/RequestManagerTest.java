@@ -8,6 +8,7 @@
  */
 package org.eclipse.xtext.ide.tests.server.concurrent;
 
+import java.util.Collections;
 import java.util.Objects;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
@@ -21,16 +22,21 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.log4j.Level;
+import org.eclipse.emf.common.util.URI;
 import org.eclipse.xtext.ide.server.ServerModule;
 import org.eclipse.xtext.ide.server.concurrent.AbstractRequest;
 import org.eclipse.xtext.ide.server.concurrent.ReadRequest;
 import org.eclipse.xtext.ide.server.concurrent.RequestManager;
+import org.eclipse.xtext.ide.server.concurrent.RequestStatistics;
 import org.eclipse.xtext.ide.server.concurrent.WriteRequest;
 import org.eclipse.xtext.service.OperationCanceledManager;
 import org.eclipse.xtext.testing.RepeatedTest;
 import org.eclipse.xtext.testing.logging.LoggingTester;
 import org.eclipse.xtext.util.CancelIndicator;
 import org.eclipse.xtext.xbase.lib.Exceptions;
+import org.eclipse.xtext.xbase.lib.Functions.Function0;
+import org.eclipse.xtext.xbase.lib.Functions.Function1;
+import org.eclipse.xtext.xbase.lib.Functions.Function2;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -312,6 +318,114 @@ public class RequestManagerTest {
 		Assert.assertEquals(1, sharedState.get());
 	}
 
+	@Test(timeout = 1000)
+	public void testWriteCancelsReadOfSameDocument() throws Exception {
+		URI document = URI.createURI("file:/a.txt");
+		CountDownLatch readStarted = new CountDownLatch(1);
+		CompletableFuture<Object> reader = requestManager.runRead(document, (CancelIndicator cancelIndicator) -> {
+			readStarted.countDown();
+			while (!cancelIndicator.isCanceled()) {
+				Uninterruptibles.sleepUninterruptibly(10, TimeUnit.MILLISECONDS);
+			}
+			throw new CancellationException();
+		});
+		Uninterruptibles.awaitUninterruptibly(readStarted);
+		requestManager.runWrite(Collections.singleton(document), () -> null, (CancelIndicator $0, Object $1) -> {
+			return sharedState.incrementAndGet();
+		}).join();
+		Assert.assertTrue(reader.isCancelled());
+		Assert.assertEquals(1, sharedState.get());
+	}
+
+	@Test(timeout = 1000)
+	public void testWriteWaitsForReadOfOtherDocument() throws Exception {
+		URI document = URI.createURI("file:/a.txt");
+		URI otherDocument = URI.createURI("file:/b.txt");
+		CountDownLatch readStarted = new CountDownLatch(1);
+		CountDownLatch proceedWithRead = new CountDownLatch(1);
+		CompletableFuture<Integer> reader = requestManager.runRead(document, (CancelIndicator cancelIndicator) -> {
+			readStarted.countDown();
+			Uninterruptibles.awaitUninterruptibly(proceedWithRead);
+			if (cancelIndicator.isCanceled()) {
+				throw new CancellationException();
+			}
+			return sharedState.incrementAndGet();
+		});
+		Uninterruptibles.awaitUninterruptibly(readStarted);
+		CompletableFuture<Integer> writer = requestManager.runWrite(Collections.singleton(otherDocument), () -> null,
+				(CancelIndicator $0, Object $1) -> {
+					return sharedState.incrementAndGet();
+				});
+		try {
+			Uninterruptibles.getUninterruptibly(writer, 100, TimeUnit.MILLISECONDS);
+			Assert.fail("Expected timeout");
+		} catch (TimeoutException e) {
+			Assert.assertEquals(0, sharedState.get());
+		}
+		proceedWithRead.countDown();
+		Assert.assertEquals(2, writer.join().intValue());
+		Assert.assertEquals(1, reader.join().intValue());
+	}
+
+	@Test(timeout = 1000)
+	public void testGlobalWriteCancelsDocumentRead() throws Exception {
+		URI document = URI.createURI("file:/a.txt");
+		CountDownLatch readStarted = new CountDownLatch(1);
+		CompletableFuture<Object> reader = requestManager.runRead(document, (CancelIndicator cancelIndicator) -> {
+			readStarted.countDown();
+			while (!cancelIndicator.isCanceled()) {
+				Uninterruptibles.sleepUninterruptibly(10, TimeUnit.MILLISECONDS);
+			}
+			throw new CancellationException();
+		});
+		Uninterruptibles.awaitUninterruptibly(readStarted);
+		requestManager.runWrite(() -> null, (CancelIndicator $0, Object $1) -> null).join();
+		Assert.assertTrue(reader.isCancelled());
+	}
+
+	@Test(timeout = 1000)
+	public void testDocumentRequestsUseOverriddenMethods() throws Exception {
+		AtomicInteger overriddenCalls = new AtomicInteger();
+		RequestManager customRequestManager = new RequestManager(executorServiceProvider.get(),
+				cancelManagerProvider.get()) {
+			@Override
+			public synchronized <V> CompletableFuture<V> runRead(
+					Function1<? super CancelIndicator, ? extends V> cancellable) {
+				overriddenCalls.incrementAndGet();
+				return super.runRead(cancellable);
+			}
+
+			@Override
+			public synchronized <U, V> CompletableFuture<V> runWrite(Function0<? extends U> nonCancellable,
+					Function2<? super CancelIndicator, ? super U, ? extends V> cancellable) {
+				overriddenCalls.incrementAndGet();
+				return super.runWrite(nonCancellable, cancellable);
+			}
+		};
+		try {
+			URI document = URI.createURI("file:/a.txt");
+			Assert.assertEquals("Foo", customRequestManager.runRead(document, (CancelIndicator it) -> "Foo").join());
+			Assert.assertEquals("Bar", customRequestManager
+					.runWrite(Collections.singleton(document), () -> null, (CancelIndicator $0, Object $1) -> "Bar")
+					.join());
+			Assert.assertEquals(2, overriddenCalls.get());
+		} finally {
+			customRequestManager.shutdown();
+		}
+	}
+
+	@Test(timeout = 1000)
+	public void testStatistics() throws Exception {
+		requestManager.runRead((CancelIndicator it) -> "Foo").join();
+		requestManager.runWrite(() -> null, (CancelIndicator $0, Object $1) -> "Bar").join();
+		requestManager.runRead((CancelIndicator it) -> "Baz").join();
+		RequestStatistics statistics = requestManager.getStatistics();
+		Assert.assertEquals(0, statistics.getPendingRequests());
+		Assert.assertEquals(2, statistics.getReadLatency().getCount());
+		Assert.assertEquals(1, statistics.getWriteLatency().getCount());
+		Assert.assertEquals(0, statistics.getCancelledRequests());
+	}
+
 	@Test(timeout = 1000)
 	public void testCancelRead() throws Exception {
 		AtomicBoolean isCanceled = new AtomicBoolean(false);
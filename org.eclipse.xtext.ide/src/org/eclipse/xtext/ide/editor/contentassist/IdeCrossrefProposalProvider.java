@@ -11,10 +11,14 @@ package org.eclipse.xtext.ide.editor.contentassist;
 import org.apache.log4j.Logger;
 import org.eclipse.xtext.CrossReference;
 import org.eclipse.xtext.naming.IQualifiedNameConverter;
+import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.scoping.IPrefixAwareScope;
 import org.eclipse.xtext.scoping.IScope;
 
 import com.google.common.base.Predicate;
+import com.google.common.base.Strings;
+import com.google.common.collect.Iterables;
 import com.google.inject.Inject;
 
 /**
@@ -35,6 +39,9 @@ public class IdeCrossrefProposalProvider {
 	@Inject
 	private IdeContentProposalPriorities proposalPriorities;
 
+	@Inject
+	private IPrefixMatcher prefixMatcher;
+
 	public void lookupCrossReference(IScope scope, CrossReference crossReference, ContentAssistContext context,
 			IIdeContentProposalAcceptor acceptor, Predicate<IEObjectDescription> filter) {
 		try {
@@ -52,11 +59,60 @@ public class IdeCrossrefProposalProvider {
 		}
 	}
 
+	/**
+	 * Queries the scope for the candidates. If possible, only the elements whose name matches the
+	 * {@link #getQueryPrefix(CrossReference, ContentAssistContext) prefix} are requested, thus
+	 * {@link IPrefixAwareScope prefix aware scopes} do not have to compute all elements. Since the segments of a
+	 * name may contain the delimiter, e.g. {@code QualifiedName.create("a.b")}, a prefix with several segments is only
+	 * used to query the elements by its first segment. These elements are filtered by their complete names.
+	 */
 	protected Iterable<IEObjectDescription> queryScope(IScope scope, CrossReference crossReference,
 			ContentAssistContext context) {
+		QualifiedName prefix = getQueryPrefix(crossReference, context);
+		if (prefix != null) {
+			if (prefix.getSegmentCount() == 1) {
+				return IPrefixAwareScope.getElementsByPrefix(scope, prefix);
+			}
+			String prefixString = qualifiedNameConverter.toString(prefix);
+			return Iterables.filter(
+					IPrefixAwareScope.getElementsByPrefix(scope, QualifiedName.create(prefix.getFirstSegment())),
+					it -> qualifiedNameConverter.toString(it.getName()).regionMatches(true, 0, prefixString, 0,
+							prefixString.length()));
+		}
 		return scope.getAllElements();
 	}
 
+	/**
+	 * Returns the prefix of the context as a qualified name or <code>null</code> if all elements of the scope have to
+	 * be considered. The prefix is only used if proposals are matched by {@link IPrefixMatcher.IgnoreCase} and the
+	 * names are converted by the {@link IQualifiedNameConverter.DefaultImpl default converter} itself, not by a
+	 * subclass. Subclasses that create proposals that do not start with the name of the candidate have to return
+	 * <code>null</code>.
+	 * 
+	 * @since 2.36
+	 */
+	protected QualifiedName getQueryPrefix(CrossReference crossReference, ContentAssistContext context) {
+		String prefix = context.getPrefix();
+		if (Strings.isNullOrEmpty(prefix) || prefixMatcher.getClass() != IPrefixMatcher.IgnoreCase.class
+				|| qualifiedNameConverter.getClass() != IQualifiedNameConverter.DefaultImpl.class) {
+			return null;
+		}
+		String delimiter = ((IQualifiedNameConverter.DefaultImpl) qualifiedNameConverter).getDelimiter();
+		if (delimiter != null && !prefix.endsWith(delimiter)) {
+			// a partially typed delimiter would otherwise become part of the last segment
+			for (int i = delimiter.length() - 1; i > 0; i--) {
+				if (prefix.endsWith(delimiter.substring(0, i))) {
+					prefix = prefix.substring(0, prefix.length() - i);
+					break;
+				}
+			}
+		}
+		if (prefix.isEmpty()) {
+			return null;
+		}
+		return qualifiedNameConverter.toQualifiedName(prefix);
+	}
+
 	protected ContentAssistEntry createProposal(IEObjectDescription candidate, CrossReference crossRef,
 			ContentAssistContext context) {
 		return proposalCreator.createProposal(qualifiedNameConverter.toString(candidate.getName()), context, (e) -> {
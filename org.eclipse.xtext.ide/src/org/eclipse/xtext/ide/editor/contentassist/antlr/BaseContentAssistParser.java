@@ -13,9 +13,13 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.antlr.runtime.ANTLRStringStream;
 import org.antlr.runtime.CharStream;
@@ -43,6 +47,7 @@ import org.eclipse.xtext.parser.IParseResult;
 import org.eclipse.xtext.parser.antlr.IUnorderedGroupHelper;
 import org.eclipse.xtext.xtext.RuleNames;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
@@ -66,6 +71,29 @@ public abstract class BaseContentAssistParser<FE extends BaseFollowElement<LATer
 
 	private AbstractRule entryRule;
 
+	/**
+	 * The public rule methods of the generated internal parsers, keyed by their name.
+	 */
+	private static final ClassValue<Map<String, Method>> RULE_METHODS = new ClassValue<Map<String, Method>>() {
+		@Override
+		protected Map<String, Method> computeValue(Class<?> parserClass) {
+			Map<String, Method> result = new HashMap<String, Method>();
+			for (Method method : parserClass.getMethods()) {
+				if (method.getParameterCount() == 0 && !result.containsKey(method.getName())) {
+					method.setAccessible(true);
+					result.put(method.getName(), method);
+				}
+			}
+			return ImmutableMap.copyOf(result);
+		}
+	};
+
+	/**
+	 * The required rule names for grammar elements that are parsed without parameters on the stack. They only depend
+	 * on the grammar, thus they are computed once per element.
+	 */
+	private final Map<AbstractElement, String[][]> requiredRuleNamesCache = new ConcurrentHashMap<>();
+
 	/**
 	 * Create a token source for the given input based on the bound lexer.
 	 */
@@ -166,8 +194,7 @@ public abstract class BaseContentAssistParser<FE extends BaseFollowElement<LATer
 	 */
 	protected Set<FE> getFollowElements(final InternalParser parser, String ruleName, boolean swallowInfiniteRecursion)
 			throws Exception {
-		Method method = parser.getClass().getMethod(ruleName);
-		method.setAccessible(true);
+		Method method = getRuleMethod(parser, ruleName);
 		try {
 			method.invoke(parser);
 		} catch (InvocationTargetException targetException) {
@@ -184,6 +211,22 @@ public abstract class BaseContentAssistParser<FE extends BaseFollowElement<LATer
 		return parser.getFollowElements();
 	}
 
+	/**
+	 * Returns the public method of the internal parser that implements the rule with the given name. The methods are
+	 * looked up once per parser class.
+	 * 
+	 * @throws NoSuchMethodException
+	 *             if there is no such rule.
+	 * @since 2.36
+	 */
+	protected Method getRuleMethod(InternalParser parser, String ruleName) throws NoSuchMethodException {
+		Method result = RULE_METHODS.get(parser.getClass()).get(ruleName);
+		if (result == null) {
+			throw new NoSuchMethodException(parser.getClass().getName() + "." + ruleName + "()");
+		}
+		return result;
+	}
+
 	/**
 	 * @since 2.14
 	 */
@@ -318,8 +361,32 @@ public abstract class BaseContentAssistParser<FE extends BaseFollowElement<LATer
 		return Collections.singleton(root);
 	}
 
+	/**
+	 * Returns the sequences of rule names that have to be invoked to parse the given element. The result for elements
+	 * that are parsed without parameters on the stack is cached, callers get a copy of it that they may modify.
+	 */
 	protected String[][] getRequiredRuleNames(String ruleName, List<Integer> paramStack,
 			AbstractElement elementToParse) {
+		if (paramStack.isEmpty() && Objects.equals(ruleName, getRuleName(elementToParse))) {
+			String[][] cached = requiredRuleNamesCache.computeIfAbsent(elementToParse,
+					e -> computeRequiredRuleNames(ruleName, paramStack, e));
+			String[][] result = new String[cached.length][];
+			for (int i = 0; i < cached.length; i++) {
+				result[i] = cached[i].clone();
+			}
+			return result;
+		}
+		return computeRequiredRuleNames(ruleName, paramStack, elementToParse);
+	}
+
+	/**
+	 * Computes the required rule names without consulting the cache of {@link #getRequiredRuleNames(String, List,
+	 * AbstractElement)}.
+	 * 
+	 * @since 2.36
+	 */
+	protected String[][] computeRequiredRuleNames(String ruleName, List<Integer> paramStack,
+			AbstractElement elementToParse) {
 		return requiredRuleNameComputer
 				.getRequiredRuleNames(new RequiredRuleNameComputer.Param(ruleName, paramStack, elementToParse) {
 					@Override
@@ -357,6 +424,7 @@ public abstract class BaseContentAssistParser<FE extends BaseFollowElement<LATer
 	 */
 	public void setRequiredRuleNameComputer(RequiredRuleNameComputer requiredRuleNameComputer) {
 		this.requiredRuleNameComputer = requiredRuleNameComputer;
+		this.requiredRuleNamesCache.clear();
 	}
 
 	/**
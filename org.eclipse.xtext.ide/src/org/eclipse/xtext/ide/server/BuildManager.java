@@ -161,7 +161,7 @@ public class BuildManager {
 		List<IResourceDescription.Delta> result = new ArrayList<>();
 		for (ProjectDescription description : sortedDescriptions) {
 			IncrementalBuilder.Result partialresult = workspaceManager.getProjectManager(description.getName())
-					.doInitialBuild(indicator);
+					.doInitialBuild(new ArrayList<>(result), indicator);
 			result.addAll(partialresult.getAffectedResources());
 		}
 		return result;
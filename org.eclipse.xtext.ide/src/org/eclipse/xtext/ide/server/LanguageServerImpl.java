@@ -10,6 +10,7 @@ package org.eclipse.xtext.ide.server;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -20,6 +21,7 @@ import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.URI;
@@ -411,7 +413,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 
 	@Override
 	public void didOpen(DidOpenTextDocumentParams params) {
-		runBuildable(() -> toBuildable(params));
+		runBuildable(Collections.singleton(getURI(params.getTextDocument())), () -> toBuildable(params));
 	}
 
 	/**
@@ -425,7 +427,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 
 	@Override
 	public void didChange(DidChangeTextDocumentParams params) {
-		runBuildable(() -> toBuildable(params));
+		runBuildable(Collections.singleton(getURI(params.getTextDocument())), () -> toBuildable(params));
 	}
 
 	/**
@@ -439,7 +441,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 
 	@Override
 	public void didClose(DidCloseTextDocumentParams params) {
-		runBuildable(() -> toBuildable(params));
+		runBuildable(Collections.singleton(getURI(params.getTextDocument())), () -> toBuildable(params));
 	}
 
 	/**
@@ -456,7 +458,9 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 
 	@Override
 	public void didChangeWatchedFiles(DidChangeWatchedFilesParams params) {
-		runBuildable(() -> toBuildable(params));
+		Set<URI> changedFiles = params.getChanges().stream().map(fileEvent -> uriExtensions.toUri(fileEvent.getUri()))
+				.collect(Collectors.toSet());
+		runBuildable(changedFiles, () -> toBuildable(params));
 	}
 
 	/**
@@ -488,6 +492,20 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 		requestManager.runWrite(newBuildable::get, (cancelIndicator, buildable) -> buildable.build(cancelIndicator));
 	}
 
+	/**
+	 * Compute a buildable and run the build in a write action that only cancels pending reads of the given documents.
+	 *
+	 * @param documents
+	 *            the documents that are changed by the buildable.
+	 * @param newBuildable
+	 *            the factory for the buildable.
+	 * @since 2.36
+	 */
+	protected void runBuildable(Collection<URI> documents, Supplier<? extends Buildable> newBuildable) {
+		requestManager.runWrite(documents, newBuildable::get,
+				(cancelIndicator, buildable) -> buildable.build(cancelIndicator));
+	}
+
 	@Override
 	public void didChangeConfiguration(DidChangeConfigurationParams params) {
 		requestManager.runWrite(() -> {
@@ -569,7 +587,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 
 	@Override
 	public CompletableFuture<Either<List<CompletionItem>, CompletionList>> completion(CompletionParams params) {
-		return requestManager.runRead((cancelIndicator) -> completion(cancelIndicator, params));
+		return requestManager.runRead(getURI(params), (cancelIndicator) -> completion(cancelIndicator, params));
 	}
 
 	/**
@@ -661,7 +679,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 	@Override
 	public CompletableFuture<List<Either<SymbolInformation, DocumentSymbol>>> documentSymbol(
 			DocumentSymbolParams params) {
-		return requestManager.runRead((cancelIndicator) -> {
+		return requestManager.runRead(getURI(params.getTextDocument()), (cancelIndicator) -> {
 			List<DocumentSymbol> symbols = documentSymbol(params, cancelIndicator);
 			return Lists.transform(symbols, Either::forRight);
 		});
@@ -738,7 +756,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 
 	@Override
 	public CompletableFuture<Hover> hover(HoverParams params) {
-		return requestManager.runRead((cancelIndicator) -> hover(params, cancelIndicator));
+		return requestManager.runRead(getURI(params), (cancelIndicator) -> hover(params, cancelIndicator));
 	}
 
 	/**
@@ -762,7 +780,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 
 	@Override
 	public CompletableFuture<SignatureHelp> signatureHelp(SignatureHelpParams params) {
-		return requestManager.runRead((cancelIndicator) -> signatureHelp(params, cancelIndicator));
+		return requestManager.runRead(getURI(params), (cancelIndicator) -> signatureHelp(params, cancelIndicator));
 	}
 
 	/**
@@ -781,7 +799,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 
 	@Override
 	public CompletableFuture<List<? extends DocumentHighlight>> documentHighlight(DocumentHighlightParams params) {
-		return requestManager.runRead((cancelIndicator) -> documentHighlight(params, cancelIndicator));
+		return requestManager.runRead(getURI(params), (cancelIndicator) -> documentHighlight(params, cancelIndicator));
 	}
 
 	/**
@@ -801,7 +819,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 
 	@Override
 	public CompletableFuture<List<Either<Command, CodeAction>>> codeAction(CodeActionParams params) {
-		return requestManager.runRead((cancelIndicator) -> codeAction(params, cancelIndicator));
+		return requestManager.runRead(getURI(params.getTextDocument()), (cancelIndicator) -> codeAction(params, cancelIndicator));
 	}
 
 	/**
@@ -862,7 +880,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 
 	@Override
 	public CompletableFuture<List<? extends CodeLens>> codeLens(CodeLensParams params) {
-		return requestManager.runRead((cancelIndicator) -> codeLens(params, cancelIndicator));
+		return requestManager.runRead(getURI(params.getTextDocument()), (cancelIndicator) -> codeLens(params, cancelIndicator));
 	}
 
 	/**
@@ -889,7 +907,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 		if (uri == null) {
 			return CompletableFuture.completedFuture(unresolved);
 		}
-		return requestManager.runRead((cancelIndicator) -> resolveCodeLens(uri, unresolved, cancelIndicator));
+		return requestManager.runRead(uri, (cancelIndicator) -> resolveCodeLens(uri, unresolved, cancelIndicator));
 	}
 
 	/**
@@ -907,7 +925,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 
 	@Override
 	public CompletableFuture<List<? extends TextEdit>> formatting(DocumentFormattingParams params) {
-		return requestManager.runRead((cancelIndicator) -> formatting(params, cancelIndicator));
+		return requestManager.runRead(getURI(params.getTextDocument()), (cancelIndicator) -> formatting(params, cancelIndicator));
 	}
 
 	/**
@@ -926,7 +944,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 
 	@Override
 	public CompletableFuture<List<? extends TextEdit>> rangeFormatting(DocumentRangeFormattingParams params) {
-		return requestManager.runRead((cancelIndicator) -> rangeFormatting(params, cancelIndicator));
+		return requestManager.runRead(getURI(params.getTextDocument()), (cancelIndicator) -> rangeFormatting(params, cancelIndicator));
 	}
 
 	/**
@@ -1054,7 +1072,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 	 * @since 2.26
 	 */
 	public CompletableFuture<List<FoldingRange>> foldingRange(FoldingRangeRequestParams params) {
-		return requestManager.runRead(cancelIndicator -> foldingRange(params, cancelIndicator));
+		return requestManager.runRead(getURI(params.getTextDocument()), cancelIndicator -> foldingRange(params, cancelIndicator));
 	}
 
 	/**
@@ -1145,7 +1163,8 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 	private final ILanguageServerAccess access = new ILanguageServerAccess() {
 		@Override
 		public <T> CompletableFuture<T> doRead(String uri, Function<ILanguageServerAccess.Context, T> function) {
-			return requestManager.runRead(cancelIndicator -> workspaceManager.doRead(uriExtensions.toUri(uri),
+			URI documentURI = uriExtensions.toUri(uri);
+			return requestManager.runRead(documentURI, cancelIndicator -> workspaceManager.doRead(documentURI,
 					(document, resource) -> function.apply(new ILanguageServerAccess.Context(resource, document,
 							workspaceManager.isDocumentOpen(resource.getURI()), cancelIndicator))));
 		}
@@ -1293,7 +1312,7 @@ public class LanguageServerImpl implements LanguageServer, WorkspaceService, Tex
 
 	@Override
 	public CompletableFuture<SemanticTokens> semanticTokensFull(final SemanticTokensParams params) {
-		return getRequestManager().runRead((cancelIndicator) -> semanticTokensFull(params, cancelIndicator));
+		return getRequestManager().runRead(getURI(params.getTextDocument()), (cancelIndicator) -> semanticTokensFull(params, cancelIndicator));
 	}
 
 	@Beta
@@ -8,16 +8,26 @@
  *******************************************************************************/
 package org.eclipse.xtext.ide.server;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.URIConverter;
 import org.eclipse.xtext.build.BuildRequest;
 import org.eclipse.xtext.build.IncrementalBuilder;
 import org.eclipse.xtext.build.IndexState;
+import org.eclipse.xtext.build.IndexStateFile;
 import org.eclipse.xtext.diagnostics.Severity;
 import org.eclipse.xtext.resource.IExternalContentSupport;
 import org.eclipse.xtext.resource.IResourceDescription;
@@ -36,6 +46,7 @@ import org.eclipse.xtext.workspace.ProjectConfigAdapter;
 import org.eclipse.xtext.xbase.lib.Procedures.Procedure2;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 
@@ -44,6 +55,8 @@ import com.google.inject.Provider;
  * @since 2.11
  */
 public class ProjectManager {
+	private static final Logger LOG = Logger.getLogger(ProjectManager.class);
+
 	@Inject
 	protected IncrementalBuilder incrementalBuilder;
 
@@ -59,7 +72,13 @@ public class ProjectManager {
 	@Inject
 	protected IExternalContentSupport externalContentSupport;
 
-	private IndexState indexState = new IndexState();
+	/**
+	 * @since 2.36
+	 */
+	@Inject
+	protected IndexStateFile indexStateFile;
+
+	private IndexState indexState = IndexState.createPersistent();
 
 	private URI baseDir;
 
@@ -75,6 +94,14 @@ public class ProjectManager {
 
 	private IProjectConfig projectConfig;
 
+	/**
+	 * The issues of the resources of this project while the initial build is running if the index state is persisted,
+	 * <code>null</code> otherwise.
+	 */
+	private Map<URI, List<Issue>> recordedIssues;
+
+	private List<IResourceDescription.Delta> initialBuildExternalDeltas = Collections.emptyList();
+
 	public void initialize(ProjectDescription description, IProjectConfig projectConfig,
 			Procedure2<? super URI, ? super Iterable<Issue>> acceptor,
 			IExternalContentSupport.IExternalContentProvider openedDocumentsContentProvider,
@@ -88,14 +115,151 @@ public class ProjectManager {
 	}
 
 	/**
-	 * Initial build of this project.
+	 * Initial build of this project. If the {@link #getIndexStateFile() index state is persisted}, it is restored and
+	 * only the resources that were added or modified since it was stored are built, taking the
+	 * {@link #getInitialBuildExternalDeltas() changes in upstream projects} into account.
 	 */
 	public IncrementalBuilder.Result doInitialBuild(CancelIndicator cancelIndicator) {
 		List<URI> allUris = new ArrayList<>();
 		for (ISourceFolder srcFolder : projectConfig.getSourceFolders()) {
 			allUris.addAll(srcFolder.getAllResources(fileSystemScanner));
 		}
-		return doBuild(allUris, Collections.emptyList(), Collections.emptyList(), cancelIndicator);
+		Path stateFile = getIndexStateFile();
+		if (stateFile == null) {
+			return doBuild(allUris, Collections.emptyList(), Collections.emptyList(), cancelIndicator);
+		}
+		long buildStart = System.currentTimeMillis();
+		Map<URI, List<Issue>> restoredIssues = new LinkedHashMap<>();
+		IndexState restored = restoreIndexState(stateFile, restoredIssues::put);
+		IncrementalBuilder.Result result;
+		try {
+			recordedIssues = new LinkedHashMap<>();
+			if (restored == null) {
+				result = doBuild(allUris, Collections.emptyList(), Collections.emptyList(), cancelIndicator);
+			} else {
+				long timeStamp = getTimeStamp(stateFile);
+				URIConverter uriConverter = createFreshResourceSet(restored.getResourceDescriptions()).getURIConverter();
+				Set<URI> dirtyFiles = new LinkedHashSet<>();
+				Set<URI> deletedFiles = new LinkedHashSet<>(restored.getResourceDescriptions().getAllURIs());
+				for (URI uri : allUris) {
+					deletedFiles.remove(uri);
+					if (restored.getResourceDescriptions().getResourceDescription(uri) == null
+							|| isModifiedSince(uri, timeStamp, uriConverter)) {
+						dirtyFiles.add(uri);
+					}
+				}
+				for (Map.Entry<URI, List<Issue>> entry : restoredIssues.entrySet()) {
+					URI uri = entry.getKey();
+					if (!dirtyFiles.contains(uri) && !deletedFiles.contains(uri)) {
+						recordedIssues.put(uri, entry.getValue());
+						issueAcceptor.apply(uri, entry.getValue());
+					}
+				}
+				indexState = restored;
+				result = doBuild(new ArrayList<>(dirtyFiles), new ArrayList<>(deletedFiles),
+						getInitialBuildExternalDeltas(), cancelIndicator);
+			}
+			if (!cancelIndicator.isCanceled()) {
+				persistIndexState(stateFile, recordedIssues, buildStart);
+			}
+		} finally {
+			recordedIssues = null;
+		}
+		return result;
+	}
+
+	/**
+	 * Initial build of this project with the given deltas of upstream projects. Delegates to
+	 * {@link #doInitialBuild(CancelIndicator)}, which may be overridden by subclasses.
+	 *
+	 * @since 2.36
+	 */
+	public IncrementalBuilder.Result doInitialBuild(List<IResourceDescription.Delta> externalDeltas,
+			CancelIndicator cancelIndicator) {
+		initialBuildExternalDeltas = externalDeltas;
+		try {
+			return doInitialBuild(cancelIndicator);
+		} finally {
+			initialBuildExternalDeltas = Collections.emptyList();
+		}
+	}
+
+	/**
+	 * The deltas of upstream projects while the {@link #doInitialBuild(List, CancelIndicator) initial build} is
+	 * running. They are only considered if the index state was restored.
+	 *
+	 * @since 2.36
+	 */
+	protected List<IResourceDescription.Delta> getInitialBuildExternalDeltas() {
+		return initialBuildExternalDeltas;
+	}
+
+	/**
+	 * The file that the index state of this project is stored in after the initial build, or <code>null</code> if
+	 * the index state is not persisted. Subclasses may return a location outside of the project to enable a fast
+	 * restart. The issues of the resources are stored with the state, and the issues of the restored resources that
+	 * were not modified are reported again without validating the resources.
+	 *
+	 * @since 2.36
+	 */
+	protected Path getIndexStateFile() {
+		return null;
+	}
+
+	/**
+	 * Restores the index state from the given file and passes the stored issues to the given acceptor. Returns
+	 * <code>null</code> if the file does not exist or cannot be read.
+	 *
+	 * @since 2.36
+	 */
+	protected IndexState restoreIndexState(Path stateFile, Procedure2<? super URI, ? super List<Issue>> issueAcceptor) {
+		if (!Files.exists(stateFile)) {
+			return null;
+		}
+		try {
+			return indexStateFile.load(stateFile, issueAcceptor);
+		} catch (IOException | RuntimeException e) {
+			LOG.warn("Failed to restore the index state from " + stateFile + ", building all resources.", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Stores the current index state and the given issues in the given file. The time stamp of the file is set to the
+	 * start of the build such that resources that were modified while the build was running are built again on
+	 * restart.
+	 *
+	 * @since 2.36
+	 */
+	protected void persistIndexState(Path stateFile, Map<URI, List<Issue>> issues, long buildStart) {
+		try {
+			indexStateFile.store(indexState, issues, stateFile);
+			Files.setLastModifiedTime(stateFile, FileTime.fromMillis(buildStart));
+		} catch (IOException | RuntimeException e) {
+			LOG.warn("Failed to store the index state in " + stateFile, e);
+		}
+	}
+
+	private long getTimeStamp(Path stateFile) {
+		try {
+			return Files.getLastModifiedTime(stateFile).toMillis();
+		} catch (IOException e) {
+			// consider all resources as modified
+			return 0;
+		}
+	}
+
+	/**
+	 * Whether the resource was modified after the given time stamp. Resources without a known time stamp are
+	 * considered to be modified.
+	 *
+	 * @since 2.36
+	 */
+	protected boolean isModifiedSince(URI uri, long timeStamp, URIConverter uriConverter) {
+		Map<String, ?> options = Collections.singletonMap(URIConverter.OPTION_REQUESTED_ATTRIBUTES,
+				Collections.singleton(URIConverter.ATTRIBUTE_TIME_STAMP));
+		Object modified = uriConverter.getAttributes(uri, options).get(URIConverter.ATTRIBUTE_TIME_STAMP);
+		return !(modified instanceof Long) || (Long) modified <= 0 || (Long) modified >= timeStamp;
 	}
 
 	/**
@@ -122,11 +286,13 @@ public class ProjectManager {
 		result.setState(
 				new IndexState(indexState.getResourceDescriptions().copy(), indexState.getFileMappings().copy()));
 		result.setResourceSet(createFreshResourceSet(result.getState().getResourceDescriptions()));
+		result.setResourceSetFactory(this::createNewResourceSet);
 		result.setDirtyFiles(changedFiles);
 		result.setDeletedFiles(deletedFiles);
 		result.setExternalDeltas(externalDeltas);
 		result.setAfterValidate((URI uri, Iterable<Issue> issues) -> {
 			issueAcceptor.apply(uri, issues);
+			recordIssues(uri, issues);
 			return true;
 		});
 		result.setCancelIndicator(cancelIndicator);
@@ -134,6 +300,17 @@ public class ProjectManager {
 		return result;
 	}
 
+	private void recordIssues(URI uri, Iterable<Issue> issues) {
+		Map<URI, List<Issue>> recorded = recordedIssues;
+		if (recorded != null) {
+			if (Iterables.isEmpty(issues)) {
+				recorded.remove(uri);
+			} else {
+				recorded.put(uri, ImmutableList.copyOf(issues));
+			}
+		}
+	}
+
 	/**
 	 * Create and configure a new resource set for this project.
 	 */
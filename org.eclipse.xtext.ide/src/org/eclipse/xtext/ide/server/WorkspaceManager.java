@@ -36,6 +36,7 @@ import org.eclipse.xtext.resource.IResourceDescriptions;
 import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.resource.XtextResourceSet;
 import org.eclipse.xtext.resource.impl.ChunkedResourceDescriptions;
+import org.eclipse.xtext.resource.impl.NameIndexedChunkMap;
 import org.eclipse.xtext.resource.impl.ProjectDescription;
 import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
 import org.eclipse.xtext.util.CancelIndicator;
@@ -83,7 +84,7 @@ public class WorkspaceManager {
 	
 	private final List<ILanguageServerAccess.IBuildListener> buildListeners = new CopyOnWriteArrayList<>();
 
-	private final Map<String, ResourceDescriptionsData> fullIndex = new HashMap<>();
+	private final Map<String, ResourceDescriptionsData> fullIndex = new NameIndexedChunkMap();
 
 	private final Map<URI, Document> openDocuments = createOpenDocuments();
 
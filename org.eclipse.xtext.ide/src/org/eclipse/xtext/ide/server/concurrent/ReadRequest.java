@@ -12,6 +12,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 
 import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
 import org.eclipse.xtext.util.CancelIndicator;
 import org.eclipse.xtext.xbase.lib.Functions.Function1;
 
@@ -31,15 +32,35 @@ public class ReadRequest<V> extends AbstractRequest<V> {
 
 	private final ExecutorService executor;
 
+	private final URI document;
+
 	public ReadRequest(RequestManager requestManager, Function1<? super CancelIndicator, ? extends V> readOperation,
 			ExecutorService executor) {
+		this(requestManager, null, readOperation, executor);
+	}
+
+	/**
+	 * @since 2.36
+	 */
+	public ReadRequest(RequestManager requestManager, URI document,
+			Function1<? super CancelIndicator, ? extends V> readOperation, ExecutorService executor) {
 		super(requestManager);
+		this.document = document;
 		this.readOperation = readOperation;
 		this.executor = executor;
 		this.initializer = new CompletableFuture<>();
 		this.initializer.thenRun(this::doRun);
 	}
 	
+	/**
+	 * The document that this read depends on or {@code null} if it depends on the complete workspace.
+	 * 
+	 * @since 2.36
+	 */
+	public URI getDocument() {
+		return document;
+	}
+
 	@Override
 	protected void cancel(boolean mayInterruptIfRunning) {
 		super.cancel(mayInterruptIfRunning);
@@ -9,12 +9,14 @@
 package org.eclipse.xtext.ide.server.concurrent;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
+import org.eclipse.emf.common.util.URI;
 import org.eclipse.xtext.service.OperationCanceledManager;
 import org.eclipse.xtext.util.CancelIndicator;
 import org.eclipse.xtext.xbase.lib.Functions.Function0;
@@ -26,6 +28,15 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 
 /**
+ * Schedules read and write requests of the language server. Reads run in parallel, writes run exclusively: a write
+ * waits for all previously submitted requests and subsequent requests wait for the write.
+ * 
+ * Reads and writes may be restricted to a set of documents. A write cancels all pending writes, since its build
+ * subsumes theirs, and all reads that depend on one of its documents. Reads of other documents are not cancelled but
+ * allowed to finish before the write starts. Subclasses that override {@link #runRead(Function1)} or
+ * {@link #runWrite(Function0, Function2)} get all requests through these methods, i.e. without the restriction to
+ * documents.
+ * 
  * @author kosyakov - Initial contribution and API
  * @since 2.11
  */
@@ -47,6 +58,10 @@ public class RequestManager {
 
 	private List<AbstractRequest<?>> requests = new ArrayList<>();
 
+	private final RequestStatistics statistics = new RequestStatistics();
+
+	private final boolean overridesUnrestrictedRequests = overridesUnrestrictedRequests();
+
 	/**
 	 * An orderly shutdown of this request manager.
 	 */
@@ -63,6 +78,15 @@ public class RequestManager {
 	protected final ExecutorService getParallelExecutorService() {
 		return parallel;
 	}
+
+	/**
+	 * The metrics of the requests that were submitted to this request manager.
+	 * 
+	 * @since 2.36
+	 */
+	public RequestStatistics getStatistics() {
+		return statistics;
+	}
 	
 	/**
 	 * Run the given cancellable logic as a read request.
@@ -71,6 +95,21 @@ public class RequestManager {
 		return submit(new ReadRequest<>(this, cancellable, parallel));
 	}
 
+	/**
+	 * Run the given cancellable logic as a read request that only depends on the given document. The request is not
+	 * cancelled by writes to other documents. A {@code null} document denotes a read that depends on the complete
+	 * workspace. Delegates to {@link #runRead(Function1)} if a subclass overrides that method.
+	 * 
+	 * @since 2.36
+	 */
+	public synchronized <V> CompletableFuture<V> runRead(URI document,
+			Function1<? super CancelIndicator, ? extends V> cancellable) {
+		if (overridesUnrestrictedRequests) {
+			return runRead(cancellable);
+		}
+		return submit(new ReadRequest<>(this, document, cancellable, parallel));
+	}
+
 	/**
 	 * Perform the given write and run the cancellable logic afterwards.
 	 */
@@ -80,11 +119,39 @@ public class RequestManager {
 		return submit(new WriteRequest<>(this, nonCancellable, cancellable, cancel()));
 	}
 
+	/**
+	 * Perform the given write that only affects the given documents and run the cancellable logic afterwards. Only
+	 * pending writes and reads that depend on one of the documents are cancelled. {@code null} documents denote a write
+	 * that affects the complete workspace. Delegates to {@link #runWrite(Function0, Function2)} if a subclass overrides
+	 * that method.
+	 * 
+	 * @since 2.36
+	 */
+	public synchronized <U, V> CompletableFuture<V> runWrite(Collection<URI> documents,
+			Function0<? extends U> nonCancellable,
+			Function2<? super CancelIndicator, ? super U, ? extends V> cancellable) {
+		if (overridesUnrestrictedRequests) {
+			return runWrite(nonCancellable, cancellable);
+		}
+		return submit(new WriteRequest<>(this, nonCancellable, cancellable, cancel(documents)));
+	}
+
+	private boolean overridesUnrestrictedRequests() {
+		try {
+			return getClass().getMethod("runRead", Function1.class).getDeclaringClass() != RequestManager.class
+					|| getClass().getMethod("runWrite", Function0.class, Function2.class)
+							.getDeclaringClass() != RequestManager.class;
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
 	/**
 	 * Submit the given request.
 	 */
 	protected <V> CompletableFuture<V> submit(AbstractRequest<V> request) {
 		addRequest(request);
+		statistics.track(request);
 		submitRequest(request);
 		return request.get();
 	}
@@ -114,6 +181,44 @@ public class RequestManager {
 		return CompletableFuture.allOf(cfs);
 	}
 
+	/**
+	 * Cancel all requests in the queue that are affected by a change of the given documents. The returned future
+	 * completes when all requests in the queue are done, including the ones that were not cancelled.
+	 * 
+	 * @since 2.36
+	 */
+	protected CompletableFuture<Void> cancel(Collection<URI> documents) {
+		if (documents == null) {
+			return cancel();
+		}
+		List<AbstractRequest<?>> localRequests = requests;
+		requests = new ArrayList<>();
+		CompletableFuture<?>[] cfs = new CompletableFuture<?>[localRequests.size()];
+		for (int i = 0, max = localRequests.size(); i < max; i++) {
+			AbstractRequest<?> request = localRequests.get(i);
+			if (isAffected(request, documents)) {
+				request.cancel();
+			} else if (!request.isDone()) {
+				requests.add(request);
+			}
+			cfs[i] = request.get();
+		}
+		return CompletableFuture.allOf(cfs);
+	}
+
+	/**
+	 * Check if the given request has to be cancelled when the given documents change. Writes are always affected.
+	 * 
+	 * @since 2.36
+	 */
+	protected boolean isAffected(AbstractRequest<?> request, Collection<URI> documents) {
+		if (request instanceof ReadRequest<?>) {
+			URI document = ((ReadRequest<?>) request).getDocument();
+			return document == null || documents.contains(document);
+		}
+		return true;
+	}
+
 	/**
 	 * Check if the given throwable is an indicator for a cancellation.
 	 */
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.ide.server.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.annotations.Beta;
+
+/**
+ * Simple metrics of the requests that were handled by a {@link RequestManager}: the number of pending requests and
+ * the latency of completed reads and writes, measured from submission to completion.
+ *
+ * @since 2.36
+ */
+@Beta
+public class RequestStatistics {
+
+	/**
+	 * The latency distribution of one kind of request.
+	 */
+	public static class Latency {
+
+		private final LongAdder count = new LongAdder();
+
+		private final LongAdder totalNanos = new LongAdder();
+
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+		protected void record(long nanos) {
+			count.increment();
+			totalNanos.add(nanos);
+			maxNanos.accumulate(nanos);
+		}
+
+		/**
+		 * The number of completed requests.
+		 */
+		public long getCount() {
+			return count.sum();
+		}
+
+		/**
+		 * The average latency of the completed requests in the given unit.
+		 */
+		public long getAverage(TimeUnit unit) {
+			long currentCount = count.sum();
+			if (currentCount == 0) {
+				return 0;
+			}
+			return unit.convert(totalNanos.sum() / currentCount, TimeUnit.NANOSECONDS);
+		}
+
+		/**
+		 * The maximum latency of the completed requests in the given unit.
+		 */
+		public long getMax(TimeUnit unit) {
+			return unit.convert(maxNanos.get(), TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public String toString() {
+			return "count=" + getCount() + ", avg=" + getAverage(TimeUnit.MILLISECONDS) + "ms, max="
+					+ getMax(TimeUnit.MILLISECONDS) + "ms";
+		}
+	}
+
+	private final AtomicInteger pending = new AtomicInteger();
+
+	private final LongAdder cancelled = new LongAdder();
+
+	private final Latency reads = new Latency();
+
+	private final Latency writes = new Latency();
+
+	/**
+	 * Track the given request from now on until it is done.
+	 */
+	protected void track(AbstractRequest<?> request) {
+		long start = System.nanoTime();
+		pending.incrementAndGet();
+		CompletableFuture<?> future = request.get();
+		future.whenComplete((result, throwable) -> {
+			pending.decrementAndGet();
+			if (future.isCancelled()) {
+				cancelled.increment();
+			} else if (request instanceof WriteRequest<?, ?>) {
+				writes.record(System.nanoTime() - start);
+			} else {
+				reads.record(System.nanoTime() - start);
+			}
+		});
+	}
+
+	/**
+	 * The number of requests that were submitted but are not done yet.
+	 */
+	public int getPendingRequests() {
+		return pending.get();
+	}
+
+	/**
+	 * The number of requests that were cancelled.
+	 */
+	public long getCancelledRequests() {
+		return cancelled.sum();
+	}
+
+	/**
+	 * The latency of read requests that were not cancelled.
+	 */
+	public Latency getReadLatency() {
+		return reads;
+	}
+
+	/**
+	 * The latency of write requests that were not cancelled.
+	 */
+	public Latency getWriteLatency() {
+		return writes;
+	}
+
+	@Override
+	public String toString() {
+		return "RequestStatistics [pending=" + getPendingRequests() + ", cancelled=" + getCancelledRequests()
+				+ ", reads=(" + reads + "), writes=(" + writes + ")]";
+	}
+}
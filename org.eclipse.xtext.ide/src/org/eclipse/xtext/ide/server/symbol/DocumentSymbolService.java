@@ -9,6 +9,7 @@
 package org.eclipse.xtext.ide.server.symbol;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -42,11 +43,14 @@ import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.IResourceDescriptions;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
 import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.resource.impl.DefaultResourceDescription;
 import org.eclipse.xtext.service.OperationCanceledManager;
 import org.eclipse.xtext.util.CancelIndicator;
 import org.eclipse.xtext.xbase.lib.Functions.Function1;
 import org.eclipse.xtext.xbase.lib.Procedures.Procedure1;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.graph.Traverser;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
@@ -88,6 +92,17 @@ public class DocumentSymbolService implements IDocumentSymbolService {
 	@Inject
 	private HierarchicalDocumentSymbolService hierarchicalDocumentSymbolService;
 
+	/**
+	 * The sorted trigrams of the lower case qualified names that are exported by a resource description.
+	 */
+	private final Cache<IResourceDescription, long[]> nameTrigrams = CacheBuilder.newBuilder().weakKeys().build();
+
+	/**
+	 * Whether a subclass overrides {@link #filter(IEObjectDescription, String)}, such that the trigrams of the query
+	 * do not have to occur in the matching names.
+	 */
+	private final boolean overridesFilter = overridesFilter();
+
 	/**
 	 * @since 2.21
 	 */
@@ -242,6 +257,9 @@ public class DocumentSymbolService implements IDocumentSymbolService {
 	public List<? extends WorkspaceSymbol> getSymbols(IResourceDescription resourceDescription, String query,
 			IReferenceFinder.IResourceAccess resourceAccess, CancelIndicator cancelIndicator) {
 		List<WorkspaceSymbol> symbols = new LinkedList<>();
+		if (!mayContainMatches(resourceDescription, query)) {
+			return symbols;
+		}
 		for (IEObjectDescription description : resourceDescription.getExportedObjects()) {
 			operationCanceledManager.checkCanceled(cancelIndicator);
 			if (filter(description, query)) {
@@ -257,6 +275,81 @@ public class DocumentSymbolService implements IDocumentSymbolService {
 		return description.getQualifiedName().toLowerCase().toString().contains(query.toLowerCase());
 	}
 
+	/**
+	 * Returns <code>false</code> if none of the objects that are exported by the given resource description can pass
+	 * the {@link #filter(IEObjectDescription, String) filter} for the query, so they don't have to be visited.
+	 * 
+	 * The default implementation checks whether all trigrams of the lower case query occur in the lower case qualified
+	 * names of the exported objects. The trigrams are computed once per resource description unless it is a
+	 * {@link DefaultResourceDescription}, whose exported objects follow the changes of its resource. If a subclass
+	 * overrides the filter, all resource descriptions are visited unless it overrides this method, too.
+	 * 
+	 * @since 2.36
+	 */
+	protected boolean mayContainMatches(IResourceDescription resourceDescription, String query) {
+		String lowerCaseQuery = query.toLowerCase();
+		if (overridesFilter || lowerCaseQuery.length() < 3 || resourceDescription instanceof DefaultResourceDescription) {
+			return true;
+		}
+		long[] trigrams = nameTrigrams.getIfPresent(resourceDescription);
+		if (trigrams == null) {
+			trigrams = computeNameTrigrams(resourceDescription);
+			nameTrigrams.put(resourceDescription, trigrams);
+		}
+		for (int i = 0; i + 3 <= lowerCaseQuery.length(); i++) {
+			if (Arrays.binarySearch(trigrams, toTrigram(lowerCaseQuery, i)) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean overridesFilter() {
+		for (Class<?> type = getClass(); type != DocumentSymbolService.class; type = type.getSuperclass()) {
+			try {
+				type.getDeclaredMethod("filter", IEObjectDescription.class, String.class);
+				return true;
+			} catch (NoSuchMethodException e) {
+				// continue with the super class
+			}
+		}
+		return false;
+	}
+
+	private long[] computeNameTrigrams(IResourceDescription resourceDescription) {
+		long[] result = new long[64];
+		int size = 0;
+		for (IEObjectDescription description : resourceDescription.getExportedObjects()) {
+			String name = description.getQualifiedName().toLowerCase().toString();
+			for (int i = 0; i + 3 <= name.length(); i++) {
+				if (size == result.length) {
+					Arrays.sort(result);
+					size = unique(result, size);
+					if (size > result.length / 2) {
+						result = Arrays.copyOf(result, result.length * 2);
+					}
+				}
+				result[size++] = toTrigram(name, i);
+			}
+		}
+		Arrays.sort(result, 0, size);
+		return Arrays.copyOf(result, unique(result, size));
+	}
+
+	private static int unique(long[] sorted, int size) {
+		int result = 0;
+		for (int i = 0; i < size; i++) {
+			if (result == 0 || sorted[result - 1] != sorted[i]) {
+				sorted[result++] = sorted[i];
+			}
+		}
+		return result;
+	}
+
+	private static long toTrigram(String s, int offset) {
+		return ((long) s.charAt(offset) << 32) | ((long) s.charAt(offset + 1) << 16) | s.charAt(offset + 2);
+	}
+
 	protected void createSymbol(IEObjectDescription description, IReferenceFinder.IResourceAccess resourceAccess,
 			Procedure1<? super WorkspaceSymbol> acceptor) {
 		String name = getSymbolName(description);
@@ -20,6 +20,7 @@ import java.util.Set;
 import java.util.stream.StreamSupport;
 
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.Constants;
 import org.eclipse.xtext.build.BuildRequest;
 import org.eclipse.xtext.build.IncrementalBuilder;
@@ -117,16 +118,18 @@ public abstract class AbstractIncrementalBuilderTest {
 		BuildRequest result = new BuildRequest();
 		ResourceDescriptionsData newIndex = indexState.getResourceDescriptions().copy();
 		result.setBaseDir(uri(""));
-		XtextResourceSet rs = resourceSetProvider.get();
-		rs.getURIConverter().getURIHandlers().clear();
-		rs.getURIConverter().getURIHandlers().add(inMemoryURIHandler);
-		rs.setClasspathURIContext(AbstractIncrementalBuilderTest.class.getClassLoader());
-		ProjectDescription projectDescription = new ProjectDescription();
-		projectDescription.setName("test-project");
-		projectDescription.attachToEmfObject(rs);
-		ChunkedResourceDescriptions index = new ChunkedResourceDescriptions(Collections.emptyMap(), rs);
-		index.setContainer(projectDescription.getName(), newIndex);
+		XtextResourceSet rs = newResourceSet(newIndex);
 		result.setResourceSet(rs);
+		result.setResourceSetFactory(index -> {
+			XtextResourceSet workerResourceSet = newResourceSet(index);
+			OutputConfigurationAdapter outputConfigurations = (OutputConfigurationAdapter) EcoreUtil
+					.getAdapter(rs.eAdapters(), OutputConfigurationAdapter.class);
+			if (outputConfigurations != null) {
+				workerResourceSet.eAdapters().add(
+						new OutputConfigurationAdapter(outputConfigurations.getOutputConfigurationsPerLanguage()));
+			}
+			return workerResourceSet;
+		});
 		result.setDirtyFiles(new ArrayList<>());
 		result.setDeletedFiles(new ArrayList<>());
 		result.setAfterValidate((uri, issues) -> {
@@ -140,6 +143,24 @@ public abstract class AbstractIncrementalBuilderTest {
 		return result;
 	}
 
+	/**
+	 * Create a resource set that uses the in-memory file system and the given index.
+	 * 
+	 * @since 2.36
+	 */
+	protected XtextResourceSet newResourceSet(ResourceDescriptionsData index) {
+		XtextResourceSet rs = resourceSetProvider.get();
+		rs.getURIConverter().getURIHandlers().clear();
+		rs.getURIConverter().getURIHandlers().add(inMemoryURIHandler);
+		rs.setClasspathURIContext(AbstractIncrementalBuilderTest.class.getClassLoader());
+		ProjectDescription projectDescription = new ProjectDescription();
+		projectDescription.setName("test-project");
+		projectDescription.attachToEmfObject(rs);
+		ChunkedResourceDescriptions chunkedIndex = new ChunkedResourceDescriptions(Collections.emptyMap(), rs);
+		chunkedIndex.setContainer(projectDescription.getName(), index);
+		return rs;
+	}
+
 	protected URI delete(URI uri) {
 		try {
 			inMemoryURIHandler.delete(uri, Collections.emptyMap());
@@ -14,8 +14,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.URIHandler;
@@ -28,9 +28,9 @@ public class InMemoryURIHandler implements URIHandler {
 	public static class InMemFile {
 		private final URI uri;
 
-		private byte[] contents;
+		private volatile byte[] contents;
 
-		private boolean exists;
+		private volatile boolean exists;
 
 		public OutputStream createOutputstream() {
 			return new ByteArrayOutputStream() {
@@ -76,7 +76,7 @@ public class InMemoryURIHandler implements URIHandler {
 
 	public static final String SCHEME = "inmemory";
 
-	private Map<URI, InMemoryURIHandler.InMemFile> files = new HashMap<>();
+	private Map<URI, InMemoryURIHandler.InMemFile> files = new ConcurrentHashMap<>();
 
 	@Override
 	public boolean canHandle(URI uri) {
@@ -118,12 +118,7 @@ public class InMemoryURIHandler implements URIHandler {
 	}
 
 	public InMemFile getInMemoryFile(URI uri) {
-		InMemFile result = files.get(uri);
-		if (result == null) {
-			result = new InMemFile(uri);
-			files.put(uri, result);
-		}
-		return result;
+		return files.computeIfAbsent(uri, InMemFile::new);
 	}
 
 	public Map<URI, InMemoryURIHandler.InMemFile> getFiles() {
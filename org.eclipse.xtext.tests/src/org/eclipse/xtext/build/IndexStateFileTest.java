@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.build;
+
+import static org.eclipse.xtext.resource.impl.PersistentResourceDescriptionsDataTest.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IReferenceDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.impl.MappedResourceDescriptionsData;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+import org.eclipse.xtext.resource.persistence.MappedIndex;
+import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
+import org.eclipse.xtext.tests.TemporaryFolder;
+import org.eclipse.xtext.validation.CheckType;
+import org.eclipse.xtext.validation.Issue;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+public class IndexStateFileTest extends Assert {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private final IndexStateFile indexStateFile = new IndexStateFile();
+
+	private IndexState createState(String... uris) {
+		ResourceDescriptionsData data = new ResourceDescriptionsData(List.of());
+		Source2GeneratedMapping mapping = new Source2GeneratedMapping();
+		for (String uri : uris) {
+			IResourceDescription description = createDescription(uri, "x." + uri.replace(".test", ""));
+			data.addDescription(description.getURI(), description);
+			mapping.addSource2Generated(description.getURI(), URI.createURI(uri + ".java"), "DEFAULT_OUTPUT");
+		}
+		return new IndexState(data, mapping);
+	}
+
+	@Test public void testStoreAndLoad() throws IOException {
+		Path file = temporaryFolder.getRoot().toPath().resolve("state/index.bin");
+		indexStateFile.store(createState("a.test", "b.test"), file);
+		IndexState loaded = indexStateFile.load(file);
+		assertTrue(loaded.getResourceDescriptions() instanceof MappedResourceDescriptionsData);
+		assertEquals(Sets.newHashSet(URI.createURI("a.test"), URI.createURI("b.test")),
+				loaded.getResourceDescriptions().getAllURIs());
+		assertEquals(List.of(URI.createURI("a.test.java")), loaded.getFileMappings().getGenerated(URI.createURI("a.test")));
+		assertEquals("DEFAULT_OUTPUT", loaded.getFileMappings().getOutputConfigName(URI.createURI("b.test.java")));
+	}
+
+	@Test public void testStoreCopiesUnchangedDescriptions() throws IOException {
+		List<IResourceDescription> descriptions = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			SerializableResourceDescription description = withReferences(
+					createDescription("r" + i + ".test", "x.N" + i, "x.Common"), "r0.test#//0");
+			description.setImportedNames(List.of(QualifiedName.create("x", "n0")));
+			description.getDescriptions().get(0).setUserData(new HashMap<>(Map.of("key", "base" + i)));
+			descriptions.add(description);
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		MappedIndex.write(descriptions, bytes);
+		AtomicInteger decoded = new AtomicInteger();
+		MappedIndex base = new MappedIndex(ByteBuffer.wrap(bytes.toByteArray())) {
+			@Override
+			protected IResourceDescription decodeResourceDescription(int index) {
+				decoded.incrementAndGet();
+				return super.decodeResourceDescription(index);
+			}
+		};
+		MappedResourceDescriptionsData data = new MappedResourceDescriptionsData(base);
+		IResourceDescription replaced = createDescription("r3.test", "y.Replaced");
+		data.addDescription(replaced.getURI(), replaced);
+		data.removeDescription(URI.createURI("r5.test"));
+		SerializableResourceDescription added = createDescription("added.test", "x.Common", "x.N0");
+		added.getDescriptions().get(0).setUserData(new HashMap<>(Map.of("key", "added")));
+		data.addDescription(added.getURI(), added);
+
+		Path file = temporaryFolder.getRoot().toPath().resolve("index.bin");
+		indexStateFile.store(new IndexState(data, new Source2GeneratedMapping()), file);
+		assertEquals(0, decoded.get());
+
+		ResourceDescriptionsData loaded = indexStateFile.load(file).getResourceDescriptions();
+		assertEquals(data.getAllURIs(), loaded.getAllURIs());
+		for (URI uri : data.getAllURIs()) {
+			IResourceDescription expected = data.getResourceDescription(uri);
+			IResourceDescription actual = loaded.getResourceDescription(uri);
+			assertEquals(toString(expected.getExportedObjects()), toString(actual.getExportedObjects()));
+			assertEquals(toString(expected.getReferenceDescriptions()), toString(actual.getReferenceDescriptions()));
+			assertEquals(Lists.newArrayList(expected.getImportedNames()), Lists.newArrayList(actual.getImportedNames()));
+		}
+		assertEquals(9, Iterables.size(loaded.getExportedObjects(EcorePackage.Literals.EOBJECT,
+				QualifiedName.create("x", "common"), true)));
+		assertEquals(Sets.newHashSet(URI.createURI("r0.test"), added.getURI()),
+				Sets.newHashSet(Iterables.transform(loaded.getExportedObjects(EcorePackage.Literals.EOBJECT,
+						QualifiedName.create("x", "N0"), false), it -> it.getEObjectURI().trimFragment())));
+		assertEquals(1, Iterables.size(loaded.getExportedObjects(EcorePackage.Literals.EOBJECT,
+				QualifiedName.create("y", "Replaced"), false)));
+		assertTrue(Iterables.isEmpty(loaded.getExportedObjects(EcorePackage.Literals.EOBJECT,
+				QualifiedName.create("x", "N3"), false)));
+
+		// store the restored state again
+		IResourceDescription another = createDescription("another.test", "x.Common");
+		loaded.addDescription(another.getURI(), another);
+		Path secondFile = temporaryFolder.getRoot().toPath().resolve("index2.bin");
+		indexStateFile.store(new IndexState(loaded, new Source2GeneratedMapping()), secondFile);
+		ResourceDescriptionsData reloaded = indexStateFile.load(secondFile).getResourceDescriptions();
+		assertEquals(11, reloaded.getAllURIs().size());
+		assertEquals(10, Iterables.size(reloaded.getExportedObjects(EcorePackage.Literals.EOBJECT,
+				QualifiedName.create("x", "common"), true)));
+		assertEquals(toString(data.getResourceDescription(added.getURI()).getExportedObjects()),
+				toString(reloaded.getResourceDescription(added.getURI()).getExportedObjects()));
+		assertEquals(toString(data.getResourceDescription(URI.createURI("r7.test")).getExportedObjects()),
+				toString(reloaded.getResourceDescription(URI.createURI("r7.test")).getExportedObjects()));
+	}
+
+	private String toString(Iterable<?> objects) {
+		StringBuilder result = new StringBuilder();
+		for (Object object : objects) {
+			if (object instanceof IEObjectDescription) {
+				IEObjectDescription description = (IEObjectDescription) object;
+				result.append(description.getName()).append(' ').append(description.getEClass().getName()).append(' ')
+						.append(description.getEObjectURI()).append(' ').append(description.getUserData("key"))
+						.append('\n');
+			} else {
+				IReferenceDescription reference = (IReferenceDescription) object;
+				result.append(reference.getSourceEObjectUri()).append(' ').append(reference.getTargetEObjectUri())
+						.append(' ').append(reference.getEReference().getName()).append('\n');
+			}
+		}
+		return result.toString();
+	}
+
+	@Test public void testReplaceLoadedFile() throws IOException {
+		Path file = temporaryFolder.getRoot().toPath().resolve("index.bin");
+		indexStateFile.store(createState("a.test", "b.test"), file);
+		IndexState first = indexStateFile.load(file);
+		indexStateFile.store(createState("c.test"), file);
+		IndexState second = indexStateFile.load(file);
+		assertNotNull(first.getResourceDescriptions().getResourceDescription(URI.createURI("b.test")));
+		assertEquals(2, first.getResourceDescriptions().getAllURIs().size());
+		assertEquals(Sets.newHashSet(URI.createURI("c.test")), second.getResourceDescriptions().getAllURIs());
+		try (Stream<Path> files = Files.list(temporaryFolder.getRoot().toPath())) {
+			assertEquals(1, files.count());
+		}
+	}
+
+	@Test public void testStoreAndLoadIssues() throws IOException {
+		Path file = temporaryFolder.getRoot().toPath().resolve("index.bin");
+		Issue.IssueImpl issue = new Issue.IssueImpl();
+		issue.setSeverity(Severity.WARNING);
+		issue.setType(CheckType.NORMAL);
+		issue.setMessage("Something is \u00e4wkward");
+		issue.setCode("code");
+		issue.setUriToProblem(URI.createURI("a.test#//0"));
+		issue.setOffset(3);
+		issue.setLength(4);
+		issue.setLineNumber(1);
+		issue.setColumn(4);
+		issue.setData(new String[] { "data", "" });
+		indexStateFile.store(createState("a.test", "b.test"), Map.of(URI.createURI("a.test"), List.of(issue)), file);
+		Map<URI, List<Issue>> loaded = new HashMap<>();
+		indexStateFile.load(file, loaded::put);
+		assertEquals(Set.of(URI.createURI("a.test")), loaded.keySet());
+		Issue actual = loaded.get(URI.createURI("a.test")).get(0);
+		assertEquals(issue.toString(), actual.toString());
+		assertEquals(CheckType.NORMAL, actual.getType());
+		assertEquals("code", actual.getCode());
+		assertEquals(Integer.valueOf(4), actual.getLength());
+		assertArrayEquals(issue.getData(), actual.getData());
+		assertEquals(2, indexStateFile.load(file).getResourceDescriptions().getAllURIs().size());
+	}
+
+	@Test public void testReplaceFileThatIsReadIntoMemory() throws IOException {
+		IndexStateFile unmapped = new IndexStateFile() {
+			@Override
+			protected boolean isMapFile() {
+				return false;
+			}
+		};
+		Path file = temporaryFolder.getRoot().toPath().resolve("index.bin");
+		unmapped.store(createState("a.test", "b.test"), file);
+		IndexState first = unmapped.load(file);
+		unmapped.store(createState("c.test"), file);
+		assertEquals(Sets.newHashSet(URI.createURI("a.test"), URI.createURI("b.test")),
+				first.getResourceDescriptions().getAllURIs());
+		assertEquals(Sets.newHashSet(URI.createURI("c.test")), unmapped.load(file).getResourceDescriptions().getAllURIs());
+	}
+
+	@Test(expected = IOException.class)
+	public void testLoadInvalidFile() throws IOException {
+		Path file = temporaryFolder.newFile().toPath();
+		Files.write(file, new byte[] { 1, 2, 3 });
+		indexStateFile.load(file);
+	}
+}
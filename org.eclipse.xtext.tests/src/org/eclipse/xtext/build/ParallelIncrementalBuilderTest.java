@@ -0,0 +1,183 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.build;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.index.IndexTestLanguageInjectorProvider;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.IResourceServiceProvider;
+import org.eclipse.xtext.testing.InjectWith;
+import org.eclipse.xtext.testing.XtextRunner;
+import org.eclipse.xtext.testing.builder.AbstractIncrementalBuilderTest;
+import org.eclipse.xtext.testing.util.InMemoryURIHandler;
+import org.eclipse.xtext.validation.Issue;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import com.google.inject.Inject;
+
+/**
+ * Verifies that a parallel build produces exactly the same output as a sequential build.
+ */
+@RunWith(XtextRunner.class)
+@InjectWith(IndexTestLanguageInjectorProvider.class)
+public class ParallelIncrementalBuilderTest extends AbstractIncrementalBuilderTest {
+
+	private static final int FILES = 60;
+
+	@Inject
+	private IResourceServiceProvider.Registry resourceServiceProviderFactory;
+
+	@Override
+	public IResourceServiceProvider.Registry getLanguages() {
+		return resourceServiceProviderFactory;
+	}
+
+	private static class BuildOutput {
+		final Map<String, String> files = new TreeMap<>();
+		final Map<String, Set<String>> exported = new TreeMap<>();
+		final Map<String, Set<String>> mappings = new TreeMap<>();
+		final Set<String> issues = new TreeSet<>();
+	}
+
+	@Test
+	public void testColdBuildIsIdentical() {
+		BuildOutput sequential = coldBuild(1);
+		BuildOutput parallel = coldBuild(4);
+		assertSameOutput(sequential, parallel);
+	}
+
+	@Test
+	public void testIncrementalBuildIsIdentical() {
+		BuildOutput sequential = incrementalBuild(1);
+		BuildOutput parallel = incrementalBuild(4);
+		assertSameOutput(sequential, parallel);
+	}
+
+	@Test
+	public void testParallelBuildReusesIndexedResources() {
+		reset();
+		Map<URI, Integer> loads = new ConcurrentHashMap<>();
+		inMemoryURIHandler = new InMemoryURIHandler() {
+			@Override
+			public InputStream createInputStream(URI uri, Map<?, ?> options) throws IOException {
+				loads.merge(uri, 1, Integer::sum);
+				return super.createInputStream(uri, options);
+			}
+		};
+		List<URI> files = new ArrayList<>();
+		for (int i = 0; i < FILES; i++) {
+			files.add(newFile("src/File" + i + ".indextestlanguage", "pkg" + i + " { entity E" + i + " {} }"));
+		}
+		build(newBuildRequest(it -> {
+			it.setDirtyFiles(files);
+			it.setParallelism(4);
+		}));
+		for (URI file : files) {
+			Assert.assertEquals(file.toString(), Integer.valueOf(1), loads.get(file));
+		}
+	}
+
+	private void assertSameOutput(BuildOutput expected, BuildOutput actual) {
+		Assert.assertFalse(expected.files.isEmpty());
+		Assert.assertFalse(expected.issues.isEmpty());
+		Assert.assertEquals(expected.files, actual.files);
+		Assert.assertEquals(expected.exported, actual.exported);
+		Assert.assertEquals(expected.mappings, actual.mappings);
+		Assert.assertEquals(expected.issues, actual.issues);
+	}
+
+	private BuildOutput coldBuild(int parallelism) {
+		reset();
+		List<URI> files = createFiles();
+		IndexState state = build(newBuildRequest(it -> {
+			it.setDirtyFiles(files);
+			it.setParallelism(parallelism);
+		}));
+		return collectOutput(state, issues);
+	}
+
+	private BuildOutput incrementalBuild(int parallelism) {
+		reset();
+		List<URI> files = createFiles();
+		build(newBuildRequest(it -> it.setDirtyFiles(files)));
+		// renaming the first entity affects all other files
+		URI changed = newFile("src/File0.indextestlanguage", "pkg0 { entity Renamed {} }");
+		IndexState state = build(newBuildRequest(it -> {
+			it.getDirtyFiles().add(changed);
+			it.setParallelism(parallelism);
+		}));
+		return collectOutput(state, issues);
+	}
+
+	private void reset() {
+		inMemoryURIHandler = new InMemoryURIHandler();
+		indexState = new IndexState();
+	}
+
+	private List<URI> createFiles() {
+		List<URI> result = new ArrayList<>();
+		for (int i = 0; i < FILES; i++) {
+			StringBuilder model = new StringBuilder();
+			model.append("pkg").append(i).append(" {\n");
+			model.append("  entity E").append(i).append(" {\n");
+			model.append("    pkg0.E0 first\n");
+			if (i > 0) {
+				model.append("    pkg").append(i - 1).append(".E").append(i - 1).append(" previous\n");
+			}
+			if (i % 10 == 0) {
+				model.append("    pkg").append(i).append(".Unknown broken\n");
+			}
+			model.append("  }\n");
+			model.append("}\n");
+			result.add(newFile("src/File" + i + ".indextestlanguage", model.toString()));
+		}
+		return result;
+	}
+
+	private BuildOutput collectOutput(IndexState state, List<Issue> buildIssues) {
+		BuildOutput result = new BuildOutput();
+		inMemoryURIHandler.getFiles().forEach((uri, file) -> {
+			if (file.isExists() && !uri.lastSegment().endsWith(".indextestlanguage")) {
+				result.files.put(uri.toString(), new String(file.getContents()));
+			}
+		});
+		for (IResourceDescription description : state.getResourceDescriptions().getAllResourceDescriptions()) {
+			Set<String> names = new TreeSet<>();
+			for (IEObjectDescription exported : description.getExportedObjects()) {
+				names.add(exported.getName() + " " + exported.getEObjectURI());
+			}
+			result.exported.put(description.getURI().toString(), names);
+		}
+		Source2GeneratedMapping fileMappings = state.getFileMappings();
+		for (URI generated : fileMappings.getAllGenerated()) {
+			Set<String> sources = new TreeSet<>();
+			for (URI source : fileMappings.getSource(generated)) {
+				sources.add(source.toString());
+			}
+			result.mappings.put(generated + " " + fileMappings.getOutputConfigName(generated), sources);
+		}
+		for (Issue issue : buildIssues) {
+			result.issues.add(issue.getUriToProblem() + " " + issue.getMessage());
+		}
+		return result;
+	}
+}
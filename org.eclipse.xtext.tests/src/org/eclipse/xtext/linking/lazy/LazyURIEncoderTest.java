@@ -46,6 +46,23 @@ public class LazyURIEncoderTest extends Assert {
 		assertEquals(l2, find(n,l2));
 	}
 	
+	@Test public void testGetIndex() throws Exception {
+		assertEquals(0, encoder.getIndex("|0"));
+		assertEquals(4711, encoder.getIndex("|4711"));
+		try {
+			encoder.getIndex("|");
+			fail("Expected IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		try {
+			encoder.getIndex("|::0");
+			fail("Expected IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+	
 	private LazyURIEncoder encoder;
 	
 	@Before
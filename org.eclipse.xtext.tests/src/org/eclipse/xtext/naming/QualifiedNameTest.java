@@ -12,6 +12,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 
 import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
 import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl.EObjectInputStream;
@@ -198,6 +199,19 @@ public class QualifiedNameTest extends Assert {
 		assertEquals(qn.toString(), qnUpper.toLowerCase().toString());
 	}
 	
+	@Test public void testInterned() throws Exception {
+		QualifiedName qn = new IQualifiedNameConverter.InterningImpl().toQualifiedName(new String("Foo.bar"));
+		QualifiedName other = QualifiedName.createInterned(List.of(new String("Foo"), new String("bar")));
+		assertEquals(QualifiedName.create("Foo", "bar"), qn);
+		assertSame(qn.getFirstSegment(), other.getFirstSegment());
+		assertSame(qn.getLastSegment(), other.getLastSegment());
+		QualifiedName lowerCase = qn.toLowerCase();
+		assertEquals(QualifiedName.create("foo", "bar"), lowerCase);
+		assertSame(lowerCase.getFirstSegment(), other.toLowerCase().getFirstSegment());
+		assertSame(qn.getLastSegment(), lowerCase.getLastSegment());
+		assertSame(QualifiedName.EMPTY, QualifiedName.createInterned(Collections.emptyList()));
+	}
+
 	@Test public void testEmpty() {
 		assertEquals(0, QualifiedName.EMPTY.getSegmentCount());
 		assertTrue(QualifiedName.EMPTY.getSegments().isEmpty());
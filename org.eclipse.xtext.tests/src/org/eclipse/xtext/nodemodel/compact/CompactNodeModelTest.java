@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.nodemodel.compact;
+
+import java.io.StringReader;
+import java.util.Iterator;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.ILeafNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.impl.NodeModelBuilder;
+import org.eclipse.xtext.nodemodel.impl.RootNode;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+import org.eclipse.xtext.parser.IParseResult;
+import org.eclipse.xtext.parser.ParseResult;
+import org.eclipse.xtext.parser.impl.PartialParsingHelper;
+import org.eclipse.xtext.testing.AbstractXtextTests;
+import org.eclipse.xtext.testlanguages.SimpleExpressionsTestLanguageStandaloneSetup;
+import org.eclipse.xtext.testlanguages.parser.antlr.SimpleExpressionsTestLanguageParser;
+import org.eclipse.xtext.util.ReplaceRegion;
+import org.junit.Test;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+
+public class CompactNodeModelTest extends AbstractXtextTests {
+
+	private static final String MODEL = "a + b * (c - d)\n/* comment */ e f\r\n  (g / (h)) // end\n";
+
+	private SimpleExpressionsTestLanguageParser compactParser;
+
+	@Override
+	public void setUp() throws Exception {
+		super.setUp();
+		with(SimpleExpressionsTestLanguageStandaloneSetup.class);
+		compactParser = new SimpleExpressionsTestLanguageParser() {
+			@Override
+			protected NodeModelBuilder createNodeModelBuilder() {
+				return new CompactNodeModelBuilder();
+			}
+		};
+		getInjector().injectMembers(compactParser);
+	}
+
+	private RootNode parse(String model) {
+		return (RootNode) getParser().parse(new StringReader(model)).getRootNode();
+	}
+
+	@Test public void testSameTree() throws Exception {
+		assertSameNodeModel(MODEL);
+		assertSameNodeModel("a");
+		assertSameNodeModel("  a  ");
+		assertSameNodeModel("");
+		assertSameNodeModel("((((a))))");
+	}
+
+	@Test public void testSameTreeWithSyntaxErrors() throws Exception {
+		assertSameNodeModel("a + (b * ");
+		assertSameNodeModel("a + ) b");
+		assertSameNodeModel("+ +");
+	}
+
+	private void assertSameNodeModel(String model) {
+		RootNode expected = parse(model);
+		CompactNodeModel nodeModel = CompactNodeModel.create(expected);
+		assertNotNull(nodeModel);
+		CompactRootNode actual = nodeModel.getRootNode();
+		assertSameNode(expected, actual);
+		assertSameTree(expected, actual);
+		assertEquals(Iterables.size(expected.getAsTreeIterable()), Iterables.size(actual.getAsTreeIterable()));
+		assertEquals(Iterables.size(expected.getAsTreeIterable().reverse()), Iterables.size(actual.getAsTreeIterable().reverse()));
+		assertEquals(Iterables.size(expected.getLeafNodes()), Iterables.size(actual.getLeafNodes()));
+		for (int offset = 0; offset <= model.length(); offset++) {
+			ILeafNode expectedLeaf = NodeModelUtils.findLeafNodeAtOffset(expected, offset);
+			ILeafNode actualLeaf = NodeModelUtils.findLeafNodeAtOffset(actual, offset);
+			if (expectedLeaf == null) {
+				assertNull(actualLeaf);
+			} else {
+				assertSameNode(expectedLeaf, actualLeaf);
+			}
+			assertEquals(NodeModelUtils.getLineAndColumn(expected, offset), NodeModelUtils.getLineAndColumn(actual, offset));
+		}
+		assertEquals(NodeModelUtils.getEntryParserRule(expected), NodeModelUtils.getEntryParserRule(actual));
+	}
+
+	private void assertSameTree(INode expected, INode actual) {
+		Iterator<INode> expectedIter = expected.getAsTreeIterable().iterator();
+		Iterator<INode> actualIter = actual.getAsTreeIterable().iterator();
+		while (expectedIter.hasNext()) {
+			assertTrue(actualIter.hasNext());
+			INode expectedNode = expectedIter.next();
+			INode actualNode = actualIter.next();
+			assertSameNode(expectedNode, actualNode);
+			assertSameNeighbours(expectedNode, actualNode);
+			if (expectedNode instanceof ICompositeNode) {
+				assertEquals(Iterables.size(((ICompositeNode) expectedNode).getChildren()),
+						Iterables.size(((ICompositeNode) actualNode).getChildren()));
+				assertEquals(Iterables.size(((ICompositeNode) expectedNode).getChildren().reverse()),
+						Iterables.size(((ICompositeNode) actualNode).getChildren().reverse()));
+			}
+		}
+		assertFalse(actualIter.hasNext());
+	}
+
+	private void assertSameNeighbours(INode expected, INode actual) {
+		assertEquals(expected.hasSiblings(), actual.hasSiblings());
+		assertSameNode(expected.getParent(), actual.getParent());
+		assertSameNode(expected.getNextSibling(), actual.getNextSibling());
+		assertSameNode(expected.getPreviousSibling(), actual.getPreviousSibling());
+		if (expected instanceof ICompositeNode) {
+			assertEquals(((ICompositeNode) expected).hasChildren(), ((ICompositeNode) actual).hasChildren());
+			assertSameNode(((ICompositeNode) expected).getFirstChild(), ((ICompositeNode) actual).getFirstChild());
+			assertSameNode(((ICompositeNode) expected).getLastChild(), ((ICompositeNode) actual).getLastChild());
+		}
+	}
+
+	private void assertSameNode(INode expected, INode actual) {
+		if (expected == null) {
+			assertNull(actual);
+			return;
+		}
+		assertNotNull(actual);
+		assertEquals(expected instanceof ILeafNode, actual instanceof ILeafNode);
+		assertEquals(expected.getText(), actual.getText());
+		assertEquals(expected.getTotalOffset(), actual.getTotalOffset());
+		assertEquals(expected.getTotalLength(), actual.getTotalLength());
+		assertEquals(expected.getOffset(), actual.getOffset());
+		assertEquals(expected.getLength(), actual.getLength());
+		assertEquals(expected.getEndOffset(), actual.getEndOffset());
+		assertEquals(expected.getTotalStartLine(), actual.getTotalStartLine());
+		assertEquals(expected.getStartLine(), actual.getStartLine());
+		assertEquals(expected.getEndLine(), actual.getEndLine());
+		assertEquals(expected.getTotalEndLine(), actual.getTotalEndLine());
+		assertEquals(expected.getTextRegionWithLineInformation(), actual.getTextRegionWithLineInformation());
+		assertEquals(expected.getTotalTextRegionWithLineInformation(), actual.getTotalTextRegionWithLineInformation());
+		assertSame(expected.getGrammarElement(), actual.getGrammarElement());
+		assertSame(expected.getSemanticElement(), actual.getSemanticElement());
+		assertEquals(expected.hasDirectSemanticElement(), actual.hasDirectSemanticElement());
+		assertEquals(expected.getSyntaxErrorMessage(), actual.getSyntaxErrorMessage());
+		if (expected instanceof ILeafNode) {
+			assertEquals(((ILeafNode) expected).isHidden(), ((ILeafNode) actual).isHidden());
+		} else {
+			assertEquals(((ICompositeNode) expected).getLookAhead(), ((ICompositeNode) actual).getLookAhead());
+		}
+	}
+
+	@Test public void testViewsAreEqual() throws Exception {
+		CompactNodeModel nodeModel = CompactNodeModel.create(parse(MODEL));
+		for (int i = 0; i < nodeModel.size(); i++) {
+			INode node = nodeModel.getNode(i);
+			assertEquals(node, nodeModel.getNode(i));
+			assertEquals(node.hashCode(), nodeModel.getNode(i).hashCode());
+			if (i > 0) {
+				assertNotEquals(node, nodeModel.getNode(i - 1));
+			}
+		}
+	}
+
+	@Test public void testCompactNodeModelBuilder() throws Exception {
+		IParseResult parseResult = compactParser.parse(new StringReader(MODEL));
+		assertTrue(parseResult instanceof CompactParseResult);
+		assertFalse(parseResult.hasSyntaxErrors());
+		assertEquals(MODEL, parseResult.getRootNode().getText());
+		int semanticElements = 0;
+		TreeIterator<EObject> iterator = parseResult.getRootASTElement().eAllContents();
+		while (iterator.hasNext()) {
+			EObject semanticElement = iterator.next();
+			ICompositeNode node = NodeModelUtils.getNode(semanticElement);
+			assertTrue(node instanceof CompactCompositeNode);
+			assertSame(semanticElement, node.getSemanticElement());
+			assertTrue(node.hasDirectSemanticElement());
+			assertSame(semanticElement, NodeModelUtils.findActualSemanticObjectFor(node));
+			assertNotNull(NodeModelUtils.findActualNodeFor(semanticElement));
+			semanticElements++;
+		}
+		assertTrue(semanticElements > 5);
+		assertSame(parseResult.getRootASTElement(), parseResult.getRootNode().getSemanticElement());
+		assertEquals(Iterables.size(parse(MODEL).getAsTreeIterable()),
+				Iterables.size(parseResult.getRootNode().getAsTreeIterable()));
+	}
+
+	@Test public void testSyntaxErrors() throws Exception {
+		String model = "a + (b * ";
+		IParseResult parseResult = compactParser.parse(new StringReader(model));
+		assertTrue(parseResult.hasSyntaxErrors());
+		IParseResult expected = getParser().parse(new StringReader(model));
+		assertEquals(Iterables.size(expected.getSyntaxErrors()), Iterables.size(parseResult.getSyntaxErrors()));
+		Iterator<INode> expectedErrors = expected.getSyntaxErrors().iterator();
+		for (INode error : parseResult.getSyntaxErrors()) {
+			assertSameNode(expectedErrors.next(), error);
+		}
+	}
+
+	@Test public void testSyntaxErrorsOfParseResult() throws Exception {
+		String model = "a + ) b";
+		IParseResult compact = compactParser.parse(new StringReader(model));
+		ParseResult parseResult = new ParseResult(compact.getRootASTElement(), compact.getRootNode(), true);
+		assertFalse(Iterables.isEmpty(parseResult.getSyntaxErrors()));
+		assertEquals(Lists.newArrayList(compact.getSyntaxErrors()), Lists.newArrayList(parseResult.getSyntaxErrors()));
+	}
+
+	@Test public void testReparse() throws Exception {
+		IParseResult parseResult = compactParser.parse(new StringReader(MODEL));
+		PartialParsingHelper partialParser = get(PartialParsingHelper.class);
+		ReplaceRegion region = new ReplaceRegion(MODEL.indexOf('b'), 1, "b2 / x");
+		IParseResult reparsed = partialParser.reparse(compactParser, parseResult, region);
+		assertTrue(reparsed instanceof CompactParseResult);
+		StringBuilder expected = new StringBuilder(MODEL);
+		region.applyTo(expected);
+		assertEquals(expected.toString(), reparsed.getRootNode().getText());
+		assertSameNodeModel(expected.toString());
+	}
+
+}
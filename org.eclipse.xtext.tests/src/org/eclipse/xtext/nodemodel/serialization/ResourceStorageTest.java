@@ -27,6 +27,7 @@ import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.resource.persistence.IResourceStorageFacade;
 import org.eclipse.xtext.resource.persistence.ResourceStorageFacade;
 import org.eclipse.xtext.resource.persistence.ResourceStorageLoadable;
+import org.eclipse.xtext.resource.persistence.ResourceStorageSections.Compression;
 import org.eclipse.xtext.resource.persistence.StorageAwareResource;
 import org.eclipse.xtext.testlanguages.SimpleExpressionsTestLanguageRuntimeModule;
 import org.eclipse.xtext.testlanguages.SimpleExpressionsTestLanguageStandaloneSetup;
@@ -73,6 +74,8 @@ public class ResourceStorageTest extends AbstractXtextTests {
 	public static class InMemoryURIConverter extends ExtensibleURIConverterImpl {
 		private final Map<URI, InputStream> models = new HashMap<URI, InputStream>();
 
+		private int openedStreams = 0;
+
 		public void addModel(String uri, String content) {
 			models.put(URI.createURI(uri), new StringInputStream(content));
 		}
@@ -92,8 +95,13 @@ public class ResourceStorageTest extends AbstractXtextTests {
 
 		@Override
 		public InputStream createInputStream(URI uri, Map<?, ?> options) throws IOException {
+			openedStreams++;
 			return models.get(uri);
 		}
+
+		public int getOpenedStreams() {
+			return openedStreams;
+		}
 	}
 	
 	private ParserTestHelper helper;
@@ -121,7 +129,23 @@ public class ResourceStorageTest extends AbstractXtextTests {
 		doTestWriteAndLoad(modelAsString);
 	}
 	
+	@Test
+	public void testWriteAndLoadSections_01() throws Exception {
+		String modelAsString = "(d - e) / e * d // fasdf s";
+		doTestWriteAndLoad(modelAsString, Compression.LZ4);
+	}
+	
+	@Test
+	public void testWriteAndLoadSections_02() throws Exception {
+		String modelAsString = "a + b + c + d + e +";
+		doTestWriteAndLoad(modelAsString, Compression.NONE);
+	}
+	
 	void doTestWriteAndLoad(String modelAsString) throws Exception {
+		doTestWriteAndLoad(modelAsString, null);
+	}
+	
+	void doTestWriteAndLoad(String modelAsString, Compression sectionCompression) throws Exception {
 		StorageAwareResource originalResource = parse(modelAsString);
 		DetachableParseResult originalParseResult = (DetachableParseResult) originalResource.getParseResult();
 		RootNode originalRootNode = (RootNode) originalParseResult.getRootNode();
@@ -130,6 +154,7 @@ public class ResourceStorageTest extends AbstractXtextTests {
 		
 		ByteArrayOutputStream bout = new ByteArrayOutputStream();
 		resourceStorageFacade.setStoreNodeModel(true);
+		resourceStorageFacade.setSectionCompression(sectionCompression);
 		resourceStorageFacade.createResourceStorageWritable(bout).writeResource(originalResource);
 		ResourceStorageLoadable in = resourceStorageFacade.createResourceStorageLoadable(new ByteArrayInputStream(bout.toByteArray()));
 		StorageAwareResource reloadedResource = (StorageAwareResource) originalResource.getResourceSet().createResource(URI.createURI("synthetic:/Test." + originalResource.getURI().fileExtension()));
@@ -138,6 +163,11 @@ public class ResourceStorageTest extends AbstractXtextTests {
 		reloadedResource.getResourceSet().setURIConverter(converter);
 		originalResource.getResourceSet().getResources().add(reloadedResource);
 		reloadedResource.loadFromStorage(in);
+		if (sectionCompression != null) {
+			// the contents and the node model are loaded on demand
+			assertNotNull(reloadedResource.getResourceDescription());
+			assertEquals(0, converter.getOpenedStreams());
+		}
 		Expression reloadedModel = (Expression) reloadedResource.getContents().get(0);
 		EqualityHelper equalityHelper = new EqualityHelper();
 		assertTrue(equalityHelper.equals(model, reloadedModel));
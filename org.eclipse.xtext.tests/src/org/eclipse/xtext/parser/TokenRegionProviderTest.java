@@ -16,11 +16,13 @@ import java.util.List;
 import org.antlr.runtime.ANTLRStringStream;
 import org.antlr.runtime.CommonToken;
 import org.antlr.runtime.Token;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
 import org.eclipse.xtext.parser.antlr.Lexer;
 import org.eclipse.xtext.parser.impl.TokenRegionProvider;
 import org.eclipse.xtext.testlanguages.SimpleExpressionsTestLanguageStandaloneSetup;
 import org.eclipse.xtext.testing.AbstractXtextTests;
 import org.eclipse.xtext.util.ITextRegion;
+import org.eclipse.xtext.util.ReplaceRegion;
 import org.eclipse.xtext.util.TextRegion;
 import org.junit.Before;
 import org.junit.Test;
@@ -60,6 +62,25 @@ public class TokenRegionProviderTest extends AbstractXtextTests {
 		}
 	}
 	
+	@Test
+	public void testResumedLexingYieldsSameRegion() throws Exception {
+		String model = "a1 / /* comment */ b2 + (c3 * d4) - ee";
+		ICompositeNode rootNode = getRootNode(model);
+		for (String text : new String[] { "", "x", " ", "/", "*", "1", "+ f", "/*", "*/" }) {
+			for (int length = 0; length < 3; ++length) {
+				for (int offset = 0; offset + length <= model.length(); ++offset) {
+					ReplaceRegion replaceRegion = new ReplaceRegion(offset, length, text);
+					StringBuilder builder = new StringBuilder(model);
+					replaceRegion.applyTo(builder);
+					String changedText = builder.toString();
+					assertEquals(replaceRegion.toString(),
+							tokenRegionProvider.getTokenReplaceRegion(changedText, replaceRegion),
+							tokenRegionProvider.getTokenReplaceRegion(changedText, replaceRegion, rootNode));
+				}
+			}
+		}
+	}
+
 	@Test 
 	public void testTokenMerge() throws Exception {
 		String model = "  ";
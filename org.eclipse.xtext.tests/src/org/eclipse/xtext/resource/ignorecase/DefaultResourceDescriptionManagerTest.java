@@ -19,6 +19,10 @@ import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.naming.IQualifiedNameProvider;
 import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.IResourceDescription.Delta;
+import org.eclipse.xtext.resource.IResourceDescription.Manager.AllChangeAware;
+import org.eclipse.xtext.resource.IResourceDescriptions;
 import org.eclipse.xtext.resource.impl.DefaultResourceDescription;
 import org.eclipse.xtext.resource.impl.DefaultResourceDescriptionDelta;
 import org.eclipse.xtext.resource.impl.DefaultResourceDescriptionManager;
@@ -70,5 +74,46 @@ public class DefaultResourceDescriptionManagerTest extends Assert {
 		importedNames = Collections.singleton(QualifiedName.create("ECLASS"));
 		assertFalse(manager.isAffected(delta, resourceDescription));
 	}
+
+	@Test public void testIsAffectedByNamesAndReferencesOnly() {
+		assertTrue(manager.isAffectedByNamesAndReferencesOnly());
+		assertTrue(new DefaultResourceDescriptionManager() {
+			@Override
+			protected boolean hasChanges(Delta delta, IResourceDescription candidate) {
+				return true;
+			}
+		}.isAffectedByNamesAndReferencesOnly());
+		assertFalse(new DefaultResourceDescriptionManager() {
+			@Override
+			public boolean isAffected(Collection<Delta> deltas, IResourceDescription candidate,
+					IResourceDescriptions context) {
+				return true;
+			}
+		}.isAffectedByNamesAndReferencesOnly());
+		assertFalse(new DefaultResourceDescriptionManager() {
+			@Override
+			protected boolean isAffected(Collection<QualifiedName> importedNames, IResourceDescription description) {
+				return true;
+			}
+		}.isAffectedByNamesAndReferencesOnly());
+		assertFalse(new DefaultResourceDescriptionManager() {
+			@Override
+			protected Collection<QualifiedName> getImportedNames(IResourceDescription candidate) {
+				return Collections.emptySet();
+			}
+		}.isAffectedByNamesAndReferencesOnly());
+	}
+
+	static class AllChangeAwareManager extends DefaultResourceDescriptionManager implements AllChangeAware {
+		@Override
+		public boolean isAffectedByAny(Collection<Delta> deltas, IResourceDescription candidate,
+				IResourceDescriptions context) {
+			return true;
+		}
+	}
+
+	@Test public void testAllChangeAwareIsNotAffectedByNamesAndReferencesOnly() {
+		assertFalse(new AllChangeAwareManager().isAffectedByNamesAndReferencesOnly());
+	}
 	
 }
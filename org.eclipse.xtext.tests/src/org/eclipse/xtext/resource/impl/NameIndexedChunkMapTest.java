@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.impl;
+
+import static org.eclipse.xtext.resource.impl.PersistentResourceDescriptionsDataTest.*;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Sets;
+
+public class NameIndexedChunkMapTest extends Assert {
+
+	private Set<URI> findResources(ChunkedResourceDescriptions descriptions, String name) {
+		Set<URI> result = new HashSet<>();
+		for (IEObjectDescription description : descriptions.getExportedObjects(EcorePackage.Literals.EOBJECT,
+				QualifiedName.create(name.split("\\.")), true)) {
+			result.add(description.getEObjectURI().trimFragment());
+		}
+		return result;
+	}
+
+	@Test public void testChunks() {
+		IResourceDescription a = createDescription("a.test", "x.A", "x.Shared");
+		IResourceDescription b = createDescription("b.test", "x.B", "x.shared");
+		NameIndexedChunkMap map = new NameIndexedChunkMap();
+		map.put("p1", new ResourceDescriptionsData(List.of(a)));
+		map.put("p2", new ResourceDescriptionsData(List.of(b)));
+		assertEquals(Collections.singleton("p1"), map.getChunks(QualifiedName.create("x", "a")));
+		assertEquals(Sets.newHashSet("p1", "p2"), map.getChunks(QualifiedName.create("x", "SHARED")));
+		assertTrue(map.getChunks(QualifiedName.create("x", "C")).isEmpty());
+
+		map.remove("p1");
+		assertTrue(map.getChunks(QualifiedName.create("x", "A")).isEmpty());
+		assertEquals(Collections.singleton("p2"), map.getChunks(QualifiedName.create("x", "Shared")));
+	}
+
+	@Test public void testDelta() {
+		IResourceDescription a = createDescription("a.test", "x.A", "x.Shared");
+		IResourceDescription b = createDescription("b.test", "x.B", "x.Shared");
+		NameIndexedChunkMap map = new NameIndexedChunkMap();
+		ResourceDescriptionsData data = new ResourceDescriptionsData(List.of(a, b));
+		map.put("p1", data);
+
+		ResourceDescriptionsData newData = data.copy();
+		newData.removeDescription(a.getURI());
+		IResourceDescription c = createDescription("c.test", "x.C");
+		newData.addDescription(c.getURI(), c);
+		map.put("p1", newData);
+		assertTrue(map.getChunks(QualifiedName.create("x", "A")).isEmpty());
+		assertEquals(Collections.singleton("p1"), map.getChunks(QualifiedName.create("x", "Shared")));
+		assertEquals(Collections.singleton("p1"), map.getChunks(QualifiedName.create("x", "C")));
+		assertSame(newData, map.getIndexedData("p1"));
+	}
+
+	@Test public void testChunkedResourceDescriptions() {
+		IResourceDescription a = createDescription("a.test", "x.A", "x.Shared");
+		IResourceDescription b = createDescription("b.test", "x.B", "x.Shared");
+		NameIndexedChunkMap map = new NameIndexedChunkMap();
+		map.put("p1", new ResourceDescriptionsData(List.of(a)));
+		map.put("p2", new ResourceDescriptionsData(List.of(b)));
+		ChunkedResourceDescriptions descriptions = new ChunkedResourceDescriptions(map);
+		assertEquals(Collections.singleton(a.getURI()), findResources(descriptions, "x.A"));
+		assertEquals(Sets.newHashSet(a.getURI(), b.getURI()), findResources(descriptions, "x.Shared"));
+
+		// a local modification is not reflected by the index
+		IResourceDescription c = createDescription("c.test", "x.C");
+		descriptions.setContainer("p2", new ResourceDescriptionsData(List.of(c)));
+		assertEquals(Collections.singleton(c.getURI()), findResources(descriptions, "x.C"));
+		assertEquals(Collections.singleton(a.getURI()), findResources(descriptions, "x.Shared"));
+
+		// a modification of the index is not reflected by the existing instance
+		ChunkedResourceDescriptions snapshot = new ChunkedResourceDescriptions(map);
+		map.put("p1", new ResourceDescriptionsData(List.of(c)));
+		assertEquals(Sets.newHashSet(a.getURI(), b.getURI()), findResources(snapshot, "x.Shared"));
+		assertTrue(findResources(snapshot, "x.C").isEmpty());
+		assertEquals(Collections.singleton(c.getURI()), findResources(new ChunkedResourceDescriptions(map), "x.C"));
+	}
+
+	@Test public void testNoCandidatesWhileModified() {
+		IResourceDescription a = createDescription("a.test", "x.A");
+		IResourceDescription b = createDescription("b.test", "x.B");
+		AtomicReference<ChunkedResourceDescriptions> descriptions = new AtomicReference<>();
+		AtomicReference<Object> candidates = new AtomicReference<>("not queried");
+		NameIndexedChunkMap map = new NameIndexedChunkMap() {
+			@Override
+			protected void updateNames(String chunk, ResourceDescriptionsData oldData,
+					ResourceDescriptionsData newData) {
+				if (descriptions.get() != null) {
+					candidates.set(descriptions.get().getCandidates(QualifiedName.create("x", "A")));
+				}
+				super.updateNames(chunk, oldData, newData);
+			}
+		};
+		map.put("p1", new ResourceDescriptionsData(List.of(a)));
+		descriptions.set(new ChunkedResourceDescriptions(map));
+		assertNotNull(descriptions.get().getCandidates(QualifiedName.create("x", "A")));
+		map.put("p2", new ResourceDescriptionsData(List.of(b)));
+		assertNull(candidates.get());
+		assertEquals(Collections.singleton(a.getURI()), findResources(descriptions.get(), "x.A"));
+	}
+}
@@ -0,0 +1,267 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.persistence.SerializableEObjectDescription;
+import org.eclipse.xtext.resource.persistence.SerializableReferenceDescription;
+import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+public class PersistentResourceDescriptionsDataTest extends Assert {
+
+	public static SerializableResourceDescription createDescription(String uri, String... exportedNames) {
+		SerializableResourceDescription result = new SerializableResourceDescription();
+		URI resourceURI = URI.createURI(uri);
+		result.setURI(resourceURI);
+		List<SerializableEObjectDescription> descriptions = new ArrayList<>();
+		for (int i = 0; i < exportedNames.length; i++) {
+			SerializableEObjectDescription description = new SerializableEObjectDescription();
+			description.setEClass(EcorePackage.Literals.ECLASS);
+			description.setEObjectURI(resourceURI.appendFragment("//" + i));
+			description.setQualifiedName(QualifiedName.create(exportedNames[i].split("\\.")));
+			description.setUserData(new HashMap<>());
+			descriptions.add(description);
+		}
+		result.setDescriptions(descriptions);
+		return result;
+	}
+
+	public static SerializableResourceDescription withReferences(SerializableResourceDescription description,
+			String... targetURIs) {
+		List<SerializableReferenceDescription> references = new ArrayList<>();
+		for (String targetURI : targetURIs) {
+			SerializableReferenceDescription reference = new SerializableReferenceDescription();
+			reference.setSourceEObjectUri(description.getURI().appendFragment("/"));
+			reference.setTargetEObjectUri(URI.createURI(targetURI));
+			reference.setEReference(EcorePackage.Literals.ECLASS__ESUPER_TYPES);
+			references.add(reference);
+		}
+		description.setReferences(references);
+		return description;
+	}
+
+	private Set<URI> findResources(ResourceDescriptionsData data, String name) {
+		Set<URI> result = new HashSet<>();
+		for (IEObjectDescription description : data.getExportedObjects(EcorePackage.Literals.EOBJECT,
+				QualifiedName.create(name.split("\\.")), true)) {
+			result.add(description.getEObjectURI().trimFragment());
+		}
+		return result;
+	}
+
+	private Set<String> findNamesByPrefix(ResourceDescriptionsData data, String... prefix) {
+		Set<String> result = new HashSet<>();
+		for (IEObjectDescription description : data.getExportedObjectsByPrefix(EcorePackage.Literals.EOBJECT,
+				QualifiedName.create(prefix))) {
+			result.add(description.getName().toString());
+		}
+		return result;
+	}
+
+	@Test public void testAddAndLookup() {
+		IResourceDescription a = createDescription("a.test", "x.A", "x.Shared");
+		IResourceDescription b = createDescription("b.test", "x.B", "x.shared");
+		PersistentResourceDescriptionsData data = new PersistentResourceDescriptionsData(List.of(a, b));
+		assertSame(a, data.getResourceDescription(a.getURI()));
+		assertSame(b, data.getResourceDescription(b.getURI()));
+		assertEquals(Sets.newHashSet(a.getURI(), b.getURI()), data.getAllURIs());
+		assertEquals(Collections.singleton(a.getURI()), findResources(data, "x.a"));
+		assertEquals(Sets.newHashSet(a.getURI(), b.getURI()), findResources(data, "x.SHARED"));
+		assertTrue(findResources(data, "x.C").isEmpty());
+		assertEquals(4, Iterables.size(data.getExportedObjects()));
+	}
+
+	@Test public void testRemove() {
+		IResourceDescription a = createDescription("a.test", "x.A", "x.Shared");
+		IResourceDescription b = createDescription("b.test", "x.B", "x.Shared");
+		IResourceDescription c = createDescription("c.test", "x.Shared");
+		PersistentResourceDescriptionsData data = new PersistentResourceDescriptionsData(List.of(a, b, c));
+		assertEquals(3, findResources(data, "x.Shared").size());
+		data.removeDescription(b.getURI());
+		assertNull(data.getResourceDescription(b.getURI()));
+		assertEquals(Sets.newHashSet(a.getURI(), c.getURI()), findResources(data, "x.Shared"));
+		assertTrue(findResources(data, "x.B").isEmpty());
+		data.removeDescription(a.getURI());
+		assertEquals(Collections.singleton(c.getURI()), findResources(data, "x.Shared"));
+		data.removeDescription(c.getURI());
+		assertTrue(findResources(data, "x.Shared").isEmpty());
+		assertTrue(data.isEmpty());
+	}
+
+	@Test public void testReplace() {
+		IResourceDescription a = createDescription("a.test", "x.A");
+		PersistentResourceDescriptionsData data = new PersistentResourceDescriptionsData(List.of(a));
+		IResourceDescription newA = createDescription("a.test", "x.NewA");
+		data.addDescription(newA.getURI(), newA);
+		assertSame(newA, data.getResourceDescription(a.getURI()));
+		assertTrue(findResources(data, "x.A").isEmpty());
+		assertEquals(Collections.singleton(a.getURI()), findResources(data, "x.NewA"));
+	}
+
+	@Test public void testCopyIsIndependent() {
+		IResourceDescription a = createDescription("a.test", "x.A", "x.Shared");
+		IResourceDescription b = createDescription("b.test", "x.B", "x.Shared");
+		PersistentResourceDescriptionsData data = new PersistentResourceDescriptionsData(List.of(a, b));
+		ResourceDescriptionsData copy = data.copy();
+		assertTrue(copy instanceof PersistentResourceDescriptionsData);
+		IResourceDescription c = createDescription("c.test", "x.C", "x.Shared");
+		copy.addDescription(c.getURI(), c);
+		copy.removeDescription(a.getURI());
+
+		assertEquals(Sets.newHashSet(a.getURI(), b.getURI()), data.getAllURIs());
+		assertEquals(Sets.newHashSet(a.getURI(), b.getURI()), findResources(data, "x.Shared"));
+		assertTrue(findResources(data, "x.C").isEmpty());
+
+		assertEquals(Sets.newHashSet(b.getURI(), c.getURI()), copy.getAllURIs());
+		assertEquals(Sets.newHashSet(b.getURI(), c.getURI()), findResources(copy, "x.Shared"));
+		assertTrue(findResources(copy, "x.A").isEmpty());
+	}
+
+	@Test public void testRegisterDelta() {
+		IResourceDescription a = createDescription("a.test", "x.A");
+		PersistentResourceDescriptionsData data = new PersistentResourceDescriptionsData(List.of(a));
+		data.register(new DefaultResourceDescriptionDelta(a, null));
+		assertNull(data.getResourceDescription(a.getURI()));
+		data.register(new DefaultResourceDescriptionDelta(null, a));
+		assertSame(a, data.getResourceDescription(a.getURI()));
+	}
+
+	@Test public void testSameContentAsResourceDescriptionsData() {
+		List<IResourceDescription> descriptions = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			descriptions.add(createDescription("r" + i + ".test", "x.N" + i, "x.N" + (i % 17), "y.Common"));
+		}
+		ResourceDescriptionsData expected = new ResourceDescriptionsData(descriptions);
+		PersistentResourceDescriptionsData actual = new PersistentResourceDescriptionsData(descriptions);
+		for (int i = 0; i < 200; i += 3) {
+			URI uri = URI.createURI("r" + i + ".test");
+			expected.removeDescription(uri);
+			actual.removeDescription(uri);
+		}
+		assertEquals(expected.getAllURIs(), actual.getAllURIs());
+		for (int i = 0; i < 200; i++) {
+			assertEquals(findResources(expected, "x.N" + i), findResources(actual, "x.N" + i));
+		}
+		assertEquals(findResources(expected, "y.Common"), findResources(actual, "y.Common"));
+	}
+
+	@Test public void testReferringResources() {
+		IResourceDescription a = createDescription("a.test", "x.A");
+		IResourceDescription b = withReferences(createDescription("b.test", "x.B"), "a.test#//0", "c.test#//0");
+		IResourceDescription c = withReferences(createDescription("c.test", "x.C"), "a.test#//0");
+		URI aURI = a.getURI();
+		URI cURI = c.getURI();
+		for (ResourceDescriptionsData data : List.of(new ResourceDescriptionsData(List.of(a, b, c)),
+				new PersistentResourceDescriptionsData(List.of(a, b, c)))) {
+			assertEquals(Sets.newHashSet(b.getURI(), cURI), data.getReferringResourceURIs(List.of(aURI)));
+			assertEquals(Collections.singleton(b.getURI()), data.getReferringResourceURIs(List.of(cURI)));
+			assertTrue(data.getReferringResourceURIs(List.of(b.getURI())).isEmpty());
+
+			ResourceDescriptionsData copy = data.copy();
+			copy.removeDescription(b.getURI());
+			IResourceDescription newC = withReferences(createDescription("c.test", "x.C"), "b.test#//0");
+			copy.addDescription(cURI, newC);
+			assertTrue(copy.getReferringResourceURIs(List.of(aURI)).isEmpty());
+			assertEquals(Collections.singleton(cURI), copy.getReferringResourceURIs(List.of(b.getURI())));
+
+			assertEquals(Sets.newHashSet(b.getURI(), cURI), data.getReferringResourceURIs(List.of(aURI, cURI)));
+		}
+	}
+
+	@Test public void testImportingResources() {
+		SerializableResourceDescription a = createDescription("a.test", "x.A");
+		a.setImportedNames(List.of(QualifiedName.create("x", "b"), QualifiedName.create("x", "c")));
+		SerializableResourceDescription b = createDescription("b.test", "x.B");
+		b.setImportedNames(List.of(QualifiedName.create("x", "C")));
+		IResourceDescription c = createDescription("c.test", "x.C");
+		for (ResourceDescriptionsData data : List.of(new ResourceDescriptionsData(List.of(a, b, c)),
+				new PersistentResourceDescriptionsData(List.of(a, b, c)))) {
+			assertEquals(Sets.newHashSet(a.getURI(), b.getURI()),
+					data.getImportingResourceURIs(List.of(QualifiedName.create("X", "C"))));
+			assertEquals(Collections.singleton(a.getURI()),
+					data.getImportingResourceURIs(List.of(QualifiedName.create("x", "B"))));
+			assertTrue(data.getImportingResourceURIs(List.of(QualifiedName.create("x", "A"))).isEmpty());
+
+			ResourceDescriptionsData copy = data.copy();
+			copy.removeDescription(a.getURI());
+			SerializableResourceDescription newC = createDescription("c.test", "x.C");
+			newC.setImportedNames(List.of(QualifiedName.create("x", "a")));
+			copy.addDescription(newC.getURI(), newC);
+			assertEquals(Collections.singleton(b.getURI()),
+					copy.getImportingResourceURIs(List.of(QualifiedName.create("x", "c"), QualifiedName.create("x", "b"))));
+			assertEquals(Collections.singleton(c.getURI()),
+					copy.getImportingResourceURIs(List.of(QualifiedName.create("x", "a"))));
+
+			assertEquals(Sets.newHashSet(a.getURI(), b.getURI()),
+					data.getImportingResourceURIs(List.of(QualifiedName.create("x", "c"))));
+		}
+	}
+
+	@Test public void testReverseIndexesAreTransferredToCopies() {
+		IResourceDescription a = createDescription("a.test", "x.A");
+		SerializableResourceDescription b = withReferences(createDescription("b.test", "x.B"), "a.test#//0");
+		b.setImportedNames(List.of(QualifiedName.create("x", "a")));
+		for (ResourceDescriptionsData data : List.of(new ResourceDescriptionsData(List.of(a, b)),
+				new PersistentResourceDescriptionsData(List.of(a, b)))) {
+			assertEquals(Collections.singleton(b.getURI()), data.getReferringResourceURIs(List.of(a.getURI())));
+			assertEquals(Collections.singleton(b.getURI()),
+					data.getImportingResourceURIs(List.of(QualifiedName.create("x", "a"))));
+			List<SerializableReferenceDescription> references = b.getReferences();
+			List<QualifiedName> importedNames = Lists.newArrayList(b.getImportedNames());
+			try {
+				// the copy must not collect the sources from the descriptions again
+				b.setReferences(List.of());
+				b.setImportedNames(List.of());
+				ResourceDescriptionsData copy = data.copy();
+				assertEquals(Collections.singleton(b.getURI()), copy.getReferringResourceURIs(List.of(a.getURI())));
+				assertEquals(Collections.singleton(b.getURI()),
+						copy.getImportingResourceURIs(List.of(QualifiedName.create("x", "a"))));
+			} finally {
+				b.setReferences(references);
+				b.setImportedNames(importedNames);
+			}
+		}
+	}
+
+	@Test public void testExportedObjectsByPrefix() {
+		IResourceDescription a = createDescription("a.test", "x.Alpha", "x.alpine", "y.Alpha");
+		IResourceDescription b = createDescription("b.test", "x.Beta", "x.Alpha.Inner");
+		for (ResourceDescriptionsData data : List.of(new ResourceDescriptionsData(List.of(a, b)),
+				new PersistentResourceDescriptionsData(List.of(a, b)))) {
+			assertEquals(Sets.newHashSet("x.Alpha", "x.alpine", "x.Alpha.Inner"), findNamesByPrefix(data, "X", "al"));
+			assertEquals(Sets.newHashSet("x.Alpha.Inner"), findNamesByPrefix(data, "x", "alpha", "i"));
+			assertEquals(Sets.newHashSet("x.Beta"), findNamesByPrefix(data, "x", "b"));
+			assertEquals(5, findNamesByPrefix(data).size());
+			assertTrue(findNamesByPrefix(data, "z").isEmpty());
+
+			ResourceDescriptionsData copy = data.copy();
+			copy.removeDescription(a.getURI());
+			copy.addDescription(URI.createURI("c.test"), createDescription("c.test", "x.Alps"));
+			assertEquals(Sets.newHashSet("x.Alpha.Inner", "x.Alps"), findNamesByPrefix(copy, "x", "al"));
+			assertEquals(Sets.newHashSet("x.Alpha", "x.alpine", "x.Alpha.Inner"), findNamesByPrefix(data, "x", "al"));
+		}
+	}
+}
@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.persistence;
+
+import static org.eclipse.xtext.resource.impl.PersistentResourceDescriptionsDataTest.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IReferenceDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.impl.MappedResourceDescriptionsData;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+public class MappedIndexTest extends Assert {
+
+	private static ByteBuffer write(List<? extends IResourceDescription> descriptions) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		MappedIndex.write(descriptions, out);
+		return ByteBuffer.wrap(out.toByteArray());
+	}
+
+	private static SerializableResourceDescription createFullDescription() {
+		SerializableResourceDescription result = createDescription("full.test", "x.A", "x.B");
+		HashMap<String, String> userData = new HashMap<>();
+		userData.put("key", "value");
+		userData.put("nothing", null);
+		result.getDescriptions().get(0).setUserData(userData);
+		SerializableReferenceDescription reference = new SerializableReferenceDescription();
+		reference.setSourceEObjectUri(URI.createURI("full.test#//0"));
+		reference.setTargetEObjectUri(URI.createURI("other.test#//1"));
+		reference.setEReference(EcorePackage.Literals.ECLASS__ESUPER_TYPES);
+		reference.setIndexInList(3);
+		result.setReferences(List.of(reference));
+		result.setImportedNames(List.of(QualifiedName.create("y", "Imported"), QualifiedName.create("x", "A")));
+		return result;
+	}
+
+	private Set<URI> findResources(ResourceDescriptionsData data, String name) {
+		Set<URI> result = new HashSet<>();
+		for (IEObjectDescription description : data.getExportedObjects(EcorePackage.Literals.EOBJECT,
+				QualifiedName.create(name.split("\\.")), true)) {
+			result.add(description.getEObjectURI().trimFragment());
+		}
+		return result;
+	}
+
+	@Test public void testRoundTrip() throws IOException {
+		SerializableResourceDescription expected = createFullDescription();
+		MappedIndex index = new MappedIndex(write(List.of(expected, createDescription("other.test", "y.C"))));
+		assertEquals(2, index.size());
+		assertEquals(-1, index.indexOf(URI.createURI("unknown.test")));
+		IResourceDescription actual = index.getResourceDescription(index.indexOf(expected.getURI()));
+		assertEquals(expected.getURI(), actual.getURI());
+
+		List<IEObjectDescription> exported = Lists.newArrayList(actual.getExportedObjects());
+		assertEquals(2, exported.size());
+		assertEquals(QualifiedName.create("x", "A"), exported.get(0).getName());
+		assertEquals(EcorePackage.Literals.ECLASS, exported.get(0).getEClass());
+		assertEquals(URI.createURI("full.test#//0"), exported.get(0).getEObjectURI());
+		assertEquals("value", exported.get(0).getUserData("key"));
+		assertNull(exported.get(0).getUserData("nothing"));
+		assertEquals(2, exported.get(0).getUserDataKeys().length);
+		assertEquals(0, exported.get(1).getUserDataKeys().length);
+
+		IReferenceDescription reference = Iterables.getOnlyElement(actual.getReferenceDescriptions());
+		assertEquals(URI.createURI("full.test#//0"), reference.getSourceEObjectUri());
+		assertEquals(URI.createURI("other.test#//1"), reference.getTargetEObjectUri());
+		assertNull(reference.getContainerEObjectURI());
+		assertEquals(EcorePackage.Literals.ECLASS__ESUPER_TYPES, reference.getEReference());
+		assertEquals(3, reference.getIndexInList());
+
+		assertEquals(List.of(QualifiedName.create("y", "Imported"), QualifiedName.create("x", "A")),
+				Lists.newArrayList(actual.getImportedNames()));
+	}
+
+	@Test public void testDecodeOnDemand() throws IOException {
+		AtomicInteger decoded = new AtomicInteger();
+		List<IResourceDescription> descriptions = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			descriptions.add(createDescription("r" + i + ".test", "x.N" + i, "x.Common"));
+		}
+		MappedIndex index = new MappedIndex(write(descriptions)) {
+			@Override
+			protected IResourceDescription decodeResourceDescription(int idx) {
+				decoded.incrementAndGet();
+				return super.decodeResourceDescription(idx);
+			}
+		};
+		int position = index.indexOf(URI.createURI("r42.test"));
+		assertEquals(URI.createURI("r42.test"), index.getURI(position));
+		assertEquals(0, decoded.get());
+		IResourceDescription description = index.getResourceDescription(position);
+		assertSame(description, index.getResourceDescription(position));
+		assertEquals(1, decoded.get());
+		assertEquals(1, index.findResources(QualifiedName.create("x", "n42")).length);
+		assertEquals(100, index.findResources(QualifiedName.create("x", "common")).length);
+		assertEquals(0, index.findResources(QualifiedName.create("x", "unknown")).length);
+		assertEquals(1, decoded.get());
+	}
+
+	@Test public void testMappedResourceDescriptionsData() throws IOException {
+		IResourceDescription a = createDescription("a.test", "x.A", "x.Shared");
+		IResourceDescription b = createDescription("b.test", "x.B", "x.Shared");
+		MappedResourceDescriptionsData data = new MappedResourceDescriptionsData(new MappedIndex(write(List.of(a, b))));
+		assertEquals(Sets.newHashSet(a.getURI(), b.getURI()), data.getAllURIs());
+		assertEquals(Sets.newHashSet(a.getURI(), b.getURI()), findResources(data, "X.shared"));
+
+		ResourceDescriptionsData copy = data.copy();
+		IResourceDescription newA = createDescription("a.test", "x.NewA");
+		IResourceDescription c = createDescription("c.test", "x.C", "x.Shared");
+		copy.addDescription(newA.getURI(), newA);
+		copy.addDescription(c.getURI(), c);
+		copy.removeDescription(b.getURI());
+
+		assertSame(newA, copy.getResourceDescription(a.getURI()));
+		assertNull(copy.getResourceDescription(b.getURI()));
+		assertEquals(Sets.newHashSet(a.getURI(), c.getURI()), copy.getAllURIs());
+		assertEquals(2, copy.getAllURIs().size());
+		assertTrue(copy.getAllURIs().contains(c.getURI()));
+		assertFalse(copy.getAllURIs().contains(b.getURI()));
+		assertEquals(Sets.newHashSet(c.getURI()), findResources(copy, "x.Shared"));
+		assertTrue(findResources(copy, "x.A").isEmpty());
+		assertEquals(Sets.newHashSet(a.getURI()), findResources(copy, "x.NewA"));
+		assertEquals(2, Iterables.size(copy.getAllResourceDescriptions()));
+		assertEquals(3, Iterables.size(copy.getExportedObjects()));
+
+		assertEquals(Sets.newHashSet(a.getURI(), b.getURI()), data.getAllURIs());
+		assertEquals(Sets.newHashSet(a.getURI(), b.getURI()), findResources(data, "x.Shared"));
+		assertEquals(4, Iterables.size(data.getExportedObjects()));
+	}
+
+	@Test public void testReferringResources() throws IOException {
+		IResourceDescription a = createDescription("a.test", "x.A");
+		IResourceDescription b = withReferences(createDescription("b.test", "x.B"), "a.test#//0");
+		IResourceDescription c = withReferences(createDescription("c.test", "x.C"), "a.test#//0");
+		MappedResourceDescriptionsData data = new MappedResourceDescriptionsData(new MappedIndex(write(List.of(a, b, c))));
+		assertEquals(Sets.newHashSet(b.getURI(), c.getURI()), data.getReferringResourceURIs(List.of(a.getURI())));
+
+		ResourceDescriptionsData copy = data.copy();
+		copy.removeDescription(b.getURI());
+		IResourceDescription newC = withReferences(createDescription("c.test", "x.C"), "b.test#//0");
+		copy.addDescription(c.getURI(), newC);
+		IResourceDescription d = withReferences(createDescription("d.test", "x.D"), "a.test#//0");
+		copy.addDescription(d.getURI(), d);
+		assertEquals(Sets.newHashSet(d.getURI()), copy.getReferringResourceURIs(List.of(a.getURI())));
+		assertEquals(Sets.newHashSet(c.getURI()), copy.getReferringResourceURIs(List.of(b.getURI())));
+
+		assertEquals(Sets.newHashSet(b.getURI(), c.getURI()), data.getReferringResourceURIs(List.of(a.getURI())));
+	}
+
+	@Test public void testExportedObjectsByPrefix() throws IOException {
+		IResourceDescription a = createDescription("a.test", "x.Alpha", "x.Beta");
+		IResourceDescription b = createDescription("b.test", "x.alpine", "x.Alpha");
+		MappedResourceDescriptionsData data = new MappedResourceDescriptionsData(new MappedIndex(write(List.of(a, b))));
+		assertEquals(List.of("a.test#x.Alpha", "b.test#x.Alpha", "b.test#x.alpine"), findByPrefix(data, "X", "al"));
+
+		ResourceDescriptionsData copy = data.copy();
+		IResourceDescription newB = createDescription("b.test", "x.Alps", "x.Alpha");
+		copy.addDescription(newB.getURI(), newB);
+		assertEquals(List.of("a.test#x.Alpha", "b.test#x.Alpha", "b.test#x.Alps"), findByPrefix(copy, "x", "al"));
+		assertEquals(List.of("a.test#x.Beta"), findByPrefix(copy, "x", "b"));
+
+		assertEquals(List.of("a.test#x.Alpha", "b.test#x.Alpha", "b.test#x.alpine"), findByPrefix(data, "x", "AL"));
+	}
+
+	private List<String> findByPrefix(ResourceDescriptionsData data, String... prefix) {
+		List<String> result = new ArrayList<>();
+		for (IEObjectDescription description : data.getExportedObjectsByPrefix(EcorePackage.Literals.EOBJECT,
+				QualifiedName.create(prefix))) {
+			result.add(description.getEObjectURI().trimFragment() + "#" + description.getName());
+		}
+		result.sort(null);
+		return result;
+	}
+
+	@Test public void testSameContentAsResourceDescriptionsData() throws IOException {
+		List<IResourceDescription> descriptions = new ArrayList<>();
+		for (int i = 0; i < 500; i++) {
+			descriptions.add(createDescription("r" + i + ".test", "x.N" + i, "x.N" + (i % 17), "y.Common"));
+		}
+		ResourceDescriptionsData expected = new ResourceDescriptionsData(descriptions);
+		ResourceDescriptionsData actual = new MappedResourceDescriptionsData(new MappedIndex(write(descriptions)));
+		for (int i = 0; i < 500; i += 3) {
+			URI uri = URI.createURI("r" + i + ".test");
+			expected.removeDescription(uri);
+			actual.removeDescription(uri);
+		}
+		for (int i = 0; i < 500; i += 7) {
+			IResourceDescription description = createDescription("r" + i + ".test", "x.M" + i, "y.Common");
+			expected.addDescription(description.getURI(), description);
+			actual.addDescription(description.getURI(), description);
+		}
+		assertEquals(expected.getAllURIs(), actual.getAllURIs());
+		assertEquals(expected.getAllURIs().size(), actual.getAllURIs().size());
+		for (int i = 0; i < 500; i++) {
+			assertEquals(findResources(expected, "x.N" + i), findResources(actual, "x.N" + i));
+			assertEquals(findResources(expected, "x.M" + i), findResources(actual, "x.M" + i));
+		}
+		assertEquals(findResources(expected, "y.Common"), findResources(actual, "y.Common"));
+	}
+
+	@Test(expected = IOException.class)
+	public void testInvalidContent() throws IOException {
+		new MappedIndex(ByteBuffer.wrap(new byte[64]));
+	}
+}
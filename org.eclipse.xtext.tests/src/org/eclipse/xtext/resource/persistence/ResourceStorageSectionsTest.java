@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.persistence;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.xtext.resource.persistence.ResourceStorageSections.Compression;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.io.ByteStreams;
+
+public class ResourceStorageSectionsTest extends Assert {
+
+	private void assertRoundTrip(byte[] content) throws IOException {
+		byte[] compressed = LZ4Block.compress(content, 0, content.length);
+		assertArrayEquals(content, LZ4Block.decompress(compressed, 0, compressed.length, content.length));
+	}
+
+	@Test public void testLZ4Empty() throws IOException {
+		assertRoundTrip(new byte[0]);
+		assertRoundTrip(new byte[] { 42 });
+	}
+
+	@Test public void testLZ4Repetitive() throws IOException {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 2000; i++) {
+			builder.append("package foo.bar; class A").append(i % 13).append(" {}\n");
+		}
+		byte[] content = builder.toString().getBytes(StandardCharsets.UTF_8);
+		assertRoundTrip(content);
+		assertTrue(LZ4Block.compress(content, 0, content.length).length < content.length / 4);
+		byte[] zeros = new byte[100000];
+		assertRoundTrip(zeros);
+	}
+
+	@Test public void testLZ4Random() throws IOException {
+		Random random = new Random(4711);
+		for (int length : new int[] { 5, 12, 13, 255, 1000, 70000 }) {
+			byte[] content = new byte[length];
+			random.nextBytes(content);
+			assertRoundTrip(content);
+		}
+	}
+
+	@Test public void testLZ4Range() throws IOException {
+		byte[] content = "xxxxabcabcabcabcabcabcabcabcabcabcyyyy".getBytes(StandardCharsets.UTF_8);
+		byte[] compressed = LZ4Block.compress(content, 4, content.length - 8);
+		assertArrayEquals(Arrays.copyOfRange(content, 4, content.length - 4),
+				LZ4Block.decompress(compressed, 0, compressed.length, content.length - 8));
+	}
+
+	@Test(expected = IOException.class)
+	public void testLZ4WrongLength() throws IOException {
+		byte[] content = new byte[1000];
+		byte[] compressed = LZ4Block.compress(content, 0, content.length);
+		LZ4Block.decompress(compressed, 0, compressed.length, content.length - 1);
+	}
+
+	@Test public void testSections() throws IOException {
+		byte[] large = new byte[10000];
+		Arrays.fill(large, (byte) 7);
+		ResourceStorageSections.Writer writer = new ResourceStorageSections.Writer(Compression.LZ4);
+		try (OutputStream out = writer.newSection("first")) {
+			out.write(large);
+		}
+		writer.newSection("second", Compression.NONE).write(new byte[] { 1, 2, 3 });
+		writer.newSection("empty");
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		writer.writeTo(bytes);
+		assertTrue(bytes.size() < large.length);
+
+		byte[] content = bytes.toByteArray();
+		assertTrue(ResourceStorageSections.isSectioned(content, content.length));
+		ResourceStorageSections sections = ResourceStorageSections.read(content, content.length);
+		assertEquals(List.of("first", "second", "empty"), sections.getSectionNames());
+		assertTrue(sections.hasSection("second"));
+		assertFalse(sections.hasSection("third"));
+		assertArrayEquals(new byte[] { 1, 2, 3 }, ByteStreams.toByteArray(sections.openSection("second")));
+		assertArrayEquals(large, ByteStreams.toByteArray(sections.openSection("first")));
+		assertEquals(0, ByteStreams.toByteArray(sections.openSection("empty")).length);
+	}
+
+	@Test public void testSectionsFromFile() throws IOException {
+		byte[] large = new byte[10000];
+		Arrays.fill(large, (byte) 7);
+		ResourceStorageSections.Writer writer = new ResourceStorageSections.Writer(Compression.LZ4);
+		writer.newSection("first").write(large);
+		writer.newSection("second", Compression.NONE).write(new byte[] { 1, 2, 3 });
+		Path file = Files.createTempFile("sections", ".bin");
+		try {
+			try (OutputStream out = Files.newOutputStream(file)) {
+				writer.writeTo(out);
+			}
+			ResourceStorageSections sections = ResourceStorageSections.read(file);
+			assertEquals(List.of("first", "second"), sections.getSectionNames());
+			assertArrayEquals(new byte[] { 1, 2, 3 }, ByteStreams.toByteArray(sections.openSection("second")));
+			assertArrayEquals(large, ByteStreams.toByteArray(sections.openSection("first")));
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testFileModifiedAfterRead() throws IOException {
+		ResourceStorageSections.Writer writer = new ResourceStorageSections.Writer(Compression.NONE);
+		writer.newSection("first").write(new byte[] { 1, 2, 3 });
+		Path file = Files.createTempFile("sections", ".bin");
+		try {
+			try (OutputStream out = Files.newOutputStream(file)) {
+				writer.writeTo(out);
+			}
+			ResourceStorageSections sections = ResourceStorageSections.read(file);
+			Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() - 10000));
+			sections.openSection("first");
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testFileNotSectioned() throws IOException {
+		Path file = Files.createTempFile("sections", ".bin");
+		try {
+			Files.write(file, new byte[] { 'P', 'K', 3, 4, 0, 0 });
+			ResourceStorageSections.read(file);
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDuplicateSection() {
+		ResourceStorageSections.Writer writer = new ResourceStorageSections.Writer(Compression.NONE);
+		writer.newSection("first");
+		writer.newSection("first");
+	}
+
+	@Test(expected = IOException.class)
+	public void testMissingSection() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		new ResourceStorageSections.Writer(Compression.NONE).writeTo(bytes);
+		ResourceStorageSections.read(bytes.toByteArray(), bytes.size()).openSection("first");
+	}
+
+	@Test(expected = IOException.class)
+	public void testTruncated() throws IOException {
+		ResourceStorageSections.Writer writer = new ResourceStorageSections.Writer(Compression.NONE);
+		writer.newSection("first").write(new byte[100]);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		writer.writeTo(bytes);
+		ResourceStorageSections.read(bytes.toByteArray(), bytes.size() - 1);
+	}
+
+	@Test public void testNotSectioned() {
+		assertFalse(ResourceStorageSections.isSectioned(new byte[] { 'P', 'K', 3, 4 }, 4));
+		assertFalse(ResourceStorageSections.isSectioned(new byte[0], 0));
+	}
+}
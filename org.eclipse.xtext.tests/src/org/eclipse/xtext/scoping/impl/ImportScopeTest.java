@@ -25,6 +25,7 @@ import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.resource.EObjectDescription;
 import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IPrefixAwareSelectable;
 import org.eclipse.xtext.resource.ISelectable;
 import org.eclipse.xtext.resource.impl.AliasedEObjectDescription;
 import org.eclipse.xtext.scoping.IScope;
@@ -408,4 +409,88 @@ public class ImportScopeTest extends Assert {
 		assertEquals("bar", barDescription.getName().toString());
 	}
 	
+	@Test public void testGetByPrefix() throws Exception {
+		final IEObjectDescription desc1 = EObjectDescription.create(QualifiedName.create("com","foo","bar"), EcorePackage.Literals.EANNOTATION);
+		final IEObjectDescription desc2 = EObjectDescription.create(QualifiedName.create("de","foo"), EcorePackage.Literals.EATTRIBUTE);
+		final IEObjectDescription desc3 = EObjectDescription.create(QualifiedName.create("com","Fizz"), EcorePackage.Literals.ECLASS);
+		final IEObjectDescription desc4 = EObjectDescription.create(QualifiedName.create("de","fizz"), EcorePackage.Literals.EENUM);
+		final IEObjectDescription desc5 = EObjectDescription.create(QualifiedName.create("fizz"), EcorePackage.Literals.EREFERENCE);
+		SimpleScope outer = new SimpleScope(newArrayList(desc1,desc2,desc3,desc4,desc5), false);
+		ImportNormalizer n1 = new ImportNormalizer(QualifiedName.create("com"), true, false);
+		ImportNormalizer n2 = new ImportNormalizer(QualifiedName.create("de"), true, false);
+		ImportNormalizer n3 = new ImportNormalizer(QualifiedName.create("de","foo"), false, false);
+		ImportScope scope = new ImportScope(newArrayList(n1,n2,n3), outer, new ScopeBasedSelectable(outer), EcorePackage.Literals.EOBJECT, false);
+		
+		assertEquals(newArrayList("Fizz", "fizz", "foo.bar"), getNamesByPrefix(scope, "F"));
+		assertEquals(newArrayList("foo.bar"), getNamesByPrefix(scope, "foo", "b"));
+		assertEquals(newArrayList("com.foo.bar"), getNamesByPrefix(scope, "com", "foo"));
+		assertEquals(newArrayList("de.foo"), getNamesByPrefix(scope, "DE", "fo"));
+		for (QualifiedName prefix : newArrayList(QualifiedName.EMPTY, QualifiedName.create("f"), QualifiedName.create("FOO"),
+				QualifiedName.create("com", ""), QualifiedName.create("x"))) {
+			List<String> expected = new ArrayList<>();
+			for (IEObjectDescription description : scope.getAllElements()) {
+				if (IPrefixAwareSelectable.matchesPrefix(description.getName(), prefix))
+					expected.add(description.getName().toString());
+			}
+			expected.sort(null);
+			assertEquals(expected, getNamesByPrefix(scope, prefix.getSegments().toArray(new String[0])));
+		}
+	}
+	
+	/**
+	 * Aliases nested types like the normalizer of Xbase, e.g. {@code import a.Outer} also aliases {@code a.Outer$Inner}
+	 * as {@code Outer$Inner}, and {@code import a.Outer$Inner} aliases it as {@code Inner}.
+	 */
+	private static class NestedTypeAwareImportNormalizer extends ImportNormalizer {
+		NestedTypeAwareImportNormalizer(QualifiedName importedNamespace) {
+			super(importedNamespace, false, false);
+		}
+
+		@Override
+		public QualifiedName deresolve(QualifiedName fullyQualifiedName) {
+			QualifiedName namespace = getImportedNamespacePrefix();
+			String lastImportedSegment = namespace.getLastSegment();
+			if (fullyQualifiedName.equals(namespace)) {
+				return QualifiedName.create(lastImportedSegment.substring(lastImportedSegment.lastIndexOf('$') + 1));
+			}
+			if (fullyQualifiedName.skipLast(1).equals(namespace.skipLast(1))
+					&& fullyQualifiedName.getLastSegment().startsWith(lastImportedSegment + "$")) {
+				return fullyQualifiedName.skipFirst(namespace.getSegmentCount() - 1);
+			}
+			return null;
+		}
+	}
+
+	@Test public void testGetByPrefixWithCustomNormalizer() throws Exception {
+		final IEObjectDescription desc1 = EObjectDescription.create(QualifiedName.create("a","Outer"), EcorePackage.Literals.ECLASS);
+		final IEObjectDescription desc2 = EObjectDescription.create(QualifiedName.create("a","Outer$Inner"), EcorePackage.Literals.ECLASS);
+		final IEObjectDescription desc3 = EObjectDescription.create(QualifiedName.create("b","Other$Nested"), EcorePackage.Literals.ECLASS);
+		SimpleScope outer = new SimpleScope(newArrayList(desc1,desc2,desc3), false);
+		ImportNormalizer n1 = new NestedTypeAwareImportNormalizer(QualifiedName.create("a","Outer"));
+		ImportNormalizer n2 = new NestedTypeAwareImportNormalizer(QualifiedName.create("b","Other$Nested"));
+		ImportScope scope = new ImportScope(newArrayList(n1,n2), outer, new ScopeBasedSelectable(outer), EcorePackage.Literals.EOBJECT, false);
+
+		assertEquals(newArrayList("Nested"), getNamesByPrefix(scope, "N"));
+		assertEquals(newArrayList("Outer", "Outer$Inner"), getNamesByPrefix(scope, "Out"));
+		for (QualifiedName prefix : newArrayList(QualifiedName.EMPTY, QualifiedName.create("o"), QualifiedName.create("Outer$"),
+				QualifiedName.create("a", ""), QualifiedName.create("x"))) {
+			List<String> expected = new ArrayList<>();
+			for (IEObjectDescription description : scope.getAllElements()) {
+				if (IPrefixAwareSelectable.matchesPrefix(description.getName(), prefix))
+					expected.add(description.getName().toString());
+			}
+			expected.sort(null);
+			assertEquals(expected, getNamesByPrefix(scope, prefix.getSegments().toArray(new String[0])));
+		}
+	}
+
+	private List<String> getNamesByPrefix(ImportScope scope, String... prefix) {
+		List<String> result = new ArrayList<>();
+		for (IEObjectDescription description : scope.getElementsByPrefix(QualifiedName.create(prefix))) {
+			result.add(description.getName().toString());
+		}
+		result.sort(null);
+		return result;
+	}
+	
 }
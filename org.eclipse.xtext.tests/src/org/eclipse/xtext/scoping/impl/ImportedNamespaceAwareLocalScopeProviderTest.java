@@ -24,7 +24,9 @@ import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.xtext.index.IndexTestLanguageStandaloneSetup;
 import org.eclipse.xtext.index.indexTestLanguage.Datatype;
 import org.eclipse.xtext.index.indexTestLanguage.Entity;
+import org.eclipse.xtext.index.indexTestLanguage.Import;
 import org.eclipse.xtext.index.indexTestLanguage.IndexTestLanguagePackage;
+import org.eclipse.xtext.index.indexTestLanguage.Namespace;
 import org.eclipse.xtext.naming.DefaultDeclarativeQualifiedNameProvider;
 import org.eclipse.xtext.naming.IQualifiedNameConverter;
 import org.eclipse.xtext.naming.IQualifiedNameProvider;
@@ -259,6 +261,43 @@ public class ImportedNamespaceAwareLocalScopeProviderTest extends AbstractXtextT
 		assertNotNull(scope.getSingleElement(nameConverter.toQualifiedName("A.B.D")));
 	}
 
+	public static class CustomImportsScopeProvider extends ImportedNamespaceAwareLocalScopeProvider {
+		@Override
+		protected List<ImportNormalizer> internalGetImportedNamespaceResolvers(EObject context, boolean ignoreCase) {
+			return super.internalGetImportedNamespaceResolvers(context, ignoreCase);
+		}
+	}
+
+	@Test public void testImportsAreNotEvictedByChangesOfOtherContexts() throws Exception {
+		XtextResource resource = getResource(new StringInputStream(
+				  "A { " 
+				+ "  import foo.* " 
+				+ "  entity D {}" 
+				+ "}" 
+				+ "E {" 
+				+ "  import bar.* " 
+				+ "  datatype Context" 
+				+ "}"), URI.createURI("imports.indextestlanguage"));
+		Namespace a = (Namespace) resource.getContents().get(0).eContents().get(0);
+		Namespace e = (Namespace) resource.getContents().get(0).eContents().get(1);
+		ImportedNamespaceAwareLocalScopeProvider provider = get(ImportedNamespaceAwareLocalScopeProvider.class);
+		List<ImportNormalizer> importsOfA = provider.getImportedNamespaceResolvers(a, false);
+		List<ImportNormalizer> importsOfE = provider.getImportedNamespaceResolvers(e, false);
+		assertEquals("[foo.*]", importsOfA.toString());
+
+		((Datatype) e.getElements().get(1)).setName("Other");
+		assertSame(importsOfA, provider.getImportedNamespaceResolvers(a, false));
+		assertNotSame(importsOfE, provider.getImportedNamespaceResolvers(e, false));
+
+		((Import) a.getElements().get(0)).setImportedNamespace("baz.*");
+		assertEquals("[baz.*]", provider.getImportedNamespaceResolvers(a, false).toString());
+
+		CustomImportsScopeProvider customProvider = get(CustomImportsScopeProvider.class);
+		importsOfA = customProvider.getImportedNamespaceResolvers(a, false);
+		((Datatype) e.getElements().get(1)).setName("Context");
+		assertNotSame(importsOfA, customProvider.getImportedNamespaceResolvers(a, false));
+	}
+
 	@Test public void testImportsWithoutWildcard() throws Exception {
 		final XtextResource resource = getResource(new StringInputStream(
 				  "foo { " 
@@ -66,6 +66,21 @@ public class ScopeTest extends Assert {
 		assertFalse(iterator.hasNext());
 	}
 
+	@Test public void testPrefixQueryFallsBackToAllElements() throws Exception {
+		final IEObjectDescription a = EObjectDescription.create(QualifiedName.create("foo"), EcorePackage.Literals.EANNOTATION);
+		final IEObjectDescription b = EObjectDescription.create(QualifiedName.create("bar"), EcorePackage.Literals.EATTRIBUTE);
+		SimpleScope outer = new SimpleScope(singleton(b), false);
+		SimpleScope scope = new SimpleScope(outer, singleton(a)) {
+			@Override
+			public Iterable<IEObjectDescription> getAllElements() {
+				return Iterables.concat(super.getAllElements(), singleton(EObjectDescription.create(
+						QualifiedName.create("fooBar"), EcorePackage.Literals.EBYTE)));
+			}
+		};
+		assertEquals(2, Iterables.size(scope.getElementsByPrefix(QualifiedName.create("FOO"))));
+		assertEquals(1, Iterables.size(new SimpleScope(outer, singleton(a)).getElementsByPrefix(QualifiedName.create("FOO"))));
+	}
+
 	static class LazinessTestScope extends AbstractScope {
 
 		private String name;
@@ -14,6 +14,7 @@ import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.common.notify.impl.AdapterImpl;
 import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
 import org.eclipse.emf.ecore.EcoreFactory;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.Resource.Diagnostic;
@@ -77,6 +78,99 @@ public class OnChangeEvictingCacheAdapterTest extends Assert {
 		assertIsSet(ca);
 	}
 	
+	@Test
+	public void testSubtreeValues() throws Exception {
+		EcoreFactory factory = EcoreFactory.eINSTANCE;
+		EPackage ePackage = factory.createEPackage();
+		EClass first = factory.createEClass();
+		EClass second = factory.createEClass();
+		ePackage.getEClassifiers().add(first);
+		ePackage.getEClassifiers().add(second);
+		EAttribute attribute = factory.createEAttribute();
+		first.getEStructuralFeatures().add(attribute);
+		Resource resource = new ResourceImpl();
+		resource.getContents().add(ePackage);
+		OnChangeEvictingCache cache = new OnChangeEvictingCache();
+		CacheAdapter ca = cache.getOrCreate(resource);
+		setValue(ca);
+		assertEquals("first", cache.getForSubtree(key, first, () -> "first"));
+		assertEquals("second", cache.getForSubtree("other", second, () -> "second"));
+		assertEquals("first", ca.getForSubtree(key, first));
+
+		// a change in the subtree evicts the value
+		attribute.setName("a");
+		assertIsNull(ca);
+		assertNull(ca.getForSubtree(key, first));
+		assertEquals("second", ca.getForSubtree("other", second));
+		setValue(ca);
+		ca.setForSubtree(key, first, "first");
+
+		// a change of a container does not
+		ePackage.setName("p");
+		assertIsNull(ca);
+		assertEquals("first", ca.getForSubtree(key, first));
+		assertEquals("second", ca.getForSubtree("other", second));
+
+		// removing the subtree evicts the value
+		ePackage.getEClassifiers().remove(second);
+		assertEquals("first", ca.getForSubtree(key, first));
+		assertNull(ca.getForSubtree("other", second));
+
+		// changes of the resource contents evict all values
+		resource.getContents().add(factory.createEPackage());
+		assertNull(ca.getForSubtree(key, first));
+	}
+
+	@Test
+	public void testSameKeyForDifferentSubtrees() throws Exception {
+		EcoreFactory factory = EcoreFactory.eINSTANCE;
+		EPackage ePackage = factory.createEPackage();
+		EClass first = factory.createEClass();
+		EClass second = factory.createEClass();
+		ePackage.getEClassifiers().add(first);
+		ePackage.getEClassifiers().add(second);
+		Resource resource = new ResourceImpl();
+		resource.getContents().add(ePackage);
+		OnChangeEvictingCache cache = new OnChangeEvictingCache();
+		assertEquals("first", cache.getForSubtree(key, first, () -> "first"));
+		assertEquals("second", cache.getForSubtree(key, second, () -> "second"));
+		assertEquals("first", cache.getForSubtree(key, first, () -> "other"));
+		assertEquals("second", cache.getForSubtree(key, second, () -> "other"));
+
+		// a change of one subtree keeps the value of the other one
+		first.setName("First");
+		CacheAdapter ca = cache.getOrCreate(resource);
+		assertNull(ca.getForSubtree(key, first));
+		assertEquals("second", ca.getForSubtree(key, second));
+	}
+
+	@Test
+	public void testTemporarySubtreeValues() throws Exception {
+		EcoreFactory factory = EcoreFactory.eINSTANCE;
+		EPackage ePackage = factory.createEPackage();
+		EClass first = factory.createEClass();
+		ePackage.getEClassifiers().add(first);
+		Resource resource = new ResourceImpl();
+		resource.getContents().add(ePackage);
+		OnChangeEvictingCache cache = new OnChangeEvictingCache();
+		cache.execWithTemporaryCaching(resource, (Resource it) -> {
+			assertEquals("first", cache.getForSubtree(key, first, () -> "first"));
+			assertEquals("first", cache.getForSubtree(key, first, () -> "other"));
+			return null;
+		});
+		CacheAdapter ca = cache.getOrCreate(resource);
+		assertNull(ca.getForSubtree(key, first));
+		assertEquals("second", cache.getForSubtree(key, first, () -> "second"));
+	}
+
+	@Test
+	public void testSubtreeValuesWithoutResource() throws Exception {
+		EClass eClass = EcoreFactory.eINSTANCE.createEClass();
+		OnChangeEvictingCache cache = new OnChangeEvictingCache();
+		assertEquals("first", cache.getForSubtree(key, eClass, () -> "first"));
+		assertEquals("second", cache.getForSubtree(key, eClass, () -> "second"));
+	}
+
 	private void assertIsSet(CacheAdapter ca) {
 		assertEquals(value, ca.get(key));
 	}
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PersistentHashMapTest extends Assert {
+
+	/**
+	 * Key with a configurable hash code to provoke collisions.
+	 */
+	private static class Key {
+		private final String name;
+		private final int hash;
+
+		Key(String name, int hash) {
+			this.name = name;
+			this.hash = hash;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Key && ((Key) obj).name.equals(name);
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+
+	@Test public void testEmpty() {
+		PersistentHashMap<String, String> map = PersistentHashMap.of();
+		assertTrue(map.isEmpty());
+		assertNull(map.get("a"));
+		assertFalse(map.entrySet().iterator().hasNext());
+		assertSame(map, map.minus("a"));
+	}
+
+	@Test public void testPlusMinus() {
+		PersistentHashMap<String, String> empty = PersistentHashMap.of();
+		PersistentHashMap<String, String> one = empty.plus("a", "A");
+		PersistentHashMap<String, String> two = one.plus("b", "B");
+		assertEquals(0, empty.size());
+		assertEquals(1, one.size());
+		assertEquals(2, two.size());
+		assertEquals("A", two.get("a"));
+		assertEquals("B", two.get("b"));
+		assertNull(one.get("b"));
+		PersistentHashMap<String, String> removed = two.minus("a");
+		assertEquals(1, removed.size());
+		assertNull(removed.get("a"));
+		assertEquals("A", two.get("a"));
+	}
+
+	@Test public void testPlusIdenticalValue() {
+		String value = "A";
+		PersistentHashMap<String, String> map = PersistentHashMap.<String, String>of().plus("a", value);
+		assertSame(map, map.plus("a", value));
+		PersistentHashMap<String, String> replaced = map.plus("a", "B");
+		assertEquals(1, replaced.size());
+		assertEquals("B", replaced.get("a"));
+		assertEquals("A", map.get("a"));
+	}
+
+	@Test public void testCollisions() {
+		Key a = new Key("a", 42);
+		Key b = new Key("b", 42);
+		Key c = new Key("c", 42);
+		Key d = new Key("d", 43);
+		PersistentHashMap<Key, String> map = PersistentHashMap.<Key, String>of().plus(a, "a").plus(b, "b").plus(c, "c").plus(d, "d");
+		assertEquals(4, map.size());
+		assertEquals("a", map.get(a));
+		assertEquals("b", map.get(b));
+		assertEquals("c", map.get(c));
+		assertEquals("d", map.get(d));
+		assertNull(map.get(new Key("e", 42)));
+		map = map.minus(b);
+		assertEquals(3, map.size());
+		assertNull(map.get(b));
+		assertEquals("c", map.get(c));
+		map = map.minus(a).minus(c);
+		assertEquals(1, map.size());
+		assertEquals("d", map.get(d));
+		assertEquals(map, new HashMap<>(map));
+	}
+
+	@Test public void testRandomOperations() {
+		Random random = new Random(4711);
+		Map<Integer, Integer> expected = new HashMap<>();
+		PersistentHashMap<Integer, Integer> actual = PersistentHashMap.of();
+		for (int i = 0; i < 100000; i++) {
+			Integer key = random.nextInt(5000) * 65536;
+			if (random.nextInt(3) == 0) {
+				expected.remove(key);
+				actual = actual.minus(key);
+			} else {
+				expected.put(key, i);
+				actual = actual.plus(key, i);
+			}
+			assertEquals(expected.size(), actual.size());
+		}
+		assertEquals(expected, actual);
+		assertEquals(actual, expected);
+		int count = 0;
+		for (Map.Entry<Integer, Integer> entry : actual.entrySet()) {
+			assertEquals(expected.get(entry.getKey()), entry.getValue());
+			count++;
+		}
+		assertEquals(expected.size(), count);
+	}
+
+	@Test public void testSnapshotsAreIndependent() {
+		PersistentHashMap<Integer, String> map = PersistentHashMap.of();
+		for (int i = 0; i < 1000; i++) {
+			map = map.plus(i, String.valueOf(i));
+		}
+		PersistentHashMap<Integer, String> snapshot = map;
+		for (int i = 0; i < 1000; i += 2) {
+			map = map.minus(i);
+		}
+		assertEquals(1000, snapshot.size());
+		assertEquals(500, map.size());
+		for (int i = 0; i < 1000; i++) {
+			assertEquals(String.valueOf(i), snapshot.get(i));
+			assertEquals(i % 2 == 0 ? null : String.valueOf(i), map.get(i));
+		}
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testPutIsUnsupported() {
+		PersistentHashMap.<String, String>of().put("a", "a");
+	}
+}
@@ -278,6 +278,54 @@ public class PolymorphicDispatcherTest extends Assert {
 		assertEquals("Number_42", dispatcher.invoke(BigInteger.valueOf(42)));
 	}
 
+	@Test public void testManyArgumentTypes() {
+		Object o1 = new Object() {
+			String label(Integer i, Object o) {
+				return "Integer_Object";
+			}
+
+			String label(Number n, String s) {
+				return "Number_String";
+			}
+
+			String label(Object o, Object p) {
+				return "Object_Object";
+			}
+		};
+		PolymorphicDispatcher<String> dispatcher = new PolymorphicDispatcher<String>("label", 2, 2, Lists.newArrayList(o1));
+		List<Object> args = Lists.<Object>newArrayList(Integer.valueOf(1), Long.valueOf(2), "s", new StringBuilder(),
+				BigInteger.ONE, Double.valueOf(3), Boolean.TRUE, new Object(), Character.valueOf('c'));
+		for (int round = 0; round < 2; round++) {
+			for (Object first : args) {
+				for (Object second : args) {
+					String expected = first instanceof Integer ? "Integer_Object"
+							: first instanceof Number && second instanceof String ? "Number_String" : "Object_Object";
+					assertEquals(first + ", " + second, expected, dispatcher.invoke(first, second));
+				}
+			}
+		}
+	}
+
+	@Test public void testNullForPrimitive() {
+		Object o1 = new Object() {
+			String label(int i) {
+				return "int_" + i;
+			}
+		};
+		List<Throwable> errors = new ArrayList<Throwable>();
+		PolymorphicDispatcher<String> dispatcher = new PolymorphicDispatcher<String>("label", 1, 1,
+				Lists.newArrayList(o1), new PolymorphicDispatcher.ErrorHandler<String>() {
+					@Override
+					public String handle(Object[] params, Throwable throwable) {
+						errors.add(throwable);
+						return "error";
+					}
+				});
+		assertEquals("int_1", dispatcher.invoke(1));
+		assertEquals("error", dispatcher.invoke((Object) null));
+		assertTrue(errors.get(0) instanceof IllegalArgumentException);
+	}
+
 	@Retention(RetentionPolicy.RUNTIME)
 	@Target({ ElementType.METHOD })
 	private @interface TestLabelAnnotation {
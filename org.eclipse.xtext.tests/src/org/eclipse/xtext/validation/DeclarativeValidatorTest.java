@@ -16,6 +16,7 @@ import org.eclipse.emf.common.util.BasicDiagnostic;
 import org.eclipse.emf.common.util.Diagnostic;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EcoreFactory;
 import org.eclipse.emf.ecore.EcorePackage;
@@ -120,6 +121,60 @@ public class DeclarativeValidatorTest extends Assert {
 		assertTrue(diagnostics.toString(), diagnostics.isEmpty());
 	}
 
+	@Test public void testCheckMethodModifiers() throws Exception {
+		AbstractDeclarativeValidator test = new AbstractDeclarativeValidator() {
+			@Check
+			private void privateCheck(EClass x) {
+				error("private", EcorePackage.Literals.ENAMED_ELEMENT__NAME);
+			}
+
+			@Check
+			protected boolean checkWithResult(EClassifier x) {
+				error("result", EcorePackage.Literals.ECLASS__ABSTRACT);
+				return true;
+			}
+		};
+		TestChain chain = helper.chain();
+		test.validate(EcorePackage.eINSTANCE.getEClass(), chain, null);
+		helper.assertMatch(chain, 
+				EcorePackage.Literals.ENAMED_ELEMENT__NAME, 
+				EcorePackage.Literals.ECLASS__ABSTRACT);
+	}
+
+	@Test public void testCustomCheckMode() throws Exception {
+		AbstractDeclarativeValidator test = new AbstractDeclarativeValidator() {
+			@Check(CheckType.FAST)
+			public void fast(EClass x) {
+				error("fast", EcorePackage.Literals.ENAMED_ELEMENT__NAME);
+			}
+
+			@Check(CheckType.NORMAL)
+			public void normal(EClass x) {
+				error("normal", EcorePackage.Literals.ECLASS__ABSTRACT);
+			}
+
+			@Check(CheckType.EXPENSIVE)
+			public void expensive(EClass x) {
+				error("expensive", EcorePackage.Literals.ECLASS__EALL_ATTRIBUTES);
+			}
+		};
+		CheckMode expensiveOrFast = new CheckMode() {
+			@Override
+			public boolean shouldCheck(CheckType type) {
+				return type != CheckType.NORMAL;
+			}
+		};
+		TestChain chain = helper.chain();
+		test.validate(EcorePackage.eINSTANCE.getEClass(), chain, Collections.<Object, Object>singletonMap(CheckMode.KEY, expensiveOrFast));
+		helper.assertMatch(chain, 
+				EcorePackage.Literals.ENAMED_ELEMENT__NAME, 
+				EcorePackage.Literals.ECLASS__EALL_ATTRIBUTES);
+
+		chain = helper.chain();
+		test.validate(EcorePackage.eINSTANCE.getEClass(), chain, Collections.<Object, Object>singletonMap(CheckMode.KEY, CheckMode.NORMAL_ONLY));
+		helper.assertMatch(chain, EcorePackage.Literals.ECLASS__ABSTRACT);
+	}
+
 	@SuppressWarnings("serial")
 	@Test public void testCheckModeSettedProperly() throws Exception {
 		AbstractDeclarativeValidator test = helper.validator();
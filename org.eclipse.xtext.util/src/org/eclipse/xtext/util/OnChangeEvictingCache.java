@@ -12,16 +12,20 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.util.WrappedException;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.util.concurrent.IUnitOfWork;
 
+import com.google.common.annotations.Beta;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import com.google.inject.Provider;
@@ -33,6 +37,9 @@ import com.google.inject.Singleton;
  * Clients may override this behavior for certain transactions by means of {@link #execWithoutCacheClear(Resource, IUnitOfWork)}
  * or {@link #execWithTemporaryCaching(Resource, IUnitOfWork)}.
  * 
+ * Values that depend only on a subtree of the resource can be cached with {@link #getForSubtree(Object, EObject, Provider)}.
+ * They survive changes outside of that subtree.
+ * 
  * @author Sven Efftinge - Initial contribution and API
  * @author Sebastian Zarnekow
  */
@@ -88,6 +95,46 @@ public class OnChangeEvictingCache implements IResourceScopeCache {
 		return element;
 	}
 	
+	/**
+	 * Try to obtain the value that is cached for the given key in the resource of the given subtree. If no value is
+	 * cached, the provider is used to compute it and store it afterwards.
+	 * 
+	 * The value is only evicted when a semantic change is notified by the root of the subtree or by one of its
+	 * descendants, when the subtree is removed from the resource or when the contents of the resource change. Other
+	 * changes leave it untouched, so the provider may not use anything but the subtree. The same key may be used for
+	 * different subtrees. Keys of such values are independent of the keys of the values that are cached by
+	 * {@link #get(Object, Resource, Provider)}.
+	 * 
+	 * @param key
+	 *            the cache key. May not be <code>null</code>.
+	 * @param subtree
+	 *            the root of the subtree the value depends on. If it is not contained in a resource, the provider will
+	 *            be used to compute the value.
+	 * @param provider
+	 *            the strategy to compute the value if necessary. May not be <code>null</code>.
+	 * @since 2.36
+	 */
+	@Beta
+	public <T> T getForSubtree(Object key, EObject subtree, Provider<T> provider) {
+		Resource resource = subtree.eResource();
+		if (resource == null) {
+			return provider.get();
+		}
+		CacheAdapter adapter = getOrCreate(resource);
+		T element = adapter.<T>internalGetForSubtree(key, subtree);
+		if (element == null) {
+			element = provider.get();
+			cacheMiss(adapter);
+			adapter.setForSubtree(key, subtree, element);
+		} else {
+			cacheHit(adapter);
+		}
+		if (element == CacheAdapter.NULL) {
+			return null;
+		}
+		return element;
+	}
+
 	/**
 	 * Announce a cache miss for the internal statistics of the adapter.
 	 * @since 2.1
@@ -171,6 +218,7 @@ public class OnChangeEvictingCache implements IResourceScopeCache {
 	
 	private static class IgnoreValuesMemento {
 		private final List<Object> keys = Lists.newArrayList();
+		private final List<Pair<Object, EObject>> subtreeKeys = Lists.newArrayList();
 		private final IgnoreValuesMemento previous;
 		private final CacheAdapter adapter;
 		
@@ -182,15 +230,22 @@ public class OnChangeEvictingCache implements IResourceScopeCache {
 		
 		private void done() {
 			if (log.isDebugEnabled()) {
-				log.debug(String.format("Discarding %d temporary cache entries", keys.size()));
+				log.debug(String.format("Discarding %d temporary cache entries", keys.size() + subtreeKeys.size()));
 			}
 			adapter.values.keySet().removeAll(keys);
+			for (Pair<Object, EObject> subtreeKey : subtreeKeys) {
+				adapter.removeSubtreeValue(subtreeKey.getFirst(), subtreeKey.getSecond());
+			}
 			adapter.ignoreValuesMemento = previous;
 		}
 
 		private void storeKey(Object name) {
 			this.keys.add(name);
 		}
+
+		private void storeSubtreeKey(Object name, EObject subtree) {
+			this.subtreeKeys.add(Tuples.create(name, subtree));
+		}
 	}
 
 	public static class CacheAdapter extends NonRecursiveEContentAdapter {
@@ -199,6 +254,10 @@ public class OnChangeEvictingCache implements IResourceScopeCache {
 		
 		private final Map<Object, Object> values;
 
+		private final Map<Pair<Object, EObject>, Object> subtreeValues = new ConcurrentHashMap<Pair<Object, EObject>, Object>();
+
+		private final Map<EObject, Set<Object>> subtreeKeys = new ConcurrentHashMap<EObject, Set<Object>>();
+
 		private final Collection<Listener> listeners = Sets.newLinkedHashSet();
 		
 		private final AtomicInteger ignoreNotificationCounter = new AtomicInteger(0);
@@ -235,6 +294,46 @@ public class OnChangeEvictingCache implements IResourceScopeCache {
 			}
 		}
 
+		/**
+		 * Caches a value that is only evicted by changes of the given subtree.
+		 * 
+		 * @see OnChangeEvictingCache#getForSubtree(Object, EObject, Provider)
+		 * @since 2.36
+		 */
+		@Beta
+		public void setForSubtree(Object name, EObject subtree, Object value) {
+			subtreeKeys.computeIfAbsent(subtree, k -> ConcurrentHashMap.newKeySet()).add(name);
+			subtreeValues.put(Tuples.create(name, subtree), value != null ? value : NULL);
+			IgnoreValuesMemento ignoreValuesMemento = this.ignoreValuesMemento;
+			if (ignoreValuesMemento != null) {
+				ignoreValuesMemento.storeSubtreeKey(name, subtree);
+			}
+		}
+
+		/**
+		 * @since 2.36
+		 */
+		@Beta
+		public <T> T getForSubtree(Object name, EObject subtree) {
+			T result = internalGetForSubtree(name, subtree);
+			if (result != NULL)
+				return result;
+			return null;
+		}
+
+		@SuppressWarnings("unchecked")
+		private <T> T internalGetForSubtree(Object name, EObject subtree) {
+			return (T) subtreeValues.get(Tuples.create(name, subtree));
+		}
+
+		private void removeSubtreeValue(Object name, EObject subtree) {
+			subtreeValues.remove(Tuples.create(name, subtree));
+			subtreeKeys.computeIfPresent(subtree, (k, keys) -> {
+				keys.remove(name);
+				return keys.isEmpty() ? null : keys;
+			});
+		}
+
 		/**
 		 * @since 2.1
 		 */
@@ -292,7 +391,11 @@ public class OnChangeEvictingCache implements IResourceScopeCache {
 		public void notifyChanged(Notification notification) {
 			super.notifyChanged(notification);
 			if (ignoreNotificationCounter.get() == 0 && isSemanticStateChange(notification)) {
-				clearValues();
+				if (subtreeValues.isEmpty() || !(notification.getNotifier() instanceof EObject)) {
+					clearValues();
+				} else {
+					clearValues(notification);
+				}
 				Iterator<Listener> iter = listeners.iterator();
 				while(iter.hasNext()) {
 					Listener next = iter.next();
@@ -303,6 +406,43 @@ public class OnChangeEvictingCache implements IResourceScopeCache {
 		}
 
 		public void clearValues() {
+			clearResourceValues();
+			subtreeValues.clear();
+			subtreeKeys.clear();
+		}
+
+		/**
+		 * Clears all values that are affected by the given change of an object in the resource. These are all values
+		 * that depend on the complete resource and the values that depend on a subtree that contains the changed
+		 * object or that is no longer part of the resource.
+		 * 
+		 * @since 2.36
+		 */
+		protected void clearValues(Notification notification) {
+			clearResourceValues();
+			for (EObject object = (EObject) notification.getNotifier(); object != null; object = object.eContainer()) {
+				evictSubtree(object);
+			}
+			Object feature = notification.getFeature();
+			if (feature instanceof EReference && ((EReference) feature).isContainment()) {
+				for (EObject subtree : subtreeKeys.keySet()) {
+					if (subtree.eResource() != resource) {
+						evictSubtree(subtree);
+					}
+				}
+			}
+		}
+
+		private void evictSubtree(EObject subtree) {
+			Set<Object> keys = subtreeKeys.remove(subtree);
+			if (keys != null) {
+				for (Object key : keys) {
+					subtreeValues.remove(Tuples.create(key, subtree));
+				}
+			}
+		}
+
+		private void clearResourceValues() {
 			if (!empty) {
 				if (log.isDebugEnabled()) {
 					String lastSegment = resource != null && resource.getURI() != null ? resource.getURI().lastSegment() : "null";
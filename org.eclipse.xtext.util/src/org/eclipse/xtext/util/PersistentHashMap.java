@@ -0,0 +1,423 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.google.common.annotations.Beta;
+
+/**
+ * An immutable map that is implemented as a hash array mapped trie (HAMT). Modifications via
+ * {@link #plus(Object, Object)} and {@link #minus(Object)} return a new map that shares all untouched
+ * nodes with the receiver, so only the path from the root to the modified entry is copied. Copying
+ * the map is therefore never necessary, a reference to an instance is a stable snapshot.
+ *
+ * The mutating methods of the {@link java.util.Map} interface are not supported. The iteration order
+ * is determined by the hash codes of the keys. {@code null} keys are not permitted.
+ *
+ * @since 2.36
+ */
+@Beta
+public final class PersistentHashMap<K, V> extends AbstractMap<K, V> {
+
+	private static final int BITS = 5;
+
+	private static final int MASK = (1 << BITS) - 1;
+
+	/*
+	 * 32 bit hash with 5 bits per level yields at most 7 levels of bitmap indexed nodes plus one collision node.
+	 */
+	private static final int MAX_DEPTH = 8;
+
+	private static final PersistentHashMap<Object, Object> EMPTY = new PersistentHashMap<>(null, 0);
+
+	@SuppressWarnings("unchecked")
+	public static <K, V> PersistentHashMap<K, V> of() {
+		return (PersistentHashMap<K, V>) EMPTY;
+	}
+
+	private final Node root;
+
+	private final int size;
+
+	private PersistentHashMap(Node root, int size) {
+		this.root = root;
+		this.size = size;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		if (root == null || key == null) {
+			return null;
+		}
+		return (V) root.find(0, hash(key), key);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get(key) != null;
+	}
+
+	/**
+	 * Returns a map that contains all the entries of this map and the given mapping. If the key was
+	 * already mapped to the identical value, the receiver is returned.
+	 *
+	 * @param key
+	 *            the key, must not be {@code null}
+	 * @param value
+	 *            the value, must not be {@code null}
+	 */
+	public PersistentHashMap<K, V> plus(K key, V value) {
+		if (key == null || value == null) {
+			throw new NullPointerException("key and value may not be null");
+		}
+		boolean[] added = new boolean[1];
+		Node newRoot = (root == null ? BitmapIndexedNode.EMPTY : root).assoc(0, hash(key), key, value, added);
+		if (newRoot == root) {
+			return this;
+		}
+		return new PersistentHashMap<>(newRoot, added[0] ? size + 1 : size);
+	}
+
+	/**
+	 * Returns a map that contains all the entries of this map except the one for the given key. If the
+	 * key was not mapped, the receiver is returned.
+	 */
+	public PersistentHashMap<K, V> minus(Object key) {
+		if (root == null || key == null) {
+			return this;
+		}
+		Node newRoot = root.without(0, hash(key), key);
+		if (newRoot == root) {
+			return this;
+		}
+		if (newRoot == null) {
+			return of();
+		}
+		return new PersistentHashMap<>(newRoot, size - 1);
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new AbstractSet<Entry<K, V>>() {
+			@Override
+			public Iterator<Entry<K, V>> iterator() {
+				return new EntryIterator<>(root);
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	private static int hash(Object key) {
+		int h = key.hashCode();
+		return h ^ (h >>> 16);
+	}
+
+	private static int bitpos(int hash, int shift) {
+		return 1 << ((hash >>> shift) & MASK);
+	}
+
+	private static Object[] cloneAndSet(Object[] array, int i, Object a) {
+		Object[] result = array.clone();
+		result[i] = a;
+		return result;
+	}
+
+	private static Object[] cloneAndSet(Object[] array, int i, Object a, int j, Object b) {
+		Object[] result = array.clone();
+		result[i] = a;
+		result[j] = b;
+		return result;
+	}
+
+	private static Object[] removePair(Object[] array, int i) {
+		Object[] result = new Object[array.length - 2];
+		System.arraycopy(array, 0, result, 0, 2 * i);
+		System.arraycopy(array, 2 * (i + 1), result, 2 * i, result.length - 2 * i);
+		return result;
+	}
+
+	private static Node createNode(int shift, Object key1, Object value1, int hash2, Object key2, Object value2) {
+		int hash1 = hash(key1);
+		if (hash1 == hash2) {
+			return new CollisionNode(hash1, new Object[] { key1, value1, key2, value2 });
+		}
+		boolean[] added = new boolean[1];
+		return BitmapIndexedNode.EMPTY
+				.assoc(shift, hash1, key1, value1, added)
+				.assoc(shift, hash2, key2, value2, added);
+	}
+
+	/**
+	 * Nodes store their content in an array of alternating keys and values. A {@code null} key denotes
+	 * that the value is a nested node.
+	 */
+	private static abstract class Node {
+		final Object[] array;
+
+		Node(Object[] array) {
+			this.array = array;
+		}
+
+		abstract Object find(int shift, int hash, Object key);
+
+		abstract Node assoc(int shift, int hash, Object key, Object value, boolean[] added);
+
+		/**
+		 * Returns {@code this} if the key was not found or {@code null} if the resulting node would be empty.
+		 */
+		abstract Node without(int shift, int hash, Object key);
+	}
+
+	private static final class BitmapIndexedNode extends Node {
+		static final BitmapIndexedNode EMPTY = new BitmapIndexedNode(0, new Object[0]);
+
+		final int bitmap;
+
+		BitmapIndexedNode(int bitmap, Object[] array) {
+			super(array);
+			this.bitmap = bitmap;
+		}
+
+		private int index(int bit) {
+			return Integer.bitCount(bitmap & (bit - 1));
+		}
+
+		@Override
+		Object find(int shift, int hash, Object key) {
+			int bit = bitpos(hash, shift);
+			if ((bitmap & bit) == 0) {
+				return null;
+			}
+			int idx = index(bit);
+			Object keyOrNull = array[2 * idx];
+			Object valueOrNode = array[2 * idx + 1];
+			if (keyOrNull == null) {
+				return ((Node) valueOrNode).find(shift + BITS, hash, key);
+			}
+			if (key.equals(keyOrNull)) {
+				return valueOrNode;
+			}
+			return null;
+		}
+
+		@Override
+		Node assoc(int shift, int hash, Object key, Object value, boolean[] added) {
+			int bit = bitpos(hash, shift);
+			int idx = index(bit);
+			if ((bitmap & bit) != 0) {
+				Object keyOrNull = array[2 * idx];
+				Object valueOrNode = array[2 * idx + 1];
+				if (keyOrNull == null) {
+					Node n = ((Node) valueOrNode).assoc(shift + BITS, hash, key, value, added);
+					if (n == valueOrNode) {
+						return this;
+					}
+					return new BitmapIndexedNode(bitmap, cloneAndSet(array, 2 * idx + 1, n));
+				}
+				if (key.equals(keyOrNull)) {
+					if (value == valueOrNode) {
+						return this;
+					}
+					return new BitmapIndexedNode(bitmap, cloneAndSet(array, 2 * idx + 1, value));
+				}
+				added[0] = true;
+				return new BitmapIndexedNode(bitmap, cloneAndSet(array, 2 * idx, null, 2 * idx + 1,
+						createNode(shift + BITS, keyOrNull, valueOrNode, hash, key, value)));
+			}
+			Object[] newArray = new Object[array.length + 2];
+			System.arraycopy(array, 0, newArray, 0, 2 * idx);
+			newArray[2 * idx] = key;
+			newArray[2 * idx + 1] = value;
+			System.arraycopy(array, 2 * idx, newArray, 2 * (idx + 1), array.length - 2 * idx);
+			added[0] = true;
+			return new BitmapIndexedNode(bitmap | bit, newArray);
+		}
+
+		@Override
+		Node without(int shift, int hash, Object key) {
+			int bit = bitpos(hash, shift);
+			if ((bitmap & bit) == 0) {
+				return this;
+			}
+			int idx = index(bit);
+			Object keyOrNull = array[2 * idx];
+			Object valueOrNode = array[2 * idx + 1];
+			if (keyOrNull == null) {
+				Node n = ((Node) valueOrNode).without(shift + BITS, hash, key);
+				if (n == valueOrNode) {
+					return this;
+				}
+				if (n != null) {
+					if (n.array.length == 2 && n.array[0] != null) {
+						// inline a nested node that holds a single entry
+						return new BitmapIndexedNode(bitmap, cloneAndSet(array, 2 * idx, n.array[0], 2 * idx + 1, n.array[1]));
+					}
+					return new BitmapIndexedNode(bitmap, cloneAndSet(array, 2 * idx + 1, n));
+				}
+			} else if (!key.equals(keyOrNull)) {
+				return this;
+			}
+			if (bitmap == bit) {
+				return null;
+			}
+			return new BitmapIndexedNode(bitmap ^ bit, removePair(array, idx));
+		}
+	}
+
+	private static final class CollisionNode extends Node {
+		final int hash;
+
+		CollisionNode(int hash, Object[] array) {
+			super(array);
+			this.hash = hash;
+		}
+
+		private int indexOf(Object key) {
+			for (int i = 0; i < array.length; i += 2) {
+				if (key.equals(array[i])) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		@Override
+		Object find(int shift, int hash, Object key) {
+			if (hash != this.hash) {
+				return null;
+			}
+			int idx = indexOf(key);
+			if (idx < 0) {
+				return null;
+			}
+			return array[idx + 1];
+		}
+
+		@Override
+		Node assoc(int shift, int hash, Object key, Object value, boolean[] added) {
+			if (hash == this.hash) {
+				int idx = indexOf(key);
+				if (idx >= 0) {
+					if (array[idx + 1] == value) {
+						return this;
+					}
+					return new CollisionNode(hash, cloneAndSet(array, idx + 1, value));
+				}
+				Object[] newArray = new Object[array.length + 2];
+				System.arraycopy(array, 0, newArray, 0, array.length);
+				newArray[array.length] = key;
+				newArray[array.length + 1] = value;
+				added[0] = true;
+				return new CollisionNode(hash, newArray);
+			}
+			return new BitmapIndexedNode(bitpos(this.hash, shift), new Object[] { null, this })
+					.assoc(shift, hash, key, value, added);
+		}
+
+		@Override
+		Node without(int shift, int hash, Object key) {
+			if (hash != this.hash) {
+				return this;
+			}
+			int idx = indexOf(key);
+			if (idx < 0) {
+				return this;
+			}
+			if (array.length == 2) {
+				return null;
+			}
+			if (array.length == 4) {
+				int remaining = idx == 0 ? 2 : 0;
+				return new BitmapIndexedNode(bitpos(hash, shift), new Object[] { array[remaining], array[remaining + 1] });
+			}
+			return new CollisionNode(hash, removePair(array, idx / 2));
+		}
+	}
+
+	private static final class EntryIterator<K, V> implements Iterator<Entry<K, V>> {
+		private final Object[][] arrays = new Object[MAX_DEPTH + 1][];
+
+		private final int[] positions = new int[MAX_DEPTH + 1];
+
+		private int depth;
+
+		private Object nextKey;
+
+		private Object nextValue;
+
+		EntryIterator(Node root) {
+			if (root == null) {
+				depth = -1;
+			} else {
+				arrays[0] = root.array;
+			}
+			advance();
+		}
+
+		private void advance() {
+			while (depth >= 0) {
+				Object[] array = arrays[depth];
+				int pos = positions[depth];
+				if (pos >= array.length) {
+					arrays[depth] = null;
+					depth--;
+					continue;
+				}
+				positions[depth] = pos + 2;
+				Object keyOrNull = array[pos];
+				if (keyOrNull != null) {
+					nextKey = keyOrNull;
+					nextValue = array[pos + 1];
+					return;
+				}
+				depth++;
+				arrays[depth] = ((Node) array[pos + 1]).array;
+				positions[depth] = 0;
+			}
+			nextKey = null;
+			nextValue = null;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextKey != null;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Entry<K, V> next() {
+			if (nextKey == null) {
+				throw new NoSuchElementException();
+			}
+			Entry<K, V> result = new SimpleImmutableEntry<>((K) nextKey, (V) nextValue);
+			advance();
+			return result;
+		}
+	}
+}
@@ -11,20 +11,30 @@ package org.eclipse.xtext.util;
 
 import static org.eclipse.xtext.util.ReflectionUtil.*;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 
 import org.apache.log4j.Logger;
 
-import com.google.common.base.Function;
 import com.google.common.base.Predicate;
 
 /**
+ * Invokes the most specific of a set of methods for the runtime types of the given arguments.
+ * 
+ * The resolved methods are stored per tuple of argument types in a dispatch table, and the entry that was used last is
+ * checked first. A call that hits the table does not allocate. Unambiguous methods are invoked through a bound
+ * {@link MethodHandle method handle}.
+ * 
  * @author Sven Efftinge - Initial contribution and API
  */
 public class PolymorphicDispatcher<RT> {
@@ -99,6 +109,27 @@ public class PolymorphicDispatcher<RT> {
 		public String toString() {
 			return "'" + methodName + "'";
 		}
+
+		/**
+		 * @since 2.36
+		 */
+		@Override
+		public int hashCode() {
+			return Objects.hash(methodName, minParams, maxParams);
+		}
+
+		/**
+		 * @since 2.36
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (obj == null || getClass() != obj.getClass())
+				return false;
+			MethodNameFilter other = (MethodNameFilter) obj;
+			return methodName.equals(other.methodName) && minParams == other.minParams && maxParams == other.maxParams;
+		}
 		
 		public int getMaxParams() {
 			return maxParams;
@@ -247,39 +278,159 @@ public class PolymorphicDispatcher<RT> {
 		return compareTo;
 	}
 
-	private final SimpleCache<List<Class<?>>, List<MethodDesc>> cache =
-		new SimpleCache<List<Class<?>>, List<MethodDesc>>(
-			new Function<List<Class<?>>, List<MethodDesc>>() {
-				@Override
-				public List<MethodDesc> apply(List<Class<?>> paramTypes) {
-					// 'result' contains all best-matched MethodDesc for which 
-					// pairwise compare(m1, m2) == 0, meaning they're equal or unrelated. 
-					List<MethodDesc> result = new ArrayList<MethodDesc>();
-					Iterator<MethodDesc> iterator = methods.iterator();
-					NEXT: while (iterator.hasNext()) {
-						MethodDesc methodDesc = iterator.next();
-						if (methodDesc.isInvokeable(paramTypes)) {
-							if (result.isEmpty()) {
-								result.add(methodDesc);
-							} else {
-								Iterator<MethodDesc> it = result.iterator();
-								while(it.hasNext()) {
-									MethodDesc next = it.next();
-									int compare = compare(next, methodDesc);
-									if (compare < 0) {
-										it.remove();
-									} else if (compare > 0) {
-										continue NEXT;
-									}
-								}
-								result.add(methodDesc);
-							}
+	private List<MethodDesc> findMethods(List<Class<?>> paramTypes) {
+		// 'result' contains all best-matched MethodDesc for which 
+		// pairwise compare(m1, m2) == 0, meaning they're equal or unrelated. 
+		List<MethodDesc> result = new ArrayList<MethodDesc>();
+		Iterator<MethodDesc> iterator = methods.iterator();
+		NEXT: while (iterator.hasNext()) {
+			MethodDesc methodDesc = iterator.next();
+			if (methodDesc.isInvokeable(paramTypes)) {
+				if (result.isEmpty()) {
+					result.add(methodDesc);
+				} else {
+					Iterator<MethodDesc> it = result.iterator();
+					while(it.hasNext()) {
+						MethodDesc next = it.next();
+						int compare = compare(next, methodDesc);
+						if (compare < 0) {
+							it.remove();
+						} else if (compare > 0) {
+							continue NEXT;
 						}
 					}
-					return result;
+					result.add(methodDesc);
 				}
 			}
-		);
+		}
+		return result;
+	}
+
+	private static final MethodType INVOKE_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+	/**
+	 * The methods that were resolved for a tuple of argument types. Entries are immutable and chained per bucket of
+	 * the {@link PolymorphicDispatcher#dispatchTable dispatch table}.
+	 */
+	private static final class DispatchEntry {
+		private final Class<?>[] types;
+		private final int hash;
+		private final List<?> methods;
+		private final MethodHandle handle;
+		private final DispatchEntry next;
+
+		private DispatchEntry(Class<?>[] types, int hash, List<?> methods, MethodHandle handle, DispatchEntry next) {
+			this.types = types;
+			this.hash = hash;
+			this.methods = methods;
+			this.handle = handle;
+			this.next = next;
+		}
+	}
+
+	private volatile DispatchEntry lastEntry;
+
+	private volatile DispatchEntry[] dispatchTable = new DispatchEntry[16];
+
+	private int dispatchTableSize;
+
+	private Class<?> getType(Object[] params, int index) {
+		Object param = params[index];
+		if (param != null) {
+			return param.getClass();
+		}
+		return getDefaultClass(index);
+	}
+
+	private boolean matches(DispatchEntry entry, Object[] params) {
+		if (entry.types.length != params.length)
+			return false;
+		for (int i = 0; i < params.length; i++) {
+			if (entry.types[i] != getType(params, i))
+				return false;
+		}
+		return true;
+	}
+
+	private int hash(Object[] params) {
+		int result = params.length;
+		for (int i = 0; i < params.length; i++) {
+			result = 31 * result + Objects.hashCode(getType(params, i));
+		}
+		return result;
+	}
+
+	private DispatchEntry getDispatchEntry(Object[] params) {
+		DispatchEntry result = lastEntry;
+		if (result != null && matches(result, params))
+			return result;
+		int hash = hash(params);
+		DispatchEntry[] table = dispatchTable;
+		result = table[hash & (table.length - 1)];
+		while (result != null && (result.hash != hash || !matches(result, params))) {
+			result = result.next;
+		}
+		if (result == null) {
+			result = addDispatchEntry(params, hash);
+		}
+		lastEntry = result;
+		return result;
+	}
+
+	private synchronized DispatchEntry addDispatchEntry(Object[] params, int hash) {
+		DispatchEntry[] table = dispatchTable;
+		for (DispatchEntry entry = table[hash & (table.length - 1)]; entry != null; entry = entry.next) {
+			if (entry.hash == hash && matches(entry, params))
+				return entry;
+		}
+		Class<?>[] types = new Class<?>[params.length];
+		for (int i = 0; i < params.length; i++) {
+			types[i] = getType(params, i);
+		}
+		List<MethodDesc> resolved = findMethods(Arrays.asList(types));
+		MethodHandle handle = resolved.size() == 1 ? createMethodHandle(resolved.get(0)) : null;
+		DispatchEntry[] newTable;
+		if (dispatchTableSize >= table.length * 3 / 4) {
+			newTable = new DispatchEntry[table.length * 2];
+			for (DispatchEntry head : table) {
+				for (DispatchEntry entry = head; entry != null; entry = entry.next) {
+					int index = entry.hash & (newTable.length - 1);
+					newTable[index] = new DispatchEntry(entry.types, entry.hash, entry.methods, entry.handle, newTable[index]);
+				}
+			}
+		} else {
+			newTable = table.clone();
+		}
+		int index = hash & (newTable.length - 1);
+		DispatchEntry result = new DispatchEntry(types, hash, resolved, handle, newTable[index]);
+		newTable[index] = result;
+		dispatchTableSize++;
+		dispatchTable = newTable;
+		return result;
+	}
+
+	/**
+	 * Returns a handle that takes the arguments as an array, or <code>null</code> if the method has to be invoked
+	 * reflectively. That is the case for methods with primitive parameters since they reject <code>null</code>
+	 * arguments with an {@link IllegalArgumentException}.
+	 */
+	private MethodHandle createMethodHandle(MethodDesc methodDesc) {
+		Method method = methodDesc.getMethod();
+		for (Class<?> parameterType : method.getParameterTypes()) {
+			if (parameterType.isPrimitive())
+				return null;
+		}
+		try {
+			method.setAccessible(true);
+			MethodHandle result = MethodHandles.lookup().unreflect(method).asFixedArity();
+			if (!Modifier.isStatic(method.getModifiers())) {
+				result = result.bindTo(methodDesc.getTarget());
+			}
+			return result.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKE_TYPE);
+		} catch (IllegalAccessException | RuntimeException e) {
+			return null;
+		}
+	}
 
 	@SuppressWarnings("unchecked")
 	public RT invoke(Object... params) {
@@ -289,7 +440,8 @@ public class PolymorphicDispatcher<RT> {
 				throw new IllegalArgumentException("Wrong number of arguments. Expected "+filter.getMinParams()+" to "+filter.getMaxParams()+".");
 			}
 		}
-		List<MethodDesc> result = cache.get(getTypes(params));
+		DispatchEntry entry = getDispatchEntry(params);
+		List<MethodDesc> result = (List<MethodDesc>) entry.methods;
 		// check if ambiguous
 		if (result.size()>1)
 			return handleAmbigousMethods(result, params);
@@ -297,6 +449,16 @@ public class PolymorphicDispatcher<RT> {
 		if (result.isEmpty())
 			return handleNoSuchMethod(params);
 
+		if (entry.handle != null) {
+			try {
+				Object value = entry.handle.invokeExact(params);
+				return (RT) value;
+			} catch (Error e) {
+				throw e;
+			} catch (Throwable e) {
+				return handler.handle(params, e);
+			}
+		}
 		try {
 			MethodDesc current = result.get(0);
 			current.method.setAccessible(true);
@@ -320,22 +482,6 @@ public class PolymorphicDispatcher<RT> {
 		throw new IllegalStateException("Ambiguous methods " + result + " for params " + Arrays.toString(params));
 	}
 
-	/**
-	 * @param params
-	 * @return
-	 */
-	private List<Class<?>> getTypes(Object[] params) {
-		List<Class<?>> result = new ArrayList<Class<?>>(params.length);
-		for (int i = 0; i < params.length; i++) {
-			if (params[i]!=null) {
-				result.add(params[i].getClass());
-			} else {
-				result.add(getDefaultClass(i));
-			}
-		}
-		return result;
-	}
-
 	/**
 	 * @return {@code Void.class}
 	 */
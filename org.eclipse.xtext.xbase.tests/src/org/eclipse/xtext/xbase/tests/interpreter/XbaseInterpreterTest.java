@@ -54,6 +54,13 @@ public class XbaseInterpreterTest extends AbstractXbaseEvaluationTest {
 		assertEvaluatesTo("", "{ val x = new testdata.VisibilitySuperType() x.protectedProperty }", false);
 	}
 
+	@Test
+	public void testRepeatedInvocations() throws Exception {
+		assertEvaluatesTo(903L, "{ var sum = 0L for (i : 1..40) { sum = sum + Math.max(i, 3) + 'abc'.substring(1).length } sum }");
+		assertEvaluatesTo(40, "{ var caught = 0 for (i : 1..40) { try { 'abc'.substring(5) } catch (StringIndexOutOfBoundsException e) { caught = caught + 1 } } caught }");
+		assertEvaluatesTo("a, b", "{ var s = '' for (i : 1..40) { s = String.join(', ', 'a', 'b') } s }");
+	}
+
 	@Override
 	public void assertEvaluatesTo(Object expectation, String model) {
 		assertEvaluatesTo(expectation, model, true);
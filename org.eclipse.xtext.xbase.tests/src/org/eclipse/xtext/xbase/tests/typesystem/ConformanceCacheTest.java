@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.tests.typesystem;
+
+import static org.eclipse.xtext.xbase.typesystem.conformance.ConformanceFlags.*;
+
+import org.eclipse.xtext.xbase.typesystem.conformance.ConformanceCache;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConformanceCacheTest {
+
+	@Test
+	public void testKeyedByIdentifiersAndFlags() {
+		ConformanceCache cache = new ConformanceCache();
+		cache.put("java.util.List<java.lang.String>", "java.util.ArrayList<java.lang.String>", CHECKED, CHECKED | SUCCESS);
+		Assert.assertEquals(CHECKED | SUCCESS, cache.get("java.util.List<java.lang.String>", "java.util.ArrayList<java.lang.String>", CHECKED).intValue());
+		Assert.assertNull(cache.get("java.util.ArrayList<java.lang.String>", "java.util.List<java.lang.String>", CHECKED));
+		Assert.assertNull(cache.get("java.util.List<java.lang.String>", "java.util.ArrayList<java.lang.String>", CHECKED | RAW_TYPE));
+	}
+
+	@Test
+	public void testLeastRecentlyUsedResultsAreDiscarded() {
+		ConformanceCache cache = new ConformanceCache(2);
+		cache.put("A", "B", CHECKED, SUCCESS);
+		cache.put("A", "C", CHECKED, SUCCESS);
+		Assert.assertNotNull(cache.get("A", "B", CHECKED));
+		cache.put("A", "D", CHECKED, INCOMPATIBLE);
+		Assert.assertEquals(2, cache.size());
+		Assert.assertNotNull(cache.get("A", "B", CHECKED));
+		Assert.assertNull(cache.get("A", "C", CHECKED));
+		Assert.assertEquals(INCOMPATIBLE, cache.get("A", "D", CHECKED).intValue());
+		cache.clear();
+		Assert.assertEquals(0, cache.size());
+	}
+
+}
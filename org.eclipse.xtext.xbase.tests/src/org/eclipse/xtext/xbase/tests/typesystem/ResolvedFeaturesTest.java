@@ -14,11 +14,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.xtext.common.types.JvmDeclaredType;
+import org.eclipse.xtext.common.types.JvmFeature;
 import org.eclipse.xtext.common.types.JvmVisibility;
 import org.eclipse.xtext.xbase.XCastedExpression;
 import org.eclipse.xtext.xbase.XTypeLiteral;
 import org.eclipse.xtext.xbase.tests.AbstractXbaseTestCase;
 import org.eclipse.xtext.xbase.typesystem.override.IResolvedConstructor;
+import org.eclipse.xtext.xbase.typesystem.override.IResolvedFeatures;
 import org.eclipse.xtext.xbase.typesystem.override.IResolvedField;
 import org.eclipse.xtext.xbase.typesystem.override.IResolvedOperation;
 import org.eclipse.xtext.xbase.typesystem.override.OverrideHelper;
@@ -52,6 +54,9 @@ public class ResolvedFeaturesTest extends AbstractXbaseTestCase {
 	@Inject
 	private OverrideHelper overrideHelper;
 
+	@Inject
+	private IResolvedFeatures.Provider resolvedFeaturesProvider;
+
 	private static final String BASE_CLASS_METHOD_ERASED_SIGNATURE = "baseClassMethod(java.util.List)";
 
 	private static final String DERIVED_CLASS_METHOD_ERASED_SIGNATURE = "derivedClassMethod(java.util.List)";
@@ -231,4 +236,24 @@ public class ResolvedFeaturesTest extends AbstractXbaseTestCase {
 				FluentIterable.from(fields).firstMatch((IResolvedField it) -> Boolean.valueOf("queue".equals(it.getSimpleSignature())))
 						.get().getResolvedType().getHumanReadableName());
 	}
+
+	@Test
+	public void testAllFeaturesByName() throws Exception {
+		XTypeLiteral typeLiteral = (XTypeLiteral) expression("typeof(" + ResolvedFeaturesTest.DerivedClass.class.getCanonicalName() + ")");
+		IResolvedFeatures resolvedFeatures = resolvedFeaturesProvider.getResolvedFeatures(typeLiteral.getType());
+		List<JvmFeature> byName = resolvedFeatures.getAllFeatures("baseClassMethod");
+		Assert.assertEquals(1, byName.size());
+		List<JvmFeature> all = resolvedFeatures.getAllFeatures();
+		Assert.assertEquals(all, resolvedFeatures.getAllFeatures());
+		Assert.assertTrue(all.containsAll(byName));
+		Assert.assertTrue(all.containsAll(resolvedFeatures.getAllFeatures("hashCode")));
+		for (JvmFeature feature : all) {
+			Assert.assertTrue(feature.getSimpleName(), resolvedFeatures.getAllFeatures(feature.getSimpleName()).contains(feature));
+		}
+		Assert.assertTrue(resolvedFeatures.getAllFeatures("unknownMethod").isEmpty());
+		Assert.assertEquals(all, resolvedFeatures.getAllFeatures());
+		List<JvmFeature> copy = resolvedFeatures.getAllFeatures();
+		copy.removeAll(byName);
+		Assert.assertEquals(all, resolvedFeatures.getAllFeatures());
+	}
 }
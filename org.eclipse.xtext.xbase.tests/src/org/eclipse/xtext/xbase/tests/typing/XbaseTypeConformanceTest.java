@@ -99,6 +99,19 @@ public class XbaseTypeConformanceTest extends AbstractXbaseTestCase {
 		return conformant;
 	}
 	
+	@Test public void testRepeatedChecks() throws Exception {
+		for (int i = 0; i < 2; i++) {
+			assertIsConformant("Iterable<? extends CharSequence>", "java.util.ArrayList<String>");
+			assertNotConformant("java.util.ArrayList<String>", "Iterable<? extends CharSequence>");
+			assertIsConformant("Object", "String");
+			assertNotConformant("String", "Object");
+			assertIsConformant("long", "int");
+			assertNotConformant("int", "long");
+			assertTrue(isConformantReturnTypes("null as java.util.List<String>", "null as java.util.List", true));
+			assertFalse(isConformantReturnTypes("null as java.util.List<String>", "null as java.util.List<Integer>", false));
+		}
+	}
+
 	@Test public void testIgnoreGenerics_00() throws Exception {
 		String left = "null as Iterable<String>";
 		String right = "null as Iterable<Integer>";
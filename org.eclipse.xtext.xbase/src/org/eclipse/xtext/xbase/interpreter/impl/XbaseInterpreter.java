@@ -13,6 +13,9 @@ import static com.google.common.collect.Maps.*;
 import static com.google.common.collect.Sets.*;
 import static org.eclipse.xtext.util.Strings.*;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -103,6 +106,8 @@ import org.eclipse.xtext.xbase.typesystem.util.CommonTypeComputationServices;
 import org.eclipse.xtext.xbase.util.XExpressionHelper;
 import org.eclipse.xtext.xbase.util.XSwitchExpressions;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
@@ -134,6 +139,98 @@ public class XbaseInterpreter implements IExpressionInterpreter {
 		}
 	}
 	
+	/**
+	 * The default number of reflective invocations of an operation before it is invoked through a
+	 * {@link MethodHandle}.
+	 * 
+	 * @since 2.36
+	 */
+	public static final int DEFAULT_METHOD_HANDLE_THRESHOLD = 16;
+
+	/**
+	 * Invokes a {@link Method} reflectively until it was called more than a given number of times. From then on, a
+	 * {@link MethodHandle} that spreads the argument array is used, unless the arguments would not be accepted by
+	 * {@link Method#invoke(Object, Object...)} without a widening conversion.
+	 */
+	private static class OperationInvoker {
+
+		private final Method method;
+
+		private final Class<?>[] parameterTypes;
+
+		private final Class<?>[] wrappedParameterTypes;
+
+		private boolean accessible;
+
+		private int invocationCount;
+
+		private volatile MethodHandle methodHandle;
+
+		private boolean methodHandleUnavailable;
+
+		private OperationInvoker(Method method) {
+			this.method = method;
+			this.parameterTypes = method.getParameterTypes();
+			this.wrappedParameterTypes = MethodType.methodType(void.class, parameterTypes).wrap().parameterArray();
+		}
+
+		private Object invoke(Object receiver, Object[] arguments, int threshold) throws Exception {
+			MethodHandle handle = methodHandle;
+			if (handle == null && threshold >= 0 && !methodHandleUnavailable && invocationCount++ >= threshold) {
+				handle = createMethodHandle();
+			}
+			if (handle != null && isApplicable(receiver, arguments)) {
+				try {
+					return (Object) handle.invokeExact(receiver, arguments);
+				} catch (Throwable t) {
+					throw new InvocationTargetException(t);
+				}
+			}
+			makeAccessible();
+			return method.invoke(receiver, arguments);
+		}
+
+		private void makeAccessible() {
+			if (!accessible) {
+				method.setAccessible(true);
+				accessible = true;
+			}
+		}
+
+		private MethodHandle createMethodHandle() {
+			try {
+				makeAccessible();
+				MethodHandle result = MethodHandles.lookup().unreflect(method).asFixedArity();
+				result = result.asType(result.type().generic());
+				if (Modifier.isStatic(method.getModifiers())) {
+					result = MethodHandles.dropArguments(result, 0, Object.class);
+				}
+				result = result.asSpreader(Object[].class, parameterTypes.length);
+				methodHandle = result;
+				return result;
+			} catch (Exception e) {
+				methodHandleUnavailable = true;
+				return null;
+			}
+		}
+
+		private boolean isApplicable(Object receiver, Object[] arguments) {
+			if (arguments.length != parameterTypes.length) {
+				return false;
+			}
+			if (receiver != null && !method.getDeclaringClass().isInstance(receiver)) {
+				return false;
+			}
+			for (int i = 0; i < arguments.length; i++) {
+				Object argument = arguments[i];
+				if (argument == null ? parameterTypes[i].isPrimitive() : !wrappedParameterTypes[i].isInstance(argument)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
 	public XbaseInterpreter() {
 	}
 
@@ -175,12 +272,40 @@ public class XbaseInterpreter implements IExpressionInterpreter {
 	private ClassFinder classFinder;
 
 	private ClassLoader classLoader;
+
+	private final Cache<JvmOperation, OperationInvoker> operationInvokers = CacheBuilder.newBuilder().weakKeys().build();
+
+	private final Cache<JvmField, Field> fields = CacheBuilder.newBuilder().weakKeys().build();
+
+	private final Cache<JvmConstructor, Constructor<?>> constructors = CacheBuilder.newBuilder().weakKeys().build();
+
+	private int methodHandleThreshold = DEFAULT_METHOD_HANDLE_THRESHOLD;
 	
 	@Inject
 	public void setClassLoader(ClassLoader classLoader) {
 		this.classFinder = createClassFinder(classLoader);
 		this.classLoader = classLoader;
 		this.javaReflectAccess.setClassLoader(classLoader);
+		operationInvokers.invalidateAll();
+		fields.invalidateAll();
+		constructors.invalidateAll();
+	}
+
+	/**
+	 * Sets the number of times an operation is invoked reflectively before it is invoked through a
+	 * {@link MethodHandle}. Zero uses method handles right away, a negative value disables them.
+	 * 
+	 * @since 2.36
+	 */
+	public void setMethodHandleThreshold(int methodHandleThreshold) {
+		this.methodHandleThreshold = methodHandleThreshold;
+	}
+
+	/**
+	 * @since 2.36
+	 */
+	public int getMethodHandleThreshold() {
+		return methodHandleThreshold;
 	}
 
 	/**
@@ -853,7 +978,7 @@ public class XbaseInterpreter implements IExpressionInterpreter {
 	protected Object _doEvaluate(XConstructorCall constructorCall, IEvaluationContext context, CancelIndicator indicator) {
 		JvmConstructor jvmConstructor = constructorCall.getConstructor();
 		List<Object> arguments = evaluateArgumentExpressions(jvmConstructor, constructorCall.getArguments(), context, indicator);
-		Constructor<?> constructor = javaReflectAccess.getConstructor(jvmConstructor);
+		Constructor<?> constructor = getConstructor(jvmConstructor);
 		try {
 			if (constructor == null)
 				throw new NoSuchMethodException("Could not find constructor " + jvmConstructor.getIdentifier());
@@ -1129,7 +1254,7 @@ public class XbaseInterpreter implements IExpressionInterpreter {
 	}
 
 	protected Object featureCallField(JvmField jvmField, Object receiver) {
-		Field field = javaReflectAccess.getField(jvmField);
+		Field field = getField(jvmField);
 		try {
 			if (field == null) {
 				throw new NoSuchFieldException("Could not find field " + jvmField.getIdentifier());
@@ -1171,7 +1296,8 @@ public class XbaseInterpreter implements IExpressionInterpreter {
 	}
 	
 	protected Object invokeOperation(JvmOperation operation, Object receiver, List<Object> argumentValues) {
-		Method method = javaReflectAccess.getMethod(operation);
+		OperationInvoker invoker = getOperationInvoker(operation);
+		Method method = invoker != null ? invoker.method : null;
 		try {
 			if (method == null) {
 				throw new NoSuchMethodException("Could not find method " + operation.getIdentifier());
@@ -1191,8 +1317,7 @@ public class XbaseInterpreter implements IExpressionInterpreter {
 					throw new InvocationTargetException(throwable);
 				}
 			} else {
-				method.setAccessible(true);
-				Object result = method.invoke(receiver, argumentValues.toArray(new Object[argumentValues.size()]));
+				Object result = invoker.invoke(receiver, argumentValues.toArray(new Object[argumentValues.size()]), methodHandleThreshold);
 				return result;
 			}
 		} catch (EvaluationException e) {
@@ -1230,10 +1355,10 @@ public class XbaseInterpreter implements IExpressionInterpreter {
 		if (executable.isVarArgs()) {
 			Class<?> componentType = null;
 			if (executable instanceof JvmOperation) {
-				Method method = javaReflectAccess.getMethod((JvmOperation) executable);
+				Method method = getOperationInvoker((JvmOperation) executable).method;
 				componentType = method.getParameterTypes()[paramCount].getComponentType();
 			} else {
-				Constructor<?> constructor = javaReflectAccess.getConstructor((JvmConstructor) executable);
+				Constructor<?> constructor = getConstructor((JvmConstructor) executable);
 				componentType = constructor.getParameterTypes()[paramCount].getComponentType();
 			}
 			if (expressions.size() == executable.getParameters().size()) {
@@ -1354,7 +1479,7 @@ public class XbaseInterpreter implements IExpressionInterpreter {
 	protected Object _assignValueTo(JvmField jvmField, XAbstractFeatureCall assignment, Object value,
 			IEvaluationContext context, CancelIndicator indicator) {
 		Object receiver = getReceiver(assignment, context, indicator);
-		Field field = javaReflectAccess.getField(jvmField);
+		Field field = getField(jvmField);
 		try {
 			if (field == null) {
 				throw new NoSuchFieldException("Could not find field " + jvmField.getIdentifier());
@@ -1406,6 +1531,44 @@ public class XbaseInterpreter implements IExpressionInterpreter {
 		return classFinder;
 	}
 
+	/* @Nullable */
+	private OperationInvoker getOperationInvoker(JvmOperation operation) {
+		OperationInvoker result = operationInvokers.getIfPresent(operation);
+		if (result == null) {
+			Method method = javaReflectAccess.getMethod(operation);
+			if (method == null) {
+				return null;
+			}
+			result = new OperationInvoker(method);
+			operationInvokers.put(operation, result);
+		}
+		return result;
+	}
+
+	/* @Nullable */
+	private Field getField(JvmField jvmField) {
+		Field result = fields.getIfPresent(jvmField);
+		if (result == null) {
+			result = javaReflectAccess.getField(jvmField);
+			if (result != null) {
+				fields.put(jvmField, result);
+			}
+		}
+		return result;
+	}
+
+	/* @Nullable */
+	private Constructor<?> getConstructor(JvmConstructor jvmConstructor) {
+		Constructor<?> result = constructors.getIfPresent(jvmConstructor);
+		if (result == null) {
+			result = javaReflectAccess.getConstructor(jvmConstructor);
+			if (result != null) {
+				constructors.put(jvmConstructor, result);
+			}
+		}
+		return result;
+	}
+
 	protected JavaReflectAccess getJavaReflectAccess() {
 		return javaReflectAccess;
 	}
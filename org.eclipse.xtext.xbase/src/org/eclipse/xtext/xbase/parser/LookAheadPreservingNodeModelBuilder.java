@@ -31,6 +31,10 @@ public class LookAheadPreservingNodeModelBuilder extends NodeModelBuilder {
 
 	@Override
 	public void replaceAndTransferLookAhead(INode oldNode, INode newRootNode) {
+		if (!(oldNode instanceof AbstractNode) || !(newRootNode instanceof AbstractNode)) {
+			// e.g. a CompactNodeModel, the partial parsing helpers reparse those completely
+			throw new UnsupportedOperationException("Only node models made of AbstractNodes can be patched");
+		}
 		Iterator<AbstractNode> oldNodes = ((AbstractNode) oldNode).basicIterator();
 		Iterator<AbstractNode> newNodes = ((AbstractNode) newRootNode).basicIterator();
 		newNodes.next(); // basicGetFirstChild to skip that one
@@ -79,7 +79,8 @@ public class TokenSequencePreservingPartialParsingHelper implements IPartialPars
 
 	@Override
 	public IParseResult reparse(IParser parser, IParseResult previousParseResult, ReplaceRegion changedRegion) {
-		if (isBrokenPreviousState(previousParseResult, changedRegion.getOffset())) {
+		if (!(previousParseResult.getRootNode() instanceof AbstractNode)
+				|| isBrokenPreviousState(previousParseResult, changedRegion.getOffset())) {
 			return fullyReparse(parser, previousParseResult, changedRegion);
 		}
 		ICompositeNode oldRootNode = previousParseResult.getRootNode();
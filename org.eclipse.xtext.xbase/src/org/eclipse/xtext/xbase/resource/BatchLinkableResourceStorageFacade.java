@@ -14,6 +14,7 @@ import java.io.OutputStream;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.xtext.resource.persistence.ResourceStorageFacade;
 import org.eclipse.xtext.resource.persistence.ResourceStorageLoadable;
+import org.eclipse.xtext.resource.persistence.ResourceStorageSections;
 import org.eclipse.xtext.resource.persistence.ResourceStorageWritable;
 import org.eclipse.xtext.resource.persistence.StorageAwareResource;
 import org.eclipse.xtext.workspace.IProjectConfig;
@@ -34,9 +35,17 @@ public class BatchLinkableResourceStorageFacade extends ResourceStorageFacade {
 		return new BatchLinkableResourceStorageLoadable(in, isStoreNodeModel());
 	}
 
+	/**
+	 * @since 2.36
+	 */
+	@Override
+	public ResourceStorageLoadable createResourceStorageLoadable(ResourceStorageSections sections) {
+		return new BatchLinkableResourceStorageLoadable(sections, isStoreNodeModel());
+	}
+
 	@Override
 	public ResourceStorageWritable createResourceStorageWritable(OutputStream out) {
-		return new BatchLinkableResourceStorageWritable(out, isStoreNodeModel());
+		return new BatchLinkableResourceStorageWritable(out, isStoreNodeModel(), getSectionCompression());
 	}
 
 	@Override
@@ -23,6 +23,7 @@ import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
 import org.eclipse.xtext.common.types.JvmIdentifiableElement;
 import org.eclipse.xtext.resource.persistence.ResourceStorageLoadable;
+import org.eclipse.xtext.resource.persistence.ResourceStorageSections;
 import org.eclipse.xtext.resource.persistence.StorageAwareResource;
 import org.eclipse.xtext.xbase.compiler.DocumentationAdapter;
 import org.eclipse.xtext.xbase.jvmmodel.JvmIdentifiableMetaData;
@@ -32,10 +33,22 @@ import com.google.common.collect.FluentIterable;
 
 public class BatchLinkableResourceStorageLoadable extends ResourceStorageLoadable {
 
+	/**
+	 * @since 2.36
+	 */
+	public static final String ASSOCIATIONS = "associations";
+
 	public BatchLinkableResourceStorageLoadable(InputStream in, boolean storeNodeModel) {
 		super(in, storeNodeModel);
 	}
 
+	/**
+	 * @since 2.36
+	 */
+	public BatchLinkableResourceStorageLoadable(ResourceStorageSections sections, boolean storeNodeModel) {
+		super(sections, storeNodeModel);
+	}
+
 	@Override
 	protected void loadEntries(StorageAwareResource resource, ZipInputStream zipIn) throws IOException {
 		super.loadEntries(resource, zipIn);
@@ -59,8 +72,28 @@ public class BatchLinkableResourceStorageLoadable extends ResourceStorageLoadabl
 		}
 	}
 
-	@SuppressWarnings("unchecked")
+	/**
+	 * @since 2.36
+	 */
+	@Override
+	protected void loadDeferredSections(StorageAwareResource resource, ResourceStorageSections sections)
+			throws IOException {
+		super.loadDeferredSections(resource, sections);
+		if (resource instanceof BatchLinkableResource && sections.hasSection(ASSOCIATIONS)) {
+			readAssociationsAdapter((BatchLinkableResource) resource, sections.openSection(ASSOCIATIONS));
+		}
+	}
+
 	protected void readAssociationsAdapter(BatchLinkableResource resource, ZipInputStream stream) throws IOException {
+		stream.getNextEntry();
+		readAssociationsAdapter(resource, (InputStream) stream);
+	}
+
+	/**
+	 * @since 2.36
+	 */
+	@SuppressWarnings("unchecked")
+	protected void readAssociationsAdapter(BatchLinkableResource resource, InputStream stream) throws IOException {
 		try {
 			JvmModelAssociator.Adapter adapter = FluentIterable.from(resource.eAdapters())
 					.filter(JvmModelAssociator.Adapter.class)
@@ -70,9 +103,7 @@ public class BatchLinkableResourceStorageLoadable extends ResourceStorageLoadabl
 						resource.eAdapters().add(newAdapter);
 						return newAdapter;
 					});
-			
-			stream.getNextEntry();
-			
+
 			try (ObjectInputStream objIn = new ObjectInputStream(new NonClosingFilterInputStream(new BufferedInputStream(stream)))) {
 				Map<String, String> logicalMap = (Map<String, String>) objIn.readObject();
 				logicalMap.forEach((key, value)->{
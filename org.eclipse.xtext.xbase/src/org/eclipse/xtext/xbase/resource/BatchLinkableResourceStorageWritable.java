@@ -27,6 +27,7 @@ import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.common.types.JvmType;
+import org.eclipse.xtext.resource.persistence.ResourceStorageSections;
 import org.eclipse.xtext.resource.persistence.ResourceStorageWritable;
 import org.eclipse.xtext.resource.persistence.StorageAwareResource;
 import org.eclipse.xtext.xbase.compiler.DocumentationAdapter;
@@ -48,6 +49,28 @@ public class BatchLinkableResourceStorageWritable extends ResourceStorageWritabl
 		super(out, storeNodeModel);
 	}
 
+	/**
+	 * @since 2.36
+	 */
+	public BatchLinkableResourceStorageWritable(OutputStream out, boolean storeNodeModel,
+			ResourceStorageSections.Compression sectionCompression) {
+		super(out, storeNodeModel, sectionCompression);
+	}
+
+	/**
+	 * @since 2.36
+	 */
+	@Override
+	protected void writeSections(StorageAwareResource resource, ResourceStorageSections.Writer sections)
+			throws IOException {
+		super.writeSections(resource, sections);
+		if (resource instanceof BatchLinkableResource) {
+			try (OutputStream section = sections.newSection(BatchLinkableResourceStorageLoadable.ASSOCIATIONS)) {
+				writeAssociationsAdapter((BatchLinkableResource) resource, section);
+			}
+		}
+	}
+
 	@Override
 	protected void writeEntries(StorageAwareResource resource, ZipOutputStream zipOut) throws IOException {
 		super.writeEntries(resource, zipOut);
@@ -74,10 +74,11 @@ public abstract class AbstractStaticImportsScope extends AbstractSessionBasedExe
 	}
 
 	protected void getAllLocalElements(TypeBucket bucket, JvmDeclaredType type, Set<String> restrictedNames, List<IEObjectDescription> result) {
-		Iterable<JvmFeature> features = type.getAllFeatures();
-		for (JvmFeature feature : features) {
-			if (feature.isStatic() && restrictedNames.contains(feature.getSimpleName())) {
-				addDescriptions(feature, bucket, result);
+		for (String restrictedName : restrictedNames) {
+			for (JvmFeature feature : type.findAllFeaturesByName(restrictedName)) {
+				if (feature.isStatic()) {
+					addDescriptions(feature, bucket, result);
+				}
 			}
 		}
 	}
@@ -70,11 +70,11 @@ public class StaticExtensionImportsScope extends AbstractStaticImportsScope {
 
 	@Override
 	protected void getAllLocalElements(TypeBucket bucket, JvmDeclaredType type, Set<String> restrictedNames, List<IEObjectDescription> result) {
-		Iterable<JvmFeature> features = type.getAllFeatures();
-		for(JvmFeature feature: features) {
-			if (feature.isStatic() && restrictedNames.contains(feature.getSimpleName())
-					&& helper.isPossibleExtension(feature) && helper.isMatchingFirstParameterDeepCheck((JvmOperation) feature)) {
-				fastAddDescriptions(feature, bucket, result);
+		for(String restrictedName: restrictedNames) {
+			for(JvmFeature feature: type.findAllFeaturesByName(restrictedName)) {
+				if (feature.isStatic() && helper.isPossibleExtension(feature) && helper.isMatchingFirstParameterDeepCheck((JvmOperation) feature)) {
+					fastAddDescriptions(feature, bucket, result);
+				}
 			}
 		}
 	}
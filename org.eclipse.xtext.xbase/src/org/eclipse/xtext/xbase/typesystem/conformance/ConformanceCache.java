@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.xbase.typesystem.conformance;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.xtext.xbase.typesystem.references.ITypeReferenceOwner;
+import org.eclipse.xtext.xbase.typesystem.references.LightweightTypeReference;
+
+import com.google.common.annotations.Beta;
+
+/**
+ * A bounded cache for the results of the {@link TypeConformanceComputer}. It is shared by the
+ * {@link ITypeReferenceOwner owners} of a single type resolution run. The results are keyed by the
+ * {@link LightweightTypeReference#getUniqueIdentifier() identifiers} of both types and the
+ * {@link ConformanceFlags conformance flags}, thus only results for types whose identifier denotes
+ * the very same type in the complete run may be put into the cache.
+ *
+ * If the cache exceeds its maximum size, the least recently used results are discarded.
+ *
+ * @since 2.36
+ */
+@Beta
+public class ConformanceCache {
+
+	public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+	private static class Key {
+		private final String left;
+		private final String right;
+		private final int flags;
+		private final int hashCode;
+
+		private Key(String left, String right, int flags) {
+			this.left = left;
+			this.right = right;
+			this.flags = flags;
+			this.hashCode = 31 * (31 * left.hashCode() + right.hashCode()) + flags;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (obj == null || getClass() != obj.getClass())
+				return false;
+			Key other = (Key) obj;
+			return flags == other.flags && left.equals(other.left) && right.equals(other.right);
+		}
+	}
+
+	private final Map<Key, Integer> results;
+
+	public ConformanceCache() {
+		this(DEFAULT_MAXIMUM_SIZE);
+	}
+
+	public ConformanceCache(final int maximumSize) {
+		this.results = new LinkedHashMap<Key, Integer>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Integer> eldest) {
+				return size() > maximumSize;
+			}
+		};
+	}
+
+	/**
+	 * Returns the cached result for the given identifiers and flags or {@code null} if there is none.
+	 */
+	/* @Nullable */
+	public synchronized Integer get(String left, String right, int flags) {
+		return results.get(new Key(left, right, flags));
+	}
+
+	public synchronized void put(String left, String right, int flags, int result) {
+		results.put(new Key(left, right, flags), result);
+	}
+
+	public synchronized int size() {
+		return results.size();
+	}
+
+	public synchronized void clear() {
+		results.clear();
+	}
+
+}
@@ -8,22 +8,32 @@
  *******************************************************************************/
 package org.eclipse.xtext.xbase.typesystem.conformance;
 
+import static org.eclipse.xtext.xbase.typesystem.references.LightweightTypeReference.*;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.xtext.common.types.JvmArrayType;
 import org.eclipse.xtext.common.types.JvmComponentType;
+import org.eclipse.xtext.common.types.JvmDeclaredType;
 import org.eclipse.xtext.common.types.JvmGenericType;
 import org.eclipse.xtext.common.types.JvmType;
 import org.eclipse.xtext.common.types.JvmTypeParameter;
 import org.eclipse.xtext.common.types.JvmTypeParameterDeclarator;
 import org.eclipse.xtext.common.types.TypesPackage;
+import org.eclipse.xtext.common.types.access.IMirror;
+import org.eclipse.xtext.common.types.access.IMirrorExtension;
+import org.eclipse.xtext.common.types.access.TypeResource;
 import org.eclipse.xtext.xbase.typesystem.references.ArrayTypeReference;
 import org.eclipse.xtext.xbase.typesystem.references.CompoundTypeReference;
 import org.eclipse.xtext.xbase.typesystem.references.FunctionTypeReference;
@@ -34,9 +44,12 @@ import org.eclipse.xtext.xbase.typesystem.references.UnboundTypeReference;
 import org.eclipse.xtext.xbase.typesystem.references.WildcardTypeReference;
 
 import com.google.common.annotations.Beta;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.LinkedHashMultiset;
 import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multiset;
 import com.google.common.collect.Multiset.Entry;
@@ -54,6 +67,12 @@ public class TypeConformanceComputer extends RawTypeConformanceComputer {
 	@Inject
 	private RawTypeConformanceComputer rawTypeConformanceComputer = new RawTypeConformanceComputer();
 	
+	/**
+	 * Conformance results for {@link #isSealedTypeReference(LightweightTypeReference) sealed types}, keyed by the
+	 * identity of the left and the right type.
+	 */
+	private final Cache<JvmType, ConcurrentMap<JvmType, Map<Integer, Integer>>> sealedTypeResults = CacheBuilder.newBuilder().weakKeys().build();
+	
 	public boolean isConformant(LightweightTypeReference left, LightweightTypeReference right) {
 		return (isConformant(left, right, ALLOW_BOXING_UNBOXING | ALLOW_PRIMITIVE_WIDENING | ALLOW_SYNONYMS | ALLOW_FUNCTION_CONVERSION | ALLOW_RAW_TYPE_CONVERSION) & SUCCESS) != 0;
 	}
@@ -91,6 +110,35 @@ public class TypeConformanceComputer extends RawTypeConformanceComputer {
 	public int isConformant(LightweightTypeReference left, LightweightTypeReference right, int flags) {
 		if (left == right && left != null)
 			return flags | SUCCESS;
+		if (isSealedTypeReference(left) && isSealedTypeReference(right)) {
+			Map<Integer, Integer> results = getSealedTypeResults(left.getType(), right.getType());
+			Integer result = results.get(flags);
+			if (result == null) {
+				result = doIsConformantUncached(left, right, flags);
+				results.put(flags, result);
+			}
+			return result;
+		}
+		ConformanceCache cache = left.getOwner().getConformanceCache();
+		if (cache != null && isFullyBound(left) && isFullyBound(right)) {
+			String leftIdentifier = left.getUniqueIdentifier();
+			String rightIdentifier = right.getUniqueIdentifier();
+			Integer result = cache.get(leftIdentifier, rightIdentifier, flags);
+			if (result == null) {
+				result = doIsConformantUncached(left, right, flags);
+				cache.put(leftIdentifier, rightIdentifier, flags, result);
+			}
+			return result;
+		}
+		return doIsConformantUncached(left, right, flags);
+	}
+	
+	/**
+	 * Computes the conformance of the given types without looking up a cached result.
+	 * 
+	 * @since 2.36
+	 */
+	protected int doIsConformantUncached(LightweightTypeReference left, LightweightTypeReference right, int flags) {
 		if ((flags & RAW_TYPE) != 0 || ((left.isRawType() || right.isRawType()) && (flags & ALLOW_RAW_TYPE_CONVERSION) != 0)) {
 			int result = rawTypeConformanceComputer.isConformant(left, right, flags);
 			if ((result & SUCCESS) != 0) {
@@ -109,6 +157,102 @@ public class TypeConformanceComputer extends RawTypeConformanceComputer {
 		return result;
 	}
 	
+	/**
+	 * Returns the cached results for the given pair of sealed types, keyed by the conformance flags.
+	 */
+	private Map<Integer, Integer> getSealedTypeResults(JvmType left, JvmType right) {
+		ConcurrentMap<JvmType, Map<Integer, Integer>> resultsByRight = sealedTypeResults.getIfPresent(left);
+		if (resultsByRight == null) {
+			resultsByRight = new MapMaker().weakKeys().makeMap();
+			ConcurrentMap<JvmType, Map<Integer, Integer>> existing = sealedTypeResults.asMap().putIfAbsent(left, resultsByRight);
+			if (existing != null) {
+				resultsByRight = existing;
+			}
+		}
+		Map<Integer, Integer> results = resultsByRight.get(right);
+		if (results == null) {
+			results = new ConcurrentHashMap<>(4);
+			Map<Integer, Integer> existing = resultsByRight.putIfAbsent(right, results);
+			if (existing != null) {
+				results = existing;
+			}
+		}
+		return results;
+	}
+	
+	/**
+	 * Returns true if the conformance of the given reference to other sealed type references cannot change,
+	 * e.g. it points to a type that was loaded from a class file and has no type arguments. The results for these
+	 * are shared across all type resolutions and kept as long as the types are alive.
+	 * 
+	 * @see IMirrorExtension#isSealed()
+	 * @since 2.36
+	 */
+	protected boolean isSealedTypeReference(LightweightTypeReference reference) {
+		if (reference.getKind() != KIND_PARAMETERIZED_TYPE_REFERENCE || reference.hasTypeArguments()) {
+			return false;
+		}
+		JvmType type = reference.getType();
+		if (type.eClass() == TypesPackage.Literals.JVM_TYPE_PARAMETER || type.eIsProxy()) {
+			return false;
+		}
+		Resource resource = type.eResource();
+		if (resource instanceof TypeResource) {
+			IMirror mirror = ((TypeResource) resource).getMirror();
+			return mirror instanceof IMirrorExtension && ((IMirrorExtension) mirror).isSealed();
+		}
+		return false;
+	}
+	
+	/**
+	 * Returns true if the given reference does neither contain type parameters nor unbound type references, thus
+	 * its {@link LightweightTypeReference#getUniqueIdentifier() identifier} denotes the very same type in a
+	 * complete type resolution run.
+	 * 
+	 * @see ConformanceCache
+	 * @since 2.36
+	 */
+	protected boolean isFullyBound(LightweightTypeReference reference) {
+		switch(reference.getKind()) {
+			case KIND_PARAMETERIZED_TYPE_REFERENCE: {
+				JvmType type = reference.getType();
+				if (type.eIsProxy()) {
+					return false;
+				}
+				EClass typeClass = type.eClass();
+				if (typeClass == TypesPackage.Literals.JVM_TYPE_PARAMETER) {
+					return false;
+				}
+				if (type instanceof JvmDeclaredType && ((JvmDeclaredType) type).isLocal()) {
+					return false;
+				}
+				for (LightweightTypeReference typeArgument : reference.getTypeArguments()) {
+					if (!isFullyBound(typeArgument)) {
+						return false;
+					}
+				}
+				return true;
+			}
+			case KIND_ARRAY_TYPE_REFERENCE:
+				return isFullyBound(reference.getComponentType());
+			case KIND_WILDCARD_TYPE_REFERENCE: {
+				WildcardTypeReference wildcard = (WildcardTypeReference) reference;
+				LightweightTypeReference lowerBound = wildcard.getLowerBound();
+				if (lowerBound != null && !isFullyBound(lowerBound)) {
+					return false;
+				}
+				for (LightweightTypeReference upperBound : wildcard.getUpperBounds()) {
+					if (!isFullyBound(upperBound)) {
+						return false;
+					}
+				}
+				return true;
+			}
+			default:
+				return false;
+		}
+	}
+	
 	@Override
 	protected LightweightTypeReference getSuperType(ParameterizedTypeReference current, JvmType type) {
 		return current.getSuperType(type);
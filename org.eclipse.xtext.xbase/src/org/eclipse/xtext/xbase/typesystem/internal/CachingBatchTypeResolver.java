@@ -21,9 +21,14 @@ import com.google.inject.Inject;
 import com.google.inject.Provider;
 
 /**
- * A batch type resolver that uses the resource scope cache to 
+ * A batch type resolver that uses the resource scope cache to
  * return a cached result of the computed types.
- * 
+ *
+ * The result covers the complete resource and is evicted on any change of it. Results
+ * per logical container cannot outlive a change, either: a change discards the derived
+ * state of the resource, so the inferred members, their computed type references and the
+ * expressions that are associated with them are created anew.
+ *
  * @author Sebastian Zarnekow - Initial contribution and API
  */
 public class CachingBatchTypeResolver extends AbstractBatchTypeResolver {
@@ -49,6 +49,7 @@ import org.eclipse.xtext.xbase.typesystem.computation.IConstructorLinkingCandida
 import org.eclipse.xtext.xbase.typesystem.computation.IFeatureLinkingCandidate;
 import org.eclipse.xtext.xbase.typesystem.computation.ILinkingCandidate;
 import org.eclipse.xtext.xbase.typesystem.computation.ITypeExpectation;
+import org.eclipse.xtext.xbase.typesystem.conformance.ConformanceCache;
 import org.eclipse.xtext.xbase.typesystem.conformance.ConformanceFlags;
 import org.eclipse.xtext.xbase.typesystem.conformance.TypeConformanceComputationArgument;
 import org.eclipse.xtext.xbase.typesystem.references.CompoundTypeReference;
@@ -139,6 +140,11 @@ public abstract class ResolvedTypes implements IResolvedTypes {
 			return ResolvedTypes.this.getDeclaredTypeParameters();
 		}
 		
+		@Override
+		public ConformanceCache getConformanceCache() {
+			return shared.conformanceCache;
+		}
+		
 		@Override
 		public String toString() {
 			return String.format("Owner: %s", ResolvedTypes.this);
@@ -171,6 +177,12 @@ public abstract class ResolvedTypes implements IResolvedTypes {
 		 */
 		final Map<XExpression, AbstractPendingLinkingCandidate<?>> forwardLinking = new HashMap<>();
 		
+		/**
+		 * Conformance results for fully bound types. Overload resolution asks for the conformance of the same
+		 * argument and parameter types again and again.
+		 */
+		final ConformanceCache conformanceCache = new ConformanceCache();
+		
 		ResolvedTypes root;
 		
 		public Shared(DefaultReentrantTypeResolver resolver, CancelIndicator monitor) {
@@ -120,7 +120,11 @@ public class RawResolvedFeatures extends AbstractResolvedFeatures implements Ada
 	 */
 	private final Map<String, List<JvmFeature>> featureIndex;
 	
-	private boolean allFeaturesComputed = false;
+	/**
+	 * All reachable features in the order of the {@link #featureIndex} or {@code null} if
+	 * they were not computed, yet. The list is unmodifiable and callers get a copy of it.
+	 */
+	private List<JvmFeature> allFeatures;
 	
 	protected RawResolvedFeatures(JvmDeclaredType type, CommonTypeComputationServices services) {
 		this(createTypeReference(type, services), new OverrideTester());
@@ -147,18 +151,19 @@ public class RawResolvedFeatures extends AbstractResolvedFeatures implements Ada
 	
 	@Override
 	public List<JvmFeature> getAllFeatures() {
-		if (!allFeaturesComputed) {
+		List<JvmFeature> result = allFeatures;
+		if (result == null) {
 			ListMultimap<String, JvmFeature> featureIndex = computeAllFeatures();
 			for(String simpleName: featureIndex.keySet()) {
-				this.featureIndex.put(simpleName, Lists.newArrayList(featureIndex.get(simpleName)));
+				this.featureIndex.put(simpleName, Collections.unmodifiableList(Lists.newArrayList(featureIndex.get(simpleName))));
 			}
-			allFeaturesComputed = true;
-		}
-		List<JvmFeature> result = Lists.newArrayList();
-		for(List<JvmFeature> list: featureIndex.values()) {
-			result.addAll(list);
+			List<JvmFeature> list = Lists.newArrayList();
+			for(List<JvmFeature> features: this.featureIndex.values()) {
+				list.addAll(features);
+			}
+			allFeatures = result = Collections.unmodifiableList(list);
 		}
-		return result;
+		return Lists.newArrayList(result);
 	}
 
 	protected List<JvmFeature> computeAllFeatures(String simpleName) {
@@ -258,7 +263,7 @@ public class RawResolvedFeatures extends AbstractResolvedFeatures implements Ada
 
 	private void clear() {
 		featureIndex.clear();
-		allFeaturesComputed = false;
+		allFeatures = null;
 	}
 
 }
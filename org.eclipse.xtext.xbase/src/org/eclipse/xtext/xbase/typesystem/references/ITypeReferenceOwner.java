@@ -20,8 +20,11 @@ import org.eclipse.xtext.common.types.JvmType;
 import org.eclipse.xtext.common.types.JvmTypeParameter;
 import org.eclipse.xtext.common.types.JvmTypeReference;
 import org.eclipse.xtext.common.types.JvmVoid;
+import org.eclipse.xtext.xbase.typesystem.conformance.ConformanceCache;
 import org.eclipse.xtext.xbase.typesystem.util.CommonTypeComputationServices;
 
+import com.google.common.annotations.Beta;
+
 /**
  * Represents the context that defines a valid cluster of {@link LightweightTypeReference type references}. Clients
  * obtain an instance of the {@link ITypeReferenceOwner} by instantiating a {@link StandardTypeReferenceOwner} with a
@@ -214,4 +217,16 @@ public interface ITypeReferenceOwner {
 	 */
 	List<JvmTypeParameter> getDeclaredTypeParameters();
 
+	/**
+	 * The cache for conformance results that is shared by all owners of a type resolution run or
+	 * {@code null} if results should not be cached.
+	 *
+	 * @since 2.36
+	 */
+	/* @Nullable */
+	@Beta
+	default ConformanceCache getConformanceCache() {
+		return null;
+	}
+
 }
@@ -8,14 +8,20 @@
  *******************************************************************************/
 package org.eclipse.xtext.build;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
 import org.eclipse.xtext.resource.XtextResourceSet;
 import org.eclipse.xtext.resource.clustering.IResourceClusteringPolicy;
 import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.xbase.lib.Functions.Function0;
 import org.eclipse.xtext.xbase.lib.Functions.Function1;
 
+import com.google.common.collect.FluentIterable;
 import com.google.common.collect.Iterables;
 
 /**
@@ -55,6 +61,32 @@ public class BuildContext {
 		return loader.executeClustered(Iterables.filter(uris, this::canHandle), operation);
 	}
 
+	/**
+	 * Run the given logic on all uris with the given number of workers. Each worker loads the resources into its own
+	 * resource set. The results are returned in the order of the given uris.
+	 * 
+	 * @since 2.36
+	 */
+	public <T> List<T> executeParallel(Iterable<URI> uris, int parallelism,
+			Function0<? extends XtextResourceSet> resourceSetFactory, Function1<? super Resource, ? extends T> operation) {
+		return executeParallel(uris, parallelism, resourceSetFactory, Collections.emptyMap(), operation);
+	}
+
+	/**
+	 * Run the given logic on all uris with the given number of workers. Each worker processes the resources in its
+	 * own resource set. Resources that are already loaded and not contained in a resource set are passed in the given
+	 * map and moved into the resource set of a worker, all others are loaded. The results are returned in the order
+	 * of the given uris.
+	 * 
+	 * @since 2.36
+	 */
+	public <T> List<T> executeParallel(Iterable<URI> uris, int parallelism,
+			Function0<? extends XtextResourceSet> resourceSetFactory, Map<URI, ? extends Resource> loadedResources,
+			Function1<? super Resource, ? extends T> operation) {
+		return new ParallelResourceLoader(this).executeParallel(FluentIterable.from(uris).filter(this::canHandle).toList(),
+				parallelism, resourceSetFactory, loadedResources, operation);
+	}
+
 	/**
 	 * Return true, if the given URI can be handled by an available language.
 	 */
@@ -19,9 +19,11 @@ import org.eclipse.emf.common.util.URI;
 import org.eclipse.xtext.diagnostics.Severity;
 import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
 import org.eclipse.xtext.util.CancelIndicator;
 import org.eclipse.xtext.util.UriUtil;
 import org.eclipse.xtext.validation.Issue;
+import org.eclipse.xtext.xbase.lib.Functions.Function1;
 import org.eclipse.xtext.xbase.lib.Procedures.Procedure1;
 import org.eclipse.xtext.xbase.lib.Procedures.Procedure2;
 
@@ -101,6 +103,10 @@ public class BuildRequest {
 
 	private CancelIndicator cancelIndicator = CancelIndicator.NullImpl;
 
+	private int parallelism = 1;
+
+	private Function1<? super ResourceDescriptionsData, ? extends XtextResourceSet> resourceSetFactory;
+
 	public void setBaseDir(URI baseDir) {
 		this.baseDir = baseDir;
 	}
@@ -217,4 +223,46 @@ public class BuildRequest {
 	public void setSourceLevelUris(Set<URI> sourceLevelURIs) {
 		this.sourceLevelURIs = sourceLevelURIs ;		
 	}
+
+	/**
+	 * @since 2.36
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * The number of worker threads that link, validate and generate the affected resources. A parallelism that is
+	 * greater than one requires a {@link #setResourceSetFactory(Function1) resource set factory}. The callbacks of
+	 * this request are never invoked concurrently but their order is unspecified in parallel builds.
+	 * <p>
+	 * Resources are processed concurrently in a parallel build, thus the scope providers, linkers, validators and
+	 * generators of all involved languages, as well as the file system that is written to, must be thread-safe. Each
+	 * worker uses its own resource set, so state that is held per resource set or per resource is not shared between
+	 * the workers.
+	 * 
+	 * @since 2.36
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * @since 2.36
+	 */
+	public Function1<? super ResourceDescriptionsData, ? extends XtextResourceSet> getResourceSetFactory() {
+		return resourceSetFactory;
+	}
+
+	/**
+	 * Sets the factory for the resource sets of the workers in a {@link #setParallelism(int) parallel build}. The
+	 * factory is passed a read-only snapshot of the index that the created resource set shall use. It is invoked
+	 * concurrently.
+	 * 
+	 * @since 2.36
+	 */
+	public void setResourceSetFactory(
+			Function1<? super ResourceDescriptionsData, ? extends XtextResourceSet> resourceSetFactory) {
+		this.resourceSetFactory = resourceSetFactory;
+	}
 }
@@ -11,6 +11,7 @@ package org.eclipse.xtext.build;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -44,6 +45,7 @@ import org.eclipse.xtext.resource.XtextResource;
 import org.eclipse.xtext.resource.XtextResourceSet;
 import org.eclipse.xtext.resource.clustering.DisabledClusteringPolicy;
 import org.eclipse.xtext.resource.clustering.IResourceClusteringPolicy;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
 import org.eclipse.xtext.resource.persistence.IResourceStorageFacade;
 import org.eclipse.xtext.resource.persistence.SerializableResourceDescription;
 import org.eclipse.xtext.resource.persistence.SourceLevelURIsAdapter;
@@ -198,6 +200,12 @@ public class IncrementalBuilder {
 
 		private BuildRequest request;
 
+		/**
+		 * Serializes the callbacks of the request, since validate and generate are invoked by multiple workers in a
+		 * parallel build.
+		 */
+		private final Object callbackLock = new Object();
+
 		@Inject
 		private Indexer indexer;
 
@@ -278,6 +286,10 @@ public class IncrementalBuilder {
 					.map(Delta::getUri).collect(Collectors.toList());
 			
 			installSourceLevelURIs(toBeBuilt);
+			if (isParallelBuild(toBeBuilt)) {
+				resolvedDeltas.addAll(launchParallel(toBeBuilt, result.getNewIndex(), newSource2GeneratedMapping));
+				return new IncrementalBuilder.Result(request.getState(), resolvedDeltas);
+			}
 			Iterable<IResourceDescription.Delta> deltas = context.executeClustered(toBeBuilt,
 					(resource) -> {
 						CancelIndicator cancelIndicator = request.getCancelIndicator();
@@ -306,6 +318,102 @@ public class IncrementalBuilder {
 			return new IncrementalBuilder.Result(request.getState(), resolvedDeltas);
 		}
 
+		/**
+		 * Return true, if the given resources shall be processed by multiple workers.
+		 * 
+		 * @since 2.36
+		 */
+		protected boolean isParallelBuild(List<URI> toBeBuilt) {
+			return request.getParallelism() > 1 && request.getResourceSetFactory() != null && toBeBuilt.size() > 1;
+		}
+
+		/**
+		 * Links, validates and generates the given resources with {@link BuildRequest#getParallelism() multiple
+		 * workers}. Each worker has its own resource set that is backed by a read-only snapshot of the new index. The
+		 * new resource descriptions and generated file mappings are merged into the index state in the order of the
+		 * given URIs when all workers are done, such that the outcome does not depend on the scheduling.
+		 * 
+		 * @since 2.36
+		 */
+		protected List<IResourceDescription.Delta> launchParallel(List<URI> toBeBuilt,
+				ResourceDescriptionsData newIndex, Source2GeneratedMapping newSource2GeneratedMapping) {
+			ResourceDescriptionsData snapshot = newIndex.copy();
+			Set<URI> sourceLevelURIs = new HashSet<>(request.getSourceLevelUris());
+			Map<URI, Resource> loadedResources = detachLoadedResources(toBeBuilt);
+			List<ParallelBuildResult> results = context.executeParallel(toBeBuilt, request.getParallelism(), () -> {
+				XtextResourceSet resourceSet = request.getResourceSetFactory().apply(snapshot);
+				SourceLevelURIsAdapter.setSourceLevelUris(resourceSet, sourceLevelURIs);
+				return resourceSet;
+			}, loadedResources, (resource) -> buildParallel(resource, newSource2GeneratedMapping));
+			List<IResourceDescription.Delta> deltas = new ArrayList<>(results.size());
+			for (ParallelBuildResult result : results) {
+				newIndex.addDescription(result.getUri(), result.getDescription());
+				result.mergeInto(newSource2GeneratedMapping);
+				deltas.add(result.getDelta());
+			}
+			return deltas;
+		}
+
+		/**
+		 * Removes the given resources from the resource set of the request if they are still loaded from indexing
+		 * them, such that the workers of a parallel build do not parse them again.
+		 * 
+		 * @since 2.36
+		 */
+		protected Map<URI, Resource> detachLoadedResources(List<URI> uris) {
+			XtextResourceSet resourceSet = request.getResourceSet();
+			Map<URI, Resource> result = new HashMap<>();
+			for (URI uri : uris) {
+				Resource resource = resourceSet.getResource(uri, false);
+				if (resource != null && resource.isLoaded() && !isLoadedFromStorage(resource)) {
+					result.put(uri, resource);
+				}
+			}
+			if (!result.isEmpty()) {
+				boolean wasDeliver = resourceSet.eDeliver();
+				try {
+					resourceSet.eSetDeliver(false);
+					resourceSet.getResources().removeAll(result.values());
+				} finally {
+					resourceSet.eSetDeliver(wasDeliver);
+				}
+			}
+			return result;
+		}
+
+		/**
+		 * Processes a single resource on a worker thread. The given mappings must not be modified but are only used to
+		 * look up the previously generated files.
+		 * 
+		 * @since 2.36
+		 */
+		protected ParallelBuildResult buildParallel(Resource resource, Source2GeneratedMapping previousMappings) {
+			CancelIndicator cancelIndicator = request.getCancelIndicator();
+			operationCanceledManager.checkCanceled(cancelIndicator);
+			// trigger init
+			resource.getContents();
+			EcoreUtil2.resolveLazyCrossReferences(resource, CancelIndicator.NullImpl);
+			operationCanceledManager.checkCanceled(cancelIndicator);
+			URI uri = resource.getURI();
+			IResourceServiceProvider serviceProvider = getResourceServiceProvider(resource);
+			IResourceDescription.Manager manager = serviceProvider.getResourceDescriptionManager();
+			IResourceDescription description = manager.getResourceDescription(resource);
+			IResourceDescription copiedDescription = getSerializableResourceDescription(description);
+			operationCanceledManager.checkCanceled(cancelIndicator);
+			ParallelBuildResult.RecordingMapping mappings = new ParallelBuildResult.RecordingMapping();
+			for (URI generated : previousMappings.getGenerated(uri)) {
+				mappings.addSource2Generated(uri, generated, previousMappings.getOutputConfigName(generated));
+			}
+			if (!request.isIndexOnly() && validate(resource)
+					&& serviceProvider.get(IShouldGenerate.class).shouldGenerate(resource, CancelIndicator.NullImpl)) {
+				operationCanceledManager.checkCanceled(cancelIndicator);
+				generate(resource, request, mappings);
+			}
+			IResourceDescription old = context.getOldState().getResourceDescriptions().getResourceDescription(uri);
+			return new ParallelBuildResult(uri, copiedDescription, manager.createDelta(old, copiedDescription),
+					mappings);
+		}
+
 		/**
 	 	* Return a new Serializable resource description from a {@link IResourceDescription}.
 	 	*
@@ -352,7 +460,9 @@ public class IncrementalBuilder {
 			}
 			List<Issue> validationResult = resourceValidator.validate(resource, CheckMode.ALL,
 					request.getCancelIndicator());
-			return request.getAfterValidate().afterValidate(resource.getURI(), validationResult);
+			synchronized (callbackLock) {
+				return request.getAfterValidate().afterValidate(resource.getURI(), validationResult);
+			}
 		}
 
 		/**
@@ -365,12 +475,16 @@ public class IncrementalBuilder {
 			fileSystemAccess.setBeforeWrite((uri, outputCfgName, contents) -> {
 				newMappings.addSource2Generated(resource.getURI(), uri, outputCfgName);
 				previous.remove(uri);
-				request.getAfterGenerateFile().apply(resource.getURI(), uri);
+				synchronized (callbackLock) {
+					request.getAfterGenerateFile().apply(resource.getURI(), uri);
+				}
 				return contents;
 			});
 			fileSystemAccess.setBeforeDelete((uri) -> {
 				newMappings.deleteGenerated(uri);
-				request.getAfterDeleteFile().apply(uri);
+				synchronized (callbackLock) {
+					request.getAfterDeleteFile().apply(uri);
+				}
 				return true;
 			});
 			fileSystemAccess.setContext(resource);
@@ -385,7 +499,9 @@ public class IncrementalBuilder {
 			for (URI noLongerCreated : previous) {
 				try {
 					resourceSet.getURIConverter().delete(noLongerCreated, Collections.emptyMap());
-					request.getAfterDeleteFile().apply(noLongerCreated);
+					synchronized (callbackLock) {
+						request.getAfterDeleteFile().apply(noLongerCreated);
+					}
 				} catch (IOException e) {
 					throw new RuntimeIOException(e);
 				}
@@ -442,7 +558,10 @@ public class IncrementalBuilder {
 						.getResourceStorageFacade();
 				if (resourceStorageFacade != null) {
 					resourceStorageFacade.saveResource((StorageAwareResource) resource, fileSystemAccess);
-					request.getSourceLevelUris().remove(resource.getURI());
+					Set<URI> sourceLevelURIs = request.getSourceLevelUris();
+					synchronized (sourceLevelURIs) {
+						sourceLevelURIs.remove(resource.getURI());
+					}
 				}
 			}
 		}
@@ -469,6 +588,69 @@ public class IncrementalBuilder {
 		}
 	}
 
+	/**
+	 * The outcome of processing a single resource in a parallel build.
+	 * 
+	 * @since 2.36
+	 */
+	public static class ParallelBuildResult {
+		/**
+		 * File mappings of a single resource that keep track of the generated files that were deleted.
+		 */
+		protected static class RecordingMapping extends Source2GeneratedMapping {
+			private static final long serialVersionUID = -3372592154513247652L;
+
+			private final List<URI> deletedGenerated = new ArrayList<>();
+
+			@Override
+			public void deleteGenerated(URI generated) {
+				super.deleteGenerated(generated);
+				deletedGenerated.add(generated);
+			}
+		}
+
+		private final URI uri;
+
+		private final IResourceDescription description;
+
+		private final IResourceDescription.Delta delta;
+
+		private final RecordingMapping mappings;
+
+		protected ParallelBuildResult(URI uri, IResourceDescription description, IResourceDescription.Delta delta,
+				RecordingMapping mappings) {
+			this.uri = uri;
+			this.description = description;
+			this.delta = delta;
+			this.mappings = mappings;
+		}
+
+		public URI getUri() {
+			return uri;
+		}
+
+		public IResourceDescription getDescription() {
+			return description;
+		}
+
+		public IResourceDescription.Delta getDelta() {
+			return delta;
+		}
+
+		/**
+		 * Replace the mappings of the processed resource in the given target.
+		 */
+		public void mergeInto(Source2GeneratedMapping target) {
+			for (URI deleted : mappings.deletedGenerated) {
+				target.deleteGenerated(deleted);
+			}
+			target.deleteSource(uri);
+			for (URI generated : mappings.getGenerated(uri)) {
+				target.addSource2Generated(uri, generated, mappings.getOutputConfigName(generated));
+			}
+		}
+	}
+
 	@Inject
 	private Provider<IncrementalBuilder.InternalStatefulIncrementalBuilder> provider;
 
@@ -0,0 +1,300 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.build;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.diagnostics.Severity;
+import org.eclipse.xtext.resource.impl.MappedResourceDescriptionsData;
+import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
+import org.eclipse.xtext.resource.persistence.MappedIndex;
+import org.eclipse.xtext.validation.CheckType;
+import org.eclipse.xtext.validation.Issue;
+import org.eclipse.xtext.xbase.lib.Procedures.Procedure2;
+
+import com.google.common.annotations.Beta;
+import com.google.common.collect.Lists;
+
+/**
+ * Stores an {@link IndexState} in a file and restores it from there. The resource descriptions are stored in the
+ * {@link MappedIndex} format. The restored state is backed by a memory mapped view of the file and decodes the
+ * resource descriptions on demand, such that restoring even a large index is cheap. Optionally, the issues of the
+ * resources are stored along with the state.
+ *
+ * The file is replaced atomically when the state is stored, so an index state that was loaded from a previous
+ * version of the file remains valid. Since a file cannot be replaced while it is mapped on Windows, the file is read
+ * into memory there.
+ *
+ * @since 2.36
+ */
+@Beta
+public class IndexStateFile {
+
+	private static final int MAGIC = 0x58495354; // XIST
+
+	private static final int VERSION = 2;
+
+	private static final int HEADER_SIZE = 16;
+
+	private static final int NULL = Integer.MIN_VALUE;
+
+	/**
+	 * Write the given index state to the given file.
+	 */
+	public void store(IndexState state, Path file) throws IOException {
+		store(state, Collections.emptyMap(), file);
+	}
+
+	/**
+	 * Write the given index state and the issues of its resources to the given file.
+	 */
+	public void store(IndexState state, Map<URI, ? extends Iterable<? extends Issue>> issues, Path file)
+			throws IOException {
+		ByteArrayOutputStream mappings = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(mappings)) {
+			state.getFileMappings().writeExternal(out);
+		}
+		ByteArrayOutputStream issueBytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(issueBytes)) {
+			writeIssues(issues, out);
+		}
+		Path parent = file.toAbsolutePath().getParent();
+		Files.createDirectories(parent);
+		Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+		try {
+			try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(temp), 65536)) {
+				DataOutputStream out = new DataOutputStream(stream);
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeInt(mappings.size());
+				out.writeInt(issueBytes.size());
+				mappings.writeTo(out);
+				issueBytes.writeTo(out);
+				writeResourceDescriptions(state.getResourceDescriptions(), out);
+				out.flush();
+			}
+			Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	/**
+	 * Write the given resource descriptions in the {@link MappedIndex} format. If they were restored from a file, the
+	 * unchanged descriptions are copied without decoding them.
+	 */
+	protected void writeResourceDescriptions(ResourceDescriptionsData descriptions, OutputStream out)
+			throws IOException {
+		if (descriptions instanceof MappedResourceDescriptionsData) {
+			((MappedResourceDescriptionsData) descriptions).write(out);
+		} else {
+			MappedIndex.write(Lists.newArrayList(descriptions.getAllResourceDescriptions()), out);
+		}
+	}
+
+	/**
+	 * Restore the index state from the given file. The resource descriptions of the result are a
+	 * {@link MappedResourceDescriptionsData}.
+	 *
+	 * @throws IOException
+	 *             if the file cannot be read or has an unexpected format.
+	 */
+	public IndexState load(Path file) throws IOException {
+		return load(file, null);
+	}
+
+	/**
+	 * Restore the index state from the given file and pass the stored issues to the given acceptor, if any. The
+	 * resource descriptions of the result are a {@link MappedResourceDescriptionsData}.
+	 *
+	 * @throws IOException
+	 *             if the file cannot be read or has an unexpected format.
+	 */
+	public IndexState load(Path file, Procedure2<? super URI, ? super List<Issue>> issueAcceptor)
+			throws IOException {
+		ByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new IOException("Index state file is too large: " + file);
+			}
+			buffer = read(channel);
+		}
+		if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+			throw new IOException("Unsupported index state file: " + file);
+		}
+		int mappingsSize = buffer.getInt(8);
+		int issuesSize = buffer.getInt(12);
+		byte[] mappingBytes = new byte[mappingsSize];
+		ByteBuffer duplicate = buffer.duplicate();
+		duplicate.position(HEADER_SIZE);
+		duplicate.get(mappingBytes);
+		Source2GeneratedMapping mappings = new Source2GeneratedMapping();
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(mappingBytes))) {
+			mappings.readExternal(in);
+		} catch (ClassNotFoundException e) {
+			throw new IOException(e);
+		}
+		if (issueAcceptor != null) {
+			byte[] issueBytes = new byte[issuesSize];
+			duplicate.get(issueBytes);
+			try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(issueBytes))) {
+				readIssues(in, issueAcceptor);
+			}
+		} else {
+			duplicate.position(duplicate.position() + issuesSize);
+		}
+		ByteBuffer index = duplicate.slice();
+		return new IndexState(new MappedResourceDescriptionsData(new MappedIndex(index)), mappings);
+	}
+
+	/**
+	 * Provides the contents of the file. The file is mapped unless {@link #isMapFile()} returns false.
+	 */
+	protected ByteBuffer read(FileChannel channel) throws IOException {
+		if (isMapFile()) {
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		ByteBuffer result = ByteBuffer.allocateDirect((int) channel.size());
+		while (result.hasRemaining() && channel.read(result) >= 0) {
+			// read until the buffer is full
+		}
+		result.flip();
+		return result;
+	}
+
+	/**
+	 * Whether the file is mapped when it is loaded. A mapping is only released when the restored state is garbage
+	 * collected, and a mapped file cannot be replaced on Windows. Thus the file is read into memory there.
+	 */
+	protected boolean isMapFile() {
+		return !System.getProperty("os.name", "").toLowerCase(Locale.ROOT).startsWith("windows");
+	}
+
+	private void writeIssues(Map<URI, ? extends Iterable<? extends Issue>> issues, DataOutputStream out)
+			throws IOException {
+		out.writeInt(issues.size());
+		for (Map.Entry<URI, ? extends Iterable<? extends Issue>> entry : issues.entrySet()) {
+			writeString(entry.getKey().toString(), out);
+			List<Issue> list = Lists.newArrayList(entry.getValue());
+			out.writeInt(list.size());
+			for (Issue issue : list) {
+				out.writeInt(issue.getSeverity() != null ? issue.getSeverity().ordinal() : NULL);
+				out.writeInt(issue.getType() != null ? issue.getType().ordinal() : NULL);
+				out.writeBoolean(issue.isSyntaxError());
+				writeString(issue.getMessage(), out);
+				writeString(issue.getCode(), out);
+				writeString(issue.getUriToProblem() != null ? issue.getUriToProblem().toString() : null, out);
+				writeInteger(issue.getOffset(), out);
+				writeInteger(issue.getLength(), out);
+				writeInteger(issue.getLineNumber(), out);
+				writeInteger(issue.getColumn(), out);
+				writeInteger(issue.getLineNumberEnd(), out);
+				writeInteger(issue.getColumnEnd(), out);
+				String[] data = issue.getData();
+				out.writeInt(data != null ? data.length : NULL);
+				if (data != null) {
+					for (String value : data) {
+						writeString(value, out);
+					}
+				}
+			}
+		}
+	}
+
+	private void readIssues(DataInputStream in, Procedure2<? super URI, ? super List<Issue>> issueAcceptor)
+			throws IOException {
+		int resources = in.readInt();
+		for (int i = 0; i < resources; i++) {
+			URI uri = URI.createURI(readString(in));
+			int size = in.readInt();
+			List<Issue> issues = new ArrayList<>(size);
+			for (int j = 0; j < size; j++) {
+				Issue.IssueImpl issue = new Issue.IssueImpl();
+				int severity = in.readInt();
+				issue.setSeverity(severity != NULL ? Severity.values()[severity] : null);
+				int type = in.readInt();
+				issue.setType(type != NULL ? CheckType.values()[type] : null);
+				issue.setSyntaxError(in.readBoolean());
+				issue.setMessage(readString(in));
+				issue.setCode(readString(in));
+				String uriToProblem = readString(in);
+				issue.setUriToProblem(uriToProblem != null ? URI.createURI(uriToProblem) : null);
+				issue.setOffset(readInteger(in));
+				Integer length = readInteger(in);
+				if (length != null) {
+					issue.setLength(length);
+				}
+				issue.setLineNumber(readInteger(in));
+				issue.setColumn(readInteger(in));
+				issue.setLineNumberEnd(readInteger(in));
+				issue.setColumnEnd(readInteger(in));
+				int dataLength = in.readInt();
+				if (dataLength != NULL) {
+					String[] data = new String[dataLength];
+					for (int k = 0; k < dataLength; k++) {
+						data[k] = readString(in);
+					}
+					issue.setData(data);
+				}
+				issues.add(issue);
+			}
+			issueAcceptor.apply(uri, issues);
+		}
+	}
+
+	private void writeInteger(Integer value, DataOutputStream out) throws IOException {
+		out.writeInt(value != null ? value : NULL);
+	}
+
+	private Integer readInteger(DataInputStream in) throws IOException {
+		int value = in.readInt();
+		return value != NULL ? value : null;
+	}
+
+	private void writeString(String value, DataOutputStream out) throws IOException {
+		if (value == null) {
+			out.writeInt(NULL);
+		} else {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+	private String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length == NULL) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -16,17 +16,22 @@ import java.util.Set;
 
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.resource.CompilerPhases;
+import org.eclipse.xtext.resource.IEObjectDescription;
 import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.IResourceDescription.Delta;
 import org.eclipse.xtext.resource.IResourceDescriptions;
 import org.eclipse.xtext.resource.IResourceServiceProvider;
 import org.eclipse.xtext.resource.impl.DefaultResourceDescriptionDelta;
+import org.eclipse.xtext.resource.impl.DefaultResourceDescriptionManager;
 import org.eclipse.xtext.resource.impl.ResourceDescriptionsData;
 import org.eclipse.xtext.service.OperationCanceledManager;
 import org.eclipse.xtext.xbase.lib.IterableExtensions;
 import org.eclipse.xtext.xbase.lib.util.ToStringBuilder;
 
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.FluentIterable;
 import com.google.inject.Inject;
 
@@ -122,11 +127,15 @@ public class Indexer {
 		Set<IResourceDescription.Delta> allDeltas = new HashSet<>(deltas);
 		allDeltas.addAll(request.getExternalDeltas());
 		Set<URI> deltaSet = FluentIterable.from(deltas).transform(Delta::getUri).toSet();
+		Supplier<Set<URI>> candidates = Suppliers.memoize(() -> getAffectionCandidates(allDeltas, previousIndex));
 		List<URI> allAffected = FluentIterable.from(previousIndex.getAllResourceDescriptions())
 				.transform(IResourceDescription::getURI).filter(it -> !deltaSet.contains(it)).filter(it -> {
 					IResourceServiceProvider resourceServiceProvider = context.getResourceServiceProvider(it);
 					if (resourceServiceProvider != null) {
 						IResourceDescription.Manager manager = resourceServiceProvider.getResourceDescriptionManager();
+						if (isAffectedByNamesAndReferencesOnly(manager) && !candidates.get().contains(it)) {
+							return false;
+						}
 						IResourceDescription resourceDescription = previousIndex.getResourceDescription(it);
 						return isAffected(resourceDescription, manager, allDeltas, allDeltas, newIndex);
 					} else {
@@ -221,6 +230,45 @@ public class Indexer {
 		return manager.createDelta(oldIndex != null ? oldIndex.getResourceDescription(uri) : null, toBeAdded);
 	}
 
+	/**
+	 * Return the URIs of the resources in the given index that import one of the names that are exported by the
+	 * given deltas or that refer to one of the changed resources.
+	 * 
+	 * @since 2.36
+	 */
+	protected Set<URI> getAffectionCandidates(Collection<IResourceDescription.Delta> deltas,
+			ResourceDescriptionsData index) {
+		Set<QualifiedName> exportedNames = new HashSet<>();
+		Set<URI> changedURIs = new HashSet<>();
+		for (IResourceDescription.Delta delta : deltas) {
+			changedURIs.add(delta.getUri());
+			addExportedNames(exportedNames, delta.getOld());
+			addExportedNames(exportedNames, delta.getNew());
+		}
+		Set<URI> result = new HashSet<>(index.getImportingResourceURIs(exportedNames));
+		result.addAll(index.getReferringResourceURIs(changedURIs));
+		return result;
+	}
+
+	private void addExportedNames(Set<QualifiedName> names, IResourceDescription description) {
+		if (description != null) {
+			for (IEObjectDescription object : description.getExportedObjects()) {
+				names.add(object.getName().toLowerCase());
+			}
+		}
+	}
+
+	/**
+	 * Whether the given manager considers only resources to be affected that import one of the changed names or
+	 * refer to one of the changed resources, so that the candidates can be preselected by means of the index.
+	 * 
+	 * @since 2.36
+	 */
+	protected boolean isAffectedByNamesAndReferencesOnly(IResourceDescription.Manager manager) {
+		return manager instanceof DefaultResourceDescriptionManager
+				&& ((DefaultResourceDescriptionManager) manager).isAffectedByNamesAndReferencesOnly();
+	}
+
 	/**
 	 * Return true, if the given resource must be processed due to the given changes.
 	 */
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.build;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.xbase.lib.Exceptions;
+import org.eclipse.xtext.xbase.lib.Functions.Function0;
+import org.eclipse.xtext.xbase.lib.Functions.Function1;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Processes resources on a number of worker threads. Each worker loads the resources into its own resource set and
+ * honors the {@link BuildContext#getClusteringPolicy() clustering policy} for it.
+ *
+ * @since 2.36
+ */
+public class ParallelResourceLoader {
+	/**
+	 * The threads of the workers are shared by all builds. Idle threads are discarded after a minute.
+	 */
+	private static final ExecutorService SHARED_EXECUTOR = Executors.newCachedThreadPool(
+			new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ParallelResourceLoader-%d").build());
+
+	private final BuildContext context;
+
+	private final ExecutorService executor;
+
+	public ParallelResourceLoader(BuildContext context) {
+		this(context, SHARED_EXECUTOR);
+	}
+
+	public ParallelResourceLoader(BuildContext context, ExecutorService executor) {
+		this.context = context;
+		this.executor = executor;
+	}
+
+	/**
+	 * Execute the given operation on the given URIs with the given number of workers. The operation is invoked
+	 * concurrently. The result has the same order as the given URIs. If an operation fails, the remaining workers
+	 * stop and the first failure is rethrown.
+	 */
+	public <T> List<T> executeParallel(List<URI> uris, int parallelism,
+			Function0<? extends XtextResourceSet> resourceSetFactory, Function1<? super Resource, ? extends T> operation) {
+		return executeParallel(uris, parallelism, resourceSetFactory, Collections.emptyMap(), operation);
+	}
+
+	/**
+	 * Execute the given operation on the given URIs with the given number of workers. Resources that are already
+	 * loaded are passed in the given map, they must not be contained in a resource set. They are added to the
+	 * resource set of the worker that processes them instead of being loaded again. The operation is invoked
+	 * concurrently. The result has the same order as the given URIs. If an operation fails, the remaining workers
+	 * stop and the first failure is rethrown.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> List<T> executeParallel(List<URI> uris, int parallelism,
+			Function0<? extends XtextResourceSet> resourceSetFactory, Map<URI, ? extends Resource> loadedResources,
+			Function1<? super Resource, ? extends T> operation) {
+		Object[] result = new Object[uris.size()];
+		int workerCount = Math.max(1, Math.min(parallelism, uris.size()));
+		AtomicInteger next = new AtomicInteger();
+		AtomicBoolean failed = new AtomicBoolean();
+		List<Future<?>> futures = new ArrayList<>(workerCount);
+		try {
+			for (int i = 0; i < workerCount; i++) {
+				futures.add(executor.submit(() -> {
+					XtextResourceSet resourceSet = resourceSetFactory.apply();
+					int loadedURIsCount = 0;
+					try {
+						for (int index = next.getAndIncrement(); index < result.length && !failed.get(); index = next
+								.getAndIncrement()) {
+							URI uri = uris.get(index);
+							if (!context.getClusteringPolicy().continueProcessing(resourceSet, uri, loadedURIsCount)) {
+								clearResourceSet(resourceSet);
+								loadedURIsCount = 0;
+							}
+							loadedURIsCount++;
+							Resource resource = loadedResources.get(uri);
+							if (resource != null) {
+								resourceSet.getResources().add(resource);
+							} else {
+								resource = resourceSet.getResource(uri, true);
+							}
+							result[index] = operation.apply(resource);
+						}
+					} catch (RuntimeException | Error e) {
+						failed.set(true);
+						throw e;
+					} finally {
+						clearResourceSet(resourceSet);
+					}
+				}));
+			}
+			Throwable failure = null;
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					if (failure == null) {
+						failure = e.getCause();
+					}
+				} catch (InterruptedException e) {
+					failed.set(true);
+					Thread.currentThread().interrupt();
+					throw Exceptions.sneakyThrow(e);
+				}
+			}
+			if (failure != null) {
+				throw Exceptions.sneakyThrow(failure);
+			}
+		} finally {
+			failed.set(true);
+			for (Future<?> future : futures) {
+				future.cancel(true);
+			}
+		}
+		return (List<T>) Arrays.asList(result);
+	}
+
+	/**
+	 * Remove all resources from the resource set without delivering notifications.
+	 */
+	protected void clearResourceSet(XtextResourceSet resourceSet) {
+		boolean wasDeliver = resourceSet.eDeliver();
+		try {
+			resourceSet.eSetDeliver(false);
+			for (Resource resource : resourceSet.getResources()) {
+				resource.eSetDeliver(false);
+			}
+			resourceSet.getResources().clear();
+		} finally {
+			resourceSet.eSetDeliver(wasDeliver);
+		}
+	}
+}
@@ -10,6 +10,9 @@ package org.eclipse.xtext.findReferences;
 
 import static com.google.common.collect.Iterables.*;
 
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -171,6 +174,17 @@ public class ReferenceFinder implements IReferenceFinder {
 	public void findAllReferences(TargetURIs targetURIs, IResourceAccess resourceAccess,
 			IResourceDescriptions indexData, Acceptor acceptor, IProgressMonitor monitor) {
 		if (!targetURIs.isEmpty()) {
+			Set<URI> referringResourceURIs = null;
+			if (indexData instanceof IResourceDescriptions.IReferrerAware) {
+				referringResourceURIs = ((IResourceDescriptions.IReferrerAware) indexData)
+						.getReferringResourceURIs(targetURIs.getTargetResourceURIs());
+				if (isIndexBasedForAllLanguages()) {
+					Set<URI> candidates = new LinkedHashSet<>(targetURIs.getTargetResourceURIs());
+					candidates.addAll(referringResourceURIs);
+					findReferencesInDescriptions(targetURIs, candidates, resourceAccess, indexData, acceptor, monitor);
+					return;
+				}
+			}
 			Iterable<IResourceDescription> allResourceDescriptions = indexData.getAllResourceDescriptions();
 			SubMonitor subMonitor = SubMonitor.convert(monitor, size(allResourceDescriptions) / MONITOR_CHUNK_SIZE + 1);
 			IProgressMonitor useMe = subMonitor.newChild(1);
@@ -178,8 +192,12 @@ public class ReferenceFinder implements IReferenceFinder {
 			for (IResourceDescription resourceDescription : allResourceDescriptions) {
 				if (subMonitor.isCanceled())
 					throw new OperationCanceledException();
-				IReferenceFinder languageSpecific = getLanguageSpecificReferenceFinder(resourceDescription.getURI());
-				languageSpecific.findReferences(targetURIs, resourceDescription, resourceAccess, acceptor, useMe);
+				URI resourceURI = resourceDescription.getURI();
+				IReferenceFinder languageSpecific = getLanguageSpecificReferenceFinder(resourceURI);
+				if (referringResourceURIs == null || referringResourceURIs.contains(resourceURI)
+						|| targetURIs.containsResource(resourceURI) || !isIndexBased(languageSpecific)) {
+					languageSpecific.findReferences(targetURIs, resourceDescription, resourceAccess, acceptor, useMe);
+				}
 				i++;
 				if (i % MONITOR_CHUNK_SIZE == 0) {
 					useMe = subMonitor.newChild(1);
@@ -188,6 +206,76 @@ public class ReferenceFinder implements IReferenceFinder {
 		}
 	}
 
+	private void findReferencesInDescriptions(TargetURIs targetURIs, Set<URI> candidates,
+			IResourceAccess resourceAccess, IResourceDescriptions indexData, Acceptor acceptor,
+			IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, candidates.size() / MONITOR_CHUNK_SIZE + 1);
+		IProgressMonitor useMe = subMonitor.newChild(1);
+		int i = 0;
+		for (URI candidate : candidates) {
+			if (subMonitor.isCanceled())
+				throw new OperationCanceledException();
+			IResourceDescription resourceDescription = indexData.getResourceDescription(candidate);
+			if (resourceDescription != null) {
+				getLanguageSpecificReferenceFinder(candidate).findReferences(targetURIs, resourceDescription,
+						resourceAccess, acceptor, useMe);
+			}
+			i++;
+			if (i % MONITOR_CHUNK_SIZE == 0) {
+				useMe = subMonitor.newChild(1);
+			}
+		}
+	}
+
+	/**
+	 * Whether the reference finders of all registered languages and the fallback for unknown resources are
+	 * {@link #isIndexBased(IReferenceFinder) index based}. If so, only the target resources and the resources that
+	 * are {@link IResourceDescriptions.IReferrerAware known to refer} to them are visited when all references are
+	 * searched. Languages that are registered lazily are not inspected, so the answer is {@code false} for them.
+	 * 
+	 * @since 2.36
+	 */
+	protected boolean isIndexBasedForAllLanguages() {
+		if (!isIndexBased(this)) {
+			return false;
+		}
+		for (Map<String, Object> providers : Arrays.asList(serviceProviderRegistry.getExtensionToFactoryMap(),
+				serviceProviderRegistry.getProtocolToFactoryMap(),
+				serviceProviderRegistry.getContentTypeToFactoryMap())) {
+			for (Object provider : providers.values()) {
+				if (!(provider instanceof IResourceServiceProvider) || !isIndexBased(
+						((IResourceServiceProvider) provider).get(IReferenceFinder.class))) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Whether the given reference finder finds the references of a resource description that is not one of the
+	 * target resources by means of its {@link IResourceDescription#getReferenceDescriptions() reference descriptions}
+	 * only. If so, resources that are not {@link IResourceDescriptions.IReferrerAware known to refer} to one of the
+	 * target resources are skipped.
+	 * 
+	 * @since 2.36
+	 */
+	protected boolean isIndexBased(IReferenceFinder referenceFinder) {
+		return referenceFinder instanceof ReferenceFinder && ((ReferenceFinder) referenceFinder).isIndexBased();
+	}
+
+	/**
+	 * Whether this reference finder finds references in resource descriptions only by means of their
+	 * {@link IResourceDescription#getReferenceDescriptions() reference descriptions}. Subclasses that
+	 * {@link #findReferencesInDescription(TargetURIs, IResourceDescription, IResourceAccess, Acceptor, IProgressMonitor)
+	 * find references} in a different way have to return {@code false}.
+	 * 
+	 * @since 2.36
+	 */
+	protected boolean isIndexBased() {
+		return true;
+	}
+
 	protected void findLocalReferencesFromElement(
 			Predicate<URI> targetURIs, 
 			EObject sourceCandidate,
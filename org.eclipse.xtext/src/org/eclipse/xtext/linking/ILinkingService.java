@@ -25,6 +25,11 @@ public interface ILinkingService {
 	 * Returns all {@link EObject}s referenced by the given link text in the
 	 * given context. But does not set the references or modifies the passed
 	 * information somehow. The returned list might contain proxy instances.
+	 * 
+	 * The linking service is invoked by the
+	 * {@link org.eclipse.xtext.linking.lazy.LazyLinkingResource#getEObject(String) LazyLinkingResource} while its
+	 * monitor is held. It may be invoked re-entrantly for other references of the same resource, e.g. if the scope
+	 * of the given reference depends on them.
 	 */
 	List<EObject> getLinkedObjects(EObject context, EReference reference, INode node) throws IllegalNodeException;
 }
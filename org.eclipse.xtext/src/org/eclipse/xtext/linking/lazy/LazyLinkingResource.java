@@ -130,6 +130,11 @@ public class LazyLinkingResource extends XtextResource {
 	 * resolves any lazy cross references in this resource, adding Issues for unresolvable elements to this resource.
 	 * This resource might still contain resolvable proxies after this method has been called.
 	 * 
+	 * The references are resolved one after another on the calling thread. They are not resolved concurrently,
+	 * since the scope of a reference may depend on other references of this resource and since the
+	 * {@link #getEObject(String) resolution} is guarded by the monitor of this resource. Builds that use several
+	 * threads resolve different resources, each in its own resource set, instead.
+	 * 
 	 * @param mon a {@link CancelIndicator} can be used to stop the resolution.
 	 */
 	public void resolveLazyCrossReferences(final CancelIndicator mon) {
@@ -54,6 +54,12 @@ public class LazyURIEncoder {
 			
 	@Inject(optional=true) @Named(value=USE_INDEXED_FRAGMENTS_BINDING)
 	private boolean isUseIndexFragment = false;
+
+	/**
+	 * The index fragments are the same for all resources, so the ones for the first proxies of a resource are
+	 * shared instead of being concatenated for each proxy again.
+	 */
+	private static final String[] INDEX_FRAGMENTS = new String[4096];
 	
 	/**
 	 * @since 2.7
@@ -93,7 +99,19 @@ public class LazyURIEncoder {
 		}
 		LazyLinkingResource lazyResource = (LazyLinkingResource) resource;
 		int idx = lazyResource.addLazyProxyInformation(obj,ref,node);
-		return XTEXT_LINK + idx;
+		return toIndexFragment(idx);
+	}
+
+	private static String toIndexFragment(int idx) {
+		if (idx >= INDEX_FRAGMENTS.length) {
+			return XTEXT_LINK + idx;
+		}
+		String result = INDEX_FRAGMENTS[idx];
+		if (result == null) {
+			result = XTEXT_LINK + idx;
+			INDEX_FRAGMENTS[idx] = result;
+		}
+		return result;
 	}
 
 	public void appendShortFragment(EObject obj, StringBuilder target) {
@@ -155,8 +173,7 @@ public class LazyURIEncoder {
 	public int getIndex(String uriFragment) {
 		int idx = -1;
 		try {
-			String string = uriFragment.substring(XTEXT_LINK.length());
-			idx = Integer.parseInt(string); 
+			idx = Integer.parseInt(uriFragment, XTEXT_LINK.length(), uriFragment.length(), 10);
 		} catch (RuntimeException e) {
 			throw new IllegalArgumentException("Couldn't parse index from fragment '"+uriFragment+"'", e);
 		}
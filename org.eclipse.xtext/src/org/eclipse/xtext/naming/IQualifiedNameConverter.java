@@ -8,10 +8,12 @@
  *******************************************************************************/
 package org.eclipse.xtext.naming;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.xtext.util.Strings;
 
+import com.google.common.annotations.Beta;
 import com.google.common.base.Preconditions;
 import com.google.inject.ImplementedBy;
 import com.google.inject.Singleton;
@@ -70,4 +72,29 @@ public interface IQualifiedNameConverter {
 			return ".";
 		}
 	}
+
+	/**
+	 * A converter that creates {@link QualifiedName#createInterned(List) interned} names, whose segments and lower
+	 * case forms are shared with all other interned names. Bind this implementation to reduce the footprint of large
+	 * indexes.
+	 * 
+	 * @since 2.36
+	 */
+	@Beta
+	@Singleton
+	static class InterningImpl extends DefaultImpl {
+
+		@Override
+		public QualifiedName toQualifiedName(String qualifiedNameAsString) {
+			Preconditions.checkArgument(qualifiedNameAsString != null, "Qualified name cannot be null");
+			Preconditions.checkArgument(!qualifiedNameAsString.isEmpty(), "Qualified name cannot be empty");
+			String delimiter = getDelimiter();
+			if (Strings.isEmpty(delimiter))
+				return QualifiedName.createInterned(Collections.singletonList(qualifiedNameAsString));
+			List<String> segs = delimiter.length() == 1
+					? Strings.split(qualifiedNameAsString, delimiter.charAt(0))
+					: Strings.split(qualifiedNameAsString, delimiter);
+			return QualifiedName.createInterned(segs);
+		}
+	}
 }
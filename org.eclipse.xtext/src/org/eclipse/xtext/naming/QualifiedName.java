@@ -13,7 +13,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
-import org.eclipse.emf.common.util.CommonUtil;
 import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl.EObjectInputStream;
 import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl.EObjectOutputStream;
 import org.eclipse.xtext.util.Strings;
@@ -136,7 +135,35 @@ public class QualifiedName implements Comparable<QualifiedName> {
 	 * The default value is <code>false</code>.
 	 */
 	private static String intern(String string) {
-		return USE_INTERNING ? CommonUtil.intern(string) : string;
+		return USE_INTERNING ? QualifiedNameSegments.intern(string) : string;
+	}
+
+	/**
+	 * Low-level factory method for names whose segments are taken from the global {@link QualifiedNameSegments segment
+	 * pool}, independent of the {@link QualifiedNameInterning interning} setting. The lower case form of these names
+	 * shares the pooled lower case segments. Names that are derived from the result, e.g. by
+	 * {@link #append(String)}, are only interned if interning is enabled.
+	 * 
+	 * @param segments
+	 *            the segments of the to-be-created qualified name. May be <code>null</code>, but may not contain
+	 *            <code>null</code> entries.
+	 * @return a {@link QualifiedName}. Never <code>null</code>.
+	 * @exception IllegalArgumentException
+	 *                if any of the segments is null
+	 * @since 2.36
+	 */
+	public static QualifiedName createInterned(List<String> segments) {
+		if (segments == null || segments.isEmpty())
+			return QualifiedName.EMPTY;
+		String[] segmentArray = new String[segments.size()];
+		for (int i = 0; i < segmentArray.length; i++) {
+			String string = segments.get(i);
+			if (string == null) {
+				throw new IllegalArgumentException("Segment cannot be null");
+			}
+			segmentArray[i] = QualifiedNameSegments.intern(string);
+		}
+		return new InternedQualifiedName(segmentArray);
 	}
 
 	/**
@@ -344,9 +371,9 @@ public class QualifiedName implements Comparable<QualifiedName> {
 		boolean isLowerCase = true;
 		for (int i = 0; i < getSegmentCount(); ++i) {
 			String segment = segments[i];
-			String lowerCaseSegment = segment.toLowerCase();
+			String lowerCaseSegment = toLowerCase(segment);
 			isLowerCase = isLowerCase && segment == lowerCaseSegment;
-			newSegments[i] = intern(lowerCaseSegment);
+			newSegments[i] = lowerCaseSegment;
 		}
 		if (isLowerCase) {
 			lowerCase = this;
@@ -356,6 +383,27 @@ public class QualifiedName implements Comparable<QualifiedName> {
 		return lowerCase;
 	}
 
+	/**
+	 * Returns the lower case form of the given segment of this name.
+	 */
+	String toLowerCase(String segment) {
+		if (USE_INTERNING) {
+			return QualifiedNameSegments.toLowerCase(segment);
+		}
+		return segment.toLowerCase();
+	}
+
+	private static class InternedQualifiedName extends QualifiedName {
+		public InternedQualifiedName(String[] segments) {
+			super(segments);
+		}
+
+		@Override
+		String toLowerCase(String segment) {
+			return QualifiedNameSegments.toLowerCase(segment);
+		}
+	}
+
 	private static class QualifiedNameLowerCase extends QualifiedName {
 		public QualifiedNameLowerCase(String[] segments) {
 			super(segments);
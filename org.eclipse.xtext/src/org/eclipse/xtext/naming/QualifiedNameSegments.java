@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.naming;
+
+import java.util.Map;
+
+import org.eclipse.emf.common.util.CommonUtil;
+
+import com.google.common.annotations.Beta;
+import com.google.common.collect.MapMaker;
+
+/**
+ * The global pool of {@link QualifiedName} segments. Equal segments of interned names share a single string instance
+ * and the lower case form of each interned segment is computed once and shared by all lower case names.
+ * 
+ * The pool is backed by the weak string pool of EMF, so segments that are no longer referenced are garbage collected.
+ * 
+ * @since 2.36
+ */
+@Beta
+public final class QualifiedNameSegments {
+
+	/**
+	 * The lower case form of the interned segments that are not lower case already. The keys are compared by
+	 * identity and weakly referenced.
+	 */
+	private static final Map<String, String> LOWER_CASE = new MapMaker().weakKeys().makeMap();
+
+	private QualifiedNameSegments() {
+	}
+
+	/**
+	 * Returns the pooled instance of the given segment.
+	 */
+	public static String intern(String segment) {
+		return CommonUtil.intern(segment);
+	}
+
+	/**
+	 * Returns the pooled lower case form of the given pooled segment. If the segment is lower case already, the
+	 * segment itself is returned.
+	 */
+	public static String toLowerCase(String internedSegment) {
+		String result = LOWER_CASE.get(internedSegment);
+		if (result == null) {
+			String lowerCase = internedSegment.toLowerCase();
+			if (lowerCase.equals(internedSegment)) {
+				return internedSegment;
+			}
+			result = intern(lowerCase);
+			LOWER_CASE.put(internedSegment, result);
+		}
+		return result;
+	}
+}
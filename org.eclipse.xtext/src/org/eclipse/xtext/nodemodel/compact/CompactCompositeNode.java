@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.nodemodel.compact;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.nodemodel.BidiIterable;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.SyntaxErrorMessage;
+import org.eclipse.xtext.nodemodel.util.EmptyBidiIterable;
+import org.eclipse.xtext.nodemodel.util.NodeIterable;
+import org.eclipse.xtext.nodemodel.util.SingletonBidiIterable;
+
+import com.google.common.annotations.Beta;
+
+/**
+ * A view on a composite node of a {@link CompactNodeModel}. A folded node is represented by one view per level, just
+ * like the {@link org.eclipse.xtext.nodemodel.impl.SyntheticCompositeNode synthetic nodes} of the default node model.
+ *
+ * @since 2.36
+ */
+@Beta
+public class CompactCompositeNode extends CompactNode implements ICompositeNode {
+
+	/**
+	 * The level of this view in a folded node. Level zero is the outermost node.
+	 */
+	protected final int level;
+
+	protected CompactCompositeNode(CompactNodeModel model, int index, int level) {
+		super(model, index);
+		this.level = level;
+	}
+
+	public int getLevel() {
+		return level;
+	}
+
+	private boolean isInnermostLevel() {
+		return level == model.getFoldedCount(index) - 1;
+	}
+
+	@Override
+	public EObject getGrammarElement() {
+		Object grammarElement = model.getGrammarElementOrArray(index);
+		if (grammarElement instanceof EObject[]) {
+			return ((EObject[]) grammarElement)[level];
+		}
+		return (EObject) grammarElement;
+	}
+
+	@Override
+	public ICompositeNode getParent() {
+		if (level > 0) {
+			return model.getCompositeNode(index, level - 1);
+		}
+		return super.getParent();
+	}
+
+	@Override
+	public boolean hasPreviousSibling() {
+		return level == 0 && super.hasPreviousSibling();
+	}
+
+	@Override
+	public boolean hasNextSibling() {
+		return level == 0 && super.hasNextSibling();
+	}
+
+	@Override
+	public INode getPreviousSibling() {
+		if (level > 0) {
+			return null;
+		}
+		return super.getPreviousSibling();
+	}
+
+	@Override
+	public INode getNextSibling() {
+		if (level > 0) {
+			return null;
+		}
+		return super.getNextSibling();
+	}
+
+	@Override
+	public boolean hasDirectSemanticElement() {
+		return level == 0 && model.hasDirectSemanticElement(index);
+	}
+
+	@Override
+	public SyntaxErrorMessage getSyntaxErrorMessage() {
+		if (level > 0) {
+			return null;
+		}
+		return model.getSyntaxErrorMessage(index);
+	}
+
+	@Override
+	public int getLookAhead() {
+		return model.getLookAhead(index);
+	}
+
+	@Override
+	public BidiIterable<INode> getChildren() {
+		if (hasChildren()) {
+			INode firstChild = getFirstChild();
+			if (firstChild.hasSiblings()) {
+				return new NodeIterable(firstChild);
+			} else {
+				return SingletonBidiIterable.<INode>create(firstChild);
+			}
+		}
+		return EmptyBidiIterable.instance();
+	}
+
+	@Override
+	public boolean hasChildren() {
+		return !isInnermostLevel() || model.hasChildren(index);
+	}
+
+	@Override
+	public INode getFirstChild() {
+		if (!isInnermostLevel()) {
+			return model.getCompositeNode(index, level + 1);
+		}
+		return model.getFirstChild(index);
+	}
+
+	@Override
+	public INode getLastChild() {
+		if (!isInnermostLevel()) {
+			return model.getCompositeNode(index, level + 1);
+		}
+		return model.getLastChild(index);
+	}
+
+	@Override
+	public int hashCode() {
+		return super.hashCode() ^ (level << 24);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return super.equals(obj) && level == ((CompactCompositeNode) obj).level;
+	}
+}
@@ -0,0 +1,63 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.nodemodel.compact;
+
+import java.util.Collections;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.nodemodel.ILeafNode;
+import org.eclipse.xtext.nodemodel.SyntaxErrorMessage;
+
+import com.google.common.annotations.Beta;
+
+/**
+ * @since 2.36
+ */
+@Beta
+public class CompactLeafNode extends CompactNode implements ILeafNode {
+
+	protected CompactLeafNode(CompactNodeModel model, int index) {
+		super(model, index);
+	}
+
+	@Override
+	public boolean isHidden() {
+		return model.isHidden(index);
+	}
+
+	@Override
+	public EObject getGrammarElement() {
+		return (EObject) model.getGrammarElementOrArray(index);
+	}
+
+	@Override
+	public SyntaxErrorMessage getSyntaxErrorMessage() {
+		return model.getSyntaxErrorMessage(index);
+	}
+
+	@Override
+	public boolean hasDirectSemanticElement() {
+		return false;
+	}
+
+	@Override
+	public int getOffset() {
+		return getTotalOffset();
+	}
+
+	@Override
+	public int getLength() {
+		return getTotalLength();
+	}
+
+	@Override
+	public Iterable<ILeafNode> getLeafNodes() {
+		return Collections.<ILeafNode>singletonList(this);
+	}
+}
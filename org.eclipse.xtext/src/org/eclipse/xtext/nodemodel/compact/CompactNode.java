@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.nodemodel.compact;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.nodemodel.BidiTreeIterable;
+import org.eclipse.xtext.nodemodel.BidiTreeIterator;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.ILeafNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+import org.eclipse.xtext.nodemodel.util.NodeTreeIterator;
+import org.eclipse.xtext.nodemodel.util.ReversedBidiTreeIterable;
+import org.eclipse.xtext.util.ITextRegion;
+import org.eclipse.xtext.util.ITextRegionWithLineInformation;
+import org.eclipse.xtext.util.TextRegion;
+import org.eclipse.xtext.util.TextRegionWithLineInformation;
+
+import com.google.common.annotations.Beta;
+
+/**
+ * A view on a node of a {@link CompactNodeModel}. Views are created on demand, so two views of the same node are
+ * {@link #equals(Object) equal} but not necessarily identical.
+ *
+ * @since 2.36
+ */
+@Beta
+public abstract class CompactNode implements INode, BidiTreeIterable<INode> {
+
+	protected final CompactNodeModel model;
+
+	protected final int index;
+
+	protected CompactNode(CompactNodeModel model, int index) {
+		this.model = model;
+		this.index = index;
+	}
+
+	public CompactNodeModel getNodeModel() {
+		return model;
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	@Override
+	public ICompositeNode getParent() {
+		return model.getParentNode(index);
+	}
+
+	@Override
+	public boolean hasSiblings() {
+		return hasPreviousSibling() || hasNextSibling();
+	}
+
+	@Override
+	public boolean hasPreviousSibling() {
+		return model.hasPreviousSibling(index);
+	}
+
+	@Override
+	public boolean hasNextSibling() {
+		return model.hasNextSibling(index);
+	}
+
+	@Override
+	public INode getPreviousSibling() {
+		return model.getPreviousSibling(index);
+	}
+
+	@Override
+	public INode getNextSibling() {
+		return model.getNextSibling(index);
+	}
+
+	@Override
+	public ICompositeNode getRootNode() {
+		return model.getRootNode();
+	}
+
+	@Override
+	public Iterable<ILeafNode> getLeafNodes() {
+		int end = model.getSubtreeEnd(index);
+		return () -> new Iterator<ILeafNode>() {
+			private int next = findLeaf(index);
+
+			private int findLeaf(int from) {
+				int result = from;
+				while (result < end && !model.isLeaf(result)) {
+					result++;
+				}
+				return result;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return next < end;
+			}
+
+			@Override
+			public ILeafNode next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				ILeafNode result = new CompactLeafNode(model, next);
+				next = findLeaf(next + 1);
+				return result;
+			}
+		};
+	}
+
+	@Override
+	public int getTotalOffset() {
+		return model.getTotalOffset(index);
+	}
+
+	@Override
+	public int getOffset() {
+		return model.getOffset(index);
+	}
+
+	@Override
+	public int getTotalLength() {
+		return getTotalEndOffset() - getTotalOffset();
+	}
+
+	@Override
+	public int getLength() {
+		return getEndOffset() - getOffset();
+	}
+
+	@Override
+	public int getTotalEndOffset() {
+		return model.getTotalEndOffset(index);
+	}
+
+	@Override
+	public int getEndOffset() {
+		return model.getEndOffset(index);
+	}
+
+	@Override
+	public int getTotalStartLine() {
+		return model.getLineOfOffset(getTotalOffset());
+	}
+
+	@Override
+	public int getStartLine() {
+		return model.getLineOfOffset(getOffset());
+	}
+
+	@Override
+	public int getEndLine() {
+		return model.getLineOfOffset(getEndOffset());
+	}
+
+	@Override
+	public int getTotalEndLine() {
+		return model.getLineOfOffset(getTotalEndOffset());
+	}
+
+	@Override
+	public String getText() {
+		return model.getCompleteContent().substring(getTotalOffset(), getTotalEndOffset());
+	}
+
+	@Override
+	public ITextRegion getTextRegion() {
+		int offset = getOffset();
+		return new TextRegion(offset, getEndOffset() - offset);
+	}
+
+	@Override
+	public ITextRegion getTotalTextRegion() {
+		int totalOffset = getTotalOffset();
+		return new TextRegion(totalOffset, getTotalEndOffset() - totalOffset);
+	}
+
+	@Override
+	public ITextRegionWithLineInformation getTextRegionWithLineInformation() {
+		int offset = getOffset();
+		int endOffset = getEndOffset();
+		return new TextRegionWithLineInformation(offset, endOffset - offset, model.getLineOfOffset(offset),
+				model.getLineOfOffset(endOffset));
+	}
+
+	@Override
+	public ITextRegionWithLineInformation getTotalTextRegionWithLineInformation() {
+		int totalOffset = getTotalOffset();
+		int totalEndOffset = getTotalEndOffset();
+		return new TextRegionWithLineInformation(totalOffset, totalEndOffset - totalOffset,
+				model.getLineOfOffset(totalOffset), model.getLineOfOffset(totalEndOffset));
+	}
+
+	@Override
+	public EObject getSemanticElement() {
+		return model.getSemanticElement(index);
+	}
+
+	@Override
+	public BidiTreeIterable<INode> getAsTreeIterable() {
+		return this;
+	}
+
+	@Override
+	public BidiTreeIterator<INode> iterator() {
+		return new NodeTreeIterator(this);
+	}
+
+	@Override
+	public BidiTreeIterable<INode> reverse() {
+		return new ReversedBidiTreeIterable<INode>(this);
+	}
+
+	@Override
+	public NodeModelUtils.Implementation utils() {
+		return CompactNodeModelUtils.INSTANCE;
+	}
+
+	@Override
+	public int hashCode() {
+		return index;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null || getClass() != obj.getClass())
+			return false;
+		CompactNode other = (CompactNode) obj;
+		return index == other.index && model == other.model;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + " [index=" + index + ", text=" + getText() + "]";
+	}
+}
@@ -0,0 +1,591 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.nodemodel.compact;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.ILeafNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.SyntaxErrorMessage;
+import org.eclipse.xtext.nodemodel.impl.AbstractNode;
+import org.eclipse.xtext.nodemodel.impl.CompositeNode;
+import org.eclipse.xtext.nodemodel.impl.InternalNodeModelUtils;
+import org.eclipse.xtext.nodemodel.impl.RootNode;
+import org.eclipse.xtext.util.LineAndColumn;
+
+import com.google.common.annotations.Beta;
+
+/**
+ * A node model that stores the complete tree in a few parallel arrays rather than one object per node. The nodes are
+ * numbered in pre-order, so the first child of a composite node is always the next node and a subtree is a contiguous
+ * range of indices. The {@link INode} instances that are handed out to clients are lightweight views that are created
+ * on demand.
+ *
+ * For each node, the arrays hold
+ * <ul>
+ * <li>the index of the parent node,</li>
+ * <li>the total offset of a leaf node or the end index of the subtree of a composite node,</li>
+ * <li>an info word with the index of the grammar element, the kind of the node and its look ahead.</li>
+ * </ul>
+ * The offset of a composite node and the length of any node are derived from the offsets of the leaf nodes, which
+ * cover the complete content without gaps. Semantic elements, syntax errors and exceptionally large look aheads are
+ * rare, so they are kept in sparse tables.
+ *
+ * @since 2.36
+ */
+@Beta
+public class CompactNodeModel {
+
+	private static final int GRAMMAR_ELEMENT_MASK = 0xFFFFF;
+
+	private static final int NO_GRAMMAR_ELEMENT = GRAMMAR_ELEMENT_MASK;
+
+	private static final int LEAF = 1 << 20;
+
+	private static final int HIDDEN = 1 << 21;
+
+	private static final int SEMANTIC_ELEMENT = 1 << 22;
+
+	private static final int SYNTAX_ERROR = 1 << 23;
+
+	private static final int LOOK_AHEAD_SHIFT = 24;
+
+	private static final int LARGE_LOOK_AHEAD = 0xFF;
+
+	private final String completeContent;
+
+	private final int[] lineBreakOffsets;
+
+	/**
+	 * The distinct grammar elements of this node model. An entry is an array of grammar elements if the node is folded.
+	 */
+	private final Object[] grammarElements;
+
+	private final int[] infos;
+
+	private final int[] offsetsOrEnds;
+
+	private final int[] parents;
+
+	private final int[] semanticNodes;
+
+	private final EObject[] semanticElements;
+
+	private final int[] errorNodes;
+
+	private final SyntaxErrorMessage[] syntaxErrors;
+
+	private final int[] lookAheadNodes;
+
+	private final int[] lookAheads;
+
+	private final CompactRootNode rootNode;
+
+	private CompactNodeModel(Builder builder) {
+		this.completeContent = builder.completeContent;
+		this.lineBreakOffsets = builder.lineBreakOffsets;
+		this.grammarElements = builder.grammarElements.toArray();
+		this.infos = Arrays.copyOf(builder.infos, builder.size);
+		this.offsetsOrEnds = Arrays.copyOf(builder.offsetsOrEnds, builder.size);
+		this.parents = Arrays.copyOf(builder.parents, builder.size);
+		this.semanticNodes = toArray(builder.semanticNodes);
+		this.semanticElements = builder.semanticElements.toArray(new EObject[0]);
+		this.errorNodes = toArray(builder.errorNodes);
+		this.syntaxErrors = builder.syntaxErrors.toArray(new SyntaxErrorMessage[0]);
+		this.lookAheadNodes = toArray(builder.lookAheadNodes);
+		this.lookAheads = toArray(builder.lookAheads);
+		this.rootNode = new CompactRootNode(this);
+	}
+
+	private static int[] toArray(List<Integer> list) {
+		int[] result = new int[list.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = list.get(i);
+		}
+		return result;
+	}
+
+	/**
+	 * Creates a compact copy of the node model with the given root.
+	 *
+	 * @return the compact node model or <code>null</code> if the leaf nodes of the given node model do not cover the
+	 *         complete content without gaps or if there are too many distinct grammar elements.
+	 */
+	public static CompactNodeModel create(RootNode rootNode) {
+		Builder builder = new Builder(rootNode.getCompleteContent());
+		if (!builder.addAll(rootNode)) {
+			return null;
+		}
+		return new CompactNodeModel(builder);
+	}
+
+	public CompactRootNode getRootNode() {
+		return rootNode;
+	}
+
+	public String getCompleteContent() {
+		return completeContent;
+	}
+
+	/**
+	 * The number of nodes in this node model, not counting folded nodes.
+	 */
+	public int size() {
+		return infos.length;
+	}
+
+	/**
+	 * The indices of the nodes that have a direct semantic element.
+	 */
+	public int[] getSemanticNodeIndices() {
+		return semanticNodes.clone();
+	}
+
+	public Iterable<INode> getSyntaxErrors() {
+		return () -> new Iterator<INode>() {
+			private int next = 0;
+
+			@Override
+			public boolean hasNext() {
+				return next < errorNodes.length;
+			}
+
+			@Override
+			public INode next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return getNode(errorNodes[next++]);
+			}
+		};
+	}
+
+	/**
+	 * Returns the view of the node with the given index. Composite nodes are returned unfolded.
+	 */
+	public INode getNode(int index) {
+		if (isLeaf(index)) {
+			return new CompactLeafNode(this, index);
+		}
+		return getCompositeNode(index, 0);
+	}
+
+	CompactCompositeNode getCompositeNode(int index, int level) {
+		if (index == 0 && level == 0) {
+			return rootNode;
+		}
+		return new CompactCompositeNode(this, index, level);
+	}
+
+	ICompositeNode getParentNode(int index) {
+		int parent = parents[index];
+		if (parent < 0) {
+			return null;
+		}
+		return getCompositeNode(parent, getFoldedCount(parent) - 1);
+	}
+
+	boolean isLeaf(int index) {
+		return (infos[index] & LEAF) != 0;
+	}
+
+	boolean isHidden(int index) {
+		return (infos[index] & HIDDEN) != 0;
+	}
+
+	Object getGrammarElementOrArray(int index) {
+		int id = infos[index] & GRAMMAR_ELEMENT_MASK;
+		if (id == NO_GRAMMAR_ELEMENT) {
+			return null;
+		}
+		return grammarElements[id];
+	}
+
+	/**
+	 * The number of grammar elements of the given node. It is greater than one if the node is folded, that is
+	 * it represents a chain of composite nodes that have only one child each.
+	 */
+	int getFoldedCount(int index) {
+		Object grammarElement = getGrammarElementOrArray(index);
+		if (grammarElement instanceof EObject[]) {
+			return ((EObject[]) grammarElement).length;
+		}
+		return 1;
+	}
+
+	int getParent(int index) {
+		return parents[index];
+	}
+
+	int getSubtreeEnd(int index) {
+		if (isLeaf(index)) {
+			return index + 1;
+		}
+		return offsetsOrEnds[index];
+	}
+
+	/**
+	 * The offset of the first leaf with an index greater or equal to the given index.
+	 */
+	private int getOffsetOfNextLeaf(int index) {
+		for (int i = index; i < infos.length; i++) {
+			if (isLeaf(i)) {
+				return offsetsOrEnds[i];
+			}
+		}
+		return completeContent.length();
+	}
+
+	int getTotalOffset(int index) {
+		if (isLeaf(index)) {
+			return offsetsOrEnds[index];
+		}
+		return getOffsetOfNextLeaf(index + 1);
+	}
+
+	int getTotalEndOffset(int index) {
+		return getOffsetOfNextLeaf(getSubtreeEnd(index));
+	}
+
+	/**
+	 * The offset of the first non-hidden leaf in the given subtree.
+	 */
+	int getOffset(int index) {
+		int end = getSubtreeEnd(index);
+		int firstLeaf = -1;
+		for (int i = index; i < end; i++) {
+			if (isLeaf(i)) {
+				if (!isHidden(i)) {
+					return offsetsOrEnds[i];
+				}
+				if (firstLeaf == -1) {
+					firstLeaf = i;
+				}
+			}
+		}
+		if (firstLeaf != -1) {
+			return offsetsOrEnds[firstLeaf];
+		}
+		return getTotalOffset(index);
+	}
+
+	/**
+	 * The end offset of the last non-hidden leaf in the given subtree.
+	 */
+	int getEndOffset(int index) {
+		for (int i = getSubtreeEnd(index) - 1; i >= index; i--) {
+			if (isLeaf(i) && !isHidden(i)) {
+				return getTotalEndOffset(i);
+			}
+		}
+		return getTotalEndOffset(index);
+	}
+
+	boolean hasChildren(int index) {
+		return !isLeaf(index) && offsetsOrEnds[index] > index + 1;
+	}
+
+	INode getFirstChild(int index) {
+		if (!hasChildren(index)) {
+			return null;
+		}
+		return getNode(index + 1);
+	}
+
+	INode getLastChild(int index) {
+		if (!hasChildren(index)) {
+			return null;
+		}
+		int child = offsetsOrEnds[index] - 1;
+		while (parents[child] != index) {
+			child = parents[child];
+		}
+		return getNode(child);
+	}
+
+	boolean hasNextSibling(int index) {
+		int parent = parents[index];
+		return parent >= 0 && getSubtreeEnd(index) < offsetsOrEnds[parent];
+	}
+
+	INode getNextSibling(int index) {
+		if (!hasNextSibling(index)) {
+			return null;
+		}
+		return getNode(getSubtreeEnd(index));
+	}
+
+	boolean hasPreviousSibling(int index) {
+		int parent = parents[index];
+		return parent >= 0 && parent != index - 1;
+	}
+
+	INode getPreviousSibling(int index) {
+		if (!hasPreviousSibling(index)) {
+			return null;
+		}
+		int parent = parents[index];
+		int sibling = index - 1;
+		while (parents[sibling] != parent) {
+			sibling = parents[sibling];
+		}
+		return getNode(sibling);
+	}
+
+	boolean hasDirectSemanticElement(int index) {
+		return (infos[index] & SEMANTIC_ELEMENT) != 0;
+	}
+
+	EObject getSemanticElement(int index) {
+		for (int i = index; i >= 0; i = parents[i]) {
+			if (hasDirectSemanticElement(i)) {
+				return semanticElements[Arrays.binarySearch(semanticNodes, i)];
+			}
+		}
+		return null;
+	}
+
+	SyntaxErrorMessage getSyntaxErrorMessage(int index) {
+		if ((infos[index] & SYNTAX_ERROR) == 0) {
+			return null;
+		}
+		return syntaxErrors[Arrays.binarySearch(errorNodes, index)];
+	}
+
+	int getLookAhead(int index) {
+		int lookAhead = infos[index] >>> LOOK_AHEAD_SHIFT;
+		if (lookAhead == LARGE_LOOK_AHEAD) {
+			return lookAheads[Arrays.binarySearch(lookAheadNodes, index)];
+		}
+		return lookAhead;
+	}
+
+	int getLineOfOffset(int offset) {
+		return getLineAndColumn(offset).getLine();
+	}
+
+	LineAndColumn getLineAndColumn(int offset) {
+		return NodeModelAccess.getLineAndColumn(completeContent, lineBreakOffsets, offset);
+	}
+
+	/**
+	 * Returns the leaf node in the given subtree whose total region contains the given offset.
+	 */
+	ILeafNode findLeafNodeAtOffset(int index, int offset) {
+		int current = index;
+		if (!intersects(current, offset)) {
+			return null;
+		}
+		while (!isLeaf(current)) {
+			int end = offsetsOrEnds[current];
+			int child = current + 1;
+			while (child < end && !intersects(child, offset)) {
+				child = getSubtreeEnd(child);
+			}
+			if (child == end) {
+				return null;
+			}
+			current = child;
+		}
+		return new CompactLeafNode(this, current);
+	}
+
+	private boolean intersects(int index, int offset) {
+		return getTotalOffset(index) <= offset && getTotalEndOffset(index) > offset;
+	}
+
+	private static class NodeModelAccess extends InternalNodeModelUtils {
+
+		protected static LineAndColumn getLineAndColumn(String text, int[] lineBreaks, int offset) {
+			return InternalNodeModelUtils.getLineAndColumn(text, lineBreaks, offset);
+		}
+
+		protected static Object basicGetGrammarElement(AbstractNode node) {
+			return InternalNodeModelUtils.basicGetGrammarElement(node);
+		}
+
+		protected static AbstractNode basicGetFirstChild(CompositeNode node) {
+			return InternalNodeModelUtils.basicGetFirstChild(node);
+		}
+
+		protected static AbstractNode basicGetNextSibling(AbstractNode node) {
+			return InternalNodeModelUtils.basicGetNextSibling(node);
+		}
+
+		protected static int[] basicGetLineBreakOffsets(RootNode node) {
+			return InternalNodeModelUtils.basicGetLineBreakOffsets(node);
+		}
+	}
+
+	private static class Builder {
+
+		private final String completeContent;
+
+		private int[] lineBreakOffsets;
+
+		private final Map<Object, Integer> grammarElementIds = new HashMap<>();
+
+		private final List<Object> grammarElements = new ArrayList<>();
+
+		private int size = 0;
+
+		private int[] infos = new int[64];
+
+		private int[] offsetsOrEnds = new int[64];
+
+		private int[] parents = new int[64];
+
+		private final List<Integer> semanticNodes = new ArrayList<>();
+
+		private final List<EObject> semanticElements = new ArrayList<>();
+
+		private final List<Integer> errorNodes = new ArrayList<>();
+
+		private final List<SyntaxErrorMessage> syntaxErrors = new ArrayList<>();
+
+		private final List<Integer> lookAheadNodes = new ArrayList<>();
+
+		private final List<Integer> lookAheads = new ArrayList<>();
+
+		private int offset = 0;
+
+		Builder(String completeContent) {
+			this.completeContent = completeContent;
+		}
+
+		/**
+		 * Adds the nodes of the given tree in pre-order. Returns <code>false</code> if the leaf nodes are not
+		 * contiguous.
+		 */
+		boolean addAll(RootNode root) {
+			lineBreakOffsets = NodeModelAccess.basicGetLineBreakOffsets(root);
+			// the composite nodes whose children are not yet complete and their indices
+			List<CompositeNode> openNodes = new ArrayList<>();
+			List<Integer> openIndices = new ArrayList<>();
+			AbstractNode node = root;
+			while (node != null) {
+				int parent = openIndices.isEmpty() ? -1 : openIndices.get(openIndices.size() - 1);
+				int index = add(node, parent);
+				if (index < 0) {
+					return false;
+				}
+				AbstractNode firstChild = null;
+				if (node instanceof CompositeNode) {
+					firstChild = NodeModelAccess.basicGetFirstChild((CompositeNode) node);
+					if (firstChild == null) {
+						offsetsOrEnds[index] = size;
+					}
+				}
+				if (firstChild != null) {
+					openNodes.add((CompositeNode) node);
+					openIndices.add(index);
+					node = firstChild;
+				} else {
+					node = getNextNode(node, openNodes, openIndices);
+				}
+			}
+			return offset == completeContent.length();
+		}
+
+		/**
+		 * Returns the next node in pre-order after the given node and its subtree. Closes the composite nodes that
+		 * are complete.
+		 */
+		private AbstractNode getNextNode(AbstractNode completed, List<CompositeNode> openNodes,
+				List<Integer> openIndices) {
+			AbstractNode current = completed;
+			while (!openNodes.isEmpty()) {
+				int last = openNodes.size() - 1;
+				CompositeNode parent = openNodes.get(last);
+				// the siblings form a ring
+				AbstractNode sibling = NodeModelAccess.basicGetNextSibling(current);
+				if (sibling != NodeModelAccess.basicGetFirstChild(parent)) {
+					return sibling;
+				}
+				offsetsOrEnds[openIndices.get(last)] = size;
+				openNodes.remove(last);
+				openIndices.remove(last);
+				current = parent;
+			}
+			return null;
+		}
+
+		private int add(AbstractNode node, int parent) {
+			if (size == infos.length) {
+				int newLength = size * 2;
+				infos = Arrays.copyOf(infos, newLength);
+				offsetsOrEnds = Arrays.copyOf(offsetsOrEnds, newLength);
+				parents = Arrays.copyOf(parents, newLength);
+			}
+			int index = size++;
+			int info = getGrammarElementId(NodeModelAccess.basicGetGrammarElement(node));
+			if (info < 0) {
+				return -1;
+			}
+			if (node instanceof ILeafNode) {
+				ILeafNode leaf = (ILeafNode) node;
+				if (leaf.getTotalOffset() != offset) {
+					return -1;
+				}
+				info |= LEAF;
+				if (leaf.isHidden()) {
+					info |= HIDDEN;
+				}
+				offsetsOrEnds[index] = offset;
+				offset += leaf.getTotalLength();
+			} else {
+				int lookAhead = ((ICompositeNode) node).getLookAhead();
+				if (lookAhead < 0 || lookAhead >= LARGE_LOOK_AHEAD) {
+					lookAheadNodes.add(index);
+					lookAheads.add(lookAhead);
+					lookAhead = LARGE_LOOK_AHEAD;
+				}
+				info |= lookAhead << LOOK_AHEAD_SHIFT;
+				if (node.hasDirectSemanticElement()) {
+					info |= SEMANTIC_ELEMENT;
+					semanticNodes.add(index);
+					semanticElements.add(node.getSemanticElement());
+				}
+			}
+			SyntaxErrorMessage syntaxError = node.getSyntaxErrorMessage();
+			if (syntaxError != null) {
+				info |= SYNTAX_ERROR;
+				errorNodes.add(index);
+				syntaxErrors.add(syntaxError);
+			}
+			infos[index] = info;
+			parents[index] = parent;
+			return index;
+		}
+
+		private int getGrammarElementId(Object grammarElementOrArray) {
+			if (grammarElementOrArray == null) {
+				return NO_GRAMMAR_ELEMENT;
+			}
+			Integer result = grammarElementIds.get(grammarElementOrArray);
+			if (result == null) {
+				result = grammarElements.size();
+				if (result >= NO_GRAMMAR_ELEMENT) {
+					return -1;
+				}
+				grammarElementIds.put(grammarElementOrArray, result);
+				grammarElements.add(grammarElementOrArray);
+			}
+			return result;
+		}
+	}
+}
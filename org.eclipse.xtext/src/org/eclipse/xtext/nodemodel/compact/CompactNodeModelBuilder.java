@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.nodemodel.compact;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.impl.NodeModelBuilder;
+import org.eclipse.xtext.nodemodel.impl.RootNode;
+import org.eclipse.xtext.parser.IParseResult;
+
+import com.google.common.annotations.Beta;
+
+/**
+ * A node model builder that converts the complete node model of a resource into a {@link CompactNodeModel} once
+ * parsing is done. Languages opt in by binding it in their runtime module:
+ *
+ * <pre>
+ * public Class&lt;? extends NodeModelBuilder&gt; bindNodeModelBuilder() {
+ * 	return CompactNodeModelBuilder.class;
+ * }
+ * </pre>
+ *
+ * The compact node model reduces the memory that is retained by parsed resources. It does not reduce the peak memory
+ * while parsing, since the parser builds the default node model first.
+ *
+ * Clients that cast the nodes to the classes of the default node model, e.g. {@link RootNode} or
+ * {@link org.eclipse.xtext.nodemodel.impl.CompositeNode CompositeNode}, do not work with a compact node model. In
+ * particular:
+ * <ul>
+ * <li>{@link CompactParseResult#setRootNode(ICompositeNode)} is not supported, so partial parsing is not available and
+ * each change of the document leads to a full reparse.</li>
+ * <li>The node model cannot be written to a resource storage, so it must not be combined with
+ * {@link org.eclipse.xtext.resource.persistence.ResourceStorageFacade#setStoreNodeModel(boolean) storing the node
+ * model}.</li>
+ * <li>{@link org.eclipse.xtext.linking.lazy.SyntheticLinkingSupport SyntheticLinkingSupport} creates its nodes
+ * without a parent.</li>
+ * </ul>
+ *
+ * @since 2.36
+ */
+@Beta
+public class CompactNodeModelBuilder extends NodeModelBuilder {
+
+	@Override
+	public IParseResult createParseResult(EObject model, ICompositeNode root, boolean hasErrors) {
+		if (!isCompressRoot() || !(root instanceof RootNode)) {
+			// sub-parses of the partial parser keep the default node model
+			return super.createParseResult(model, root, hasErrors);
+		}
+		CompactNodeModel nodeModel = CompactNodeModel.create((RootNode) root);
+		if (nodeModel == null) {
+			return super.createParseResult(model, root, hasErrors);
+		}
+		for (int index : nodeModel.getSemanticNodeIndices()) {
+			EObject semanticElement = nodeModel.getNode(index).getSemanticElement();
+			Adapter existing = EcoreUtil.getExistingAdapter(semanticElement, ICompositeNode.class);
+			if (existing != null) {
+				semanticElement.eAdapters().remove(existing);
+			}
+			semanticElement.eAdapters().add(new CompactNodeReference(nodeModel, index));
+		}
+		return new CompactParseResult(model, nodeModel, hasErrors);
+	}
+
+}
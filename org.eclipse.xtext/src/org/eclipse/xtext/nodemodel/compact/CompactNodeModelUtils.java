@@ -0,0 +1,62 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.nodemodel.compact;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.Action;
+import org.eclipse.xtext.ParserRule;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.ILeafNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
+import org.eclipse.xtext.util.LineAndColumn;
+
+import com.google.common.annotations.Beta;
+
+/**
+ * The {@link NodeModelUtils.Implementation} for nodes of a {@link CompactNodeModel}.
+ *
+ * @since 2.36
+ */
+@Beta
+public enum CompactNodeModelUtils implements NodeModelUtils.Implementation {
+
+	INSTANCE;
+
+	@Override
+	public ILeafNode findLeafNodeAtOffset(INode node, int leafNodeOffset) {
+		CompactNode casted = (CompactNode) node;
+		return casted.model.findLeafNodeAtOffset(casted.index, leafNodeOffset);
+	}
+
+	@Override
+	public LineAndColumn getLineAndColumn(INode anyNode, int documentOffset) {
+		return ((CompactNode) anyNode).model.getLineAndColumn(documentOffset);
+	}
+
+	@Override
+	public ParserRule getEntryParserRule(INode node) {
+		ICompositeNode root = node.getRootNode();
+		EObject ge1 = root.getGrammarElement();
+		if (ge1 instanceof ParserRule) {
+			return (ParserRule) ge1;
+		} else if (ge1 instanceof Action) {
+			INode firstChild = root.getFirstChild();
+			while (firstChild.getGrammarElement() instanceof Action && firstChild instanceof ICompositeNode) {
+				firstChild = ((ICompositeNode) firstChild).getFirstChild();
+			}
+			EObject ge2 = firstChild.getGrammarElement();
+			if (ge2 instanceof ParserRule) {
+				return (ParserRule) ge2;
+			}
+		}
+		throw new IllegalStateException("No Root Parser Rule found; The Node Model is broken.");
+	}
+
+}
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.nodemodel.compact;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.nodemodel.INodeReference;
+
+import com.google.common.annotations.Beta;
+
+/**
+ * Associates a semantic element with its node in a {@link CompactNodeModel}.
+ *
+ * @since 2.36
+ */
+@Beta
+public class CompactNodeReference extends AdapterImpl implements INodeReference {
+
+	private final CompactNodeModel model;
+
+	private final int index;
+
+	public CompactNodeReference(CompactNodeModel model, int index) {
+		this.model = model;
+		this.index = index;
+	}
+
+	@Override
+	public ICompositeNode getNode() {
+		return (ICompositeNode) model.getNode(index);
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type instanceof Class<?> && INode.class.isAssignableFrom((Class<?>) type);
+	}
+
+}
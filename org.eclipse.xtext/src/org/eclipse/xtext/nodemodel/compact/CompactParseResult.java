@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.nodemodel.compact;
+
+import java.util.Collections;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.INode;
+import org.eclipse.xtext.parser.AbstractParseResult;
+
+import com.google.common.annotations.Beta;
+
+/**
+ * A parse result whose node model is a {@link CompactNodeModel}. It does not support partial parsing.
+ *
+ * @since 2.36
+ */
+@Beta
+public class CompactParseResult extends AbstractParseResult {
+
+	private final CompactNodeModel nodeModel;
+
+	public CompactParseResult(/* @Nullable */ EObject rootAstElement, CompactNodeModel nodeModel, boolean hasErrors) {
+		super(rootAstElement, hasErrors);
+		this.nodeModel = nodeModel;
+	}
+
+	public CompactNodeModel getNodeModel() {
+		return nodeModel;
+	}
+
+	@Override
+	public ICompositeNode getRootNode() {
+		return nodeModel.getRootNode();
+	}
+
+	@Override
+	public void setRootNode(/* @NonNull */ ICompositeNode rootNode) {
+		throw new UnsupportedOperationException("Partial parsing is not supported");
+	}
+
+	/* @NonNull */
+	@Override
+	public Iterable<INode> getSyntaxErrors() {
+		if (!hasSyntaxErrors())
+			return Collections.emptyList();
+		return nodeModel.getSyntaxErrors();
+	}
+
+}
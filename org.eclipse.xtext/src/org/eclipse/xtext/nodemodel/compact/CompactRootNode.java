@@ -0,0 +1,55 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.nodemodel.compact;
+
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+
+import com.google.common.annotations.Beta;
+
+/**
+ * The root of a {@link CompactNodeModel}.
+ *
+ * @since 2.36
+ */
+@Beta
+public class CompactRootNode extends CompactCompositeNode {
+
+	protected CompactRootNode(CompactNodeModel model) {
+		super(model, 0, 0);
+	}
+
+	public String getCompleteContent() {
+		return model.getCompleteContent();
+	}
+
+	@Override
+	public ICompositeNode getParent() {
+		return null;
+	}
+
+	@Override
+	public int getTotalOffset() {
+		return 0;
+	}
+
+	@Override
+	public int getTotalLength() {
+		return model.getCompleteContent().length();
+	}
+
+	@Override
+	public int getTotalEndOffset() {
+		return getTotalLength();
+	}
+
+	@Override
+	public String getText() {
+		return model.getCompleteContent();
+	}
+}
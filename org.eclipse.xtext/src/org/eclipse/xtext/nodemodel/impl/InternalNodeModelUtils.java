@@ -151,7 +151,24 @@ public class InternalNodeModelUtils {
 	protected static int basicGetGrammarElementIndex(SyntheticCompositeNode node) {
 		return node.basicGetGrammarElementIndex();
 	}
-	
+
+	/**
+	 * Obtain the grammar element of the given node. Returns an array of grammar elements if the node is
+	 * {@link SyntheticCompositeNode folded}. May return {@code null}.
+	 *
+	 * @since 2.36
+	 */
+	protected static Object basicGetGrammarElement(AbstractNode node) {
+		return node.basicGetGrammarElement();
+	}
+
+	/**
+	 * @since 2.36
+	 */
+	protected static int[] basicGetLineBreakOffsets(RootNode node) {
+		return node.basicGetLineBreakOffsets();
+	}
+
 	/*
 	 * TODO This should better be made available in org.eclipse.xtext.util.Strings but the contract of the given lineBreaks is too special
 	 * for general purpose application of this logic.
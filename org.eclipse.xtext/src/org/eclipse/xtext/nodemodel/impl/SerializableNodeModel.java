@@ -36,6 +36,9 @@ public class SerializableNodeModel {
 		IParseResult parseResult = resource.getParseResult();
 		if (parseResult != null) {
 			ICompositeNode rootNode = parseResult.getRootNode();
+			if (!(rootNode instanceof RootNode)) {
+				throw new IllegalArgumentException("Only node models made of RootNodes can be serialized: " + resource.getURI());
+			}
 			root = (RootNode) rootNode;
 		}
 		formatVersion = 1;
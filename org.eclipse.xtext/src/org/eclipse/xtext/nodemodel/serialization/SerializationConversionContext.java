@@ -60,7 +60,7 @@ public class SerializationConversionContext {
 
 	protected void fillGrammarElementToIdMap(XtextResource r) {
 		IParseResult parseResult = r.getParseResult();
-		if (parseResult != null) {
+		if (parseResult != null && parseResult.getRootNode() instanceof RootNode) {
 			RootNode it = (RootNode) parseResult.getRootNode();
 			it.fillGrammarElementToIdMap(grammarElementToIdMap, grammarIdToURIMap);
 		}
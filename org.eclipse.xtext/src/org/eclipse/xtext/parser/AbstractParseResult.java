@@ -18,6 +18,7 @@ import org.eclipse.xtext.nodemodel.impl.AbstractNode;
 import org.eclipse.xtext.nodemodel.impl.CompositeNode;
 
 import com.google.common.base.Predicate;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Iterators;
 
 /**
@@ -48,6 +49,10 @@ public abstract class AbstractParseResult implements IParseResult {
 		ICompositeNode rootNode = getRootNode();
 		if (rootNode == null || !hasSyntaxErrors())
 			return Collections.emptyList();
+		if (!(rootNode instanceof CompositeNode)) {
+			// e.g. a CompactNodeModel
+			return Iterables.filter(rootNode.getAsTreeIterable(), node -> node.getSyntaxErrorMessage() != null);
+		}
 		return new Iterable<INode>() {
 			@Override
 			@SuppressWarnings("unchecked")
@@ -20,6 +20,7 @@ import org.eclipse.xtext.nodemodel.impl.CompositeNode;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Predicate;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Iterators;
 
 /**
@@ -41,6 +42,10 @@ public class ParseResult extends AbstractParseResult {
 	public Iterable<INode> getSyntaxErrors() {
 		if (rootNode == null || !hasSyntaxErrors())
 			return Collections.emptyList();
+		if (!(rootNode instanceof CompositeNode)) {
+			// e.g. a CompactNodeModel
+			return Iterables.filter(rootNode.getAsTreeIterable(), node -> node.getSyntaxErrorMessage() != null);
+		}
 		return new Iterable<INode>() {
 			@Override
 			@SuppressWarnings("unchecked")
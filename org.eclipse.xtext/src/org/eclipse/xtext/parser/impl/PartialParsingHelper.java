@@ -78,6 +78,10 @@ public class PartialParsingHelper implements IPartialParsingHelper {
 			throw new NullPointerException("previousParseResult and previousParseResult.rootNode may not be null");
 		}
 		ICompositeNode oldRootNode = previousParseResult.getRootNode();
+		if (!(oldRootNode instanceof AbstractNode)) {
+			// node models that are not made of AbstractNodes, e.g. compact ones, cannot be patched
+			return fullyReparse(parser, previousParseResult, changedRegion);
+		}
 		if (changedRegion.getEndOffset() > oldRootNode.getTotalLength()) {
 			log.error("Invalid " + changedRegion + " originalLength=" + oldRootNode.getTotalLength());
 			return fullyReparse(parser, previousParseResult, changedRegion);
@@ -87,7 +91,7 @@ public class PartialParsingHelper implements IPartialParsingHelper {
 		}
 		ReplaceRegion replaceRegion;
 		if (tokenRegionProvider != null) {
-			replaceRegion = tokenRegionProvider.getTokenReplaceRegion(insertChangeIntoReplaceRegion(oldRootNode, changedRegion), changedRegion);
+			replaceRegion = tokenRegionProvider.getTokenReplaceRegion(insertChangeIntoReplaceRegion(oldRootNode, changedRegion), changedRegion, oldRootNode);
 		} else {
 			replaceRegion = changedRegion;
 		}
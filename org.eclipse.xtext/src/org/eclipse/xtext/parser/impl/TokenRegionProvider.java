@@ -11,6 +11,9 @@ package org.eclipse.xtext.parser.impl;
 import org.antlr.runtime.ANTLRStringStream;
 import org.antlr.runtime.CommonToken;
 import org.antlr.runtime.Token;
+import org.eclipse.xtext.nodemodel.ICompositeNode;
+import org.eclipse.xtext.nodemodel.ILeafNode;
+import org.eclipse.xtext.nodemodel.util.NodeModelUtils;
 import org.eclipse.xtext.parser.antlr.Lexer;
 import org.eclipse.xtext.parser.antlr.LexerBindings;
 import org.eclipse.xtext.util.ITextRegion;
@@ -34,10 +37,24 @@ public class TokenRegionProvider {
 	private Provider<Lexer> lexerProvider;
 
 	public ITextRegion getTokenRegion(String text, ITextRegion region) {
+		return getTokenRegion(text, region, 0);
+	}
+
+	/**
+	 * Expands the region like {@link #getTokenRegion(String, ITextRegion)} but resumes lexing at the given offset,
+	 * which has to be the start of a token in front of the region.
+	 * 
+	 * @since 2.36
+	 */
+	protected ITextRegion getTokenRegion(String text, ITextRegion region, int restartOffset) {
 		Lexer lexer = lexerProvider.get();
-		lexer.setCharStream(new ANTLRStringStream(text));
-		int currentStart = 0;
-		int currentEnd = 0;
+		lexer.setCharStream(new ANTLRStringStream(text) {
+			{
+				p = restartOffset;
+			}
+		});
+		int currentStart = restartOffset;
+		int currentEnd = restartOffset;
 		CommonToken nextToken = (CommonToken) lexer.nextToken();
 		int regionStart = region.getOffset();
 		int regionEnd = regionStart + region.getLength();
@@ -58,9 +75,26 @@ public class TokenRegionProvider {
 	}
 
 	public ReplaceRegion getTokenReplaceRegion(String changedText, ReplaceRegion replaceRegion) {
+		return getTokenReplaceRegion(changedText, replaceRegion, null);
+	}
+
+	/**
+	 * Expands the replace region such that it contains only complete lexer tokens. The node model of the text before
+	 * the change is used to find a token boundary shortly before the change where lexing can be resumed. Only the
+	 * tokens around the change are lexed again instead of all tokens from the start of the document.
+	 * 
+	 * @param previousRootNode
+	 *            the root node of the text before the change. May be <code>null</code>.
+	 * @since 2.36
+	 */
+	public ReplaceRegion getTokenReplaceRegion(String changedText, ReplaceRegion replaceRegion,
+			ICompositeNode previousRootNode) {
 		int lengthDelta = replaceRegion.getText().length() - replaceRegion.getLength();
-		ITextRegion tokenRegion = getTokenRegion(changedText, new TextRegion(replaceRegion.getOffset(), replaceRegion
-				.getText().length()));
+		TextRegion changedRegion = new TextRegion(replaceRegion.getOffset(), replaceRegion.getText().length());
+		int restartOffset = previousRootNode != null ? getRestartOffset(previousRootNode, replaceRegion.getOffset()) : 0;
+		ITextRegion tokenRegion = restartOffset > 0
+				? getTokenRegion(changedText, changedRegion, restartOffset)
+				: getTokenRegion(changedText, changedRegion);
 		if (tokenRegion.getOffset() == replaceRegion.getOffset()
 				&& tokenRegion.getLength() == replaceRegion.getText().length())
 			return replaceRegion;
@@ -69,4 +103,28 @@ public class TokenRegionProvider {
 					changedText.substring(tokenRegion.getOffset(), tokenRegion.getOffset() + tokenRegion.getLength()));
 	}
 
+	/**
+	 * Returns the offset of a token boundary in front of the given offset where lexing can be resumed. The text before
+	 * the given offset is unchanged, so the leaf nodes of the previous node model mark valid token boundaries. The
+	 * token that touches the change may be merged with the inserted text and the lexer may need some lookahead to
+	 * decide about the token in front of it, so lexing is resumed at the start of the token before the one that
+	 * touches the change.
+	 * 
+	 * Lexers that carry state from one token to the next, e.g. to lex template expressions, should return 0 to lex
+	 * the complete prefix.
+	 * 
+	 * @since 2.36
+	 */
+	protected int getRestartOffset(ICompositeNode previousRootNode, int offset) {
+		int result = offset;
+		for (int i = 0; i < 2 && result > 0; i++) {
+			ILeafNode leaf = NodeModelUtils.findLeafNodeAtOffset(previousRootNode, result - 1);
+			if (leaf == null) {
+				return 0;
+			}
+			result = Math.min(leaf.getTotalOffset(), result - 1);
+		}
+		return Math.max(result, 0);
+	}
+
 }
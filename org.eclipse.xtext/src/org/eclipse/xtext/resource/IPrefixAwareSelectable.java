@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.xtext.naming.QualifiedName;
+
+import com.google.common.annotations.Beta;
+import com.google.common.collect.Iterables;
+
+/**
+ * An {@link ISelectable} that can answer queries for exported objects whose name starts with a given prefix without
+ * iterating all exported objects, e.g. by means of a sorted name table. Content assist uses these queries to
+ * compute proposals for cross references.
+ * 
+ * @since 2.36
+ */
+@Beta
+public interface IPrefixAwareSelectable extends ISelectable {
+
+	/**
+	 * Returns the exported objects of the given type whose name {@link #matchesPrefix(QualifiedName, QualifiedName)
+	 * matches} the given prefix. The result contains the same elements as filtering
+	 * {@link #getExportedObjectsByType(EClass)}, though not necessarily in the same order.
+	 * 
+	 * @return the matching elements. May not be <code>null</code>.
+	 */
+	Iterable<IEObjectDescription> getExportedObjectsByPrefix(EClass type, QualifiedName prefix);
+
+	/**
+	 * Returns <code>true</code> if the given name matches the given prefix. The comparison ignores the case. All but
+	 * the last segment of the prefix have to be equal to the respective segments of the name, and the last segment
+	 * of the prefix has to be a prefix of the respective segment of the name. The empty prefix matches all names.
+	 * Since the segments are compared, a name whose segments contain a delimiter, e.g.
+	 * {@code QualifiedName.create("a.b")}, does not match a prefix with the segments {@code a} and {@code b}.
+	 */
+	static boolean matchesPrefix(QualifiedName name, QualifiedName prefix) {
+		int prefixSegmentCount = prefix.getSegmentCount();
+		if (prefixSegmentCount == 0) {
+			return true;
+		}
+		if (name.getSegmentCount() < prefixSegmentCount) {
+			return false;
+		}
+		for (int i = 0; i < prefixSegmentCount - 1; i++) {
+			if (!name.getSegment(i).equalsIgnoreCase(prefix.getSegment(i))) {
+				return false;
+			}
+		}
+		String lastSegment = prefix.getLastSegment();
+		return name.getSegment(prefixSegmentCount - 1).regionMatches(true, 0, lastSegment, 0, lastSegment.length());
+	}
+
+	/**
+	 * Queries the given selectable for the exported objects of the given type whose name matches the given prefix. If
+	 * the selectable is not {@link IPrefixAwareSelectable prefix aware}, all its exported objects of the given type
+	 * are filtered.
+	 */
+	static Iterable<IEObjectDescription> getExportedObjectsByPrefix(ISelectable selectable, EClass type,
+			QualifiedName prefix) {
+		if (selectable instanceof IPrefixAwareSelectable) {
+			return ((IPrefixAwareSelectable) selectable).getExportedObjectsByPrefix(type, prefix);
+		}
+		return Iterables.filter(selectable.getExportedObjectsByType(type), it -> matchesPrefix(it.getName(), prefix));
+	}
+
+}
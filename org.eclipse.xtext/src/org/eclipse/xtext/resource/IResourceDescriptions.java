@@ -8,7 +8,9 @@
  *******************************************************************************/
 package org.eclipse.xtext.resource;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Set;
 
 import org.eclipse.emf.common.notify.Notifier;
 import org.eclipse.emf.common.util.URI;
@@ -18,6 +20,8 @@ import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.resource.impl.ResourceDescriptionsProvider;
 
+import com.google.common.annotations.Beta;
+
 /**
  * Represents a set of {@link IResourceDescription}.
  * 
@@ -56,6 +60,24 @@ public interface IResourceDescriptions extends ISelectable {
 		ResourceSet getResourceSet();
 	}
 
+	/**
+	 * An instance of {@link IResourceDescriptions} that maintains a reverse index from the resources that are the
+	 * target of {@link IResourceDescription#getReferenceDescriptions() reference descriptions} to the resources that
+	 * contain these reference descriptions.
+	 * 
+	 * @since 2.36
+	 */
+	@Beta
+	interface IReferrerAware extends IResourceDescriptions {
+
+		/**
+		 * Returns the URIs of the resources that contain at least one {@link IReferenceDescription} whose
+		 * {@link IReferenceDescription#getTargetEObjectUri() target} is an object in one of the given resources. The
+		 * result may contain additional URIs but it never misses a referring resource.
+		 */
+		Set<URI> getReferringResourceURIs(Collection<URI> targetResourceURIs);
+	}
+
 	class NullImpl implements IResourceDescriptions {
 
 		@Override
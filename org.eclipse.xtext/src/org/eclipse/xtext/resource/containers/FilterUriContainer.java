@@ -13,6 +13,7 @@ import org.eclipse.emf.ecore.EClass;
 import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.resource.IContainer;
 import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IPrefixAwareSelectable;
 import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.impl.AbstractContainer;
 
@@ -26,7 +27,7 @@ import com.google.common.collect.Iterables;
  * @author Holger Schill - Initial contribution and API
  * @author Sebastian Zarnekow - Optimizations and Javadoc
  */
-public class FilterUriContainer extends AbstractContainer {
+public class FilterUriContainer extends AbstractContainer implements IPrefixAwareSelectable {
 	private final URI filterMe;
 	private final IContainer delegate;
 
@@ -94,6 +95,21 @@ public class FilterUriContainer extends AbstractContainer {
 		});
 	}
 
+	/**
+	 * @since 2.36
+	 */
+	@Override
+	public Iterable<IEObjectDescription> getExportedObjectsByPrefix(EClass type, QualifiedName prefix) {
+		Iterable<IEObjectDescription> unfiltered = IPrefixAwareSelectable.getExportedObjectsByPrefix(delegate, type, prefix);
+		return Iterables.filter(unfiltered, new Predicate<IEObjectDescription>() {
+			@Override
+			public boolean apply(IEObjectDescription input) {
+				URI resourceURI = input.getEObjectURI().trimFragment();
+				return !resourceURI.equals(filterMe);
+			}
+		});
+	}
+
 	@Override
 	public IResourceDescription getResourceDescription(URI uri) {
 		if (uri.equals(filterMe))
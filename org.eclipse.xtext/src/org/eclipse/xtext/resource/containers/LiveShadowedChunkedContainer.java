@@ -23,6 +23,7 @@ import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.resource.IContainer;
 import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IPrefixAwareSelectable;
 import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.impl.ChunkedResourceDescriptions;
 import org.eclipse.xtext.resource.impl.LiveShadowedChunkedResourceDescriptions;
@@ -37,7 +38,7 @@ import com.google.common.annotations.Beta;
  * @since 2.14
  */
 @Beta
-public class LiveShadowedChunkedContainer implements IContainer {
+public class LiveShadowedChunkedContainer implements IContainer, IPrefixAwareSelectable {
 	private final LiveShadowedChunkedResourceDescriptions descriptions;
 
 	private final String containerName;
@@ -133,6 +134,19 @@ public class LiveShadowedChunkedContainer implements IContainer {
 						it -> !localURIs.contains(it.getEObjectURI().trimFragment())));
 	}
 
+	/**
+	 * @since 2.36
+	 */
+	@Override
+	public Iterable<IEObjectDescription> getExportedObjectsByPrefix(EClass type, QualifiedName prefix) {
+		Set<URI> localURIs = getExistingOrRenamedResourceURIs();
+		return concat(
+				concat(transform(getContainedLocalDescriptions(),
+						it -> IPrefixAwareSelectable.getExportedObjectsByPrefix(it, type, prefix))),
+				filter(getChunk().getExportedObjectsByPrefix(type, prefix),
+						it -> !localURIs.contains(it.getEObjectURI().trimFragment())));
+	}
+
 	@Override
 	public boolean isEmpty() {
 		return IterableExtensions.isEmpty(getContainedLocalDescriptions()) && getChunk().isEmpty();
@@ -16,17 +16,25 @@ import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.common.notify.Notifier;
 import org.eclipse.emf.common.notify.impl.AdapterImpl;
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IPrefixAwareSelectable;
 import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.IResourceDescriptions;
 import org.eclipse.xtext.resource.ISelectable;
@@ -49,16 +57,30 @@ import com.google.common.annotations.Beta;
  */
 @Beta
 public class ChunkedResourceDescriptions extends AbstractCompoundSelectable
-		implements IResourceDescriptions, Externalizable {
+		implements IResourceDescriptions.IReferrerAware, IPrefixAwareSelectable, Externalizable {
 
 	protected ConcurrentHashMap<String, ResourceDescriptionsData> chunk2resourceDescriptions = new ConcurrentHashMap<>();
 	protected ResourceSet resourceSet;
 
+	/**
+	 * The name index of the map that this instance was created from, if any.
+	 * 
+	 * @since 2.36
+	 */
+	protected NameIndexedChunkMap nameIndex;
+
+	private final AtomicInteger modificationCount = new AtomicInteger();
+
+	private volatile UnindexedChunks unindexedChunks;
+
 	public ChunkedResourceDescriptions() {
 	}
 
 	public ChunkedResourceDescriptions(Map<String, ResourceDescriptionsData> initialData) {
 		chunk2resourceDescriptions = new ConcurrentHashMap<>(initialData);
+		if (initialData instanceof NameIndexedChunkMap) {
+			nameIndex = (NameIndexedChunkMap) initialData;
+		}
 	}
 
 	public ChunkedResourceDescriptions(Map<String, ResourceDescriptionsData> initialData, ResourceSet resourceSet) {
@@ -70,7 +92,9 @@ public class ChunkedResourceDescriptions extends AbstractCompoundSelectable
 	 * Creates a shallow copy of the resource descriptions map and installs it with the given ResourceSet.
 	 */
 	public ChunkedResourceDescriptions createShallowCopyWith(ResourceSet resourceSet) {
-		return new ChunkedResourceDescriptions(chunk2resourceDescriptions, resourceSet);
+		ChunkedResourceDescriptions result = new ChunkedResourceDescriptions(chunk2resourceDescriptions, resourceSet);
+		result.nameIndex = nameIndex;
+		return result;
 	}
 
 	public ResourceSet getResourceSet() {
@@ -89,11 +113,19 @@ public class ChunkedResourceDescriptions extends AbstractCompoundSelectable
 	}
 
 	public ResourceDescriptionsData setContainer(String name, ResourceDescriptionsData descriptions) {
-		return chunk2resourceDescriptions.put(name, descriptions);
+		try {
+			return chunk2resourceDescriptions.put(name, descriptions);
+		} finally {
+			modificationCount.incrementAndGet();
+		}
 	}
 
 	public ResourceDescriptionsData removeContainer(String name) {
-		return chunk2resourceDescriptions.remove(name);
+		try {
+			return chunk2resourceDescriptions.remove(name);
+		} finally {
+			modificationCount.incrementAndGet();
+		}
 	}
 
 	@Override
@@ -101,11 +133,108 @@ public class ChunkedResourceDescriptions extends AbstractCompoundSelectable
 		return chunk2resourceDescriptions.values();
 	}
 
+	/**
+	 * Uses the {@link NameIndexedChunkMap name index} if available to ask only the chunks that export the given name.
+	 * 
+	 * @since 2.36
+	 */
+	@Override
+	public Iterable<IEObjectDescription> getExportedObjects(EClass type, QualifiedName qualifiedName,
+			boolean ignoreCase) {
+		if (nameIndex != null) {
+			List<ResourceDescriptionsData> candidates = getCandidates(qualifiedName);
+			if (candidates != null) {
+				return concat(transform(candidates, it -> it.getExportedObjects(type, qualifiedName, ignoreCase)));
+			}
+		}
+		return super.getExportedObjects(type, qualifiedName, ignoreCase);
+	}
+
+	/**
+	 * The chunks that may export an object with the given name or <code>null</code> if the name index or this
+	 * instance were modified concurrently.
+	 * 
+	 * @since 2.36
+	 */
+	protected List<ResourceDescriptionsData> getCandidates(QualifiedName qualifiedName) {
+		int indexVersion = nameIndex.getVersion();
+		if ((indexVersion & 1) != 0) {
+			// the name index is modified right now
+			return null;
+		}
+		int localVersion = modificationCount.get();
+		UnindexedChunks unindexed = getUnindexedChunks(indexVersion, localVersion);
+		List<ResourceDescriptionsData> result = new ArrayList<>(unindexed.data);
+		for (String chunk : nameIndex.getChunks(qualifiedName)) {
+			if (!unindexed.names.contains(chunk)) {
+				ResourceDescriptionsData data = chunk2resourceDescriptions.get(chunk);
+				if (data != null) {
+					result.add(data);
+				}
+			}
+		}
+		if (nameIndex.getVersion() != indexVersion || modificationCount.get() != localVersion) {
+			return null;
+		}
+		return result;
+	}
+
+	/**
+	 * The chunks of this instance whose data is not reflected by the name index, e.g. because the data was replaced
+	 * in this instance or in the index after this instance was created. These have to be asked directly.
+	 */
+	private UnindexedChunks getUnindexedChunks(int indexVersion, int localVersion) {
+		UnindexedChunks result = unindexedChunks;
+		if (result == null || result.indexVersion != indexVersion || result.localVersion != localVersion) {
+			result = new UnindexedChunks(indexVersion, localVersion);
+			for (Entry<String, ResourceDescriptionsData> entry : chunk2resourceDescriptions.entrySet()) {
+				if (nameIndex.getIndexedData(entry.getKey()) != entry.getValue()) {
+					result.names.add(entry.getKey());
+					result.data.add(entry.getValue());
+				}
+			}
+			unindexedChunks = result;
+		}
+		return result;
+	}
+
+	private static class UnindexedChunks {
+		final int indexVersion;
+		final int localVersion;
+		final Set<String> names = new HashSet<>();
+		final List<ResourceDescriptionsData> data = new ArrayList<>();
+
+		UnindexedChunks(int indexVersion, int localVersion) {
+			this.indexVersion = indexVersion;
+			this.localVersion = localVersion;
+		}
+	}
+
 	@Override
 	public Iterable<IResourceDescription> getAllResourceDescriptions() {
 		return concat(transform(chunk2resourceDescriptions.values(), it -> it.getAllResourceDescriptions()));
 	}
 
+	/**
+	 * @since 2.36
+	 */
+	@Override
+	public Set<URI> getReferringResourceURIs(Collection<URI> targetResourceURIs) {
+		Set<URI> result = new HashSet<>();
+		for (ResourceDescriptionsData container : chunk2resourceDescriptions.values()) {
+			result.addAll(container.getReferringResourceURIs(targetResourceURIs));
+		}
+		return result;
+	}
+
+	/**
+	 * @since 2.36
+	 */
+	@Override
+	public Iterable<IEObjectDescription> getExportedObjectsByPrefix(EClass type, QualifiedName prefix) {
+		return concat(transform(chunk2resourceDescriptions.values(), it -> it.getExportedObjectsByPrefix(type, prefix)));
+	}
+
 	@Override
 	public IResourceDescription getResourceDescription(URI uri) {
 		for (ResourceDescriptionsData selectable : chunk2resourceDescriptions.values()) {
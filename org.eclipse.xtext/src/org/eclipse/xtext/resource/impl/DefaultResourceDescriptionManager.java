@@ -181,6 +181,46 @@ public class DefaultResourceDescriptionManager implements IResourceDescription.M
 		return false;
 	}
 
+	/**
+	 * Whether {@link #isAffected(Collection, IResourceDescription, IResourceDescriptions)} can only be {@code true}
+	 * for candidates that {@link IResourceDescription#getImportedNames() import} one of the names that are exported by
+	 * the deltas or that refer to one of the changed resources. Clients may use this to preselect the candidates by
+	 * means of an index. This is only assumed if no {@link IsAffectedExtension extensions} are registered and if
+	 * subclasses neither {@link IResourceDescription.Manager.AllChangeAware are aware of all changes} nor override
+	 * {@link #isAffected(Collection, IResourceDescription, IResourceDescriptions)},
+	 * {@link #isAffected(Collection, IResourceDescription)} or {@link #getImportedNames(IResourceDescription)}.
+	 * Subclasses that compute the affected resources in a different way have to return {@code false}.
+	 * 
+	 * @since 2.36
+	 */
+	@Beta
+	public boolean isAffectedByNamesAndReferencesOnly() {
+		return isAffectedExtensions.isEmpty() && !overridesIsAffected;
+	}
+
+	private final boolean overridesIsAffected = overridesIsAffected();
+
+	private boolean overridesIsAffected() {
+		if (this instanceof IResourceDescription.Manager.AllChangeAware) {
+			return true;
+		}
+		return isOverridden("isAffected", Collection.class, IResourceDescription.class, IResourceDescriptions.class)
+				|| isOverridden("isAffected", Collection.class, IResourceDescription.class)
+				|| isOverridden("getImportedNames", IResourceDescription.class);
+	}
+
+	private boolean isOverridden(String methodName, Class<?>... parameterTypes) {
+		for (Class<?> type = getClass(); type != DefaultResourceDescriptionManager.class; type = type.getSuperclass()) {
+			try {
+				type.getDeclaredMethod(methodName, parameterTypes);
+				return true;
+			} catch (NoSuchMethodException e) {
+				// continue with the super class
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Whether the given delta is considered to have changed from the candidate's perspective. By default this will just call
 	 * {@link org.eclipse.xtext.resource.IResourceDescription.Delta#haveEObjectDescriptionsChanged() Delta#haveEObjectDescriptionsChanged()}. 
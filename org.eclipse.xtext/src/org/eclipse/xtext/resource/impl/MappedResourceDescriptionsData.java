@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.resource.persistence.MappedIndex;
+import org.eclipse.xtext.util.PersistentHashMap;
+
+import com.google.common.annotations.Beta;
+import com.google.common.collect.Collections2;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+
+/**
+ * A {@link ResourceDescriptionsData} that uses a read only {@link MappedIndex} as its base. Descriptions that are
+ * added or removed afterwards are kept in the {@link PersistentResourceDescriptionsData persistent maps} of the super
+ * class and shadow the respective entries in the base. The descriptions in the base are only decoded when they are
+ * accessed, which makes it possible to restore a large index without loading it completely.
+ *
+ * Like its super class, {@link #copy()} is a constant time operation. The copy shares the base index.
+ *
+ * @since 2.36
+ */
+@Beta
+public class MappedResourceDescriptionsData extends PersistentResourceDescriptionsData {
+
+	private final MappedIndex base;
+
+	/**
+	 * The indexes of the descriptions in the base that were removed or replaced.
+	 */
+	private PersistentHashMap<Integer, Boolean> shadowed;
+
+	/**
+	 * The sorted lower case names of the base. It is created on demand and shared by all copies.
+	 */
+	private final AtomicReference<NamePrefixIndex> baseNames;
+
+	public MappedResourceDescriptionsData(MappedIndex base) {
+		super(Collections.emptySet());
+		this.base = base;
+		this.shadowed = PersistentHashMap.of();
+		this.baseNames = new AtomicReference<>();
+	}
+
+	protected MappedResourceDescriptionsData(MappedResourceDescriptionsData original) {
+		super(original);
+		this.base = original.base;
+		this.shadowed = original.shadowed;
+		this.baseNames = original.baseNames;
+	}
+
+	@Override
+	public MappedResourceDescriptionsData copy() {
+		return new MappedResourceDescriptionsData(this);
+	}
+
+	public MappedIndex getBase() {
+		return base;
+	}
+
+	@Override
+	public Iterable<IResourceDescription> getAllResourceDescriptions() {
+		return Iterables.concat(getBaseDescriptions(), super.getAllResourceDescriptions());
+	}
+
+	@Override
+	protected Iterable<IResourceDescription> getSelectables() {
+		return getAllResourceDescriptions();
+	}
+
+	@Override
+	public IResourceDescription getResourceDescription(URI uri) {
+		IResourceDescription result = super.getResourceDescription(uri);
+		if (result == null) {
+			int index = base.indexOf(uri);
+			if (index >= 0 && !shadowed.containsKey(index)) {
+				return base.getResourceDescription(index);
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public Set<URI> getAllURIs() {
+		PersistentHashMap<Integer, Boolean> currentShadowed = shadowed;
+		Set<URI> added = super.getAllURIs();
+		return new AbstractSet<URI>() {
+			@Override
+			public Iterator<URI> iterator() {
+				Iterable<URI> baseURIs = () -> getVisibleIndexes(currentShadowed).mapToObj(base::getURI).iterator();
+				return Iterables.concat(baseURIs, added).iterator();
+			}
+
+			@Override
+			public int size() {
+				return base.size() - currentShadowed.size() + added.size();
+			}
+
+			@Override
+			public boolean contains(Object o) {
+				if (added.contains(o)) {
+					return true;
+				}
+				if (o instanceof URI) {
+					int index = base.indexOf((URI) o);
+					return index >= 0 && !currentShadowed.containsKey(index);
+				}
+				return false;
+			}
+		};
+	}
+
+	@Override
+	public Iterable<IEObjectDescription> getExportedObjects(EClass type, QualifiedName qualifiedName, boolean ignoreCase) {
+		Iterable<IEObjectDescription> added = super.getExportedObjects(type, qualifiedName, ignoreCase);
+		int[] candidates = base.findResources(qualifiedName.toLowerCase());
+		if (candidates.length == 0) {
+			return added;
+		}
+		PersistentHashMap<Integer, Boolean> currentShadowed = shadowed;
+		Iterable<IEObjectDescription> fromBase = Iterables.concat(Iterables.transform(
+				() -> IntStream.of(candidates).filter(i -> !currentShadowed.containsKey(i)).iterator(),
+				i -> base.getResourceDescription(i).getExportedObjects(type, qualifiedName, ignoreCase)));
+		return Iterables.concat(fromBase, added);
+	}
+
+	@Override
+	protected Collection<QualifiedName> getNamesByPrefix(QualifiedName lowerCasePrefix) {
+		NamePrefixIndex names = baseNames.get();
+		if (names == null) {
+			names = NamePrefixIndex.create(Collections2.transform(base.getQualifiedNames(), QualifiedName::toLowerCase));
+			baseNames.compareAndSet(null, names);
+		}
+		Set<QualifiedName> result = new LinkedHashSet<>(names.getNames(lowerCasePrefix));
+		result.addAll(super.getNamesByPrefix(lowerCasePrefix));
+		return result;
+	}
+
+	@Override
+	public void addDescription(URI uri, IResourceDescription newDescription) {
+		shadow(uri);
+		super.addDescription(uri, newDescription);
+	}
+
+	@Override
+	public void removeDescription(URI uri) {
+		shadow(uri);
+		super.removeDescription(uri);
+	}
+
+	protected void shadow(URI uri) {
+		int index = base.indexOf(uri);
+		if (index >= 0 && !shadowed.containsKey(index)) {
+			shadowed = shadowed.plus(index, Boolean.TRUE);
+			if (hasReverseIndex()) {
+				unregisterSource(base.getResourceDescription(index));
+			}
+		}
+	}
+
+	/**
+	 * Write the resource descriptions of this data in the {@link MappedIndex} format. The descriptions of the base
+	 * that were neither removed nor replaced are copied without decoding them. If most of the base is shadowed, all
+	 * descriptions are written anew, such that the unused entries of the base do not accumulate.
+	 */
+	public void write(OutputStream out) throws IOException {
+		PersistentHashMap<Integer, Boolean> currentShadowed = shadowed;
+		if (currentShadowed.size() > base.size() / 2) {
+			MappedIndex.write(Lists.newArrayList(getAllResourceDescriptions()), out);
+		} else {
+			MappedIndex.write(base, getVisibleIndexes(currentShadowed).toArray(),
+					Lists.newArrayList(super.getAllResourceDescriptions()), out);
+		}
+	}
+
+	private Iterable<IResourceDescription> getBaseDescriptions() {
+		PersistentHashMap<Integer, Boolean> currentShadowed = shadowed;
+		return () -> getVisibleIndexes(currentShadowed).mapToObj(base::getResourceDescription).iterator();
+	}
+
+	private IntStream getVisibleIndexes(PersistentHashMap<Integer, Boolean> currentShadowed) {
+		IntStream result = IntStream.range(0, base.size());
+		if (currentShadowed.isEmpty()) {
+			return result;
+		}
+		return result.filter(i -> !currentShadowed.containsKey(i));
+	}
+}
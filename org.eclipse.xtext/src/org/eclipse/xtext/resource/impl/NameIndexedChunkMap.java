@@ -0,0 +1,219 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.impl;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.ecore.EcorePackage;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+
+import com.google.common.annotations.Beta;
+import com.google.common.collect.ForwardingMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Sets;
+
+/**
+ * A map of chunks, e.g. projects, to their resource descriptions that maintains an index from the exported names to
+ * the chunks that export them. {@link ChunkedResourceDescriptions} that are created from this map use the index to
+ * answer {@link ChunkedResourceDescriptions#getExportedObjects(org.eclipse.emf.ecore.EClass, QualifiedName, boolean)
+ * name queries} without asking every chunk.
+ * 
+ * The index is safe for concurrent readers. Modifications are serialized and only the delta between the old and the
+ * new resource descriptions of a chunk is applied to the index. Readers detect concurrent modifications with the help
+ * of the {@link #getVersion() version}. The resource descriptions data must not be modified after they were put into
+ * this map.
+ * 
+ * @since 2.36
+ */
+@Beta
+public class NameIndexedChunkMap extends ForwardingMap<String, ResourceDescriptionsData> {
+
+	private final Map<String, ResourceDescriptionsData> chunks = new ConcurrentHashMap<>();
+
+	/**
+	 * The lower case names to the chunks that export them. The concurrent map is segmented by the hash code of the
+	 * names, so readers never block and writers only lock the bins that they modify.
+	 */
+	private final Map<QualifiedName, Set<String>> name2chunks = new ConcurrentHashMap<>();
+
+	/**
+	 * The resource descriptions data that is reflected by the name index for each chunk. Chunks are removed while their
+	 * names are updated.
+	 */
+	private final Map<String, ResourceDescriptionsData> indexed = new ConcurrentHashMap<>();
+
+	private final AtomicInteger version = new AtomicInteger();
+
+	@Override
+	protected Map<String, ResourceDescriptionsData> delegate() {
+		return chunks;
+	}
+
+	/**
+	 * The version of the index is incremented before and after each modification, so it is odd while a modification is
+	 * in progress.
+	 */
+	public int getVersion() {
+		return version.get();
+	}
+
+	/**
+	 * The chunks that export an object with the given name, ignoring the case. Only chunks whose data is
+	 * {@link #getIndexedData(String) indexed} are considered.
+	 */
+	public Set<String> getChunks(QualifiedName name) {
+		Set<String> result = name2chunks.get(name.toLowerCase());
+		if (result == null) {
+			return Collections.emptySet();
+		}
+		return result;
+	}
+
+	/**
+	 * The data of the given chunk that is reflected by the name index or <code>null</code> if the chunk is not known
+	 * or currently updated.
+	 */
+	public ResourceDescriptionsData getIndexedData(String chunk) {
+		return indexed.get(chunk);
+	}
+
+	@Override
+	public synchronized ResourceDescriptionsData put(String chunk, ResourceDescriptionsData data) {
+		version.incrementAndGet();
+		try {
+			indexed.remove(chunk);
+			ResourceDescriptionsData old = chunks.put(chunk, data);
+			if (old != data) {
+				updateNames(chunk, old, data);
+			}
+			indexed.put(chunk, data);
+			return old;
+		} finally {
+			version.incrementAndGet();
+		}
+	}
+
+	@Override
+	public synchronized ResourceDescriptionsData remove(Object chunk) {
+		version.incrementAndGet();
+		try {
+			indexed.remove(chunk);
+			ResourceDescriptionsData old = chunks.remove(chunk);
+			if (old != null) {
+				updateNames((String) chunk, old, null);
+			}
+			return old;
+		} finally {
+			version.incrementAndGet();
+		}
+	}
+
+	@Override
+	public void putAll(Map<? extends String, ? extends ResourceDescriptionsData> map) {
+		standardPutAll(map);
+	}
+
+	@Override
+	public Set<String> keySet() {
+		return Collections.unmodifiableSet(chunks.keySet());
+	}
+
+	@Override
+	public Collection<ResourceDescriptionsData> values() {
+		return Collections.unmodifiableCollection(chunks.values());
+	}
+
+	@Override
+	public Set<Entry<String, ResourceDescriptionsData>> entrySet() {
+		return Collections.unmodifiableMap(chunks).entrySet();
+	}
+
+	@Override
+	public synchronized void clear() {
+		version.incrementAndGet();
+		try {
+			indexed.clear();
+			chunks.clear();
+			name2chunks.clear();
+		} finally {
+			version.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Apply the delta between the old and the new data of the chunk to the name index. Both may be <code>null</code>.
+	 */
+	protected void updateNames(String chunk, ResourceDescriptionsData oldData, ResourceDescriptionsData newData) {
+		Set<QualifiedName> added = Sets.newHashSet();
+		Set<QualifiedName> removed = Sets.newHashSet();
+		if (newData != null) {
+			for (IResourceDescription description : newData.getAllResourceDescriptions()) {
+				IResourceDescription oldDescription = oldData != null
+						? oldData.getResourceDescription(description.getURI())
+						: null;
+				if (oldDescription != description) {
+					collectNames(oldDescription, removed);
+					collectNames(description, added);
+				}
+			}
+		}
+		if (oldData != null) {
+			for (IResourceDescription oldDescription : oldData.getAllResourceDescriptions()) {
+				if (newData == null || newData.getResourceDescription(oldDescription.getURI()) == null) {
+					collectNames(oldDescription, removed);
+				}
+			}
+		}
+		for (QualifiedName name : added) {
+			name2chunks.compute(name, (key, existing) -> {
+				if (existing == null) {
+					return ImmutableSet.of(chunk);
+				}
+				if (existing.contains(chunk)) {
+					return existing;
+				}
+				return ImmutableSet.<String>builder().addAll(existing).add(chunk).build();
+			});
+		}
+		for (QualifiedName name : removed) {
+			if (!added.contains(name) && !isExported(newData, name)) {
+				name2chunks.computeIfPresent(name, (key, existing) -> {
+					if (!existing.contains(chunk)) {
+						return existing;
+					}
+					if (existing.size() == 1) {
+						return null;
+					}
+					return ImmutableSet.copyOf(Sets.filter(existing, it -> !chunk.equals(it)));
+				});
+			}
+		}
+	}
+
+	private void collectNames(IResourceDescription description, Set<QualifiedName> result) {
+		if (description != null) {
+			for (IEObjectDescription object : description.getExportedObjects()) {
+				result.add(object.getName().toLowerCase());
+			}
+		}
+	}
+
+	private boolean isExported(ResourceDescriptionsData data, QualifiedName lowerCaseName) {
+		return data != null
+				&& !Iterables.isEmpty(data.getExportedObjects(EcorePackage.Literals.EOBJECT, lowerCaseName, true));
+	}
+}
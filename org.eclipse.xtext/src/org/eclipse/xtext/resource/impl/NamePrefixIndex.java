@@ -0,0 +1,108 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IPrefixAwareSelectable;
+import org.eclipse.xtext.util.PersistentHashMap;
+
+/**
+ * An immutable index of lower case names that answers prefix queries by a binary search in a sorted array. Names
+ * that are added later are kept in a small persistent map and searched linearly until their number exceeds a
+ * threshold, thus instances are cheap to update and may be shared by copies of a {@link ResourceDescriptionsData}.
+ * 
+ * Names are never removed. Clients have to tolerate names that are not exported anymore.
+ */
+final class NamePrefixIndex {
+
+	private static final int MIN_ADDED_NAMES = 1024;
+
+	private final QualifiedName[] sorted;
+
+	private final PersistentHashMap<QualifiedName, Boolean> added;
+
+	private NamePrefixIndex(QualifiedName[] sorted, PersistentHashMap<QualifiedName, Boolean> added) {
+		this.sorted = sorted;
+		this.added = added;
+	}
+
+	static NamePrefixIndex create(Collection<QualifiedName> lowerCaseNames) {
+		QualifiedName[] names = lowerCaseNames.toArray(new QualifiedName[lowerCaseNames.size()]);
+		Arrays.sort(names);
+		int size = 0;
+		for (int i = 0; i < names.length; i++) {
+			if (size == 0 || !names[i].equals(names[size - 1])) {
+				names[size++] = names[i];
+			}
+		}
+		return new NamePrefixIndex(size == names.length ? names : Arrays.copyOf(names, size), PersistentHashMap.of());
+	}
+
+	/**
+	 * Returns an index that contains the given names, too, or <code>null</code> if too many names were added since
+	 * the index was created and it should be recreated instead.
+	 */
+	NamePrefixIndex plus(Iterable<QualifiedName> lowerCaseNames) {
+		PersistentHashMap<QualifiedName, Boolean> result = added;
+		for (QualifiedName name : lowerCaseNames) {
+			if (!result.containsKey(name) && Arrays.binarySearch(sorted, name) < 0) {
+				if (result.size() >= Math.max(MIN_ADDED_NAMES, sorted.length / 8)) {
+					return null;
+				}
+				result = result.plus(name, Boolean.TRUE);
+			}
+		}
+		return result == added ? this : new NamePrefixIndex(sorted, result);
+	}
+
+	/**
+	 * Returns the names that match the given lower case prefix in the sense of
+	 * {@link IPrefixAwareSelectable#matchesPrefix(QualifiedName, QualifiedName)}.
+	 */
+	List<QualifiedName> getNames(QualifiedName lowerCasePrefix) {
+		if (lowerCasePrefix.isEmpty()) {
+			List<QualifiedName> result = new ArrayList<>(Arrays.asList(sorted));
+			result.addAll(added.keySet());
+			return result;
+		}
+		// all names that match the prefix are sorted between the prefix itself and the prefix with the
+		// largest possible character appended to its last segment
+		QualifiedName upperBound = lowerCasePrefix.skipLast(1).append(lowerCasePrefix.getLastSegment() + Character.MAX_VALUE);
+		int from = lowerBound(lowerCasePrefix);
+		int to = lowerBound(upperBound);
+		List<QualifiedName> result = new ArrayList<>(to - from);
+		result.addAll(Arrays.asList(sorted).subList(from, to));
+		for (QualifiedName name : added.keySet()) {
+			if (IPrefixAwareSelectable.matchesPrefix(name, lowerCasePrefix)) {
+				result.add(name);
+			}
+		}
+		return result;
+	}
+
+	private int lowerBound(QualifiedName name) {
+		int low = 0;
+		int high = sorted.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (sorted[mid].compareTo(name) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+}
@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.impl;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.util.PersistentHashMap;
+
+import com.google.common.annotations.Beta;
+import com.google.common.collect.Iterables;
+
+/**
+ * A {@link ResourceDescriptionsData} that is backed by {@link PersistentHashMap persistent maps}. {@link #copy()}
+ * is a constant time operation since the copy shares the complete structure with the original.
+ * {@link #addDescription(URI, IResourceDescription)} and {@link #removeDescription(URI)} only copy the paths in the
+ * underlying tries that lead to the modified entries.
+ *
+ * The collections that are returned by {@link #getAllResourceDescriptions()} and {@link #getAllURIs()} are
+ * snapshots, e.g. they do not reflect subsequent modifications. Their iteration order is not the insertion order but
+ * determined by the hash codes of the URIs.
+ *
+ * @since 2.36
+ */
+@Beta
+public class PersistentResourceDescriptionsData extends ResourceDescriptionsData {
+
+	private PersistentHashMap<URI, IResourceDescription> resourceDescriptionMap;
+
+	/**
+	 * The lookup map contains either a single {@link IResourceDescription} or a
+	 * {@link PersistentHashMap PersistentHashMap&lt;URI, IResourceDescription&gt;} as values.
+	 */
+	private PersistentHashMap<QualifiedName, Object> lookupMap;
+
+	public PersistentResourceDescriptionsData(Iterable<IResourceDescription> descriptions) {
+		this(PersistentHashMap.of(), PersistentHashMap.of());
+		for (IResourceDescription description : descriptions) {
+			addDescription(description.getURI(), description);
+		}
+	}
+
+	protected PersistentResourceDescriptionsData(PersistentHashMap<URI, IResourceDescription> resourceDescriptionMap,
+			PersistentHashMap<QualifiedName, Object> lookupMap) {
+		super(Collections.emptyMap(), Collections.emptyMap());
+		this.resourceDescriptionMap = resourceDescriptionMap;
+		this.lookupMap = lookupMap;
+	}
+
+	/**
+	 * Creates a copy that shares the structure with the given original.
+	 */
+	protected PersistentResourceDescriptionsData(PersistentResourceDescriptionsData original) {
+		this(original.resourceDescriptionMap, original.lookupMap);
+		shareReverseIndexes(original);
+		shareNamePrefixIndex(original);
+	}
+
+	@Override
+	public PersistentResourceDescriptionsData copy() {
+		return new PersistentResourceDescriptionsData(this);
+	}
+
+	@Override
+	public Iterable<IResourceDescription> getAllResourceDescriptions() {
+		return resourceDescriptionMap.values();
+	}
+
+	@Override
+	public IResourceDescription getResourceDescription(URI uri) {
+		return resourceDescriptionMap.get(uri);
+	}
+
+	@Override
+	protected Iterable<IResourceDescription> getSelectables() {
+		return resourceDescriptionMap.values();
+	}
+
+	@Override
+	public Set<URI> getAllURIs() {
+		return resourceDescriptionMap.keySet();
+	}
+
+	@Override
+	public Iterable<IEObjectDescription> getExportedObjects(EClass type, QualifiedName qualifiedName, boolean ignoreCase) {
+		Object existing = lookupMap.get(qualifiedName.toLowerCase());
+		if (existing instanceof IResourceDescription) {
+			return ((IResourceDescription) existing).getExportedObjects(type, qualifiedName, ignoreCase);
+		} else if (existing instanceof PersistentHashMap<?, ?>) {
+			@SuppressWarnings("unchecked")
+			PersistentHashMap<URI, IResourceDescription> casted = (PersistentHashMap<URI, IResourceDescription>) existing;
+			return Iterables.concat(Iterables.transform(casted.values(),
+					from -> from.getExportedObjects(type, qualifiedName, ignoreCase)));
+		}
+		return Collections.emptyList();
+	}
+
+	@Override
+	protected Collection<QualifiedName> getLowerCaseNames() {
+		return lookupMap.keySet();
+	}
+
+	@Override
+	public void addDescription(URI uri, IResourceDescription newDescription) {
+		removeDescription(uri);
+		if (newDescription != null) {
+			resourceDescriptionMap = resourceDescriptionMap.plus(uri, newDescription);
+			registerDescription(newDescription);
+			registerNames(newDescription);
+			registerSource(newDescription);
+		}
+	}
+
+	@Override
+	public void removeDescription(URI uri) {
+		IResourceDescription oldDescription = resourceDescriptionMap.get(uri);
+		if (oldDescription != null) {
+			resourceDescriptionMap = resourceDescriptionMap.minus(uri);
+			unregisterDescription(oldDescription);
+			unregisterSource(oldDescription);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	protected void registerDescription(IResourceDescription description) {
+		PersistentHashMap<QualifiedName, Object> target = lookupMap;
+		for (IEObjectDescription object : description.getExportedObjects()) {
+			QualifiedName lowerCase = object.getName().toLowerCase();
+			Object existing = target.get(lowerCase);
+			if (existing == null) {
+				target = target.plus(lowerCase, description);
+			} else if (existing != description) {
+				PersistentHashMap<URI, IResourceDescription> bucket;
+				if (existing instanceof IResourceDescription) {
+					IResourceDescription existingDescription = (IResourceDescription) existing;
+					bucket = PersistentHashMap.<URI, IResourceDescription>of().plus(existingDescription.getURI(),
+							existingDescription);
+				} else {
+					bucket = (PersistentHashMap<URI, IResourceDescription>) existing;
+				}
+				target = target.plus(lowerCase, bucket.plus(description.getURI(), description));
+			}
+		}
+		lookupMap = target;
+	}
+
+	@SuppressWarnings("unchecked")
+	protected void unregisterDescription(IResourceDescription oldDescription) {
+		PersistentHashMap<QualifiedName, Object> target = lookupMap;
+		for (IEObjectDescription object : oldDescription.getExportedObjects()) {
+			QualifiedName objectName = object.getName().toLowerCase();
+			Object existing = target.get(objectName);
+			if (existing == oldDescription) {
+				target = target.minus(objectName);
+			} else if (existing instanceof PersistentHashMap<?, ?>) {
+				PersistentHashMap<URI, IResourceDescription> bucket = (PersistentHashMap<URI, IResourceDescription>) existing;
+				if (bucket.get(oldDescription.getURI()) == oldDescription) {
+					bucket = bucket.minus(oldDescription.getURI());
+					if (bucket.size() == 1) {
+						target = target.plus(objectName, bucket.values().iterator().next());
+					} else {
+						target = target.plus(objectName, bucket);
+					}
+				}
+			}
+		}
+		lookupMap = target;
+	}
+}
@@ -14,6 +14,7 @@ import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IPrefixAwareSelectable;
 import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.IResourceDescriptions;
 
@@ -34,7 +35,7 @@ import com.google.common.collect.Maps;
  * 
  * @author Sebastian Zarnekow - Initial contribution and API
  */
-public class ResourceDescriptionsBasedContainer extends AbstractContainer implements IResourceDescription.Event.Listener {
+public class ResourceDescriptionsBasedContainer extends AbstractContainer implements IResourceDescription.Event.Listener, IPrefixAwareSelectable {
 
 	private final IResourceDescriptions descriptions;
 	
@@ -73,6 +74,15 @@ public class ResourceDescriptionsBasedContainer extends AbstractContainer implem
 		return filterByURI(unfiltered);
 	}
 
+	/**
+	 * @since 2.36
+	 */
+	@Override
+	public Iterable<IEObjectDescription> getExportedObjectsByPrefix(EClass type, QualifiedName prefix) {
+		Iterable<IEObjectDescription> unfiltered = IPrefixAwareSelectable.getExportedObjectsByPrefix(getDescriptions(), type, prefix);
+		return filterByURI(unfiltered);
+	}
+
 	protected Iterable<IEObjectDescription> filterByURI(Iterable<IEObjectDescription> unfiltered) {
 		return unfiltered;
 	}
@@ -10,6 +10,7 @@ package org.eclipse.xtext.resource.impl;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -24,12 +25,15 @@ import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.xtext.EcoreUtil2;
 import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IPrefixAwareSelectable;
 import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.IResourceDescription.Delta;
 import org.eclipse.xtext.resource.IResourceDescriptions;
+import org.eclipse.xtext.util.PersistentHashMap;
 
 import com.google.common.annotations.Beta;
 import com.google.common.base.Function;
+import com.google.common.collect.Collections2;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
@@ -42,7 +46,7 @@ import com.google.common.collect.Sets;
  * @since 2.5
  * 
  */
-@Beta public class ResourceDescriptionsData extends AbstractCompoundSelectable implements IResourceDescriptions {
+@Beta public class ResourceDescriptionsData extends AbstractCompoundSelectable implements IResourceDescriptions.IReferrerAware, IPrefixAwareSelectable {
 	
 	public static class ResourceSetAdapter extends AdapterImpl {
 		
@@ -91,6 +95,26 @@ import com.google.common.collect.Sets;
 	 */
 	private final Map<QualifiedName, Object> lookupMap;
 
+	/**
+	 * Maps the URIs of referenced resources to the URIs of the resources that refer to them. It is created on demand
+	 * by {@link #getReferringResourceURIs(Collection)}. Since it is persistent, it is shared with {@link #copy()
+	 * copies}.
+	 */
+	private volatile PersistentHashMap<URI, PersistentHashMap<URI, Boolean>> referrerMap;
+
+	/**
+	 * Maps the lower case imported names to the URIs of the resources that import them. It is created on demand by
+	 * {@link #getImportingResourceURIs(Collection)}. Since it is persistent, it is shared with {@link #copy()
+	 * copies}.
+	 */
+	private volatile PersistentHashMap<QualifiedName, PersistentHashMap<URI, Boolean>> importerMap;
+
+	/**
+	 * The sorted lower case names that are used to answer {@link #getExportedObjectsByPrefix(EClass, QualifiedName)
+	 * prefix queries}. It is created on demand and, since it is immutable, shared with {@link #copy() copies}.
+	 */
+	private volatile NamePrefixIndex namePrefixIndex;
+
 	public ResourceDescriptionsData(Iterable<IResourceDescription> descriptions) {
 		int expectedSize = 500; // magic number in case it's not a Collection
 		if (descriptions instanceof Collection) {
@@ -113,9 +137,12 @@ import com.google.common.collect.Sets;
 	}
 	
 	public ResourceDescriptionsData copy() {
-		return new ResourceDescriptionsData(
+		ResourceDescriptionsData result = new ResourceDescriptionsData(
 				Maps.newLinkedHashMap(resourceDescriptionMap),
 				copyLookupMap());
+		result.shareNamePrefixIndex(this);
+		result.shareReverseIndexes(this);
+		return result;
 	}
 	
 	protected Map<QualifiedName, Object> copyLookupMap() {
@@ -146,6 +173,7 @@ import com.google.common.collect.Sets;
 	public void removeDescription(URI uri) {
 		IResourceDescription oldDescription = resourceDescriptionMap.remove(uri);
 		if (oldDescription != null) {
+			unregisterSource(oldDescription);
 			for(IEObjectDescription object: oldDescription.getExportedObjects()) {
 				QualifiedName objectName = object.getName().toLowerCase();
 				Object existing = lookupMap.get(objectName);
@@ -209,9 +237,202 @@ import com.google.common.collect.Sets;
 		if (newDescription != null) {
 			resourceDescriptionMap.put(uri, newDescription);
 			registerDescription(newDescription, lookupMap);
+			registerNames(newDescription);
+			registerSource(newDescription);
+		}
+	}
+
+	/**
+	 * @since 2.36
+	 */
+	@Override
+	public Set<URI> getReferringResourceURIs(Collection<URI> targetResourceURIs) {
+		PersistentHashMap<URI, PersistentHashMap<URI, Boolean>> referrers = referrerMap;
+		if (referrers == null) {
+			referrers = PersistentHashMap.of();
+			for (IResourceDescription description : getAllResourceDescriptions()) {
+				referrers = registerSource(getReferencedResourceURIs(description), description.getURI(), referrers);
+			}
+			referrerMap = referrers;
+		}
+		return collectSources(targetResourceURIs, referrers);
+	}
+
+	/**
+	 * Returns the URIs of the resources that {@link IResourceDescription#getImportedNames() import} at least one of
+	 * the given names. The names are compared case insensitive.
+	 * 
+	 * @since 2.36
+	 */
+	public Set<URI> getImportingResourceURIs(Collection<QualifiedName> names) {
+		PersistentHashMap<QualifiedName, PersistentHashMap<URI, Boolean>> importers = importerMap;
+		if (importers == null) {
+			importers = PersistentHashMap.of();
+			for (IResourceDescription description : getAllResourceDescriptions()) {
+				importers = registerSource(getLowerCaseImportedNames(description), description.getURI(), importers);
+			}
+			importerMap = importers;
+		}
+		return collectSources(Collections2.transform(names, QualifiedName::toLowerCase), importers);
+	}
+
+	/**
+	 * @since 2.36
+	 */
+	@Override
+	public Iterable<IEObjectDescription> getExportedObjectsByPrefix(EClass type, QualifiedName prefix) {
+		return Iterables.concat(Iterables.transform(getNamesByPrefix(prefix.toLowerCase()),
+				name -> getExportedObjects(type, name, true)));
+	}
+
+	/**
+	 * Returns the lower case names of the exported objects that match the given lower case prefix. The result may
+	 * contain names that are not exported anymore.
+	 * 
+	 * @since 2.36
+	 */
+	protected Collection<QualifiedName> getNamesByPrefix(QualifiedName lowerCasePrefix) {
+		NamePrefixIndex names = namePrefixIndex;
+		if (names == null) {
+			names = NamePrefixIndex.create(getLowerCaseNames());
+			namePrefixIndex = names;
+		}
+		return names.getNames(lowerCasePrefix);
+	}
+
+	/**
+	 * Returns the lower case names of all exported objects.
+	 * 
+	 * @since 2.36
+	 */
+	protected Collection<QualifiedName> getLowerCaseNames() {
+		return lookupMap.keySet();
+	}
+
+	/**
+	 * Adds the exported names of the given description to the name prefix index if it was already requested.
+	 * 
+	 * @since 2.36
+	 */
+	protected void registerNames(IResourceDescription description) {
+		NamePrefixIndex names = namePrefixIndex;
+		if (names != null) {
+			namePrefixIndex = names.plus(
+					Iterables.transform(description.getExportedObjects(), it -> it.getName().toLowerCase()));
+		}
+	}
+
+	/**
+	 * Shares the name prefix index of the given original with this copy.
+	 * 
+	 * @since 2.36
+	 */
+	protected void shareNamePrefixIndex(ResourceDescriptionsData original) {
+		namePrefixIndex = original.namePrefixIndex;
+	}
+
+	/**
+	 * Shares the maps from referenced resources and imported names to their sources of the given original with this
+	 * copy. They are persistent, so later modifications of either instance do not affect the other one.
+	 * 
+	 * @since 2.36
+	 */
+	protected void shareReverseIndexes(ResourceDescriptionsData original) {
+		referrerMap = original.referrerMap;
+		importerMap = original.importerMap;
+	}
+
+	/**
+	 * Whether one of the reverse indexes was already requested and is thus maintained by subsequent modifications.
+	 * 
+	 * @since 2.36
+	 */
+	protected boolean hasReverseIndex() {
+		return referrerMap != null || importerMap != null;
+	}
+
+	/**
+	 * Adds the given description to the reverse indexes that were already requested.
+	 * 
+	 * @since 2.36
+	 */
+	protected void registerSource(IResourceDescription description) {
+		PersistentHashMap<URI, PersistentHashMap<URI, Boolean>> referrers = referrerMap;
+		if (referrers != null) {
+			referrerMap = registerSource(getReferencedResourceURIs(description), description.getURI(), referrers);
+		}
+		PersistentHashMap<QualifiedName, PersistentHashMap<URI, Boolean>> importers = importerMap;
+		if (importers != null) {
+			importerMap = registerSource(getLowerCaseImportedNames(description), description.getURI(), importers);
 		}
 	}
 
+	/**
+	 * Removes the given description from the reverse indexes that were already requested.
+	 * 
+	 * @since 2.36
+	 */
+	protected void unregisterSource(IResourceDescription oldDescription) {
+		PersistentHashMap<URI, PersistentHashMap<URI, Boolean>> referrers = referrerMap;
+		if (referrers != null) {
+			referrerMap = unregisterSource(getReferencedResourceURIs(oldDescription), oldDescription.getURI(), referrers);
+		}
+		PersistentHashMap<QualifiedName, PersistentHashMap<URI, Boolean>> importers = importerMap;
+		if (importers != null) {
+			importerMap = unregisterSource(getLowerCaseImportedNames(oldDescription), oldDescription.getURI(), importers);
+		}
+	}
+
+	static Iterable<URI> getReferencedResourceURIs(IResourceDescription description) {
+		return Iterables.transform(
+				Iterables.filter(description.getReferenceDescriptions(), it -> it.getTargetEObjectUri() != null),
+				it -> it.getTargetEObjectUri().trimFragment());
+	}
+
+	static Iterable<QualifiedName> getLowerCaseImportedNames(IResourceDescription description) {
+		return Iterables.transform(description.getImportedNames(), QualifiedName::toLowerCase);
+	}
+
+	private static <K> PersistentHashMap<K, PersistentHashMap<URI, Boolean>> registerSource(Iterable<K> keys,
+			URI sourceURI, PersistentHashMap<K, PersistentHashMap<URI, Boolean>> target) {
+		for (K key : keys) {
+			PersistentHashMap<URI, Boolean> sources = target.get(key);
+			if (sources == null) {
+				target = target.plus(key, PersistentHashMap.<URI, Boolean>of().plus(sourceURI, Boolean.TRUE));
+			} else if (!sources.containsKey(sourceURI)) {
+				target = target.plus(key, sources.plus(sourceURI, Boolean.TRUE));
+			}
+		}
+		return target;
+	}
+
+	private static <K> PersistentHashMap<K, PersistentHashMap<URI, Boolean>> unregisterSource(Iterable<K> keys,
+			URI sourceURI, PersistentHashMap<K, PersistentHashMap<URI, Boolean>> target) {
+		for (K key : keys) {
+			PersistentHashMap<URI, Boolean> sources = target.get(key);
+			if (sources != null && sources.containsKey(sourceURI)) {
+				sources = sources.minus(sourceURI);
+				if (sources.isEmpty()) {
+					target = target.minus(key);
+				} else {
+					target = target.plus(key, sources);
+				}
+			}
+		}
+		return target;
+	}
+
+	private static <K> Set<URI> collectSources(Collection<K> keys, PersistentHashMap<K, PersistentHashMap<URI, Boolean>> index) {
+		Set<URI> result = new HashSet<>();
+		for (K key : keys) {
+			PersistentHashMap<URI, Boolean> sources = index.get(key);
+			if (sources != null) {
+				result.addAll(sources.keySet());
+			}
+		}
+		return result;
+	}
+
 	@SuppressWarnings("unchecked")
 	protected void registerDescription(IResourceDescription description, Map<QualifiedName, Object> target) {
 		for(IEObjectDescription object: description.getExportedObjects()) {
@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.persistence;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A compressor and decompressor for the LZ4 block format. The compressor uses a simple greedy strategy that favors
+ * speed over the compression ratio. Decompression is a plain copy loop without any table lookups.
+ *
+ * @since 2.36
+ */
+final class LZ4Block {
+
+	private static final int MIN_MATCH = 4;
+
+	/**
+	 * The last five bytes of a block are always literals.
+	 */
+	private static final int LAST_LITERALS = 5;
+
+	/**
+	 * The last match must start at least twelve bytes before the end of the block.
+	 */
+	private static final int MF_LIMIT = 12;
+
+	private static final int MAX_DISTANCE = 65535;
+
+	private static final int HASH_LOG = 12;
+
+	private LZ4Block() {
+	}
+
+	/**
+	 * Compress the given range of the source.
+	 */
+	static byte[] compress(byte[] src, int offset, int length) {
+		byte[] dest = new byte[length + length / 255 + 16];
+		int destPos = 0;
+		int end = offset + length;
+		int anchor = offset;
+		if (length >= MF_LIMIT + 1) {
+			int[] table = new int[1 << HASH_LOG];
+			Arrays.fill(table, -1);
+			int matchLimit = end - LAST_LITERALS;
+			int limit = end - MF_LIMIT;
+			int pos = offset;
+			while (pos < limit) {
+				int sequence = readInt(src, pos);
+				int hash = hash(sequence);
+				int ref = table[hash];
+				table[hash] = pos;
+				if (ref < 0 || pos - ref > MAX_DISTANCE || readInt(src, ref) != sequence) {
+					pos++;
+					continue;
+				}
+				int matchEnd = pos + MIN_MATCH;
+				int refEnd = ref + MIN_MATCH;
+				while (matchEnd < matchLimit && src[matchEnd] == src[refEnd]) {
+					matchEnd++;
+					refEnd++;
+				}
+				destPos = writeSequence(src, anchor, pos - anchor, pos - ref, matchEnd - pos, dest, destPos);
+				pos = matchEnd;
+				anchor = pos;
+			}
+		}
+		destPos = writeLastLiterals(src, anchor, end - anchor, dest, destPos);
+		return Arrays.copyOf(dest, destPos);
+	}
+
+	/**
+	 * Decompress the given range of the source into an array of the given length.
+	 *
+	 * @throws IOException
+	 *             if the source is not a valid block or does not decompress to the expected length.
+	 */
+	static byte[] decompress(byte[] src, int offset, int length, int decompressedLength) throws IOException {
+		byte[] dest = new byte[decompressedLength];
+		int end = offset + length;
+		int pos = offset;
+		int destPos = 0;
+		try {
+			while (pos < end) {
+				int token = src[pos++] & 0xFF;
+				int literals = token >>> 4;
+				if (literals == 15) {
+					int next;
+					do {
+						next = src[pos++] & 0xFF;
+						literals += next;
+					} while (next == 255);
+				}
+				System.arraycopy(src, pos, dest, destPos, literals);
+				pos += literals;
+				destPos += literals;
+				if (pos == end) {
+					break;
+				}
+				int distance = (src[pos] & 0xFF) | (src[pos + 1] & 0xFF) << 8;
+				pos += 2;
+				int matchLength = token & 0x0F;
+				if (matchLength == 15) {
+					int next;
+					do {
+						next = src[pos++] & 0xFF;
+						matchLength += next;
+					} while (next == 255);
+				}
+				matchLength += MIN_MATCH;
+				int ref = destPos - distance;
+				if (distance == 0 || ref < 0) {
+					throw new IOException("Invalid match distance: " + distance);
+				}
+				if (distance >= matchLength) {
+					System.arraycopy(dest, ref, dest, destPos, matchLength);
+					destPos += matchLength;
+				} else {
+					// overlapping match, repeats the last bytes
+					for (int i = 0; i < matchLength; i++) {
+						dest[destPos++] = dest[ref++];
+					}
+				}
+			}
+		} catch (IndexOutOfBoundsException e) {
+			throw new IOException("Malformed input", e);
+		}
+		if (destPos != decompressedLength) {
+			throw new IOException("Unexpected length " + destPos + ", expected " + decompressedLength);
+		}
+		return dest;
+	}
+
+	private static int writeSequence(byte[] src, int literalStart, int literals, int distance, int matchLength,
+			byte[] dest, int destPos) {
+		int matchToken = matchLength - MIN_MATCH;
+		int tokenPos = destPos++;
+		destPos = writeLiterals(src, literalStart, literals, dest, destPos);
+		dest[destPos++] = (byte) distance;
+		dest[destPos++] = (byte) (distance >>> 8);
+		if (matchToken >= 15) {
+			destPos = writeLength(matchToken - 15, dest, destPos);
+		}
+		dest[tokenPos] = (byte) (Math.min(literals, 15) << 4 | Math.min(matchToken, 15));
+		return destPos;
+	}
+
+	private static int writeLastLiterals(byte[] src, int literalStart, int literals, byte[] dest, int destPos) {
+		int tokenPos = destPos++;
+		destPos = writeLiterals(src, literalStart, literals, dest, destPos);
+		dest[tokenPos] = (byte) (Math.min(literals, 15) << 4);
+		return destPos;
+	}
+
+	private static int writeLiterals(byte[] src, int literalStart, int literals, byte[] dest, int destPos) {
+		if (literals >= 15) {
+			destPos = writeLength(literals - 15, dest, destPos);
+		}
+		System.arraycopy(src, literalStart, dest, destPos, literals);
+		return destPos + literals;
+	}
+
+	private static int writeLength(int length, byte[] dest, int destPos) {
+		while (length >= 255) {
+			dest[destPos++] = (byte) 255;
+			length -= 255;
+		}
+		dest[destPos++] = (byte) length;
+		return destPos;
+	}
+
+	private static int readInt(byte[] buffer, int pos) {
+		return (buffer[pos] & 0xFF) | (buffer[pos + 1] & 0xFF) << 8 | (buffer[pos + 2] & 0xFF) << 16
+				| (buffer[pos + 3] & 0xFF) << 24;
+	}
+
+	private static int hash(int sequence) {
+		return (sequence * -1640531535) >>> (32 - HASH_LOG);
+	}
+}
@@ -0,0 +1,716 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.persistence;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.ENamedElement;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IReferenceDescription;
+import org.eclipse.xtext.resource.IResourceDescription;
+
+import com.google.common.annotations.Beta;
+
+/**
+ * A read only index of {@link IResourceDescription resource descriptions} in a compact binary format that is
+ * accessed through a {@link ByteBuffer}, usually a {@link java.nio.MappedByteBuffer memory mapped file}.
+ *
+ * All strings, e.g. URIs and the segments of qualified names, are stored once in a string table. The exported
+ * objects and the references of a resource are stored as fixed width records that point into that table. A resource
+ * description is only decoded when it is requested. The decoded descriptions and strings are softly cached, thus
+ * the garbage collector may reclaim them and the complete index is never pinned on the heap. Lookups by URI and by
+ * exported name are answered from sorted hash tables in the file and do not require to decode any description.
+ *
+ * Instances are safe for concurrent use.
+ *
+ * @since 2.36
+ */
+@Beta
+public class MappedIndex {
+
+	private static final int MAGIC = 0x58494458; // XIDX
+
+	private static final int VERSION = 1;
+
+	private static final int NONE = -1;
+
+	private static final int HEADER_SIZE = 4 * 8;
+
+	private final ByteBuffer buffer;
+
+	private final int stringsOffset;
+
+	private final int stringCount;
+
+	private final int namesOffset;
+
+	private final int ecoreOffset;
+
+	private final int userDataOffset;
+
+	private final int resourcesOffset;
+
+	private final int resourceCount;
+
+	private final int recordsOffset;
+
+	private final int lookupOffset;
+
+	private final int lookupCount;
+
+	private volatile SoftReference<String[]> strings = new SoftReference<>(null);
+
+	private final ENamedElement[] ecoreElements;
+
+	private final AtomicReferenceArray<SoftReference<IResourceDescription>> descriptions;
+
+	/**
+	 * Open the index that is stored in the given buffer. The buffer starts at position 0 and must not be modified
+	 * afterwards.
+	 *
+	 * @throws IOException
+	 *             if the buffer does not contain an index in the expected format.
+	 */
+	public MappedIndex(ByteBuffer buffer) throws IOException {
+		this.buffer = buffer;
+		if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+			throw new IOException("Not an index file");
+		}
+		if (buffer.getInt(4) != VERSION) {
+			throw new IOException("Unsupported index version: " + buffer.getInt(4));
+		}
+		stringsOffset = buffer.getInt(8);
+		namesOffset = buffer.getInt(12);
+		ecoreOffset = buffer.getInt(16);
+		userDataOffset = buffer.getInt(20);
+		resourcesOffset = buffer.getInt(24);
+		lookupOffset = buffer.getInt(28);
+		stringCount = buffer.getInt(stringsOffset);
+		resourceCount = buffer.getInt(resourcesOffset);
+		recordsOffset = resourcesOffset + 4 + 3 * 4 * resourceCount;
+		lookupCount = buffer.getInt(lookupOffset);
+		ecoreElements = new ENamedElement[buffer.getInt(ecoreOffset)];
+		descriptions = new AtomicReferenceArray<>(resourceCount);
+	}
+
+	/**
+	 * The number of resource descriptions in this index.
+	 */
+	public int size() {
+		return resourceCount;
+	}
+
+	/**
+	 * Returns the URI of the resource description with the given index.
+	 */
+	public URI getURI(int index) {
+		return URI.createURI(getString(buffer.getInt(resourcesOffset + 4 + 4 * (resourceCount + index))));
+	}
+
+	/**
+	 * Returns the index of the resource description with the given URI or <code>-1</code> if there is none.
+	 */
+	public int indexOf(URI uri) {
+		String uriAsString = uri.toString();
+		int hash = uriAsString.hashCode();
+		int hashesOffset = resourcesOffset + 4;
+		for (int i = findFirst(hashesOffset, 4, resourceCount, hash); i < resourceCount
+				&& buffer.getInt(hashesOffset + 4 * i) == hash; i++) {
+			if (uriAsString.equals(getString(buffer.getInt(hashesOffset + 4 * (resourceCount + i))))) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the resource description with the given index. It is decoded on first access and again if the garbage
+	 * collector reclaimed it in the meantime.
+	 */
+	public IResourceDescription getResourceDescription(int index) {
+		SoftReference<IResourceDescription> cached = descriptions.get(index);
+		IResourceDescription result = cached != null ? cached.get() : null;
+		if (result == null) {
+			result = decodeResourceDescription(index);
+			descriptions.set(index, new SoftReference<>(result));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the indexes of the resource descriptions that may export an object with the given lower case name.
+	 * The result may contain false positives but never misses a resource description that exports the name.
+	 */
+	public int[] findResources(QualifiedName lowerCaseName) {
+		int hash = nameHash(lowerCaseName);
+		int entriesOffset = lookupOffset + 4;
+		int first = findFirst(entriesOffset, 8, lookupCount, hash);
+		int last = first;
+		while (last < lookupCount && buffer.getInt(entriesOffset + 8 * last) == hash) {
+			last++;
+		}
+		int[] result = new int[last - first];
+		for (int i = first; i < last; i++) {
+			result[i - first] = buffer.getInt(entriesOffset + 8 * i + 4);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns all qualified names that are stored in this index. Besides the names of the exported objects, these
+	 * include the imported names. The names are decoded on access.
+	 */
+	public List<QualifiedName> getQualifiedNames() {
+		int count = buffer.getInt(namesOffset);
+		return new AbstractList<QualifiedName>() {
+			@Override
+			public QualifiedName get(int index) {
+				return getQualifiedName(index);
+			}
+
+			@Override
+			public int size() {
+				return count;
+			}
+		};
+	}
+
+	/**
+	 * Binary search for the first entry with the given hash in a table of entries with the given width that start
+	 * with the hash.
+	 */
+	private int findFirst(int tableOffset, int entryWidth, int entryCount, int hash) {
+		int low = 0;
+		int high = entryCount;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (buffer.getInt(tableOffset + entryWidth * mid) < hash) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private int getRecordOffset(int index) {
+		return recordsOffset + buffer.getInt(resourcesOffset + 4 + 4 * (2 * resourceCount + index));
+	}
+
+	/**
+	 * Copies the record of the resource description with the given index to the given output without decoding it.
+	 */
+	private void copyRecord(int index, SectionOutput out) {
+		int start = getRecordOffset(index);
+		int offset = start;
+		offset += 4 + 16 * buffer.getInt(offset);
+		offset += 4 + 20 * buffer.getInt(offset);
+		offset += 4 + 4 * buffer.getInt(offset);
+		copyBytes(start, offset - start, out);
+	}
+
+	private void copyBytes(int offset, int length, SectionOutput out) {
+		ByteBuffer duplicate = buffer.duplicate();
+		duplicate.position(offset);
+		byte[] chunk = new byte[Math.min(length, 65536)];
+		for (int remaining = length; remaining > 0; remaining -= chunk.length) {
+			int size = Math.min(remaining, chunk.length);
+			duplicate.get(chunk, 0, size);
+			out.write(chunk, 0, size);
+		}
+	}
+
+	protected IResourceDescription decodeResourceDescription(int index) {
+		int offset = getRecordOffset(index);
+		SerializableResourceDescription result = new SerializableResourceDescription();
+		result.setURI(getURI(index));
+
+		int exportedCount = buffer.getInt(offset);
+		offset += 4;
+		List<SerializableEObjectDescription> exported = new ArrayList<>(exportedCount);
+		for (int i = 0; i < exportedCount; i++, offset += 16) {
+			SerializableEObjectDescription description = new SerializableEObjectDescription();
+			description.setQualifiedName(getQualifiedName(buffer.getInt(offset)));
+			description.setEClass(getEcoreElement(buffer.getInt(offset + 4)));
+			description.setEObjectURI(URI.createURI(getString(buffer.getInt(offset + 8))));
+			description.setUserData(getUserData(buffer.getInt(offset + 12)));
+			exported.add(description);
+		}
+		result.setDescriptions(exported);
+
+		int referenceCount = buffer.getInt(offset);
+		offset += 4;
+		List<SerializableReferenceDescription> references = new ArrayList<>(referenceCount);
+		for (int i = 0; i < referenceCount; i++, offset += 20) {
+			SerializableReferenceDescription reference = new SerializableReferenceDescription();
+			reference.setSourceEObjectUri(getNullableURI(buffer.getInt(offset)));
+			reference.setTargetEObjectUri(getNullableURI(buffer.getInt(offset + 4)));
+			reference.setContainerEObjectURI(getNullableURI(buffer.getInt(offset + 8)));
+			reference.setEReference(getEcoreElement(buffer.getInt(offset + 12)));
+			reference.setIndexInList(buffer.getInt(offset + 16));
+			references.add(reference);
+		}
+		result.setReferences(references);
+
+		int importedCount = buffer.getInt(offset);
+		offset += 4;
+		List<QualifiedName> importedNames = new ArrayList<>(importedCount);
+		for (int i = 0; i < importedCount; i++, offset += 4) {
+			importedNames.add(getQualifiedName(buffer.getInt(offset)));
+		}
+		result.setImportedNames(importedNames);
+		return result;
+	}
+
+	protected String getString(int id) {
+		String[] cache = strings.get();
+		if (cache == null) {
+			cache = new String[stringCount];
+			strings = new SoftReference<>(cache);
+		}
+		String result = cache[id];
+		if (result == null) {
+			int dataOffset = stringsOffset + 4 + 4 * (stringCount + 1);
+			int start = buffer.getInt(stringsOffset + 4 + 4 * id);
+			int end = buffer.getInt(stringsOffset + 4 + 4 * (id + 1));
+			byte[] bytes = new byte[end - start];
+			ByteBuffer duplicate = buffer.duplicate();
+			duplicate.position(dataOffset + start);
+			duplicate.get(bytes);
+			result = new String(bytes, StandardCharsets.UTF_8);
+			// Strings are immutable, a racy publication is fine
+			cache[id] = result;
+		}
+		return result;
+	}
+
+	private URI getNullableURI(int stringId) {
+		if (stringId == NONE) {
+			return null;
+		}
+		return URI.createURI(getString(stringId));
+	}
+
+	protected QualifiedName getQualifiedName(int id) {
+		int offset = namesOffset + buffer.getInt(namesOffset + 4 + 4 * id);
+		int segmentCount = buffer.getInt(offset);
+		String[] segments = new String[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			segments[i] = getString(buffer.getInt(offset + 4 + 4 * i));
+		}
+		return QualifiedName.create(segments);
+	}
+
+	@SuppressWarnings("unchecked")
+	protected <T extends ENamedElement> T getEcoreElement(int id) {
+		if (id == NONE) {
+			return null;
+		}
+		ENamedElement result = ecoreElements[id];
+		if (result == null) {
+			URI uri = URI.createURI(getString(buffer.getInt(ecoreOffset + 4 + 4 * id)));
+			EPackage ePackage = EPackage.Registry.INSTANCE.getEPackage(uri.trimFragment().toString());
+			if (ePackage == null)
+				return null;
+			Resource eResource = ePackage.eResource();
+			if (eResource == null)
+				return null;
+			result = (ENamedElement) eResource.getEObject(uri.fragment());
+			ecoreElements[id] = result;
+		}
+		return (T) result;
+	}
+
+	private HashMap<String, String> getUserData(int relativeOffset) {
+		if (relativeOffset == NONE) {
+			return new HashMap<>(2);
+		}
+		int offset = userDataOffset + relativeOffset;
+		int size = buffer.getInt(offset);
+		HashMap<String, String> result = new HashMap<>(size * 2);
+		for (int i = 0; i < size; i++) {
+			int valueId = buffer.getInt(offset + 8 + 8 * i);
+			result.put(getString(buffer.getInt(offset + 4 + 8 * i)), valueId == NONE ? null : getString(valueId));
+		}
+		return result;
+	}
+
+	/**
+	 * The hash code that is used in the name lookup table. It does not depend on the implementation of
+	 * {@link QualifiedName#hashCode()}.
+	 */
+	private static int nameHash(QualifiedName lowerCaseName) {
+		int result = 1;
+		for (int i = 0; i < lowerCaseName.getSegmentCount(); i++) {
+			result = 31 * result + lowerCaseName.getSegment(i).hashCode();
+		}
+		return result;
+	}
+
+	/**
+	 * Write the given resource descriptions in the format that is understood by {@link MappedIndex}.
+	 */
+	public static void write(Collection<? extends IResourceDescription> resourceDescriptions, OutputStream out)
+			throws IOException {
+		new Writer(null).write(new int[0], resourceDescriptions, out);
+	}
+
+	/**
+	 * Write the resource descriptions of the given base index with the given indexes and the given additional
+	 * resource descriptions in the format that is understood by {@link MappedIndex}. The records of the base are
+	 * copied byte for byte without decoding them. The tables of the base are copied completely, thus they keep the
+	 * strings and names of base descriptions that are not written anymore.
+	 */
+	public static void write(MappedIndex base, int[] baseIndexes,
+			Collection<? extends IResourceDescription> resourceDescriptions, OutputStream out) throws IOException {
+		new Writer(base).write(baseIndexes, resourceDescriptions, out);
+	}
+
+	/**
+	 * Collects the tables and the records of an index file. All offsets in a section are relative to the start of the
+	 * section's data so that the sections can be encoded independently. If there is a base index, its tables are
+	 * copied first and the ids of the new entries start after the ids of the base.
+	 */
+	private static class Writer {
+		private final MappedIndex base;
+
+		private final int baseStringCount;
+
+		private final int baseNameCount;
+
+		private final int baseEcoreCount;
+
+		private final int baseUserDataSize;
+
+		private final Map<String, Integer> stringIds = new HashMap<>();
+
+		private final List<String> stringList = new ArrayList<>();
+
+		private final Map<QualifiedName, Integer> nameIds = new HashMap<>();
+
+		private final SectionOutput names = new SectionOutput();
+
+		private final List<Integer> nameOffsets = new ArrayList<>();
+
+		private final Map<ENamedElement, Integer> ecoreIds = new HashMap<>();
+
+		private final List<Integer> ecoreURIs = new ArrayList<>();
+
+		private final SectionOutput userData = new SectionOutput();
+
+		private final SectionOutput records = new SectionOutput();
+
+		Writer(MappedIndex base) {
+			this.base = base;
+			if (base != null) {
+				ByteBuffer buffer = base.buffer;
+				baseStringCount = base.stringCount;
+				baseNameCount = buffer.getInt(base.namesOffset);
+				baseEcoreCount = base.ecoreElements.length;
+				baseUserDataSize = base.resourcesOffset - base.userDataOffset;
+			} else {
+				baseStringCount = 0;
+				baseNameCount = 0;
+				baseEcoreCount = 0;
+				baseUserDataSize = 0;
+			}
+		}
+
+		void write(int[] baseIndexes, Collection<? extends IResourceDescription> resourceDescriptions,
+				OutputStream out) throws IOException {
+			int count = baseIndexes.length + resourceDescriptions.size();
+			long[] resources = new long[count];
+			int[] uriIds = new int[count];
+			int[] recordOffsets = new int[count];
+			List<long[]> lookup = new ArrayList<>();
+			int index = 0;
+			if (baseIndexes.length > 0) {
+				ByteBuffer buffer = base.buffer;
+				int[] newBaseIndexes = new int[base.resourceCount];
+				Arrays.fill(newBaseIndexes, NONE);
+				for (int baseIndex : baseIndexes) {
+					uriIds[index] = buffer.getInt(base.resourcesOffset + 4 + 4 * (base.resourceCount + baseIndex));
+					recordOffsets[index] = records.size();
+					resources[index] = ((long) buffer.getInt(base.resourcesOffset + 4 + 4 * baseIndex) << 32) | index;
+					base.copyRecord(baseIndex, records);
+					newBaseIndexes[baseIndex] = index;
+					index++;
+				}
+				int entriesOffset = base.lookupOffset + 4;
+				for (int i = 0; i < base.lookupCount; i++) {
+					int position = newBaseIndexes[buffer.getInt(entriesOffset + 8 * i + 4)];
+					if (position != NONE) {
+						lookup.add(new long[] { buffer.getInt(entriesOffset + 8 * i), position });
+					}
+				}
+			}
+			for (IResourceDescription description : resourceDescriptions) {
+				String uri = description.getURI().toString();
+				uriIds[index] = stringId(uri);
+				recordOffsets[index] = records.size();
+				resources[index] = ((long) uri.hashCode() << 32) | index;
+				writeRecord(description, lookup, index);
+				index++;
+			}
+			// sort the resources by the hash of their URI, the original position is kept in the lower bits
+			Arrays.sort(resources);
+			int[] newIndex = new int[count];
+			for (int i = 0; i < count; i++) {
+				newIndex[(int) resources[i]] = i;
+			}
+			long[] lookupEntries = new long[lookup.size()];
+			for (int i = 0; i < lookupEntries.length; i++) {
+				long[] entry = lookup.get(i);
+				lookupEntries[i] = (entry[0] << 32) | newIndex[(int) entry[1]];
+			}
+			Arrays.sort(lookupEntries);
+
+			SectionOutput strings = new SectionOutput();
+			byte[][] encoded = new byte[stringList.size()][];
+			strings.writeInt(baseStringCount + stringList.size());
+			int stringOffset = 0;
+			if (base != null) {
+				int baseOffsets = base.stringsOffset + 4;
+				for (int i = 0; i < baseStringCount; i++) {
+					strings.writeInt(base.buffer.getInt(baseOffsets + 4 * i));
+				}
+				stringOffset = base.buffer.getInt(baseOffsets + 4 * baseStringCount);
+			}
+			for (int i = 0; i < encoded.length; i++) {
+				encoded[i] = stringList.get(i).getBytes(StandardCharsets.UTF_8);
+				strings.writeInt(stringOffset);
+				stringOffset += encoded[i].length;
+			}
+			strings.writeInt(stringOffset);
+			if (base != null) {
+				base.copyBytes(base.stringsOffset + 4 + 4 * (baseStringCount + 1),
+						base.buffer.getInt(base.stringsOffset + 4 + 4 * baseStringCount), strings);
+			}
+			for (byte[] bytes : encoded) {
+				strings.write(bytes);
+			}
+
+			SectionOutput nameTable = new SectionOutput();
+			nameTable.writeInt(baseNameCount + nameOffsets.size());
+			int nameTableHeader = 4 + 4 * (baseNameCount + nameOffsets.size());
+			int baseNamesSize = 0;
+			if (base != null) {
+				int baseHeader = 4 + 4 * baseNameCount;
+				for (int i = 0; i < baseNameCount; i++) {
+					nameTable.writeInt(nameTableHeader + base.buffer.getInt(base.namesOffset + 4 + 4 * i) - baseHeader);
+				}
+				baseNamesSize = base.ecoreOffset - base.namesOffset - baseHeader;
+			}
+			for (int nameOffset : nameOffsets) {
+				nameTable.writeInt(nameTableHeader + baseNamesSize + nameOffset);
+			}
+			if (base != null) {
+				base.copyBytes(base.namesOffset + 4 + 4 * baseNameCount, baseNamesSize, nameTable);
+			}
+			names.writeTo(nameTable);
+
+			SectionOutput ecore = new SectionOutput();
+			ecore.writeInt(baseEcoreCount + ecoreURIs.size());
+			if (base != null) {
+				base.copyBytes(base.ecoreOffset + 4, 4 * baseEcoreCount, ecore);
+			}
+			for (int uriId : ecoreURIs) {
+				ecore.writeInt(uriId);
+			}
+
+			SectionOutput resourceTable = new SectionOutput();
+			resourceTable.writeInt(count);
+			for (int i = 0; i < count; i++) {
+				resourceTable.writeInt((int) (resources[i] >> 32));
+			}
+			for (int i = 0; i < count; i++) {
+				resourceTable.writeInt(uriIds[(int) resources[i]]);
+			}
+			for (int i = 0; i < count; i++) {
+				resourceTable.writeInt(recordOffsets[(int) resources[i]]);
+			}
+			records.writeTo(resourceTable);
+
+			SectionOutput lookupTable = new SectionOutput();
+			lookupTable.writeInt(lookupEntries.length);
+			for (long entry : lookupEntries) {
+				lookupTable.writeInt((int) (entry >> 32));
+				lookupTable.writeInt((int) entry);
+			}
+
+			long stringsOffset = HEADER_SIZE;
+			long namesOffset = stringsOffset + strings.size();
+			long ecoreOffset = namesOffset + nameTable.size();
+			long userDataOffset = ecoreOffset + ecore.size();
+			long resourcesOffset = userDataOffset + baseUserDataSize + userData.size();
+			long lookupOffset = resourcesOffset + resourceTable.size();
+			if (lookupOffset + lookupTable.size() > Integer.MAX_VALUE) {
+				throw new IOException("The index exceeds the maximum size of 2GB");
+			}
+			DataOutputStream data = new DataOutputStream(out);
+			data.writeInt(MAGIC);
+			data.writeInt(VERSION);
+			data.writeInt((int) stringsOffset);
+			data.writeInt((int) namesOffset);
+			data.writeInt((int) ecoreOffset);
+			data.writeInt((int) userDataOffset);
+			data.writeInt((int) resourcesOffset);
+			data.writeInt((int) lookupOffset);
+			strings.writeTo(data);
+			nameTable.writeTo(data);
+			ecore.writeTo(data);
+			if (base != null) {
+				SectionOutput baseUserData = new SectionOutput();
+				base.copyBytes(base.userDataOffset, baseUserDataSize, baseUserData);
+				baseUserData.writeTo(data);
+			}
+			userData.writeTo(data);
+			resourceTable.writeTo(data);
+			lookupTable.writeTo(data);
+			data.flush();
+		}
+
+		private void writeRecord(IResourceDescription description, List<long[]> lookup, int index) {
+			List<IEObjectDescription> exported = new ArrayList<>();
+			description.getExportedObjects().forEach(exported::add);
+			records.writeInt(exported.size());
+			int[] hashes = new int[exported.size()];
+			int i = 0;
+			for (IEObjectDescription object : exported) {
+				records.writeInt(nameId(object.getName()));
+				records.writeInt(ecoreId(object.getEClass()));
+				records.writeInt(stringId(object.getEObjectURI().toString()));
+				records.writeInt(userDataOffset(object));
+				hashes[i++] = nameHash(object.getName().toLowerCase());
+			}
+			// each resource is registered only once per name hash
+			Arrays.sort(hashes);
+			for (i = 0; i < hashes.length; i++) {
+				if (i == 0 || hashes[i] != hashes[i - 1]) {
+					lookup.add(new long[] { hashes[i], index });
+				}
+			}
+			List<IReferenceDescription> references = new ArrayList<>();
+			description.getReferenceDescriptions().forEach(references::add);
+			records.writeInt(references.size());
+			for (IReferenceDescription reference : references) {
+				records.writeInt(uriId(reference.getSourceEObjectUri()));
+				records.writeInt(uriId(reference.getTargetEObjectUri()));
+				records.writeInt(uriId(reference.getContainerEObjectURI()));
+				records.writeInt(ecoreId(reference.getEReference()));
+				records.writeInt(reference.getIndexInList());
+			}
+			List<QualifiedName> importedNames = new ArrayList<>();
+			description.getImportedNames().forEach(importedNames::add);
+			records.writeInt(importedNames.size());
+			for (QualifiedName importedName : importedNames) {
+				records.writeInt(nameId(importedName));
+			}
+		}
+
+		private int stringId(String string) {
+			Integer result = stringIds.get(string);
+			if (result == null) {
+				result = baseStringCount + stringList.size();
+				stringIds.put(string, result);
+				stringList.add(string);
+			}
+			return result;
+		}
+
+		private int uriId(URI uri) {
+			if (uri == null) {
+				return NONE;
+			}
+			return stringId(uri.toString());
+		}
+
+		private int nameId(QualifiedName name) {
+			Integer result = nameIds.get(name);
+			if (result == null) {
+				result = baseNameCount + nameOffsets.size();
+				nameIds.put(name, result);
+				nameOffsets.add(names.size());
+				names.writeInt(name.getSegmentCount());
+				for (int i = 0; i < name.getSegmentCount(); i++) {
+					names.writeInt(stringId(name.getSegment(i)));
+				}
+			}
+			return result;
+		}
+
+		private int ecoreId(ENamedElement element) {
+			if (element == null) {
+				return NONE;
+			}
+			Integer result = ecoreIds.get(element);
+			if (result == null) {
+				result = baseEcoreCount + ecoreURIs.size();
+				ecoreIds.put(element, result);
+				ecoreURIs.add(stringId(EcoreUtil.getURI(element).toString()));
+			}
+			return result;
+		}
+
+		private int userDataOffset(IEObjectDescription object) {
+			String[] keys = object.getUserDataKeys();
+			if (keys.length == 0) {
+				return NONE;
+			}
+			int result = baseUserDataSize + userData.size();
+			userData.writeInt(keys.length);
+			for (String key : keys) {
+				userData.writeInt(stringId(key));
+				String value = object.getUserData(key);
+				userData.writeInt(value == null ? NONE : stringId(value));
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * A growing byte array that is written in big endian order.
+	 */
+	private static class SectionOutput extends ByteArrayOutputStream {
+		SectionOutput() {
+			super(1024);
+		}
+
+		void writeInt(int value) {
+			write(value >>> 24);
+			write(value >>> 16);
+			write(value >>> 8);
+			write(value);
+		}
+
+		@Override
+		public void write(byte[] b) {
+			write(b, 0, b.length);
+		}
+	}
+}
@@ -10,11 +10,15 @@ package org.eclipse.xtext.resource.persistence;
 
 import static org.eclipse.xtext.xbase.lib.IterableExtensions.*;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collections;
 
 import org.apache.log4j.Logger;
@@ -22,12 +26,14 @@ import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.URIConverter;
 import org.eclipse.emf.ecore.resource.impl.ExtensibleURIConverterImpl;
+import org.eclipse.emf.ecore.resource.impl.FileURIHandlerImpl;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.generator.AbstractFileSystemAccess2;
 import org.eclipse.xtext.generator.IContextualOutputConfigurationProvider;
 import org.eclipse.xtext.generator.IFileSystemAccessExtension3;
 import org.eclipse.xtext.util.RuntimeIOException;
 
+import com.google.common.io.ByteStreams;
 import com.google.inject.Inject;
 import com.google.inject.Provider;
 
@@ -45,6 +51,8 @@ public class ResourceStorageFacade implements IResourceStorageFacade {
 
 	private boolean storeNodeModel = false;
 
+	private ResourceStorageSections.Compression sectionCompression = null;
+
 	@Override
 	public boolean shouldLoadFromStorage(StorageAwareResource resource) {
 		SourceLevelURIsAdapter adapter = SourceLevelURIsAdapter.findInstalledAdapter(resource.getResourceSet());
@@ -66,6 +74,10 @@ public class ResourceStorageFacade implements IResourceStorageFacade {
 			URIConverter converter = resourceSet.getURIConverter();
 			URI storageURI = getBinaryStorageURI(resource.getURI());
 			if (converter.exists(storageURI, Collections.emptyMap())) {
+				URI normalized = converter.normalize(storageURI);
+				if (isReadFromFileSystem(normalized, converter)) {
+					return createResourceStorageLoadable(Paths.get(normalized.toFileString()));
+				}
 				return createResourceStorageLoadable(converter.createInputStream(storageURI));
 			}
 			return createResourceStorageLoadable(
@@ -104,14 +116,50 @@ public class ResourceStorageFacade implements IResourceStorageFacade {
 		fsa.generateFile(computeOutputPath(resource), new ByteArrayInputStream(bout.toByteArray(), 0, bout.length()));
 	}
 
+	/**
+	 * Whether the given converter reads the storage with the given normalized URI from the local file system without
+	 * any customization, such that it may be accessed as a {@link Path} instead.
+	 *
+	 * @since 2.36
+	 */
+	protected boolean isReadFromFileSystem(URI normalizedStorageURI, URIConverter converter) {
+		return normalizedStorageURI.isFile()
+				&& converter.getURIHandler(normalizedStorageURI).getClass() == FileURIHandlerImpl.class;
+	}
+
+	/**
+	 * Reads the given storage file. If it is a {@link ResourceStorageSections sectioned storage}, only its header is
+	 * read eagerly and each section is read from the file when it is loaded. Otherwise the file is streamed.
+	 *
+	 * @since 2.36
+	 */
+	protected ResourceStorageLoadable createResourceStorageLoadable(Path storageFile) throws IOException {
+		byte[] header = new byte[4];
+		int length;
+		try (InputStream in = Files.newInputStream(storageFile)) {
+			length = ByteStreams.read(in, header, 0, header.length);
+		}
+		if (ResourceStorageSections.isSectioned(header, length)) {
+			return createResourceStorageLoadable(ResourceStorageSections.read(storageFile));
+		}
+		return createResourceStorageLoadable(new BufferedInputStream(Files.newInputStream(storageFile)));
+	}
+
 	@Override
 	public ResourceStorageLoadable createResourceStorageLoadable(InputStream in) {
 		return new ResourceStorageLoadable(in, isStoreNodeModel());
 	}
 
+	/**
+	 * @since 2.36
+	 */
+	public ResourceStorageLoadable createResourceStorageLoadable(ResourceStorageSections sections) {
+		return new ResourceStorageLoadable(sections, isStoreNodeModel());
+	}
+
 	@Override
 	public ResourceStorageWritable createResourceStorageWritable(OutputStream out) {
-		return new ResourceStorageWritable(out, isStoreNodeModel());
+		return new ResourceStorageWritable(out, isStoreNodeModel(), getSectionCompression());
 	}
 
 	protected ResourceStorageProviderAdapter getResourceStorageProviderAdapter(ResourceSet resourceSet) {
@@ -153,6 +201,23 @@ public class ResourceStorageFacade implements IResourceStorageFacade {
 		this.storeNodeModel = storeNodeModel;
 	}
 
+	/**
+	 * The compression of the sections if resources are stored as {@link ResourceStorageSections}, or
+	 * <code>null</code> if the zip format is used. The loading side understands both formats.
+	 * 
+	 * @since 2.36
+	 */
+	public ResourceStorageSections.Compression getSectionCompression() {
+		return sectionCompression;
+	}
+
+	/**
+	 * @since 2.36
+	 */
+	public void setSectionCompression(ResourceStorageSections.Compression sectionCompression) {
+		this.sectionCompression = sectionCompression;
+	}
+
 	private static class MyByteArrayOutputStream extends ByteArrayOutputStream {
 		@Override
 		public synchronized byte[] toByteArray() {
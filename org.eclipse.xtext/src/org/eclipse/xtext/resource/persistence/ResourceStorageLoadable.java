@@ -28,6 +28,7 @@ import org.eclipse.xtext.nodemodel.impl.SerializableNodeModel;
 import org.eclipse.xtext.nodemodel.serialization.DeserializationConversionContext;
 import org.eclipse.xtext.parser.ParseResult;
 
+import com.google.common.io.ByteStreams;
 import com.google.common.io.CharStreams;
 
 /**
@@ -40,16 +41,80 @@ public class ResourceStorageLoadable {
 
 	private final boolean storeNodeModel;
 
+	private ResourceStorageSections sections;
+
+	/**
+	 * Load from the given stream. It may contain a zip archive or {@link ResourceStorageSections}.
+	 */
 	public ResourceStorageLoadable(InputStream in, boolean storeNodeModel) {
 		this.in = in;
 		this.storeNodeModel = storeNodeModel;
 	}
 
+	/**
+	 * @since 2.36
+	 */
+	public ResourceStorageLoadable(ResourceStorageSections sections, boolean storeNodeModel) {
+		this.in = null;
+		this.sections = sections;
+		this.storeNodeModel = storeNodeModel;
+	}
+
 	protected void loadIntoResource(StorageAwareResource resource) throws IOException {
 		if (!resource.isLoadedFromStorage())
 			throw new IllegalStateException("Please use StorageAwareResource#load(ResourceStorageLoadable).");
-		try (ZipInputStream zin = new ZipInputStream(in)) {
-			loadEntries(resource, zin);
+		if (sections == null) {
+			BufferedInputStream bufferedIn = new BufferedInputStream(in);
+			byte[] header = new byte[4];
+			bufferedIn.mark(header.length);
+			int headerLength = ByteStreams.read(bufferedIn, header, 0, header.length);
+			bufferedIn.reset();
+			if (!ResourceStorageSections.isSectioned(header, headerLength)) {
+				try (ZipInputStream zin = new ZipInputStream(bufferedIn)) {
+					loadEntries(resource, zin);
+				}
+				return;
+			}
+			try {
+				sections = ResourceStorageSections.read(bufferedIn);
+			} finally {
+				bufferedIn.close();
+			}
+		}
+		loadSections(resource, sections);
+	}
+
+	/**
+	 * Load the resource description and defer the loading of the other sections until the contents of the resource
+	 * are accessed for the first time. Overriding methods should first delegate to super.
+	 *
+	 * @since 2.36
+	 */
+	protected void loadSections(StorageAwareResource resource, ResourceStorageSections sections) throws IOException {
+		readResourceDescription(resource, sections.openSection(ResourceStorageSections.RESOURCE_DESCRIPTION));
+		resource.deferLoading(this);
+	}
+
+	/**
+	 * Load the sections that are deferred until the contents of the resource are accessed for the first time.
+	 * Overriding methods should first delegate to super before loading their own sections.
+	 *
+	 * @since 2.36
+	 */
+	protected void loadDeferredSections(StorageAwareResource resource, ResourceStorageSections sections)
+			throws IOException {
+		readContents(resource, sections.openSection(ResourceStorageSections.EMF_CONTENTS));
+		if (storeNodeModel && sections.hasSection(ResourceStorageSections.NODE_MODEL)) {
+			readNodeModel(resource, sections.openSection(ResourceStorageSections.NODE_MODEL));
+		}
+	}
+
+	void loadDeferredSections(StorageAwareResource resource) throws IOException {
+		try {
+			loadDeferredSections(resource, sections);
+		} finally {
+			// the content of the storage is not needed anymore
+			sections = null;
 		}
 	}
 
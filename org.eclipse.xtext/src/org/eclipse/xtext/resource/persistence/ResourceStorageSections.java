@@ -0,0 +1,313 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.resource.persistence;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.annotations.Beta;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.CountingInputStream;
+
+/**
+ * A container for the sections of a resource storage. In contrast to the zip format, the header of the container
+ * holds the offsets of all sections, so each section can be accessed without reading the preceding ones. Each section
+ * is either stored as is or compressed in the LZ4 block format, which decompresses considerably faster than deflate.
+ *
+ * The content of a section is only decompressed when it is {@link #openSection(String) opened}. If the sections are
+ * {@link #read(Path) read from a file}, only the header is kept in memory and the content of a section is read from the
+ * file when it is opened.
+ *
+ * @since 2.36
+ */
+@Beta
+public class ResourceStorageSections {
+
+	public static final String EMF_CONTENTS = "emf-contents";
+
+	public static final String RESOURCE_DESCRIPTION = "resource-description";
+
+	public static final String NODE_MODEL = "node-model";
+
+	public enum Compression {
+		NONE, LZ4
+	}
+
+	private static final int MAGIC = 0x58534543; // XSEC
+
+	private static final int VERSION = 1;
+
+	private static class Section {
+		final Compression compression;
+
+		final int offset;
+
+		final int storedLength;
+
+		final int length;
+
+		Section(Compression compression, int offset, int storedLength, int length) {
+			this.compression = compression;
+			this.offset = offset;
+			this.storedLength = storedLength;
+			this.length = length;
+		}
+	}
+
+	private final byte[] data;
+
+	private final Path file;
+
+	private final BasicFileAttributes fileAttributes;
+
+	private final int dataOffset;
+
+	private final Map<String, Section> sections;
+
+	private ResourceStorageSections(byte[] data, int dataOffset, Map<String, Section> sections) {
+		this.data = data;
+		this.file = null;
+		this.fileAttributes = null;
+		this.dataOffset = dataOffset;
+		this.sections = sections;
+	}
+
+	private ResourceStorageSections(Path file, BasicFileAttributes fileAttributes, int dataOffset,
+			Map<String, Section> sections) {
+		this.data = null;
+		this.file = file;
+		this.fileAttributes = fileAttributes;
+		this.dataOffset = dataOffset;
+		this.sections = sections;
+	}
+
+	/**
+	 * Whether the given content starts with the header of a sectioned storage.
+	 */
+	public static boolean isSectioned(byte[] content, int length) {
+		return length >= 4 && ByteBuffer.wrap(content, 0, length).getInt(0) == MAGIC;
+	}
+
+	/**
+	 * Read the complete content of the given stream.
+	 */
+	public static ResourceStorageSections read(InputStream in) throws IOException {
+		byte[] content = ByteStreams.toByteArray(in);
+		return read(content, content.length);
+	}
+
+	/**
+	 * Read the sections from the given content.
+	 *
+	 * @throws IOException
+	 *             if the content is not a sectioned storage.
+	 */
+	public static ResourceStorageSections read(byte[] content, int length) throws IOException {
+		if (!isSectioned(content, length)) {
+			throw new IOException("Not a sectioned resource storage");
+		}
+		ByteArrayInputStream bytes = new ByteArrayInputStream(content, 0, length);
+		Map<String, Section> sections = readHeader(new DataInputStream(bytes));
+		int dataOffset = length - bytes.available();
+		checkBounds(sections, dataOffset, length);
+		return new ResourceStorageSections(content, dataOffset, sections);
+	}
+
+	/**
+	 * Read the header of the given storage file. The content of the sections is not held in memory but read from the
+	 * file when a section is opened. Opening a section fails if the file was modified in the meantime.
+	 *
+	 * @throws IOException
+	 *             if the file is not a sectioned storage.
+	 */
+	public static ResourceStorageSections read(Path file) throws IOException {
+		BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+		try (CountingInputStream in = new CountingInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			Map<String, Section> sections = readHeader(new DataInputStream(in));
+			int dataOffset = (int) in.getCount();
+			checkBounds(sections, dataOffset, attributes.size());
+			return new ResourceStorageSections(file, attributes, dataOffset, sections);
+		}
+	}
+
+	private static Map<String, Section> readHeader(DataInputStream in) throws IOException {
+		if (in.readInt() != MAGIC) {
+			throw new IOException("Not a sectioned resource storage");
+		}
+		int version = in.readInt();
+		if (version != VERSION) {
+			throw new IOException("Unsupported version: " + version);
+		}
+		int count = in.readInt();
+		Map<String, Section> sections = new LinkedHashMap<>(count * 2);
+		for (int i = 0; i < count; i++) {
+			String name = in.readUTF();
+			int compression = in.readByte();
+			if (compression < 0 || compression >= Compression.values().length) {
+				throw new IOException("Unknown compression: " + compression);
+			}
+			sections.put(name, new Section(Compression.values()[compression], in.readInt(), in.readInt(), in.readInt()));
+		}
+		return sections;
+	}
+
+	private static void checkBounds(Map<String, Section> sections, int dataOffset, long length) throws IOException {
+		for (Section section : sections.values()) {
+			if (section.offset < 0 || section.storedLength < 0
+					|| (long) dataOffset + section.offset + section.storedLength > length) {
+				throw new IOException("Truncated resource storage");
+			}
+		}
+	}
+
+	public boolean hasSection(String name) {
+		return sections.containsKey(name);
+	}
+
+	public List<String> getSectionNames() {
+		return new ArrayList<>(sections.keySet());
+	}
+
+	/**
+	 * Returns the decompressed content of the given section.
+	 *
+	 * @throws IOException
+	 *             if there is no such section or it cannot be decompressed.
+	 */
+	public InputStream openSection(String name) throws IOException {
+		Section section = sections.get(name);
+		if (section == null) {
+			throw new IOException("Missing section: " + name);
+		}
+		byte[] content = data;
+		int offset = dataOffset + section.offset;
+		if (content == null) {
+			content = readFromFile(offset, section.storedLength);
+			offset = 0;
+		}
+		switch (section.compression) {
+			case NONE:
+				return new ByteArrayInputStream(content, offset, section.storedLength);
+			case LZ4:
+				return new ByteArrayInputStream(LZ4Block.decompress(content, offset, section.storedLength, section.length));
+			default:
+				throw new IOException("Unknown compression: " + section.compression);
+		}
+	}
+
+	private byte[] readFromFile(int offset, int length) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			FileTime lastModified = Files.getLastModifiedTime(file);
+			if (channel.size() != fileAttributes.size() || !lastModified.equals(fileAttributes.lastModifiedTime())) {
+				throw new IOException("Resource storage was modified after its header was read: " + file);
+			}
+			ByteBuffer buffer = ByteBuffer.allocate(length);
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer, (long) offset + buffer.position()) < 0) {
+					throw new EOFException("Truncated resource storage: " + file);
+				}
+			}
+			return buffer.array();
+		}
+	}
+
+	/**
+	 * Collects the sections of a storage in memory and writes the container.
+	 */
+	public static class Writer {
+
+		private final Compression defaultCompression;
+
+		private final Map<String, SectionOutput> sections = new LinkedHashMap<>();
+
+		public Writer(Compression defaultCompression) {
+			this.defaultCompression = defaultCompression;
+		}
+
+		/**
+		 * Add a new section with the default compression. The content of the section is complete when the returned
+		 * stream is closed or the container is written.
+		 */
+		public OutputStream newSection(String name) {
+			return newSection(name, defaultCompression);
+		}
+
+		/**
+		 * Add a new section with the given compression.
+		 */
+		public OutputStream newSection(String name, Compression compression) {
+			SectionOutput result = new SectionOutput(compression);
+			if (sections.putIfAbsent(name, result) != null) {
+				throw new IllegalArgumentException("Duplicate section: " + name);
+			}
+			return result;
+		}
+
+		public void writeTo(OutputStream out) throws IOException {
+			List<byte[]> stored = new ArrayList<>(sections.size());
+			ByteArrayOutputStream header = new ByteArrayOutputStream();
+			DataOutputStream headerOut = new DataOutputStream(header);
+			headerOut.writeInt(MAGIC);
+			headerOut.writeInt(VERSION);
+			headerOut.writeInt(sections.size());
+			int offset = 0;
+			for (Map.Entry<String, SectionOutput> entry : sections.entrySet()) {
+				SectionOutput section = entry.getValue();
+				byte[] content = section.getStoredContent();
+				stored.add(content);
+				headerOut.writeUTF(entry.getKey());
+				headerOut.writeByte(section.compression.ordinal());
+				headerOut.writeInt(offset);
+				headerOut.writeInt(content.length);
+				headerOut.writeInt(section.size());
+				offset += content.length;
+			}
+			headerOut.flush();
+			header.writeTo(out);
+			for (byte[] content : stored) {
+				out.write(content);
+			}
+			out.flush();
+		}
+	}
+
+	private static class SectionOutput extends ByteArrayOutputStream {
+		private final Compression compression;
+
+		SectionOutput(Compression compression) {
+			super(4096);
+			this.compression = compression;
+		}
+
+		byte[] getStoredContent() {
+			if (compression == Compression.LZ4) {
+				return LZ4Block.compress(buf, 0, count);
+			}
+			return toByteArray();
+		}
+	}
+}
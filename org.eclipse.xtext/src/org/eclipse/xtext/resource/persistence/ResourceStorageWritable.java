@@ -20,8 +20,10 @@ import java.util.zip.ZipOutputStream;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+import org.eclipse.xtext.nodemodel.impl.RootNode;
 import org.eclipse.xtext.nodemodel.impl.SerializableNodeModel;
 import org.eclipse.xtext.nodemodel.serialization.SerializationConversionContext;
+import org.eclipse.xtext.parser.IParseResult;
 import org.eclipse.xtext.resource.IReferenceDescription;
 import org.eclipse.xtext.resource.IResourceDescription;
 
@@ -33,16 +35,58 @@ public class ResourceStorageWritable {
 
 	private final boolean storeNodeModel;
 
+	private final ResourceStorageSections.Compression sectionCompression;
+
 	public ResourceStorageWritable(OutputStream out, boolean storeNodeModel) {
+		this(out, storeNodeModel, null);
+	}
+
+	/**
+	 * @param sectionCompression
+	 *            the compression of the sections if the storage should be written as {@link ResourceStorageSections},
+	 *            or <code>null</code> for the zip format.
+	 * @since 2.36
+	 */
+	public ResourceStorageWritable(OutputStream out, boolean storeNodeModel,
+			ResourceStorageSections.Compression sectionCompression) {
 		this.out = out;
 		this.storeNodeModel = storeNodeModel;
+		this.sectionCompression = sectionCompression;
 	}
 
 	public void writeResource(StorageAwareResource resource) throws IOException {
 		if (resource.isLoadedFromStorage())
 			throw new IllegalStateException("cannot write resources loaded from storage. URI was " + resource.getURI());
-		try (ZipOutputStream zipOut = new ZipOutputStream(out)) {
-			writeEntries(resource, zipOut);
+		if (sectionCompression != null) {
+			ResourceStorageSections.Writer sections = new ResourceStorageSections.Writer(sectionCompression);
+			writeSections(resource, sections);
+			sections.writeTo(out);
+			out.close();
+		} else {
+			try (ZipOutputStream zipOut = new ZipOutputStream(out)) {
+				writeEntries(resource, zipOut);
+			}
+		}
+	}
+
+	/**
+	 * Write the sections of the storage. Overriding methods should first delegate to super before adding their own
+	 * sections.
+	 *
+	 * @since 2.36
+	 */
+	protected void writeSections(StorageAwareResource resource, ResourceStorageSections.Writer sections)
+			throws IOException {
+		try (OutputStream section = sections.newSection(ResourceStorageSections.EMF_CONTENTS)) {
+			writeContents(resource, section);
+		}
+		try (OutputStream section = sections.newSection(ResourceStorageSections.RESOURCE_DESCRIPTION)) {
+			writeResourceDescription(resource, section);
+		}
+		if (storeNodeModel) {
+			try (OutputStream section = sections.newSection(ResourceStorageSections.NODE_MODEL)) {
+				writeNodeModel(resource, section);
+			}
 		}
 	}
 
@@ -140,6 +184,11 @@ public class ResourceStorageWritable {
 
 	protected void writeNodeModel(StorageAwareResource resource, OutputStream outputStream) throws IOException {
 		if (!resource.customWriteNodeModel(outputStream)) {
+			IParseResult parseResult = resource.getParseResult();
+			if (parseResult != null && !(parseResult.getRootNode() instanceof RootNode)) {
+				// e.g. a CompactNodeModel
+				throw new IOException("Only node models made of RootNodes can be stored: " + resource.getURI());
+			}
 			DataOutputStream out = new DataOutputStream(outputStream);
 			new SerializableNodeModel(resource).writeObjectData(out, new SerializationConversionContext(resource));
 			out.flush();
@@ -12,13 +12,17 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.xtext.linking.lazy.LazyLinkingResource;
+import org.eclipse.xtext.parser.IParseResult;
 import org.eclipse.xtext.resource.IResourceDescription;
+import org.eclipse.xtext.util.RuntimeIOException;
 import org.eclipse.xtext.util.internal.Stopwatches;
 
 import com.google.common.base.Preconditions;
@@ -44,6 +48,13 @@ public class StorageAwareResource extends LazyLinkingResource {
 
 	private IResourceDescription resourceDescription = null;
 
+	/**
+	 * The loadable whose remaining sections are loaded when the contents are accessed for the first time.
+	 */
+	private volatile ResourceStorageLoadable deferredLoadable = null;
+
+	private boolean isLoadingDeferredSections = false;
+
 	private static final int STACK_TRACE_LIMIT = 10;
 
 	/**
@@ -113,14 +124,77 @@ public class StorageAwareResource extends LazyLinkingResource {
 		}
 	}
 
+	/**
+	 * Defer the loading of the remaining sections of the given loadable until the contents or the parse result of
+	 * this resource are requested.
+	 */
+	void deferLoading(ResourceStorageLoadable loadable) {
+		this.deferredLoadable = loadable;
+	}
+
+	/**
+	 * Load the sections that were deferred when this resource was loaded from a {@link ResourceStorageSections
+	 * sectioned storage}.
+	 * 
+	 * @since 2.36
+	 */
+	protected void loadDeferredSections() {
+		if (deferredLoadable == null) {
+			return;
+		}
+		synchronized (this) {
+			ResourceStorageLoadable loadable = deferredLoadable;
+			// the deferred sections add to the contents of this resource
+			if (loadable == null || isLoadingDeferredSections) {
+				return;
+			}
+			isLoadingDeferredSections = true;
+			boolean wasLoading = isLoading;
+			Stopwatches.StoppedTask task = Stopwatches.forTask("Loading deferred sections from storage");
+			task.start();
+			isLoading = true;
+			try {
+				loadable.loadDeferredSections(this);
+			} catch (IOException e) {
+				throw new RuntimeIOException("Failed to load " + uri + " from storage", e);
+			} finally {
+				deferredLoadable = null;
+				isLoadingDeferredSections = false;
+				isLoading = wasLoading;
+				task.stop();
+			}
+		}
+	}
+
+	@Override
+	public EList<EObject> getContents() {
+		loadDeferredSections();
+		return super.getContents();
+	}
+
+	@Override
+	public IParseResult getParseResult() {
+		loadDeferredSections();
+		return super.getParseResult();
+	}
+
+	@Override
+	protected List<EObject> getUnloadingContents() {
+		// there is no need to load the deferred sections just to unload them
+		deferredLoadable = null;
+		return super.getUnloadingContents();
+	}
+
 	@Override
 	protected void doUnload() {
+		deferredLoadable = null;
 		super.doUnload();
 		isLoadedFromStorage = false;
 	}
 
 	@Override
 	protected void clearInternalState() {
+		deferredLoadable = null;
 		isLoadedFromStorage = false;
 		super.clearInternalState();
 	}
@@ -0,0 +1,49 @@
+/*******************************************************************************
+ * Copyright (c) 2024 itemis AG (http://www.itemis.eu) and others.
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+package org.eclipse.xtext.scoping;
+
+import org.eclipse.xtext.naming.QualifiedName;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IPrefixAwareSelectable;
+
+import com.google.common.annotations.Beta;
+import com.google.common.collect.Iterables;
+
+/**
+ * A scope that can answer queries for elements whose name starts with a given prefix without computing
+ * {@link #getAllElements() all elements}. Content assist uses these queries to compute proposals for cross
+ * references.
+ * 
+ * @since 2.36
+ */
+@Beta
+public interface IPrefixAwareScope extends IScope {
+
+	/**
+	 * Returns the elements whose name {@link IPrefixAwareSelectable#matchesPrefix(QualifiedName, QualifiedName)
+	 * matches} the given prefix. The result contains the same elements as filtering {@link #getAllElements()}, though
+	 * not necessarily in the same order. In particular, elements of a parent scope are shadowed the same way.
+	 * 
+	 * @return the matching elements. May not be <code>null</code>.
+	 */
+	Iterable<IEObjectDescription> getElementsByPrefix(QualifiedName prefix);
+
+	/**
+	 * Queries the given scope for the elements whose name matches the given prefix. If the scope is not
+	 * {@link IPrefixAwareScope prefix aware}, all its elements are filtered.
+	 */
+	static Iterable<IEObjectDescription> getElementsByPrefix(IScope scope, QualifiedName prefix) {
+		if (scope instanceof IPrefixAwareScope) {
+			return ((IPrefixAwareScope) scope).getElementsByPrefix(prefix);
+		}
+		return Iterables.filter(scope.getAllElements(),
+				it -> IPrefixAwareSelectable.matchesPrefix(it.getName(), prefix));
+	}
+
+}
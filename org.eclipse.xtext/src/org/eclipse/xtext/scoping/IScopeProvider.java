@@ -26,6 +26,12 @@ public interface IScopeProvider {
 	 * Returns a scope for the given context. The scope provides access to the compatible
 	 * visible EObjects for a given reference.
 	 *
+	 * Scopes are requested on the thread that resolves a reference. For a
+	 * {@link org.eclipse.xtext.linking.lazy.LazyLinkingResource LazyLinkingResource} that thread holds the monitor
+	 * of the resource, and computing a scope may resolve further references of the same resource re-entrantly.
+	 * Implementations do not have to be thread-safe with respect to the elements of a single resource set, but they
+	 * must not assume that references are resolved in a particular order.
+	 *
 	 * @param context the element from which an element shall be referenced. It doesn't need to be the element
 	 * 		  containing the reference, it is just used to find the most inner scope for given {@link EReference}.
 	 * @param reference the reference for which to get the scope.
@@ -11,6 +11,8 @@ package org.eclipse.xtext.scoping.impl;
 
 import java.lang.reflect.Method;
 import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.ecore.EClass;
@@ -86,6 +88,12 @@ public abstract class AbstractDeclarativeScopeProvider extends AbstractScopeProv
 	@Named(NAMED_ERROR_HANDLER)
 	private PolymorphicDispatcher.ErrorHandler<IScope> errorHandler = new PolymorphicDispatcher.NullErrorHandler<IScope>();
 
+	/**
+	 * The dispatchers for plain {@link PolymorphicDispatcher.MethodNameFilter method name predicates}. They are reused
+	 * so the methods are resolved only once per type of context object.
+	 */
+	private final Map<Predicate<Method>, PolymorphicDispatcher<IScope>> dispatchers = new ConcurrentHashMap<Predicate<Method>, PolymorphicDispatcher<IScope>>();
+
 	protected Predicate<Method> getPredicate(EObject context, EClass type) {
 		String methodName = "scope_" + type.getName();
 		return PolymorphicDispatcher.Predicates.forName(methodName, 2);
@@ -108,12 +116,15 @@ public abstract class AbstractDeclarativeScopeProvider extends AbstractScopeProv
 		return scope;
 	}
 
-	protected IScope polymorphicFindScopeForClassName(EObject context, EReference reference) {
-		IScope scope = null;
-		PolymorphicDispatcher<IScope> dispatcher = new PolymorphicDispatcher<IScope>(
-				Collections.singletonList(this), 
-				getPredicate(context, reference.getEReferenceType()),
-				errorHandler) {
+	private PolymorphicDispatcher<IScope> getDispatcher(Predicate<Method> predicate) {
+		if (predicate.getClass() == PolymorphicDispatcher.MethodNameFilter.class) {
+			return dispatchers.computeIfAbsent(predicate, this::createDispatcher);
+		}
+		return createDispatcher(predicate);
+	}
+
+	private PolymorphicDispatcher<IScope> createDispatcher(Predicate<Method> predicate) {
+		return new PolymorphicDispatcher<IScope>(Collections.singletonList(this), predicate, errorHandler) {
 			@Override
 			protected IScope handleNoSuchMethod(Object... params) {
 				if (PolymorphicDispatcher.NullErrorHandler.class.equals(errorHandler.getClass()))
@@ -121,6 +132,11 @@ public abstract class AbstractDeclarativeScopeProvider extends AbstractScopeProv
 				return super.handleNoSuchMethod(params);
 			}
 		};
+	}
+
+	protected IScope polymorphicFindScopeForClassName(EObject context, EReference reference) {
+		IScope scope = null;
+		PolymorphicDispatcher<IScope> dispatcher = getDispatcher(getPredicate(context, reference.getEReferenceType()));
 		EObject current = context;
 		while (scope == null && current != null) {
 			scope = dispatcher.invoke(current, reference);
@@ -138,15 +154,7 @@ public abstract class AbstractDeclarativeScopeProvider extends AbstractScopeProv
 
 	protected IScope polymorphicFindScopeForReferenceName(EObject context, EReference reference) {
 		Predicate<Method> predicate = getPredicate(context, reference);
-		PolymorphicDispatcher<IScope> dispatcher = new PolymorphicDispatcher<IScope>(Collections
-				.singletonList(this), predicate, errorHandler) {
-			@Override
-			protected IScope handleNoSuchMethod(Object... params) {
-				if (PolymorphicDispatcher.NullErrorHandler.class.equals(errorHandler.getClass()))
-					return null;
-				return super.handleNoSuchMethod(params);
-			}
-		};
+		PolymorphicDispatcher<IScope> dispatcher = getDispatcher(predicate);
 		EObject current = context;
 		IScope scope = null;
 		while (scope == null && current != null) {
@@ -158,6 +166,7 @@ public abstract class AbstractDeclarativeScopeProvider extends AbstractScopeProv
 
 	public void setErrorHandler(PolymorphicDispatcher.ErrorHandler<IScope> errorHandler) {
 		this.errorHandler = errorHandler;
+		dispatchers.clear();
 	}
 
 	public PolymorphicDispatcher.ErrorHandler<IScope> getErrorHandler() {
@@ -10,6 +10,8 @@ package org.eclipse.xtext.scoping.impl;
 
 import static com.google.common.collect.Iterables.*;
 
+import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
@@ -19,6 +21,8 @@ import org.eclipse.emf.ecore.EObject;
 import org.eclipse.xtext.EcoreUtil2;
 import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IPrefixAwareSelectable;
+import org.eclipse.xtext.scoping.IPrefixAwareScope;
 import org.eclipse.xtext.scoping.IScope;
 
 import com.google.common.base.Predicate;
@@ -35,10 +39,15 @@ import com.google.inject.Provider;
  * to customize {@link #getLocalElementsByEObject(EObject, URI)} and {@link #getLocalElementsByName(QualifiedName)}
  * as well.</p> 
  * 
+ * <p>{@link #getElementsByPrefix(QualifiedName) Prefix queries} are answered by {@link #getLocalElementsByPrefix(QualifiedName)}
+ * and the parent scope. Subclasses that override {@link #getAllElements()} or {@link #getAllLocalElements()} have
+ * to override {@link #doGetElementsByPrefix(QualifiedName)} or {@link #getLocalElementsByPrefix(QualifiedName)}
+ * respectively, too. Otherwise prefix queries fall back to filtering all elements.</p>
+ * 
  * @author Sven Efftinge - Initial contribution and API
  * @author Sebastian Zarnekow
  */
-public abstract class AbstractScope implements IScope {
+public abstract class AbstractScope implements IPrefixAwareScope {
 
 	/**
 	 * Lazy iterable with a reasonable {@link #toString()} implementation that supports
@@ -77,6 +86,45 @@ public abstract class AbstractScope implements IScope {
 		
 	}
 	
+	/**
+	 * Whether the prefix queries of a scope class are consistent with the queries for all elements.
+	 */
+	private static final ClassValue<Boolean> PREFIX_QUERIES_SUPPORTED = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				return isOverriddenConsistently(type, "doGetElementsByPrefix", "getAllElements", false)
+						&& isOverriddenConsistently(type, "getLocalElementsByPrefix", "getAllLocalElements", true);
+			} catch (LinkageError e) {
+				// the signature of a declared method refers to a type that is not available
+				return false;
+			}
+		}
+	};
+
+	/**
+	 * A prefix query is consistent if it is declared by the same class as the respective query for all elements or by
+	 * a subclass thereof. The default implementations of some prefix queries filter all elements and are thus always
+	 * consistent.
+	 */
+	private static boolean isOverriddenConsistently(Class<?> type, String prefixQuery, String query, boolean filtersByDefault) {
+		Class<?> prefixQueryDeclarer = getDeclaringClass(type, prefixQuery, QualifiedName.class);
+		if (filtersByDefault && prefixQueryDeclarer == AbstractScope.class)
+			return true;
+		return getDeclaringClass(type, query).isAssignableFrom(prefixQueryDeclarer);
+	}
+
+	private static Class<?> getDeclaringClass(Class<?> type, String methodName, Class<?>... parameterTypes) {
+		for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+			for (Method method : current.getDeclaredMethods()) {
+				if (method.getName().equals(methodName) && !method.isBridge()
+						&& Arrays.equals(method.getParameterTypes(), parameterTypes))
+					return current;
+			}
+		}
+		return AbstractScope.class;
+	}
+
 	private final boolean ignoreCase;
 	
 	private final IScope parent;
@@ -172,7 +220,61 @@ public abstract class AbstractScope implements IScope {
 		return result;
 	}
 	
+	/**
+	 * {@inheritDoc}
+	 * 
+	 * Falls back to filtering {@link #getAllElements()} if this class overrides the queries for all elements
+	 * without overriding the respective prefix queries.
+	 * 
+	 * @since 2.36
+	 */
+	@Override
+	public Iterable<IEObjectDescription> getElementsByPrefix(final QualifiedName prefix) {
+		if (!PREFIX_QUERIES_SUPPORTED.get(getClass())) {
+			return Iterables.filter(getAllElements(), new Predicate<IEObjectDescription>() {
+				@Override
+				public boolean apply(IEObjectDescription input) {
+					return IPrefixAwareSelectable.matchesPrefix(input.getName(), prefix);
+				}
+			});
+		}
+		return doGetElementsByPrefix(prefix);
+	}
+
+	/**
+	 * The prefix query that corresponds to {@link #getAllElements()}.
+	 * 
+	 * @since 2.36
+	 */
+	protected Iterable<IEObjectDescription> doGetElementsByPrefix(final QualifiedName prefix) {
+		Iterable<IEObjectDescription> localElements = getLocalElementsByPrefix(prefix);
+		Iterable<IEObjectDescription> parentElements = getParentElements(new Provider<Iterable<IEObjectDescription>>() {
+			@Override
+			public Iterable<IEObjectDescription> get() {
+				return IPrefixAwareScope.getElementsByPrefix(getParent(), prefix);
+			}
+		});
+		Iterable<IEObjectDescription> result = Iterables.concat(localElements, parentElements);
+		return result;
+	}
+
 	protected abstract Iterable<IEObjectDescription> getAllLocalElements();
+
+	/**
+	 * The prefix query that corresponds to {@link #getAllLocalElements()}.
+	 * 
+	 * @since 2.36
+	 */
+	protected Iterable<IEObjectDescription> getLocalElementsByPrefix(final QualifiedName prefix) {
+		Iterable<IEObjectDescription> localElements = getAllLocalElements();
+		Iterable<IEObjectDescription> result = Iterables.filter(localElements, new Predicate<IEObjectDescription>() {
+			@Override
+			public boolean apply(IEObjectDescription input) {
+				return IPrefixAwareSelectable.matchesPrefix(input.getName(), prefix);
+			}
+		});
+		return result;
+	}
 	
 	protected Iterable<IEObjectDescription> getLocalElementsByName(final QualifiedName name) {
 		Iterable<IEObjectDescription> localElements = getAllLocalElements();
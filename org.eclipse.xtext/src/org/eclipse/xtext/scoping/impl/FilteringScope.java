@@ -13,6 +13,7 @@ import java.util.Iterator;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.scoping.IPrefixAwareScope;
 import org.eclipse.xtext.scoping.IScope;
 
 import com.google.common.base.Predicate;
@@ -24,7 +25,7 @@ import com.google.common.collect.Iterables;
  * 
  * @author Sven Efftinge - Initial contribution and API
  */
-public class FilteringScope implements IScope {
+public class FilteringScope implements IPrefixAwareScope {
 	
 	private IScope delegate;
 	private Predicate<IEObjectDescription> filter;
@@ -39,6 +40,14 @@ public class FilteringScope implements IScope {
 		return Iterables.filter(delegate.getAllElements(), filter);
 	}
 	
+	/**
+	 * @since 2.36
+	 */
+	@Override
+	public Iterable<IEObjectDescription> getElementsByPrefix(QualifiedName prefix) {
+		return Iterables.filter(IPrefixAwareScope.getElementsByPrefix(delegate, prefix), filter);
+	}
+	
 	@Override
 	public Iterable<IEObjectDescription> getElements(EObject object) {
 		return Iterables.filter(delegate.getElements(object), filter);
@@ -14,8 +14,11 @@ import static com.google.common.collect.Sets.*;
 import static java.util.Collections.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.emf.common.util.URI;
@@ -23,8 +26,10 @@ import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IPrefixAwareSelectable;
 import org.eclipse.xtext.resource.ISelectable;
 import org.eclipse.xtext.resource.impl.AliasedEObjectDescription;
+import org.eclipse.xtext.scoping.IPrefixAwareScope;
 import org.eclipse.xtext.scoping.IScope;
 
 import com.google.common.base.Predicate;
@@ -83,6 +88,27 @@ public class ImportScope extends AbstractScope {
 		}));
 	}
 
+	/**
+	 * @since 2.36
+	 */
+	@Override
+	protected Iterable<IEObjectDescription> doGetElementsByPrefix(QualifiedName prefix) {
+		final Iterable<IEObjectDescription> globalElements = IPrefixAwareScope.getElementsByPrefix(getParent(), prefix);
+		Iterable<IEObjectDescription> aliased = getLocalElementsByPrefix(prefix);
+		// a global element can only be shadowed by an alias with the same name, which matches the prefix, too
+		final Set<QualifiedName> elements = newHashSet();
+		for (IEObjectDescription from : aliased) {
+			QualifiedName qn = getIgnoreCaseAwareQualifiedName(from);
+			elements.add(qn);
+		}
+		return concat(aliased, filter(globalElements, new Predicate<IEObjectDescription>() {
+			@Override
+			public boolean apply(IEObjectDescription input) {
+				return !elements.contains(getIgnoreCaseAwareQualifiedName(input));
+			}
+		}));
+	}
+
 	protected QualifiedName getIgnoreCaseAwareQualifiedName(IEObjectDescription from) {
 		return isIgnoreCase() ? from.getName().toLowerCase() : from.getName();
 	}
@@ -93,6 +119,46 @@ public class ImportScope extends AbstractScope {
 		return getAliasedElements(exportedObjects);
 	}
 
+	/**
+	 * Only asks for the imported objects whose alias may match the given prefix. The candidates of all normalizers
+	 * are aliased together, so ambiguous aliases are detected like in {@link #getAllLocalElements()}. The candidates
+	 * are derived from the {@link ImportNormalizer#deresolve(QualifiedName) default aliases}, thus all local elements
+	 * are filtered if a subclass of {@link ImportNormalizer} is used.
+	 * 
+	 * @since 2.36
+	 */
+	@Override
+	protected Iterable<IEObjectDescription> getLocalElementsByPrefix(final QualifiedName prefix) {
+		Predicate<IEObjectDescription> matchesPrefix = new Predicate<IEObjectDescription>() {
+			@Override
+			public boolean apply(IEObjectDescription input) {
+				return IPrefixAwareSelectable.matchesPrefix(input.getName(), prefix);
+			}
+		};
+		for (ImportNormalizer normalizer : normalizers) {
+			if (normalizer.getClass() != ImportNormalizer.class) {
+				return filter(getAllLocalElements(), matchesPrefix);
+			}
+		}
+		Map<List<Object>, IEObjectDescription> candidates = new LinkedHashMap<>();
+		ISelectable importFrom = getImportFrom();
+		for (ImportNormalizer normalizer : normalizers) {
+			QualifiedName namespace = normalizer.getImportedNamespacePrefix();
+			Iterable<IEObjectDescription> imported;
+			if (normalizer.hasWildCard()) {
+				imported = IPrefixAwareSelectable.getExportedObjectsByPrefix(importFrom, type, namespace.append(prefix));
+			} else if (IPrefixAwareSelectable.matchesPrefix(QualifiedName.create(namespace.getLastSegment()), prefix)) {
+				imported = importFrom.getExportedObjects(type, namespace, true);
+			} else {
+				continue;
+			}
+			for (IEObjectDescription candidate : imported) {
+				candidates.putIfAbsent(Arrays.asList(candidate.getName(), candidate.getEObjectURI()), candidate);
+			}
+		}
+		return filter(getAliasedElements(candidates.values()), matchesPrefix);
+	}
+
 	@Override
 	protected Iterable<IEObjectDescription> getLocalElementsByEObject(final EObject object, final URI uri) {
 		Iterable<IEObjectDescription> candidates = getImportFrom().getExportedObjectsByObject(object);
@@ -32,6 +32,7 @@ import org.eclipse.xtext.scoping.IGlobalScopeProvider;
 import org.eclipse.xtext.scoping.IScope;
 import org.eclipse.xtext.scoping.Scopes;
 import org.eclipse.xtext.util.IResourceScopeCache;
+import org.eclipse.xtext.util.OnChangeEvictingCache;
 import org.eclipse.xtext.util.Strings;
 import org.eclipse.xtext.util.Tuples;
 
@@ -63,6 +64,13 @@ public class ImportedNamespaceAwareLocalScopeProvider extends AbstractGlobalScop
 
 	@Inject
 	private IQualifiedNameConverter qualifiedNameConverter;
+
+	/**
+	 * Whether the imported namespace resolvers are computed from the context and its children only, such that they
+	 * are not evicted from the cache by changes of other objects.
+	 */
+	private final boolean importsDependOnContextOnly = !isOverridden("internalGetImportedNamespaceResolvers", EObject.class, boolean.class)
+			&& !isOverridden("getImportedNamespace", EObject.class);
 	
 	@Inject
 	public ImportedNamespaceAwareLocalScopeProvider() {
@@ -126,13 +134,33 @@ public class ImportedNamespaceAwareLocalScopeProvider extends AbstractGlobalScop
 		return Tuples.create(ImportedNamespaceAwareLocalScopeProvider.class, context, reference);
 	}
 
+	/**
+	 * Returns the cached imported namespace resolvers of the given context. Unless a subclass changes how they are
+	 * computed from the children of the context, they are only evicted by changes of the context and its children.
+	 */
 	protected List<ImportNormalizer> getImportedNamespaceResolvers(final EObject context, final boolean ignoreCase) {
-		return cache.get(Tuples.create(context, ignoreCase, "imports"), context.eResource(), new Provider<List<ImportNormalizer>>() {
+		Provider<List<ImportNormalizer>> provider = new Provider<List<ImportNormalizer>>() {
 			@Override
 			public List<ImportNormalizer> get() {
 				return internalGetImportedNamespaceResolvers(context, ignoreCase);
 			}
-		});
+		};
+		if (importsDependOnContextOnly && cache instanceof OnChangeEvictingCache) {
+			return ((OnChangeEvictingCache) cache).getForSubtree(Tuples.create(ignoreCase, "imports"), context, provider);
+		}
+		return cache.get(Tuples.create(context, ignoreCase, "imports"), context.eResource(), provider);
+	}
+
+	private boolean isOverridden(String methodName, Class<?>... parameterTypes) {
+		for (Class<?> type = getClass(); type != ImportedNamespaceAwareLocalScopeProvider.class; type = type.getSuperclass()) {
+			try {
+				type.getDeclaredMethod(methodName, parameterTypes);
+				return true;
+			} catch (NoSuchMethodException e) {
+				// continue with the super class
+			}
+		}
+		return false;
 	}
 
 	protected List<ImportNormalizer> internalGetImportedNamespaceResolvers(final EObject context, boolean ignoreCase) {
@@ -12,13 +12,14 @@ import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.resource.IEObjectDescription;
-import org.eclipse.xtext.resource.ISelectable;
+import org.eclipse.xtext.resource.IPrefixAwareSelectable;
+import org.eclipse.xtext.scoping.IPrefixAwareScope;
 import org.eclipse.xtext.scoping.IScope;
 
 /**
  * @author Sebastian Zarnekow - Initial contribution and API
  */
-public class ScopeBasedSelectable implements ISelectable {
+public class ScopeBasedSelectable implements IPrefixAwareSelectable {
 
 	private final IScope scope;
 
@@ -46,6 +47,14 @@ public class ScopeBasedSelectable implements ISelectable {
 		return scope.getAllElements();
 	}
 	
+	/**
+	 * @since 2.36
+	 */
+	@Override
+	public Iterable<IEObjectDescription> getExportedObjectsByPrefix(EClass type, QualifiedName prefix) {
+		return IPrefixAwareScope.getElementsByPrefix(scope, prefix);
+	}
+	
 	@Override
 	public Iterable<IEObjectDescription> getExportedObjectsByObject(EObject object) {
 		return scope.getElements(object);
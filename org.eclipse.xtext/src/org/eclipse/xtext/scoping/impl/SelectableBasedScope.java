@@ -11,6 +11,7 @@ package org.eclipse.xtext.scoping.impl;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.xtext.naming.QualifiedName;
 import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.IPrefixAwareSelectable;
 import org.eclipse.xtext.resource.ISelectable;
 import org.eclipse.xtext.scoping.IScope;
 
@@ -55,6 +56,15 @@ public class SelectableBasedScope extends AbstractScope {
 		return filterLocalElements(unfiltered);
 	}
 	
+	/**
+	 * @since 2.36
+	 */
+	@Override
+	protected Iterable<IEObjectDescription> getLocalElementsByPrefix(QualifiedName prefix) {
+		Iterable<IEObjectDescription> unfiltered = IPrefixAwareSelectable.getExportedObjectsByPrefix(selectable, type, prefix);
+		return filterLocalElements(unfiltered);
+	}
+	
 	protected ISelectable getSelectable() {
 		return selectable;
 	}
@@ -8,14 +8,19 @@
  *******************************************************************************/
 package org.eclipse.xtext.validation;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.util.Diagnostic;
@@ -27,9 +32,7 @@ import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.xtext.diagnostics.Severity;
 import org.eclipse.xtext.util.CancelIndicator;
 import org.eclipse.xtext.util.Exceptions;
-import org.eclipse.xtext.util.SimpleCache;
 
-import com.google.common.base.Function;
 import com.google.common.collect.Sets;
 import com.google.inject.Inject;
 import com.google.inject.Injector;
@@ -49,6 +52,11 @@ import com.google.inject.Injector;
  * </pre>
  * 
  * <p>
+ * Check methods are invoked through {@link MethodHandle method handles} that are bound to the validator instance. The
+ * applicable methods are computed once per type of validated objects and per predefined {@link CheckMode}.
+ * </p>
+ * 
+ * <p>
  * By default {@link NullPointerException NullPointerExceptions} occurring in the invocation of validation code are swallowed. 
  * This behavior can be switched by overriding {@link #handleExceptionDuringValidation(Throwable)}.
  * </p>
@@ -90,10 +98,13 @@ public abstract class AbstractDeclarativeValidator extends AbstractInjectableVal
 	 * @since 2.6
 	 */
 	protected static class MethodWrapper {
+		private static final MethodType CHECK_METHOD_TYPE = MethodType.methodType(void.class, EObject.class);
+
 		private final Method method;
 		private final String s;
 		private final AbstractDeclarativeValidator instance;
 		private final CheckType checkType;
+		private final MethodHandle handle;
 
 		protected MethodWrapper(AbstractDeclarativeValidator instance, Method m) {
 			this.instance = instance;
@@ -101,6 +112,28 @@ public abstract class AbstractDeclarativeValidator extends AbstractInjectableVal
 			this.s = m.getName() + ":" + m.getParameterTypes()[0].getName();
 			Check annotation = m.getAnnotation(Check.class);
 			checkType = annotation.value();
+			handle = createMethodHandle();
+		}
+
+		/**
+		 * Creates the handle that is used to invoke the check method. It is bound to the {@link #getInstance()
+		 * instance} and accepts the validated object. Returns <code>null</code> if the method cannot be accessed
+		 * through a method handle, in which case it is invoked reflectively.
+		 * 
+		 * @since 2.36
+		 */
+		protected MethodHandle createMethodHandle() {
+			try {
+				method.setAccessible(true);
+				MethodHandle result = MethodHandles.lookup().unreflect(method);
+				if (!Modifier.isStatic(method.getModifiers())) {
+					result = result.bindTo(instance);
+				}
+				return result.asType(CHECK_METHOD_TYPE);
+			} catch (IllegalAccessException | RuntimeException e) {
+				log.debug("Cannot create method handle for " + method, e);
+				return null;
+			}
 		}
 
 		@Override
@@ -122,9 +155,17 @@ public abstract class AbstractDeclarativeValidator extends AbstractInjectableVal
 			try {
 				if (!state.checkMode.shouldCheck(checkType))
 					return;
+				state.currentMethod = method;
+				state.currentCheckType = checkType;
+				if (handle != null) {
+					try {
+						handle.invokeExact(state.currentObject);
+					} catch (Throwable e) {
+						handleInvocationTargetException(e, state);
+					}
+					return;
+				}
 				try {
-					state.currentMethod = method;
-					state.currentCheckType = checkType;
 					method.setAccessible(true);
 					method.invoke(instance, state.currentObject);
 				} catch (IllegalArgumentException e) {
@@ -160,8 +201,22 @@ public abstract class AbstractDeclarativeValidator extends AbstractInjectableVal
 		public Method getMethod() {
 			return method;
 		}
+
+		/**
+		 * @since 2.36
+		 */
+		public CheckType getCheckType() {
+			return checkType;
+		}
 	}
 
+	/**
+	 * The check modes for which the applicable methods are computed ahead of time. Methods for other modes are
+	 * filtered when they are invoked.
+	 */
+	private static final CheckMode[] PREFILTERED_CHECK_MODES = { CheckMode.ALL, CheckMode.NORMAL_AND_FAST,
+			CheckMode.FAST_ONLY, CheckMode.NORMAL_ONLY, CheckMode.EXPENSIVE_ONLY };
+
 	private volatile Set<MethodWrapper> checkMethods = null;
 
 	private ValidationMessageAcceptor messageAcceptor;
@@ -251,18 +306,41 @@ public abstract class AbstractDeclarativeValidator extends AbstractInjectableVal
 		return instanceToUse;
 	}
 
-	private final SimpleCache<Class<?>, List<MethodWrapper>> methodsForType = new SimpleCache<Class<?>, List<MethodWrapper>>(
-			new Function<Class<?>, List<MethodWrapper>>() {
-				@Override
-				public List<MethodWrapper> apply(Class<?> param) {
-					List<MethodWrapper> result = new ArrayList<MethodWrapper>();
-					for (MethodWrapper mw : checkMethods) {
-						if (mw.isMatching(param))
-							result.add(mw);
-					}
-					return result;
-				}
-			});
+	/**
+	 * The check methods for a type of validated objects, indexed like {@link #PREFILTERED_CHECK_MODES}.
+	 */
+	private final Map<Class<?>, MethodWrapper[][]> methodsForType = new ConcurrentHashMap<Class<?>, MethodWrapper[][]>();
+
+	private MethodWrapper[][] collectMethodsForType(Class<?> type) {
+		List<MethodWrapper> matching = new ArrayList<MethodWrapper>();
+		for (MethodWrapper mw : checkMethods) {
+			if (mw.isMatching(type))
+				matching.add(mw);
+		}
+		MethodWrapper[][] result = new MethodWrapper[PREFILTERED_CHECK_MODES.length][];
+		for (int i = 0; i < PREFILTERED_CHECK_MODES.length; i++) {
+			CheckMode checkMode = PREFILTERED_CHECK_MODES[i];
+			List<MethodWrapper> filtered = new ArrayList<MethodWrapper>(matching.size());
+			for (MethodWrapper mw : matching) {
+				if (checkMode.shouldCheck(mw.checkType))
+					filtered.add(mw);
+			}
+			result[i] = filtered.toArray(new MethodWrapper[filtered.size()]);
+		}
+		return result;
+	}
+
+	private MethodWrapper[] getMethodsForType(Class<?> type, CheckMode checkMode) {
+		MethodWrapper[][] methods = methodsForType.get(type);
+		if (methods == null) {
+			methods = methodsForType.computeIfAbsent(type, this::collectMethodsForType);
+		}
+		for (int i = 1; i < PREFILTERED_CHECK_MODES.length; i++) {
+			if (PREFILTERED_CHECK_MODES[i] == checkMode)
+				return methods[i];
+		}
+		return methods[0];
+	}
 
 	public static class State {
 		public DiagnosticChain chain = null;
@@ -326,18 +404,31 @@ public abstract class AbstractDeclarativeValidator extends AbstractInjectableVal
 			}
 		}
 		CheckMode checkMode = CheckMode.getCheckMode(context);
+		MethodWrapper[] methods = getMethodsForType(object.getClass(), checkMode);
+		if (methods.length == 0) {
+			return true;
+		}
 
-		State state = new State();
-		state.chain = diagnostics;
-		state.currentObject = object;
-		state.checkMode = checkMode;
-		state.context = context;
+		State currentState = new State();
+		currentState.chain = diagnostics;
+		currentState.currentObject = object;
+		currentState.checkMode = checkMode;
+		currentState.context = context;
 
-		for (MethodWrapper method : methodsForType.get(object.getClass())) {
-			method.invoke(state);
+		// assign the state once for all methods of this instance rather than per method
+		boolean assignState = state.get() == null;
+		if (assignState)
+			state.set(currentState);
+		try {
+			for (MethodWrapper method : methods) {
+				method.invoke(currentState);
+			}
+		} finally {
+			if (assignState)
+				state.remove();
 		}
 
-		return !state.hasErrors;
+		return !currentState.hasErrors;
 	}
 
 	////////////////////////////